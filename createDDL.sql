@@ -8,11 +8,12 @@
         primary key (id)
     ) engine=InnoDB;
 
-    create table api_cache (
+    create table last_cache_log (
         id bigint not null auto_increment,
         last_cached_at datetime(6) not null,
+        content_hash varchar(64),
         parameters_json varchar(255) not null,
-        api_cache_type enum ('LEAGUE','CURRENT_LEAGUES','CURRENT_LEAGUES_OF_TEAM','LEAGUE_TEAMS','TEAM','SQUAD','PLAYER','FIXTURE','LIVE_FIXTURE','FIXTURES_OF_LEAGUE') not null,
+        api_cache_type enum ('LEAGUE','CURRENT_LEAGUES','CURRENT_LEAGUES_OF_TEAM','LEAGUE_TEAMS','TEAM','SQUAD','PLAYER','FIXTURE','LIVE_FIXTURE','FIXTURES_OF_LEAGUE','SEASON_WARMUP_STARTED','SEASON_WARMUP_FINISHED') not null,
         primary key (id)
     ) engine=InnoDB;
 
@@ -79,6 +80,20 @@
         primary key (league_id, team_id)
     ) engine=InnoDB;
 
+    create table custom_player_photos (
+        is_active bit not null,
+        created_date datetime(6),
+        id bigint not null auto_increment,
+        modified_date datetime(6),
+        player_id bigint not null,
+        preference_key_id bigint not null,
+        user_file_path_id bigint,
+        content_hash varchar(64),
+        file_name varchar(255) not null,
+        upload_status enum ('PENDING','UPLOADED','FAILED','DELETING'),
+        primary key (id)
+    ) engine=InnoDB;
+
     create table players (
         id bigint not null,
         team_id bigint,
@@ -105,6 +120,12 @@
         primary key (id)
     ) engine=InnoDB;
 
+    create index idx_preference_player_active 
+       on custom_player_photos (preference_key_id, player_id);
+
+    create index idx_user_file_path_file_name 
+       on custom_player_photos (user_file_path_id, file_name);
+
     alter table streamers 
        add constraint UK_2tc1oipxxftle76uv3dnv75m9 unique (hash);
 
@@ -150,3 +171,8 @@
        add constraint FKtj6qbvs84bdv8oquqgob0o44u 
        foreign key (team_id) 
        references team (id);
+
+    alter table custom_player_photos 
+       add constraint FKcustom_player_photos_player 
+       foreign key (player_id) 
+       references players (id);
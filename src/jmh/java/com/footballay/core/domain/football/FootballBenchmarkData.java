@@ -0,0 +1,248 @@
+package com.footballay.core.domain.football;
+
+import com.footballay.core.domain.football.comparator.LineupSortKey;
+import com.footballay.core.domain.football.persistence.Fixture;
+import com.footballay.core.domain.football.persistence.League;
+import com.footballay.core.domain.football.persistence.Player;
+import com.footballay.core.domain.football.persistence.Team;
+import com.footballay.core.domain.football.persistence.live.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 엔티티 그래프입니다. 라이브 경기 하나(라인업, 이벤트, 통계 포함)와 한 시즌 분량의 경기 목록을 메모리에 만듭니다. <br>
+ * 실제 경기와 비슷한 크기가 되도록 선발 11명, 후보 9명, 이벤트 24개, 경기 380개를 사용합니다.
+ * 일부 선수는 미등록 선수로 만들어 등록/미등록 분기가 모두 측정되도록 합니다.
+ */
+public class FootballBenchmarkData {
+
+    public static final int STARTERS = 11;
+    public static final int SUBSTITUTES = 9;
+    public static final int EVENTS = 24;
+    public static final int FIXTURES_OF_LEAGUE = 380;
+
+    private static final String[] STARTER_GRIDS = {"1:1", "2:4", "2:3", "2:2", "2:1", "3:3", "3:2", "3:1", "4:3", "4:2", "4:1"};
+    private static final String[] STARTER_POSITIONS = {"G", "D", "D", "D", "D", "M", "M", "M", "F", "F", "F"};
+    private static final String[] SUBSTITUTE_POSITIONS = {"G", "D", "D", "M", "M", "M", "F", "F", "D"};
+
+    public final League league;
+    public final Team home;
+    public final Team away;
+    public final Fixture fixture;
+    public final List<MatchPlayer> homePlayers;
+    public final List<MatchPlayer> awayPlayers;
+    public final TeamStatistics homeStatistics;
+    public final TeamStatistics awayStatistics;
+    public final List<FixtureEvent> events;
+    public final List<Fixture> fixturesOfLeague;
+
+    private FootballBenchmarkData() {
+        league = League.builder()
+                .leagueId(39L)
+                .name("Premier League")
+                .koreanName("프리미어리그")
+                .logo("https://media.api-sports.io/football/leagues/39.png")
+                .currentSeason(2024)
+                .build();
+        home = team(33L, "Manchester United", "맨체스터 유나이티드");
+        away = team(50L, "Manchester City", "맨체스터 시티");
+        fixture = fixture(1208140L, home, away);
+
+        MatchLineup homeLineup = lineup(fixture, home);
+        MatchLineup awayLineup = lineup(fixture, away);
+        homePlayers = homeLineup.getMatchPlayers();
+        awayPlayers = awayLineup.getMatchPlayers();
+        fixture.setLineups(List.of(homeLineup, awayLineup));
+
+        homeStatistics = teamStatistics(fixture, home);
+        awayStatistics = teamStatistics(fixture, away);
+        fixture.setTeamStatistics(List.of(homeStatistics, awayStatistics));
+
+        events = events(fixture);
+        fixture.setEvents(events);
+
+        fixturesOfLeague = new ArrayList<>(FIXTURES_OF_LEAGUE);
+        for (int i = 0; i < FIXTURES_OF_LEAGUE; i++) {
+            fixturesOfLeague.add(fixture(1_200_000L + i, i % 2 == 0 ? home : away, i % 2 == 0 ? away : home));
+        }
+    }
+
+    public static FootballBenchmarkData create() {
+        return new FootballBenchmarkData();
+    }
+
+    private static Team team(long id, String name, String koreanName) {
+        return Team.builder()
+                .id(id)
+                .name(name)
+                .koreanName(koreanName)
+                .logo("https://media.api-sports.io/football/teams/" + id + ".png")
+                .build();
+    }
+
+    private Fixture fixture(long fixtureId, Team home, Team away) {
+        Fixture fixture = Fixture.builder()
+                .fixtureId(fixtureId)
+                .referee("Anthony Taylor")
+                .timezone("UTC")
+                .date(LocalDateTime.of(2024, 11, 10, 16, 30))
+                .timestamp(1731256200L)
+                .available(true)
+                .round("Regular Season - 11")
+                .league(league)
+                .homeTeam(home)
+                .awayTeam(away)
+                .build();
+        fixture.setLiveStatus(LiveStatus.builder()
+                .fixture(fixture)
+                .longStatus("Second Half")
+                .shortStatus("2H")
+                .elapsed(67)
+                .homeScore(1)
+                .awayScore(2)
+                .build());
+        return fixture;
+    }
+
+    private static MatchLineup lineup(Fixture fixture, Team team) {
+        MatchLineup lineup = MatchLineup.builder()
+                .fixture(fixture)
+                .team(team)
+                .formation("4-3-3")
+                .build();
+        List<MatchPlayer> matchPlayers = new ArrayList<>(STARTERS + SUBSTITUTES);
+        for (int i = 0; i < STARTERS + SUBSTITUTES; i++) {
+            boolean substitute = i >= STARTERS;
+            String position = substitute ? SUBSTITUTE_POSITIONS[i - STARTERS] : STARTER_POSITIONS[i];
+            String grid = substitute ? null : STARTER_GRIDS[i];
+            matchPlayers.add(matchPlayer(lineup, team.getId() * 100 + i, position, grid, substitute));
+        }
+        // 라인업 저장 시와 같이 정렬 키 순서로 둡니다
+        matchPlayers.sort(Comparator.comparingLong(MatchPlayer::getLineupSortKey));
+        lineup.setMatchPlayers(matchPlayers);
+        return lineup;
+    }
+
+    /**
+     * 7명 중 1명은 미등록 선수로 만듭니다.
+     */
+    private static MatchPlayer matchPlayer(MatchLineup lineup, long playerId, String position, String grid, boolean substitute) {
+        int number = (int) (playerId % 100) + 1;
+        boolean unregistered = playerId % 7 == 3;
+        MatchPlayer.MatchPlayerBuilder builder = MatchPlayer.builder()
+                .matchLineup(lineup)
+                .position(position)
+                .grid(grid)
+                .substitute(substitute)
+                .lineupSortKey(LineupSortKey.of(substitute, position, grid, number, unregistered));
+        if (unregistered) {
+            builder.temporaryId(new UUID(0, playerId))
+                    .unregisteredPlayerName("Unregistered " + playerId)
+                    .unregisteredPlayerNumber(number);
+        } else {
+            builder.player(Player.builder()
+                    .id(playerId)
+                    .name("Player " + playerId)
+                    .koreanName("선수 " + playerId)
+                    .photoUrl("https://media.api-sports.io/football/players/" + playerId + ".png")
+                    .position(position)
+                    .number(number)
+                    .build());
+        }
+        MatchPlayer matchPlayer = builder.build();
+        matchPlayer.setPlayerStatistics(playerStatistics(matchPlayer, number));
+        return matchPlayer;
+    }
+
+    private static PlayerStatistics playerStatistics(MatchPlayer matchPlayer, int seed) {
+        return PlayerStatistics.builder()
+                .matchPlayer(matchPlayer)
+                .minutesPlayed(matchPlayer.getSubstitute() ? seed % 30 : 67)
+                .position(matchPlayer.getPosition())
+                .rating("7." + seed % 10)
+                .captain(seed == 1)
+                .substitute(matchPlayer.getSubstitute())
+                .shotsTotal(seed % 4)
+                .shotsOn(seed % 3)
+                .goals(seed % 5 == 0 ? 1 : 0)
+                .goalsConceded(0)
+                .assists(seed % 6 == 0 ? 1 : 0)
+                .saves(0)
+                .passesTotal(20 + seed)
+                .passesKey(seed % 3)
+                .passesAccuracy(80 + seed % 15)
+                .tacklesTotal(seed % 4)
+                .interceptions(seed % 2)
+                .duelsTotal(5 + seed % 7)
+                .duelsWon(2 + seed % 5)
+                .dribblesAttempts(seed % 4)
+                .dribblesSuccess(seed % 2)
+                .foulsCommitted(seed % 3)
+                .foulsDrawn(seed % 2)
+                .yellowCards(seed % 9 == 0 ? 1 : 0)
+                .redCards(0)
+                .penaltiesScored(0)
+                .penaltiesMissed(0)
+                .penaltiesSaved(0)
+                .build();
+    }
+
+    private static TeamStatistics teamStatistics(Fixture fixture, Team team) {
+        TeamStatistics statistics = TeamStatistics.builder()
+                .fixture(fixture)
+                .team(team)
+                .shotsOnGoal(5)
+                .shotsOffGoal(4)
+                .totalShots(12)
+                .blockedShots(3)
+                .shotsInsideBox(8)
+                .shotsOutsideBox(4)
+                .fouls(9)
+                .cornerKicks(6)
+                .offsides(2)
+                .ballPossession(54)
+                .yellowCards(2)
+                .redCards(0)
+                .goalkeeperSaves(3)
+                .totalPasses(412)
+                .passesAccurate(361)
+                .passesAccuracyPercentage(88)
+                .goalsPrevented(0)
+                .build();
+        for (int elapsed = 1; elapsed <= 67; elapsed += 3) {
+            statistics.getExpectedGoalsList().add(ExpectedGoals.builder()
+                    .teamStatistics(statistics)
+                    .elapsed(elapsed)
+                    .xg(String.valueOf(elapsed / 40.0))
+                    .build());
+        }
+        return statistics;
+    }
+
+    private List<FixtureEvent> events(Fixture fixture) {
+        EventType[] types = {EventType.GOAL, EventType.CARD, EventType.SUBST, EventType.VAR};
+        List<FixtureEvent> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            boolean homeEvent = i % 2 == 0;
+            List<MatchPlayer> players = homeEvent ? homePlayers : awayPlayers;
+            EventType type = types[i % types.length];
+            events.add(FixtureEvent.builder()
+                    .fixture(fixture)
+                    .sequence(i)
+                    .timeElapsed(i * 3 + 1)
+                    .extraTime(0)
+                    .type(type)
+                    .detail(type == EventType.GOAL ? "Normal Goal" : type == EventType.CARD ? "Yellow Card" : "Substitution " + i)
+                    .comments(null)
+                    .team(homeEvent ? home : away)
+                    .player(players.get(i % STARTERS))
+                    .assist(type == EventType.GOAL || type == EventType.SUBST ? players.get(STARTERS + i % SUBSTITUTES) : null)
+                    .build());
+        }
+        return events;
+    }
+}
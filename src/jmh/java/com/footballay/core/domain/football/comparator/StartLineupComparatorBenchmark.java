@@ -0,0 +1,64 @@
+package com.footballay.core.domain.football.comparator;
+
+import com.footballay.core.domain.football.FootballBenchmarkData;
+import com.footballay.core.domain.football.dto.FootballDomainDtoMapper;
+import com.footballay.core.domain.football.dto.LineupDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StartLineupComparator} 로 한 팀의 라인업(선발 11명, 후보 9명)을 정렬하는 비용을 측정합니다.
+ * 선발은 grid 문자열을 매번 split 하므로 비교 횟수만큼 할당이 발생합니다. <br>
+ * 저장 시 계산한 {@link LineupSortKey} 로 정렬하는 경우, 이미 정렬 키 순서인지 확인만 하는 경우와 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class StartLineupComparatorBenchmark {
+
+    private final StartLineupComparator comparator = new StartLineupComparator();
+
+    private List<LineupDto.LineupPlayer> storedPlayers;
+    private List<LineupDto.LineupPlayer> shuffledPlayers;
+
+    @Setup
+    public void setUp() {
+        FootballBenchmarkData data = FootballBenchmarkData.create();
+        LineupDto lineup = FootballDomainDtoMapper.lineupDtoFromEntity(data.fixture.getLineups().get(0));
+        storedPlayers = lineup.players();
+        shuffledPlayers = new ArrayList<>(storedPlayers);
+        Collections.shuffle(shuffledPlayers, new Random(42));
+    }
+
+    @Benchmark
+    public List<LineupDto.LineupPlayer> sort() {
+        List<LineupDto.LineupPlayer> players = new ArrayList<>(shuffledPlayers);
+        players.sort(comparator);
+        return players;
+    }
+
+    @Benchmark
+    public List<LineupDto.LineupPlayer> sortBySortKey() {
+        List<LineupDto.LineupPlayer> players = new ArrayList<>(shuffledPlayers);
+        players.sort(Comparator.comparingLong(LineupDto.LineupPlayer::lineupSortKey));
+        return players;
+    }
+
+    @Benchmark
+    public boolean checkStoredOrder() {
+        long previousKey = Long.MIN_VALUE;
+        for (LineupDto.LineupPlayer player : storedPlayers) {
+            if (player.lineupSortKey() < previousKey) {
+                return false;
+            }
+            previousKey = player.lineupSortKey();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package com.footballay.core.domain.football.dto;
+
+import com.footballay.core.domain.football.FootballBenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FootballDomainDtoMapper} 의 엔티티 -> DTO 변환 비용을 측정합니다.
+ * 라이브 경기 조회마다 반복되는 라인업, 이벤트, 통계 변환과 리그 경기 목록 변환을 대상으로 합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FootballDomainDtoMapperBenchmark {
+
+    private FootballBenchmarkData data;
+
+    @Setup
+    public void setUp() {
+        data = FootballBenchmarkData.create();
+    }
+
+    @Benchmark
+    public FixtureWithLineupDto fixtureWithLineup() {
+        return FootballDomainDtoMapper.fixtureWithLineupDtoFromEntity(data.fixture);
+    }
+
+    @Benchmark
+    public List<FixtureEventWithPlayerDto> fixtureEvents() {
+        return FootballDomainDtoMapper.fixtureEventDtosFromEntities(data.events);
+    }
+
+    @Benchmark
+    public MatchStatisticsDto matchStatistics() {
+        return FootballDomainDtoMapper.matchStatisticsDTOFromEntity(
+                data.fixture,
+                data.homeStatistics,
+                data.awayStatistics,
+                data.homePlayers,
+                data.awayPlayers
+        );
+    }
+
+    @Benchmark
+    public List<FixtureInfoDto> fixturesOfLeague() {
+        return FootballDomainDtoMapper.fixtureInfoDtosFromEntities(data.fixturesOfLeague);
+    }
+}
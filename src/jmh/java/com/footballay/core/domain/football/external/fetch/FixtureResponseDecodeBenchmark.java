@@ -0,0 +1,41 @@
+package com.footballay.core.domain.football.external.fetch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballay.core.config.JacksonConfig;
+import com.footballay.core.domain.football.external.fetch.response.FixtureResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리그 시즌 경기 목록 응답({@link FixtureResponse}) 의 디코딩 비용을 측정합니다.
+ * {@code devdata/mockapi/fixture/4_2024_fixtures_of_league_season.json} 을 사용합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FixtureResponseDecodeBenchmark {
+
+    private static final String RESOURCE_PATH = "/devdata/mockapi/fixture/4_2024_fixtures_of_league_season.json";
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new JacksonConfig().objectMapper();
+        try (InputStream inputStream = FixtureResponseDecodeBenchmark.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("benchmark resource not found : " + RESOURCE_PATH);
+            }
+            body = inputStream.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public FixtureResponse decode() throws IOException {
+        return objectMapper.readValue(body, FixtureResponse.class);
+    }
+}
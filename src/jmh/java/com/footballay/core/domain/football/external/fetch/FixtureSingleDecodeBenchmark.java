@@ -0,0 +1,70 @@
+package com.footballay.core.domain.football.external.fetch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballay.core.config.JacksonConfig;
+import com.footballay.core.domain.football.external.fetch.FixtureSingleStreamDecoder.Section;
+import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라이브 tick 의 {@link FixtureSingleResponse} 디코딩 비용을 비교합니다. <br>
+ * {@code devdata/mockapi/fixture/single} 의 응답 JSON 을 사용하며, gc 프로파일러의 {@code gc.alloc.rate.norm} 으로 tick 당 할당량을 봅니다.
+ * <ul>
+ *     <li>stringFullBind : 기존 방식. body 를 String 으로 만든 뒤 전체 바인딩</li>
+ *     <li>bytesFullBind : body 바이트에서 전체 바인딩</li>
+ *     <li>streamingStatusOnly : 스트리밍 디코딩 후 매 tick 저장하는 통계만 바인딩. 이벤트/라인업/선수 통계가 바뀌지 않은 tick</li>
+ *     <li>streamingBindAll : 스트리밍 디코딩 후 모든 섹션 바인딩. 첫 tick 또는 모든 섹션이 바뀐 tick</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class FixtureSingleDecodeBenchmark {
+
+    @Param({"1145526", "1145511", "1208140"})
+    private long fixtureId;
+
+    private ObjectMapper objectMapper;
+    private FixtureSingleStreamDecoder decoder;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new JacksonConfig().objectMapper();
+        decoder = new FixtureSingleStreamDecoder(objectMapper);
+        String path = "/devdata/mockapi/fixture/single/" + fixtureId + "_fixture.json";
+        try (InputStream inputStream = FixtureSingleDecodeBenchmark.class.getResourceAsStream(path)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("benchmark resource not found : " + path);
+            }
+            body = inputStream.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public FixtureSingleResponse stringFullBind() throws IOException {
+        return objectMapper.readValue(new String(body, StandardCharsets.UTF_8), FixtureSingleResponse.class);
+    }
+
+    @Benchmark
+    public FixtureSingleResponse bytesFullBind() throws IOException {
+        return objectMapper.readValue(body, FixtureSingleResponse.class);
+    }
+
+    @Benchmark
+    public FixtureSingleResponse streamingStatusOnly() throws IOException {
+        DecodedFixtureSingle decoded = decoder.decode(body, body.length);
+        decoded.bind(Section.STATISTICS);
+        return decoded.getResponse();
+    }
+
+    @Benchmark
+    public FixtureSingleResponse streamingBindAll() throws IOException {
+        return decoder.decode(body, body.length).bindAll();
+    }
+}
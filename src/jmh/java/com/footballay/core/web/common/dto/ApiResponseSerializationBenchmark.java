@@ -0,0 +1,83 @@
+package com.footballay.core.web.common.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballay.core.config.JacksonConfig;
+import com.footballay.core.domain.football.FootballBenchmarkData;
+import com.footballay.core.domain.football.dto.FootballDomainDtoMapper;
+import com.footballay.core.web.football.response.FootballStreamDtoMapper;
+import com.footballay.core.web.football.response.MatchStatisticsResponse;
+import com.footballay.core.web.football.response.MatchStatisticsResponseMapper;
+import com.footballay.core.web.football.response.fixture.FixtureEventsResponse;
+import com.footballay.core.web.football.response.fixture.FixtureLineupResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션과 같은 설정의 {@link ObjectMapper} 로 {@link ApiResponse} 를 직렬화하는 비용을 측정합니다.
+ * 라이브 경기 중 가장 자주 요청되는 라인업, 이벤트, 통계 응답을 대상으로 합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<FixtureLineupResponse> lineupResponse;
+    private ApiResponse<FixtureEventsResponse> eventsResponse;
+    private ApiResponse<MatchStatisticsResponse> statisticsResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        FootballBenchmarkData data = FootballBenchmarkData.create();
+        long fixtureId = data.fixture.getFixtureId();
+
+        lineupResponse = new ApiResponse<>(
+                metaData("/api/football/fixtures/lineup", fixtureId),
+                new FixtureLineupResponse[]{FootballStreamDtoMapper.toFixtureLineupResponse(
+                        FootballDomainDtoMapper.fixtureWithLineupDtoFromEntity(data.fixture))}
+        );
+        eventsResponse = new ApiResponse<>(
+                metaData("/api/football/fixtures/events", fixtureId),
+                new FixtureEventsResponse[]{FootballStreamDtoMapper.toFixtureEventsResponse(
+                        fixtureId, FootballDomainDtoMapper.fixtureEventDtosFromEntities(data.events))}
+        );
+        statisticsResponse = new ApiResponse<>(
+                metaData("/api/football/fixtures/statistics", fixtureId),
+                new MatchStatisticsResponse[]{MatchStatisticsResponseMapper.toResponse(
+                        FootballDomainDtoMapper.matchStatisticsDTOFromEntity(
+                                data.fixture, data.homeStatistics, data.awayStatistics, data.homePlayers, data.awayPlayers))}
+        );
+    }
+
+    private static MetaData metaData(String requestUrl, long fixtureId) {
+        return new MetaData(
+                "6f1c7a52-2f4e-4a59-9d0e-6f1c7a522f4e",
+                "2024-11-10T16:30:00+09:00",
+                "SUCCESS",
+                200,
+                "Request processed successfully",
+                requestUrl,
+                Map.of("fixtureId", String.valueOf(fixtureId)),
+                "v1"
+        );
+    }
+
+    @Benchmark
+    public byte[] lineup() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(lineupResponse);
+    }
+
+    @Benchmark
+    public byte[] events() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(eventsResponse);
+    }
+
+    @Benchmark
+    public byte[] statistics() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(statisticsResponse);
+    }
+}
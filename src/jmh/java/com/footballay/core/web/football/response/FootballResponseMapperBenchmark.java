@@ -0,0 +1,63 @@
+package com.footballay.core.web.football.response;
+
+import com.footballay.core.domain.football.FootballBenchmarkData;
+import com.footballay.core.domain.football.dto.*;
+import com.footballay.core.web.football.response.fixture.FixtureEventsResponse;
+import com.footballay.core.web.football.response.fixture.FixtureInfoResponse;
+import com.footballay.core.web.football.response.fixture.FixtureLineupResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FootballStreamDtoMapper}, {@link MatchStatisticsResponseMapper} 의 DTO -> 응답 변환 비용을 측정합니다.
+ * 입력 DTO 는 {@link FootballDomainDtoMapper} 로 미리 만들어 두고 응답 변환만 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FootballResponseMapperBenchmark {
+
+    private long fixtureId;
+    private FixtureInfoDto fixtureInfo;
+    private FixtureWithLineupDto fixtureWithLineup;
+    private List<FixtureEventWithPlayerDto> events;
+    private MatchStatisticsDto matchStatistics;
+
+    @Setup
+    public void setUp() {
+        FootballBenchmarkData data = FootballBenchmarkData.create();
+        fixtureId = data.fixture.getFixtureId();
+        fixtureInfo = FootballDomainDtoMapper.fixtureInfoDtoFromEntity(data.fixture);
+        fixtureWithLineup = FootballDomainDtoMapper.fixtureWithLineupDtoFromEntity(data.fixture);
+        events = FootballDomainDtoMapper.fixtureEventDtosFromEntities(data.events);
+        matchStatistics = FootballDomainDtoMapper.matchStatisticsDTOFromEntity(
+                data.fixture,
+                data.homeStatistics,
+                data.awayStatistics,
+                data.homePlayers,
+                data.awayPlayers
+        );
+    }
+
+    @Benchmark
+    public FixtureInfoResponse fixtureInfo() {
+        return FootballStreamDtoMapper.toFixtureInfoResponse(fixtureInfo);
+    }
+
+    @Benchmark
+    public FixtureLineupResponse fixtureLineup() {
+        return FootballStreamDtoMapper.toFixtureLineupResponse(fixtureWithLineup);
+    }
+
+    @Benchmark
+    public FixtureEventsResponse fixtureEvents() {
+        return FootballStreamDtoMapper.toFixtureEventsResponse(fixtureId, events);
+    }
+
+    @Benchmark
+    public MatchStatisticsResponse matchStatistics() {
+        return MatchStatisticsResponseMapper.toResponse(matchStatistics);
+    }
+}
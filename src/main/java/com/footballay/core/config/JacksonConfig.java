@@ -2,11 +2,14 @@ package com.footballay.core.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
 import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -14,6 +17,10 @@ import java.time.format.DateTimeFormatter;
 @Configuration
 public class JacksonConfig {
 
+    /**
+     * {@link CBORMapper} 도 {@link ObjectMapper} 타입이므로 JSON 매퍼를 기본 빈으로 지정합니다.
+     */
+    @Primary
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
@@ -22,6 +29,26 @@ public class JacksonConfig {
         return mapper;
     }
 
+    /**
+     * 스코어보드 클라이언트용 바이너리(CBOR) 매퍼. JSON 매퍼와 같은 모듈을 등록해서 필드 구성과 날짜 형식이 같습니다.
+     */
+    @Bean
+    public CBORMapper cborMapper() {
+        CBORMapper mapper = new CBORMapper();
+        registerAfterBurner(mapper);
+        registerTimeModule(mapper);
+        return mapper;
+    }
+
+    /**
+     * Accept: application/cbor 요청에 CBOR 로 응답합니다. <br>
+     * 기본 CBOR 컨버터를 대체하므로 JSON 컨버터보다 뒤에 위치하고, Accept 가 없거나 모든 타입을 허용하는 요청은 계속 JSON 으로 응답합니다.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(CBORMapper cborMapper) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+
     /**
      * {@link ZonedDateTime} 직렬화시 ISO_OFFSET_DATE_TIME 포맷으로 직렬화 합니다
      * @param mapper
@@ -10,6 +10,7 @@ import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.Arrays;
 
 @Slf4j
@@ -44,4 +45,12 @@ public class WebConfig {
                 .add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
         return restTemplate;
     }
-}
\ No newline at end of file
+
+    /**
+     * 현재 시각이 필요한 서비스에 주입하는 시계. 테스트에서는 고정된 시계로 바꿔 시간 구간을 결정적으로 만듭니다.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
@@ -1,19 +1,34 @@
 package com.footballay.core.config;
 
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.footballay.core.websocket.handler.CustomHandshakeHandler;
 import com.footballay.core.websocket.handler.HttpHandshakeInterceptor;
 import com.footballay.core.websocket.handler.StompChannelInterceptor;
+import com.footballay.core.websocket.handler.StompWireFormatNegotiator;
+import com.footballay.core.websocket.handler.WebSocketSessionReaper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * <pre>
@@ -27,16 +42,51 @@ import java.util.Arrays;
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    static final String OUTBOUND_REJECTED = "football.websocket.outbound.rejected";
+
     private final StompChannelInterceptor stompHandler;
+    private final StompWireFormatNegotiator wireFormatNegotiator;
+    private final CBORMapper cborMapper;
+    private final WebSocketSessionReaper sessionReaper;
+    private final Counter outboundRejectedCounter;
+
+    /**
+     * STOMP heartbeat 전송/확인 전용 스케줄러. 브로커 메시지 처리 스레드와 분리합니다.
+     */
+    private final ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
 
     /**
      * stompHandler 내부의 빈 순환 의존성 문제로 인해서 @Lazy 로 설정합니다.
      * @param stompHandler
      */
-    public WebSocketConfig(@Lazy StompChannelInterceptor stompHandler) {
+    public WebSocketConfig(
+            @Lazy StompChannelInterceptor stompHandler,
+            StompWireFormatNegotiator wireFormatNegotiator,
+            CBORMapper cborMapper,
+            WebSocketSessionReaper sessionReaper,
+            MeterRegistry meterRegistry
+    ) {
         this.stompHandler = stompHandler;
+        this.wireFormatNegotiator = wireFormatNegotiator;
+        this.cborMapper = cborMapper;
+        this.sessionReaper = sessionReaper;
+        this.outboundRejectedCounter = Counter.builder(OUTBOUND_REJECTED)
+                .description("clientOutboundChannel 큐가 가득 차서 전송하지 못한 프레임 수")
+                .register(meterRegistry);
     }
 
+    /**
+     * STOMP heartbeat 간격(ms). [서버가 보내는 간격, 클라이언트에게 기대하는 간격] 이며 0 이면 사용하지 않습니다. <br>
+     * 클라이언트가 heartbeat 를 협상하면, 기대 간격의 3배 동안 프레임이 없는 세션은 브로커가 닫습니다.
+     * heartbeat 를 협상하지 않은 세션은 {@link WebSocketSessionReaper} 가 websocket ping 으로 확인해서 응답이 없으면 닫습니다.
+     */
+    @Value("${football.websocket.heartbeat.server-millis:10000}")
+    private long serverHeartbeatMillis;
+    @Value("${football.websocket.heartbeat.client-millis:10000}")
+    private long clientHeartbeatMillis;
+    @Value("${football.websocket.heartbeat.scheduler-pool-size:1}")
+    private int heartbeatSchedulerPoolSize;
+
     /*
      yml 로 주입된 값은 List<String> 으로 받아올 수 없는 버그가 있습니다.
      대신 , 로 구분된 String 으로 받아와 split 으로 처리합니다. ex: "url1,url2,url3"
@@ -59,17 +109,97 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .addInterceptors(new HttpHandshakeInterceptor());
     }
 
+    /**
+     * 세션별 발행 순서를 유지합니다(preservePublishOrder). <br>
+     * RemoteDispatchExecutor 가 원격 코드별로 순서대로 전송해도, clientOutboundChannel 의 스레드 풀이 같은 세션의 프레임을 병렬로 처리하면 순서가 바뀝니다.
+     * 합쳐진 상태 메시지의 이전 상태가 마지막 상태보다 늦게 도착하지 않도록 세션별로 이전 프레임의 전송이 끝난 뒤 다음 프레임을 전송합니다.
+     */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트로 메시지를 라우팅할 때 사용할 prefix를 설정합니다.
-        registry.enableSimpleBroker("/topic","/queue");
+        heartbeatScheduler.setPoolSize(heartbeatSchedulerPoolSize);
+        heartbeatScheduler.setThreadNamePrefix("stomp-heartbeat-");
+        heartbeatScheduler.initialize();
+        registry.enableSimpleBroker("/topic","/queue")
+                .setHeartbeatValue(new long[]{serverHeartbeatMillis, clientHeartbeatMillis})
+                .setTaskScheduler(heartbeatScheduler);
         registry.setApplicationDestinationPrefixes("/app","/chat");
         registry.setUserDestinationPrefix("/user");
+        registry.setPreservePublishOrder(true);
     }
 
+    /**
+     * client 채널의 스레드 풀 크기. 기본값(CPU 수 * 2, 큐 무제한) 대신 명시적으로 설정합니다. <br>
+     * 원격 제어 메시지의 Redis 조회와 구독자 전송은 RemoteDispatchExecutor 에서 처리하므로 inbound 스레드는 프레임 처리에만 사용됩니다.
+     */
+    @Value("${football.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${football.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+    @Value("${football.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+    @Value("${football.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${football.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+    @Value("${football.websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler);
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+        registration.interceptors(wireFormatNegotiator.inboundInterceptor(), sessionReaper.inboundInterceptor(), stompHandler);
+    }
+
+    /**
+     * outbound 큐가 가득 차면 프레임을 전송하지 못하므로, 거부된 횟수를 기록하고 로그를 남긴 뒤 기존과 같이 예외를 던집니다.
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        ThreadPoolTaskExecutor outboundExecutor = new ThreadPoolTaskExecutor();
+        outboundExecutor.setThreadNamePrefix("clientOutboundChannel-");
+        outboundExecutor.setRejectedExecutionHandler(this::rejectOutboundFrame);
+        registration.taskExecutor(outboundExecutor)
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(wireFormatNegotiator.outboundInterceptor());
+    }
+
+    private void rejectOutboundFrame(Runnable task, ThreadPoolExecutor executor) {
+        outboundRejectedCounter.increment();
+        log.warn("websocket outbound queue is full. frame is dropped. queued={}, capacity={}",
+                executor.getQueue().size(), outboundQueueCapacity);
+        throw new RejectedExecutionException("websocket outbound queue is full");
+    }
+
+    /**
+     * 세션별 마지막 수신 시각을 기록해서 idle 세션을 정리할 수 있도록 핸들러를 감쌉니다.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(sessionReaper);
+    }
+
+    @PreDestroy
+    public void shutdownHeartbeatScheduler() {
+        heartbeatScheduler.shutdown();
+    }
+
+    /**
+     * content-type: application/cbor 로 보낸 요청 메시지를 읽기 위한 컨버터를 추가합니다. <br>
+     * content-type 이 일치할 때만 사용하고(strict), 그 외에는 기본 JSON 컨버터를 그대로 사용합니다.
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        MappingJackson2MessageConverter cborConverter = new MappingJackson2MessageConverter(MediaType.APPLICATION_CBOR);
+        cborConverter.setObjectMapper(cborMapper);
+        cborConverter.setStrictContentTypeMatch(true);
+        messageConverters.add(cborConverter);
+        return true;
     }
 
 }
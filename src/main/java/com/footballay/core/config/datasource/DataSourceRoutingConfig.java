@@ -0,0 +1,78 @@
+package com.footballay.core.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * primary/replica DataSource 라우팅 설정입니다. <br>
+ * {@code spring.datasource.replica.jdbc-url} 이 설정된 경우에만 활성화되며, 설정되지 않으면 기존처럼 단일 DataSource 를 사용합니다.
+ * <pre>
+ * spring.datasource.*          : primary (쓰기, Quartz, readOnly 가 아닌 모든 트랜잭션)
+ * spring.datasource.hikari.*   : primary 커넥션 풀
+ * spring.datasource.replica.*  : replica 커넥션 풀 (HikariConfig 프로퍼티. jdbc-url, username, password, maximum-pool-size ...)
+ * </pre>
+ * @see ReplicationRoutingDataSource
+ * @see UsePrimaryDataSource
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "jdbc-url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        log.info("replication routing DataSource enabled");
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Open Session In View 로 EntityManager 가 요청 전체에 걸쳐 유지되더라도,
+     * 트랜잭션마다 커넥션을 반납하고 다시 라우팅하도록 합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransactionCustomizer() {
+        return properties -> properties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+}
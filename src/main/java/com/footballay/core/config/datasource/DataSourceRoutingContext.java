@@ -0,0 +1,31 @@
+package com.footballay.core.config.datasource;
+
+/**
+ * 현재 스레드의 DataSource 라우팅을 강제로 primary 로 고정하기 위한 context 입니다. <br>
+ * 중첩 호출을 지원하기 위해 깊이를 기록하며, 가장 바깥 호출이 끝날 때 해제됩니다.
+ * @see UsePrimaryDataSource
+ */
+public class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Integer> PRIMARY_FORCED_DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED_DEPTH.set(PRIMARY_FORCED_DEPTH.get() + 1);
+    }
+
+    public static void release() {
+        int depth = PRIMARY_FORCED_DEPTH.get() - 1;
+        if (depth <= 0) {
+            PRIMARY_FORCED_DEPTH.remove();
+        } else {
+            PRIMARY_FORCED_DEPTH.set(depth);
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED_DEPTH.get() > 0;
+    }
+}
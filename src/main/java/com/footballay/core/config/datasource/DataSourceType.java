@@ -0,0 +1,6 @@
+package com.footballay.core.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA,
+}
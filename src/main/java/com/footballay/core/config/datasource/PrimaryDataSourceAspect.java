@@ -0,0 +1,29 @@
+package com.footballay.core.config.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link UsePrimaryDataSource} 가 붙은 호출 동안 DataSource 라우팅을 primary 로 고정합니다. <br>
+ * 트랜잭션이 시작되기 전에 라우팅이 고정되어야 하므로 트랜잭션 advice 보다 먼저 실행되도록 합니다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Aspect
+@Component
+public class PrimaryDataSourceAspect {
+
+    @Around("@within(com.footballay.core.config.datasource.UsePrimaryDataSource) " +
+            "|| @annotation(com.footballay.core.config.datasource.UsePrimaryDataSource)")
+    public Object routeToPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        DataSourceRoutingContext.forcePrimary();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataSourceRoutingContext.release();
+        }
+    }
+}
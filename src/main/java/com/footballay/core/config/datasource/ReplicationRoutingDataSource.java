@@ -0,0 +1,23 @@
+package com.footballay.core.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 그 외에는 primary 로 라우팅합니다. <br>
+ * 트랜잭션의 readOnly 여부가 결정된 뒤 커넥션을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용해야 합니다.
+ * {@link DataSourceRoutingContext} 로 primary 가 강제된 경우 readOnly 트랜잭션이더라도 primary 를 사용합니다.
+ * @see DataSourceRoutingConfig
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (DataSourceRoutingContext.isPrimaryForced()) {
+            return DataSourceType.PRIMARY;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? DataSourceType.REPLICA
+                : DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,39 @@
+package com.footballay.core.config.datasource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 문 수를 현재 스레드 기준으로 셉니다. <br>
+ * {@link #start()} 와 {@link #stop()} 사이에 실행된 SQL 문만 집계되며, 측정 구간이 열려있지 않은 스레드에서는 아무것도 하지 않습니다. <br>
+ * 라이브 경기 tick 처럼 하나의 스레드에서 끝나는 작업의 SQL 발생량을 측정하는 데 사용합니다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드의 SQL 문 집계를 시작합니다. 이미 집계 중이라면 0 부터 다시 셉니다.
+     */
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 현재 스레드의 SQL 문 집계를 종료합니다.
+     * @return {@link #start()} 이후 실행된 SQL 문 수. 집계 중이 아니었다면 0
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+}
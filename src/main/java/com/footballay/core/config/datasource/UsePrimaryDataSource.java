@@ -0,0 +1,18 @@
+package com.footballay.core.config.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link UsePrimaryDataSource} 어노테이션이 붙은 클래스나 메서드 안에서는 readOnly 트랜잭션이더라도 primary DataSource 를 사용합니다. <br>
+ * 쓰기 직후 곧바로 다시 읽어야 해서 replica 의 복제 지연을 허용할 수 없는 경우(ex. 관리자 페이지, 라이브 경기 Quartz job) 사용합니다. <br>
+ * Quartz job 인스턴스는 프록시되지 않으므로 job 이 호출하는 빈에 붙입니다.
+ * @see PrimaryDataSourceAspect
+ * @see ReplicationRoutingDataSource
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface UsePrimaryDataSource {
+}
@@ -3,6 +3,7 @@ package com.footballay.core.domain.football;
 import com.footballay.core.domain.football.dto.*;
 import com.footballay.core.domain.football.external.FootballApiCacheService;
 import com.footballay.core.domain.football.external.fetch.ApiStatus;
+import com.footballay.core.domain.football.external.warmup.SeasonWarmupService;
 import com.footballay.core.domain.football.persistence.Fixture;
 import com.footballay.core.domain.football.persistence.League;
 import com.footballay.core.domain.football.persistence.Player;
@@ -40,6 +41,7 @@ public class FootballRoot {
     private final FootballApiCacheService footballApiCacheService;
     private final FootballDataService footballDataService;
     private final FootballAvailableService footballAvailableService;
+    private final SeasonWarmupService seasonWarmupService;
 
     private final LeagueRepository leagueRepository;
 
@@ -289,6 +291,33 @@ public class FootballRoot {
         return true;
     }
 
+    /**
+     * 시즌 캐시 워밍업을 백그라운드에서 시작합니다. <br>
+     * 리그 아이디가 주어지지 않으면 즐겨찾기(available) 리그들을 대상으로 합니다.
+     *
+     * @param leagueIds 워밍업 할 리그 ID 목록
+     * @return 워밍업 시작 여부. 이미 진행 중인 워밍업이 있거나 대상 리그가 없다면 false
+     * @see SeasonWarmupService
+     */
+    public boolean startSeasonWarmup(List<Long> leagueIds) {
+        try {
+            List<Long> targetLeagueIds = leagueIds;
+            if (targetLeagueIds == null || targetLeagueIds.isEmpty()) {
+                targetLeagueIds = footballAvailableService.getAvailableLeagues().stream()
+                        .map(League::getLeagueId)
+                        .toList();
+            }
+            return seasonWarmupService.startWarmup(targetLeagueIds);
+        } catch (Exception e) {
+            log.error("error while starting Season Warmup :: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public Optional<SeasonWarmupStatusDto> getSeasonWarmupStatus() {
+        return seasonWarmupService.getStatus();
+    }
+
     /**
      * 해당 playerId 의 선수 정보를 캐싱합니다.
      *
@@ -0,0 +1,100 @@
+package com.footballay.core.domain.football.comparator;
+
+import com.footballay.core.domain.football.persistence.live.MatchPlayer;
+import jakarta.annotation.Nullable;
+
+/**
+ * 라인업 선수의 정렬 순서를 하나의 long 값으로 만듭니다. <br>
+ * {@link StartLineupComparator} 와 같은 순서를 가지며, 라인업 저장 시 계산해서 {@code MatchPlayer} 에 저장하고 저장된 순서로 라인업을 조회합니다.
+ * 등록 선수의 등번호는 라인업 저장 이후에도 바뀔 수 있으므로 응답 시 조회 시점의 등번호로 다시 계산합니다.
+ * 계산은 비트 연산뿐이고, 다시 계산한 키가 저장된 순서와 같으면 응답 시 다시 정렬하지 않습니다.
+ * <pre>
+ * | substitute (1) | major (16) | minor (16) | unregistered (1) |
+ * 선발 : major = grid x, minor = grid y
+ * 후보 : major = 포지션 순서 (G D M F), minor = 등번호
+ * </pre>
+ * 값을 알 수 없는 필드는 최댓값을 사용해서 뒤로 보냅니다. 키가 같은 선수들은 저장 순서(id)로 정렬됩니다.
+ */
+public final class LineupSortKey {
+
+    private static final int FIELD_BITS = 16;
+    private static final int UNKNOWN = (1 << FIELD_BITS) - 1;
+
+    private static final int SUBSTITUTE_SHIFT = 1 + FIELD_BITS * 2;
+    private static final int MAJOR_SHIFT = 1 + FIELD_BITS;
+    private static final int MINOR_SHIFT = 1;
+
+    private LineupSortKey() {
+    }
+
+    /**
+     * 라인업 응답과 같은 등번호로 정렬 키를 계산합니다. <br>
+     * 등록 선수는 API 라인업 응답의 번호가 아닌 {@link com.footballay.core.domain.football.persistence.Player} 의 번호를,
+     * 미등록 선수는 unregisteredPlayerNumber 를 사용합니다.
+     * @param matchPlayer 라인업에 속한 선수
+     */
+    public static long of(MatchPlayer matchPlayer) {
+        boolean unregistered = matchPlayer.getPlayer() == null;
+        Integer number = unregistered ? matchPlayer.getUnregisteredPlayerNumber() : matchPlayer.getPlayer().getNumber();
+        return of(Boolean.TRUE.equals(matchPlayer.getSubstitute()), matchPlayer.getPosition(), matchPlayer.getGrid(), number, unregistered);
+    }
+
+    /**
+     * @param substitute 후보 선수 여부
+     * @param position G, D, M, F. null 이면 F 로 취급합니다.
+     * @param grid 선발 선수의 "x:y" 형태 grid
+     * @param number 등번호
+     * @param unregistered 미등록 선수 여부. 같은 키에서 등록 선수 뒤로 정렬됩니다.
+     */
+    public static long of(boolean substitute, @Nullable String position, @Nullable String grid, @Nullable Integer number, boolean unregistered) {
+        int major;
+        int minor;
+        if (substitute) {
+            major = positionRank(position);
+            minor = number == null ? UNKNOWN : clamp(number);
+        } else {
+            int separator = grid == null ? -1 : grid.indexOf(':');
+            major = separator < 0 ? UNKNOWN : parseGridPart(grid, 0, separator);
+            minor = separator < 0 ? UNKNOWN : parseGridPart(grid, separator + 1, grid.length());
+        }
+        return ((substitute ? 1L : 0L) << SUBSTITUTE_SHIFT)
+                | ((long) major << MAJOR_SHIFT)
+                | ((long) minor << MINOR_SHIFT)
+                | (unregistered ? 1L : 0L);
+    }
+
+    private static int positionRank(@Nullable String position) {
+        if (position == null || position.isEmpty()) {
+            return 4;
+        }
+        return switch (Character.toUpperCase(position.charAt(0))) {
+            case 'G' -> 1;
+            case 'D' -> 2;
+            case 'M' -> 3;
+            case 'F' -> 4;
+            default -> UNKNOWN;
+        };
+    }
+
+    private static int parseGridPart(String grid, int start, int end) {
+        if (start >= end) {
+            return UNKNOWN;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = grid.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return UNKNOWN;
+            }
+            value = value * 10 + digit;
+            if (value >= UNKNOWN) {
+                return UNKNOWN;
+            }
+        }
+        return value;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(value, UNKNOWN - 1));
+    }
+}
@@ -1,5 +1,6 @@
 package com.footballay.core.domain.football.dto;
 
+import com.footballay.core.domain.football.comparator.LineupSortKey;
 import com.footballay.core.domain.football.external.fetch.ApiStatus;
 import com.footballay.core.domain.football.persistence.Fixture;
 import com.footballay.core.domain.football.persistence.League;
@@ -443,7 +444,8 @@ public class FootballDomainDtoMapper {
                     matchPlayer.getUnregisteredPlayerName(),
                     matchPlayer.getUnregisteredPlayerNumber(),
                     matchPlayer.getGrid(),
-                    matchPlayer.getSubstitute()
+                    matchPlayer.getSubstitute(),
+                    LineupSortKey.of(matchPlayer)
             );
         } else {
             assert matchPlayer.getPlayer() != null;
@@ -458,7 +460,8 @@ public class FootballDomainDtoMapper {
                     null,
                     null,
                     matchPlayer.getGrid(),
-                    matchPlayer.getSubstitute()
+                    matchPlayer.getSubstitute(),
+                    LineupSortKey.of(matchPlayer)
             );
         }
     }
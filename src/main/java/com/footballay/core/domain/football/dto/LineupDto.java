@@ -27,7 +27,8 @@ public record LineupDto(
             String unregisteredPlayerName,
             Integer unregisteredPlayerNumber,
             String grid,
-            boolean substitute
+            boolean substitute,
+            Long lineupSortKey
     ){
     }
 }
@@ -0,0 +1,14 @@
+package com.footballay.core.domain.football.dto;
+
+/**
+ * 선수 한글 이름과 등번호의 변경 전후 값입니다.
+ */
+public record PlayerDetailChangeDto(
+        long playerId,
+        String name,
+        String beforeKoreanName,
+        String afterKoreanName,
+        Integer beforeNumber,
+        Integer afterNumber
+) {
+}
@@ -0,0 +1,16 @@
+package com.footballay.core.domain.football.dto;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * 선수 한글 이름과 등번호 수정 요청입니다. 값이 없으면 기존 값을 유지합니다.
+ *
+ * @param koreanName 비어있으면 수정하지 않습니다
+ * @param number null 또는 0 이면 수정하지 않습니다
+ */
+public record PlayerDetailUpdateDto(
+        long playerId,
+        @Nullable String koreanName,
+        @Nullable Integer number
+) {
+}
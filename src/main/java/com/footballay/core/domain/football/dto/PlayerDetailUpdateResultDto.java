@@ -0,0 +1,13 @@
+package com.footballay.core.domain.football.dto;
+
+import java.util.List;
+
+/**
+ * @param changes 값이 바뀌는 선수들
+ * @param notFoundPlayerIds 존재하지 않는 선수 ID
+ */
+public record PlayerDetailUpdateResultDto(
+        List<PlayerDetailChangeDto> changes,
+        List<Long> notFoundPlayerIds
+) {
+}
@@ -0,0 +1,22 @@
+package com.footballay.core.domain.football.dto;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 시즌 캐시 워밍업 작업의 진행 상태입니다.
+ * @param state RUNNING, FINISHED 중 하나
+ * @param totalSteps 현재까지 등록된 단계 수. 팀 목록이 캐싱되면서 선수단 단계가 추가되므로 진행 중에는 늘어날 수 있습니다.
+ * @param failedSteps 실패한 단계 key 목록. ex) SQUAD:{teamId=50}
+ */
+public record SeasonWarmupStatusDto(
+        String state,
+        List<Long> leagueIds,
+        ZonedDateTime startedAt,
+        ZonedDateTime finishedAt,
+        int totalSteps,
+        int doneSteps,
+        int skippedSteps,
+        List<String> failedSteps
+) {
+}
@@ -3,6 +3,7 @@ package com.footballay.core.domain.football.external;
 import com.footballay.core.domain.football.external.fetch.ApiCallService;
 import com.footballay.core.domain.football.external.fetch.ApiStatus;
 import com.footballay.core.domain.football.external.fetch.response.*;
+import com.footballay.core.domain.football.external.lastlog.ApiResponseHasher;
 import com.footballay.core.domain.football.external.lastlog.LastCacheLogService;
 import com.footballay.core.domain.football.persistence.Fixture;
 import com.footballay.core.domain.football.persistence.League;
@@ -48,6 +49,12 @@ import static com.footballay.core.domain.football.external.fetch.response.TeamIn
  * 메서드 안에 여러 줄에서 apiCallService 가 호출된다면, 분기로 나뉘어서 독립적으로 호출되는 경우입니다.
  * 만약 하나의 메서드 안에 여러 apiCallService 가 등장한다면, 다시 별개의 private 메서드로 나누기를 권장합니다.
  * </pre>
+ * <h3>변경 감지</h3>
+ * <pre>
+ * 마지막 캐싱 이후 {@link ApiCacheType#getStaleAfter()} 가 지나지 않았고 DB 에 캐싱된 데이터가 있다면 외부 API 를 호출하지 않습니다.
+ * 외부 API 응답의 내용 해시를 {@link ApiCacheType} 과 파라미터 별로 LastCacheLog 에 저장합니다.
+ * 다시 받은 응답의 해시가 이전과 같다면 DB 쓰기 단계를 건너뛰고 마지막 캐싱 시점만 갱신합니다.
+ * </pre>
  */
 /*
  # 캐싱시 3가지 케이스를 나눠서 처리해야 합니다
@@ -69,6 +76,7 @@ public class FootballApiCacheService {
 
     private final ApiCallService apiCallService;
     private final LastCacheLogService lastCacheLogService;
+    private final ApiResponseHasher apiResponseHasher;
 
     private final LeagueRepository leagueRepository;
     private final TeamRepository teamRepository;
@@ -97,13 +105,28 @@ public class FootballApiCacheService {
      * @return
      */
     public League cacheLeague(long leagueId) {
+        Map<String, Object> cacheParams = Map.of("leagueId", leagueId);
+        if (isFresh(ApiCacheType.LEAGUE, cacheParams)) {
+            Optional<League> cachedLeague = leagueRepository.findById(leagueId);
+            if (cachedLeague.isPresent()) {
+                return cachedLeague.get();
+            }
+        }
         LeagueInfoResponse leagueInfoResponse = apiCallService.leagueInfo(leagueId);
+        String contentHash = apiResponseHasher.hash(leagueInfoResponse);
+        if (isSameContent(ApiCacheType.LEAGUE, cacheParams, contentHash)) {
+            Optional<League> cachedLeague = leagueRepository.findById(leagueId);
+            if (cachedLeague.isPresent()) {
+                touchApiCache(ApiCacheType.LEAGUE, cacheParams, contentHash);
+                return cachedLeague.get();
+            }
+        }
         _Response response = leagueInfoResponse.getResponse().get(0);
 
         League league = null;
         league = saveSingleLeague(leagueId, response);
 
-        lastCacheLogService.saveApiCache(ApiCacheType.LEAGUE, Map.of("leagueId", leagueId), ZonedDateTime.now());
+        lastCacheLogService.saveApiCache(ApiCacheType.LEAGUE, cacheParams, ZonedDateTime.now(), contentHash);
         log.info("leagueId: {} is cached", league.getLeagueId());
         log.info("cached league : {}", league);
         return league;
@@ -123,7 +146,16 @@ public class FootballApiCacheService {
             throw new RuntimeException("아직 current _Season 이 캐싱되어있지 않습니다");
         }
 
+        Map<String, Object> cacheParams = Map.of("leagueId", leagueId);
+        if (isFresh(ApiCacheType.LEAGUE_TEAMS, cacheParams)) {
+            return teamRepository.findTeamsByLeague(league);
+        }
         TeamInfoResponse teamInfoResponse = apiCallService.teamsInfo(leagueId, league.getCurrentSeason());
+        String contentHash = apiResponseHasher.hash(teamInfoResponse);
+        if (isSameContent(ApiCacheType.LEAGUE_TEAMS, cacheParams, contentHash)) {
+            touchApiCache(ApiCacheType.LEAGUE_TEAMS, cacheParams, contentHash);
+            return teamRepository.findTeamsByLeague(league);
+        }
 
         Map<Long, _TeamResponse> apiTeamsSet = teamInfoResponse.getResponse().stream()
                 .collect(Collectors.toMap(teamInfo -> teamInfo.getTeam().getId(), _TeamInfo::getTeam));
@@ -189,7 +221,7 @@ public class FootballApiCacheService {
                 otherLeagueExistTeams.values().stream().map(Team::getName).toList());
         log.info("_Teams of [leagueId={},name={}] is cached", league.getLeagueId(), league.getName());
 
-        lastCacheLogService.saveApiCache(ApiCacheType.LEAGUE_TEAMS, Map.of("leagueId", leagueId), ZonedDateTime.now());
+        lastCacheLogService.saveApiCache(ApiCacheType.LEAGUE_TEAMS, cacheParams, ZonedDateTime.now(), contentHash);
 
         bothExistTeams.addAll(savedNewTeams);
         return bothExistTeams;
@@ -215,7 +247,16 @@ public class FootballApiCacheService {
             team = findTeam.get();
         }
 
+        Map<String, Object> cacheParams = Map.of("teamId", teamId);
+        if (isFresh(ApiCacheType.CURRENT_LEAGUES_OF_TEAM, cacheParams)) {
+            return;
+        }
         LeagueInfoResponse leagueInfoResponse = apiCallService.teamCurrentLeaguesInfo(teamId);
+        String contentHash = apiResponseHasher.hash(leagueInfoResponse);
+        if (isSameContent(ApiCacheType.CURRENT_LEAGUES_OF_TEAM, cacheParams, contentHash)) {
+            touchApiCache(ApiCacheType.CURRENT_LEAGUES_OF_TEAM, cacheParams, contentHash);
+            return;
+        }
         for (_Response response : leagueInfoResponse.getResponse()) {
             long leagueId = response.getLeague().getId();
             Optional<League> findLeague = leagueRepository.findById(leagueId);
@@ -233,7 +274,7 @@ public class FootballApiCacheService {
             LeagueTeam saveLeagueTeam = leagueTeamRepository.save(leagueTeam);
         }
 
-        lastCacheLogService.saveApiCache(ApiCacheType.CURRENT_LEAGUES_OF_TEAM, Map.of("teamId", teamId), ZonedDateTime.now());
+        lastCacheLogService.saveApiCache(ApiCacheType.CURRENT_LEAGUES_OF_TEAM, cacheParams, ZonedDateTime.now(), contentHash);
     }
 
     /**
@@ -246,7 +287,16 @@ public class FootballApiCacheService {
      */
     public Team cacheSingleTeam(long teamId) {
         Optional<Team> findTeam = teamRepository.findById(teamId);
+        Map<String, Object> cacheParams = Map.of("teamId", teamId);
+        if (findTeam.isPresent() && isFresh(ApiCacheType.TEAM, cacheParams)) {
+            return findTeam.get();
+        }
         TeamInfoResponse teamInfoResponse = apiCallService.teamInfo(teamId);
+        String contentHash = apiResponseHasher.hash(teamInfoResponse);
+        if (findTeam.isPresent() && isSameContent(ApiCacheType.TEAM, cacheParams, contentHash)) {
+            touchApiCache(ApiCacheType.TEAM, cacheParams, contentHash);
+            return findTeam.get();
+        }
         _TeamResponse teamResponse = teamInfoResponse.getResponse().get(0).getTeam();
 
         Team build = Team.builder()
@@ -267,7 +317,7 @@ public class FootballApiCacheService {
             result = findTeam.get();
         }
 
-        lastCacheLogService.saveApiCache(ApiCacheType.TEAM, Map.of("teamId", teamId), ZonedDateTime.now());
+        lastCacheLogService.saveApiCache(ApiCacheType.TEAM, cacheParams, ZonedDateTime.now(), contentHash);
         return result;
     }
 
@@ -291,7 +341,16 @@ public class FootballApiCacheService {
         }
         final Team team = optionalTeam;
 
+        Map<String, Object> cacheParams = Map.of("teamId", teamId);
+        if (isFresh(ApiCacheType.SQUAD, cacheParams)) {
+            return playerRepository.findAllByTeam(teamId);
+        }
         PlayerSquadResponse playerSquadResponse = apiCallService.playerSquad(teamId);
+        String contentHash = apiResponseHasher.hash(playerSquadResponse);
+        if (isSameContent(ApiCacheType.SQUAD, cacheParams, contentHash)) {
+            touchApiCache(ApiCacheType.SQUAD, cacheParams, contentHash);
+            return playerRepository.findAllByTeam(teamId);
+        }
 
         List<_PlayerData> apiPlayers = playerSquadResponse.getResponse().get(0).getPlayers();
         Set<Long> apiPlayerIds = apiPlayers.stream()
@@ -347,7 +406,7 @@ public class FootballApiCacheService {
 
         // 캐싱 날짜 저장
         ZonedDateTime now = ZonedDateTime.now();
-        lastCacheLogService.saveApiCache(ApiCacheType.SQUAD, Map.of("teamId", teamId), now);
+        lastCacheLogService.saveApiCache(ApiCacheType.SQUAD, cacheParams, now, contentHash);
 
         return cachedPlayers;
     }
@@ -357,7 +416,15 @@ public class FootballApiCacheService {
      */
     public void cacheAllCurrentLeagues() {
         log.info("cache all current leagues");
+        if (isFresh(ApiCacheType.CURRENT_LEAGUES, Map.of())) {
+            return;
+        }
         LeagueInfoResponse response = apiCallService.allLeagueCurrent();
+        String contentHash = apiResponseHasher.hash(response);
+        if (isSameContent(ApiCacheType.CURRENT_LEAGUES, Map.of(), contentHash)) {
+            touchApiCache(ApiCacheType.CURRENT_LEAGUES, Map.of(), contentHash);
+            return;
+        }
         List<League> leagues = new ArrayList<>();
 
         for (_Response leagueResponse : response.getResponse()) {
@@ -367,7 +434,7 @@ public class FootballApiCacheService {
 
         log.info("cached leagues count :: {}", leagues.size());
         log.info("cached leagues :: {}", leagues.stream().map(League::getLeagueId).toList());
-        lastCacheLogService.saveApiCache(ApiCacheType.CURRENT_LEAGUES, Map.of(), ZonedDateTime.now());
+        lastCacheLogService.saveApiCache(ApiCacheType.CURRENT_LEAGUES, Map.of(), ZonedDateTime.now(), contentHash);
     }
 
     /**
@@ -379,7 +446,16 @@ public class FootballApiCacheService {
                 .orElseThrow(() -> new RuntimeException("아직 캐싱되지 않은 league 입니다"));
         final int leagueSeason = league.getCurrentSeason();
 
+        Map<String, Object> cacheParams = fixturesOfLeagueCacheParams(leagueId, leagueSeason);
+        if (isFresh(ApiCacheType.FIXTURES_OF_LEAGUE, cacheParams)) {
+            return fixtureRepository.findAllByLeague(league);
+        }
         FixtureResponse fixtureResponse = apiCallService.fixturesOfLeagueSeason(leagueId, leagueSeason);
+        String contentHash = apiResponseHasher.hash(fixtureResponse);
+        if (isSameContent(ApiCacheType.FIXTURES_OF_LEAGUE, cacheParams, contentHash)) {
+            touchApiCache(ApiCacheType.FIXTURES_OF_LEAGUE, cacheParams, contentHash);
+            return fixtureRepository.findAllByLeague(league);
+        }
 
         List<LiveStatus> liveStatusList = new ArrayList<>();
         List<Fixture> fixtures = new ArrayList<>();
@@ -401,10 +477,7 @@ public class FootballApiCacheService {
             }
         }
 
-        lastCacheLogService.saveApiCache(
-                ApiCacheType.FIXTURES_OF_LEAGUE,
-                Map.of("leagueId", leagueId, "season", leagueSeason),
-                ZonedDateTime.now());
+        lastCacheLogService.saveApiCache(ApiCacheType.FIXTURES_OF_LEAGUE, cacheParams, ZonedDateTime.now(), contentHash);
 
         return fixtures;
     }
@@ -448,6 +521,41 @@ public class FootballApiCacheService {
         return savedPlayer;
     }
 
+    /**
+     * {@link ApiCacheType#FIXTURES_OF_LEAGUE} 의 LastCacheLog 파라미터를 만듭니다. <br>
+     * 파라미터는 JSON 문자열로 비교되므로 key 순서가 항상 같도록 LinkedHashMap 을 사용합니다.
+     */
+    public static Map<String, Object> fixturesOfLeagueCacheParams(long leagueId, int season) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("leagueId", leagueId);
+        params.put("season", season);
+        return params;
+    }
+
+    /**
+     * 마지막 캐싱 이후 staleAfter 가 지나지 않았다면 외부 API 를 다시 호출하지 않습니다.
+     * @return 다시 캐싱할 필요가 없다면 true
+     */
+    private boolean isFresh(ApiCacheType type, Map<String, Object> cacheParams) {
+        boolean isFresh = !lastCacheLogService.isStale(type, cacheParams);
+        if (isFresh) {
+            log.info("api cache is still fresh. skip api call :: type={}, params={}", type, cacheParams);
+        }
+        return isFresh;
+    }
+
+    private boolean isSameContent(ApiCacheType type, Map<String, Object> cacheParams, String contentHash) {
+        boolean isSame = lastCacheLogService.isSameContent(type, cacheParams, contentHash);
+        if (isSame) {
+            log.info("api response is not changed. skip db write :: type={}, params={}", type, cacheParams);
+        }
+        return isSame;
+    }
+
+    private void touchApiCache(ApiCacheType type, Map<String, Object> cacheParams, String contentHash) {
+        lastCacheLogService.saveApiCache(type, cacheParams, ZonedDateTime.now(), contentHash);
+    }
+
     private static League toLeagueEntity(_Response leagueResponse) {
         _LeagueResponse leagueInfo = leagueResponse.getLeague();
         int currentSeason = extractCurrentSeason(leagueResponse);
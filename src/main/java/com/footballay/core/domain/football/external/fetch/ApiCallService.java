@@ -2,6 +2,8 @@ package com.footballay.core.domain.football.external.fetch;
 
 import com.footballay.core.domain.football.external.fetch.response.*;
 
+import java.io.OutputStream;
+
 public interface ApiCallService {
 
     ExternalApiStatusResponse status();
@@ -22,5 +24,13 @@ public interface ApiCallService {
 
     FixtureSingleResponse fixtureSingle(long fixtureId);
 
+    /**
+     * 단일 경기 응답을 역직렬화 하지 않고 body 원문 바이트를 그대로 씁니다. <br>
+     * 라이브 경기 처리처럼 API 요청과 JSON 디코딩을 나누어 처리하고, 응답을 재사용 버퍼에 받아야 하는 곳에서 사용합니다.
+     * @param fixtureId 경기 ID
+     * @param out 응답 body 를 쓸 대상. ex) {@link ResponseBodyBuffer}
+     */
+    void fixtureSingleBody(long fixtureId, OutputStream out);
+
     PlayerInfoResponse playerSingle(long playerId, long leagueId, int season);
 }
@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -213,21 +214,10 @@ public class ApiCallServiceImpl implements ApiCallService {
 
     @Override
     public FixtureSingleResponse fixtureSingle(long fixtureId) {
-        Request request = new Request.Builder()
-                .url("https://v3.football.api-sports.io/fixtures?id=" + fixtureId)
-                .get()
-                .addHeader("X-RapidAPI-Host", "v3.football.api-sports.io")
-                .addHeader("X-RapidAPI-Key", key)
-                .build();
-
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful())
-                throw new IllegalArgumentException("response fail : " + response);
-            ResponseBody responseBody = response.body();
-            if (responseBody == null) {
-                throw new IllegalArgumentException("_FixtureSingle body is null. fixture ID : " + fixtureId);
-            }
-            FixtureSingleResponse fixtureSingleResponse = objectMapper.readValue(responseBody.string(), FixtureSingleResponse.class);
+        try {
+            ResponseBodyBuffer buffer = ResponseBodyBuffer.forCurrentThread();
+            fixtureSingleBody(fixtureId, buffer);
+            FixtureSingleResponse fixtureSingleResponse = objectMapper.readValue(buffer.array(), 0, buffer.size(), FixtureSingleResponse.class);
 
             // DEBUG for 2024-11-11 EPL 11R chelsea vs arsenal
             final boolean DEBUG_UNREGI_PLAYER = false;
@@ -242,6 +232,29 @@ public class ApiCallServiceImpl implements ApiCallService {
             }
 
             return fixtureSingleResponse;
+        } catch (IOException exception) {
+            log.error("Api-Football response parsing error :: fixtureId={} ", fixtureId, exception);
+            throw new RuntimeException("Api-Football response parsing error :: fixtureId=" + fixtureId, exception);
+        }
+    }
+
+    @Override
+    public void fixtureSingleBody(long fixtureId, OutputStream out) {
+        Request request = new Request.Builder()
+                .url("https://v3.football.api-sports.io/fixtures?id=" + fixtureId)
+                .get()
+                .addHeader("X-RapidAPI-Host", "v3.football.api-sports.io")
+                .addHeader("X-RapidAPI-Key", key)
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful())
+                throw new IllegalArgumentException("response fail : " + response);
+            ResponseBody responseBody = response.body();
+            if (responseBody == null) {
+                throw new IllegalArgumentException("_FixtureSingle body is null. fixture ID : " + fixtureId);
+            }
+            responseBody.byteStream().transferTo(out);
         } catch (IOException exception) {
             log.error("Api-Football call error :: fixtureId={} ", fixtureId, exception);
             throw new RuntimeException("Api-Football call error :: fixtureId=" + fixtureId, exception);
@@ -0,0 +1,101 @@
+package com.footballay.core.domain.football.external.fetch;
+
+import com.footballay.core.domain.football.external.fetch.FixtureSingleStreamDecoder.Section;
+import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse;
+import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse._FixtureSingle;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link FixtureSingleStreamDecoder} 의 디코딩 결과입니다. <br>
+ * {@link #getResponse()} 는 처음에는 {@link Section} 들이 비어있는 상태이며, {@link #bind(Section...)} 로 필요한 섹션만 채웁니다. <br>
+ * 원본 바이트를 참조하므로 디코딩에 사용한 버퍼를 재사용하기 전에 필요한 바인딩을 끝내야 합니다.
+ */
+public class DecodedFixtureSingle {
+
+    private final FixtureSingleStreamDecoder decoder;
+    private final FixtureSingleResponse response;
+    private final byte[] source;
+
+    private final Map<Section, int[]> sectionRanges = new EnumMap<>(Section.class);
+    private final Map<Section, Long> sectionHashes = new EnumMap<>(Section.class);
+    private final Set<Section> boundSections = EnumSet.noneOf(Section.class);
+
+    DecodedFixtureSingle(FixtureSingleStreamDecoder decoder, FixtureSingleResponse response, byte[] source) {
+        this.decoder = decoder;
+        this.response = response;
+        this.source = source;
+    }
+
+    void recordSection(Section section, int start, int end, long hash) {
+        sectionRanges.put(section, new int[]{start, end});
+        sectionHashes.put(section, hash);
+    }
+
+    byte[] getSource() {
+        return source;
+    }
+
+    public FixtureSingleResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * 섹션별 해시입니다. 응답에 없는 섹션은 포함되지 않습니다.
+     */
+    public Map<Section, Long> getSectionHashes() {
+        return Collections.unmodifiableMap(sectionHashes);
+    }
+
+    /**
+     * @param previousHashes 이전 응답의 {@link #getSectionHashes()}. 없으면 모든 섹션이 바뀐 것으로 봅니다.
+     * @return 이전 응답과 해시가 다른 섹션
+     */
+    public Set<Section> changedSectionsSince(@Nullable Map<Section, Long> previousHashes) {
+        if (previousHashes == null) {
+            return EnumSet.allOf(Section.class);
+        }
+        Set<Section> changed = EnumSet.noneOf(Section.class);
+        for (Section section : Section.values()) {
+            if (!Objects.equals(sectionHashes.get(section), previousHashes.get(section))) {
+                changed.add(section);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 섹션을 바인딩합니다. 이미 바인딩한 섹션은 다시 읽지 않습니다.
+     */
+    public void bind(Section... sections) {
+        if (response.getResponse().isEmpty()) {
+            return;
+        }
+        _FixtureSingle fixtureSingle = response.getResponse().get(0);
+        for (Section section : sections) {
+            int[] range = sectionRanges.get(section);
+            if (range == null || boundSections.contains(section)) {
+                continue;
+            }
+            try {
+                decoder.bindSection(fixtureSingle, section, source, range[0], range[1]);
+                boundSections.add(section);
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to bind section " + section, e);
+            }
+        }
+    }
+
+    public FixtureSingleResponse bindAll() {
+        bind(Section.values());
+        return response;
+    }
+}
@@ -0,0 +1,182 @@
+package com.footballay.core.domain.football.external.fetch;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse;
+import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse.*;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * {@link FixtureSingleResponse} 를 {@link JsonParser} 로 한 번 훑으면서 필요한 부분만 바인딩하는 디코더입니다. <br>
+ * 경기 정보, 리그, 팀, 골, 스코어처럼 작은 섹션은 바로 바인딩하고,
+ * 크기가 큰 {@link Section} (이벤트, 라인업, 통계, 선수 통계)은 바인딩하지 않고 바이트 범위와 해시만 기록합니다. <br>
+ * 기록된 섹션은 {@link DecodedFixtureSingle#bind(Section...)} 를 호출할 때 해당 범위만 다시 읽어 바인딩합니다. <br>
+ * 라이브 경기처럼 17초마다 같은 경기를 받아오지만 대부분의 섹션은 바뀌지 않는 경우, 이전 tick 의 해시와 비교해 바뀐 섹션만 바인딩할 수 있습니다.
+ */
+@Component
+public class FixtureSingleStreamDecoder {
+
+    private static final TypeReference<Map<String, String>> PARAMETERS_TYPE = new TypeReference<>() {};
+    private static final TypeReference<Map<String, Integer>> PAGING_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<String>> ERRORS_TYPE = new TypeReference<>() {};
+
+    private static final ThreadLocal<CRC32C> CRC = ThreadLocal.withInitial(CRC32C::new);
+
+    private final ObjectMapper objectMapper;
+    private final Map<Section, ObjectReader> sectionReaders = new EnumMap<>(Section.class);
+
+    /**
+     * 지연 바인딩 대상 섹션입니다.
+     */
+    public enum Section {
+        EVENTS("events"),
+        LINEUPS("lineups"),
+        STATISTICS("statistics"),
+        PLAYERS("players");
+
+        private final String fieldName;
+
+        Section(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        private static Section fromFieldName(String fieldName) {
+            for (Section section : values()) {
+                if (section.fieldName.equals(fieldName)) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+    public FixtureSingleStreamDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        sectionReaders.put(Section.EVENTS, objectMapper.readerFor(new TypeReference<List<_Events>>() {}));
+        sectionReaders.put(Section.LINEUPS, objectMapper.readerFor(new TypeReference<List<_Lineups>>() {}));
+        sectionReaders.put(Section.STATISTICS, objectMapper.readerFor(new TypeReference<List<_Statistics>>() {}));
+        sectionReaders.put(Section.PLAYERS, objectMapper.readerFor(new TypeReference<List<_FixturePlayers>>() {}));
+    }
+
+    /**
+     * @param source 응답 body. 반환된 객체의 지연 바인딩이 끝날 때까지 내용이 바뀌면 안 됩니다.
+     * @param length source 에서 유효한 길이
+     */
+    public DecodedFixtureSingle decode(byte[] source, int length) throws IOException {
+        FixtureSingleResponse response = new FixtureSingleResponse();
+        List<_FixtureSingle> fixtureSingles = new ArrayList<>(1);
+        response.setResponse(fixtureSingles);
+        DecodedFixtureSingle decoded = new DecodedFixtureSingle(this, response, source);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(source, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("FixtureSingle response must be a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                    case "get" -> response.setGet(parser.getValueAsString());
+                    case "parameters" -> response.setParameters(objectMapper.readValue(parser, PARAMETERS_TYPE));
+                    case "paging" -> response.setPaging(objectMapper.readValue(parser, PAGING_TYPE));
+                    case "results" -> response.setResults(parser.getValueAsInt());
+                    case "errors" -> {
+                        // 에러가 있는 경우 api-football 은 errors 를 배열이 아닌 object 로 응답합니다
+                        if (valueToken == JsonToken.START_ARRAY) {
+                            response.setErrors(objectMapper.readValue(parser, ERRORS_TYPE));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "response" -> readFixtureSingles(parser, decoded, fixtureSingles);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return decoded;
+    }
+
+    private void readFixtureSingles(JsonParser parser, DecodedFixtureSingle decoded, List<_FixtureSingle> fixtureSingles) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (fixtureSingles.isEmpty()) {
+                fixtureSingles.add(readFixtureSingle(parser, decoded));
+            } else {
+                // 단일 경기 조회 응답은 1개의 경기만 포함합니다. 혹시 더 있다면 지연 바인딩 없이 모두 바인딩합니다.
+                fixtureSingles.add(objectMapper.readValue(parser, _FixtureSingle.class));
+            }
+        }
+    }
+
+    private _FixtureSingle readFixtureSingle(JsonParser parser, DecodedFixtureSingle decoded) throws IOException {
+        _FixtureSingle fixtureSingle = new _FixtureSingle();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "fixture" -> fixtureSingle.setFixture(objectMapper.readValue(parser, _Fixture.class));
+                case "league" -> fixtureSingle.setLeague(objectMapper.readValue(parser, _League.class));
+                case "teams" -> fixtureSingle.setTeams(objectMapper.readValue(parser, _Teams.class));
+                case "goals" -> fixtureSingle.setGoals(objectMapper.readValue(parser, _Goals.class));
+                case "score" -> fixtureSingle.setScore(objectMapper.readValue(parser, _Score.class));
+                default -> {
+                    Section section = Section.fromFieldName(fieldName);
+                    if (section == null) {
+                        parser.skipChildren();
+                    } else {
+                        recordSection(parser, decoded, section);
+                    }
+                }
+            }
+        }
+        return fixtureSingle;
+    }
+
+    /**
+     * 섹션을 바인딩하지 않고 건너뛰면서 바이트 범위와 해시를 기록합니다.
+     */
+    private void recordSection(JsonParser parser, DecodedFixtureSingle decoded, Section section) throws IOException {
+        int start = (int) parser.currentTokenLocation().getByteOffset();
+        parser.skipChildren();
+        int end = (int) parser.currentLocation().getByteOffset();
+        decoded.recordSection(section, start, end, hash(decoded.getSource(), start, end - start));
+    }
+
+    /**
+     * 섹션 바이트의 CRC32C 와 길이를 합친 값입니다. 같은 경기의 직전 응답과 비교하는 용도이므로 암호학적 해시가 필요하지 않습니다.
+     */
+    static long hash(byte[] source, int offset, int length) {
+        CRC32C crc = CRC.get();
+        crc.reset();
+        crc.update(source, offset, length);
+        return ((long) length << 32) | crc.getValue();
+    }
+
+    void bindSection(_FixtureSingle fixtureSingle, Section section, byte[] source, int start, int end) throws IOException {
+        List<?> value = sectionReaders.get(section).readValue(source, start, end - start);
+        switch (section) {
+            case EVENTS -> fixtureSingle.setEvents(castList(value));
+            case LINEUPS -> fixtureSingle.setLineups(castList(value));
+            case STATISTICS -> fixtureSingle.setStatistics(castList(value));
+            case PLAYERS -> fixtureSingle.setPlayers(castList(value));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(List<?> value) {
+        return (List<T>) value;
+    }
+}
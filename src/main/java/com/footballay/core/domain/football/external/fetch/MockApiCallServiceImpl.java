@@ -9,6 +9,8 @@ import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 
 @RequiredArgsConstructor
@@ -113,6 +115,16 @@ public class MockApiCallServiceImpl
         }
     }
 
+    @Override
+    public void fixtureSingleBody(long fixtureId, OutputStream out) {
+        String resourcePath = resolvePathOfFixtureSingle(fixtureId);
+        try (InputStream inputStream = new ClassPathResource(resourcePath).getInputStream()) {
+            inputStream.transferTo(out);
+        } catch (IOException e) {
+            throw new RuntimeException("Mock data reading error : " + resourcePath, e);
+        }
+    }
+
     // TODO : MOCK playerSingle() api 요청 구현필요
     @Override
     public PlayerInfoResponse playerSingle(long playerId, long leagueId, int season) {
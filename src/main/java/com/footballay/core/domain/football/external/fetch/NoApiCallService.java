@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
+
 @Slf4j
 @Profile("!mockapi & !api")
 @Service
@@ -64,6 +66,11 @@ public class NoApiCallService implements ApiCallService{
         return null;
     }
 
+    @Override
+    public void fixtureSingleBody(long fixtureId, OutputStream out) {
+        log.info("No API Call Service. method : fixtureSingleBody");
+    }
+
     @Override
     public PlayerInfoResponse playerSingle(long playerId, long leagueId, int season) {
         log.info("No API Call Service. method : playerSingle");
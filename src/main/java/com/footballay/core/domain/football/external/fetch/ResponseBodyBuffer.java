@@ -0,0 +1,44 @@
+package com.footballay.core.domain.football.external.fetch;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 외부 API 응답 body 를 담는 스레드별 재사용 버퍼입니다. <br>
+ * 라이브 경기처럼 같은 스레드에서 주기적으로 큰 응답을 받는 경우, 매번 body 를 String 으로 만들지 않고 이 버퍼에 바이트 그대로 받아서 디코딩합니다. <br>
+ * {@link #forCurrentThread()} 로 얻은 버퍼는 같은 스레드에서 다음에 {@link #forCurrentThread()} 를 호출하기 전까지만 유효합니다.
+ */
+public class ResponseBodyBuffer extends ByteArrayOutputStream {
+
+    private static final int INITIAL_CAPACITY = 256 * 1024;
+
+    /**
+     * 이보다 크게 늘어난 버퍼는 재사용하지 않고 버립니다. 비정상적으로 큰 응답 하나 때문에 스레드마다 큰 버퍼가 남지 않도록 합니다.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 2 * 1024 * 1024;
+
+    private static final ThreadLocal<ResponseBodyBuffer> BUFFERS = new ThreadLocal<>();
+
+    public ResponseBodyBuffer() {
+        super(INITIAL_CAPACITY);
+    }
+
+    /**
+     * 현재 스레드의 버퍼를 비운 상태로 반환합니다.
+     */
+    public static ResponseBodyBuffer forCurrentThread() {
+        ResponseBodyBuffer buffer = BUFFERS.get();
+        if (buffer == null || buffer.buf.length > MAX_RETAINED_CAPACITY) {
+            buffer = new ResponseBodyBuffer();
+            BUFFERS.set(buffer);
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    /**
+     * 복사하지 않은 내부 배열을 반환합니다. 유효한 데이터는 0 부터 {@link #size()} 까지입니다.
+     */
+    public byte[] array() {
+        return buf;
+    }
+}
@@ -0,0 +1,34 @@
+package com.footballay.core.domain.football.external.lastlog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 외부 API 응답의 내용 해시를 계산합니다. <br>
+ * 응답 객체를 JSON 으로 직렬화한 뒤 SHA-256 해시를 hex 문자열로 반환합니다.
+ * 응답 객체의 필드 순서는 고정되어 있으므로 같은 내용의 응답은 항상 같은 해시를 가집니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ApiResponseHasher {
+
+    private final ObjectMapper objectMapper;
+
+    public String hash(Object apiResponse) {
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(apiResponse);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("api response serialize failed", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not found", e);
+        }
+    }
+}
@@ -34,6 +34,24 @@ public class LastCacheLogService {
         return lastCacheLog;
     }
 
+    /**
+     * 마지막 캐싱 시점과 함께 외부 API 응답의 내용 해시를 저장합니다.
+     * @param type
+     * @param parameter
+     * @param cachedAt
+     * @param contentHash {@link ApiResponseHasher} 로 계산한 응답 해시
+     * @return
+     */
+    public LastCacheLog saveApiCache(ApiCacheType type, Map<String, Object> parameter, ZonedDateTime cachedAt, String contentHash) {
+        log.info("save api cache : type={}, parameter={}, cachedAt={}, contentHash={}", type, parameter, cachedAt, contentHash);
+        Optional<LastCacheLog> findApiCache = lastCacheLogRepository.findLastCacheLogByApiCacheTypeAndParametersJson(type, parameter);
+        LastCacheLog lastCacheLog = findApiCache.orElseGet(() -> LastCacheLog.builder().apiCacheType(type).parametersJson(parameter).build());
+        lastCacheLog.setLastCachedAt(cachedAt);
+        lastCacheLog.setContentHash(contentHash);
+        lastCacheLogRepository.save(lastCacheLog);
+        return lastCacheLog;
+    }
+
     public LastCacheLog findApiCache(ApiCacheType type, Map<String, Object> parameters) {
         Optional<LastCacheLog> findApiCache = lastCacheLogRepository.findLastCacheLogByApiCacheTypeAndParametersJson(type, parameters);
         LastCacheLog lastCacheLog = findApiCache.orElseThrow(()
@@ -43,4 +61,41 @@ public class LastCacheLogService {
         return lastCacheLog;
     }
 
+    /**
+     * 마지막으로 캐싱한 응답과 내용 해시가 같은지 확인합니다.
+     * @param type
+     * @param parameters
+     * @param contentHash 새로 받은 응답의 해시
+     * @return 이전 응답과 내용이 같다면 true
+     */
+    public boolean isSameContent(ApiCacheType type, Map<String, Object> parameters, String contentHash) {
+        return lastCacheLogRepository.findLastCacheLogByApiCacheTypeAndParametersJson(type, parameters)
+                .map(LastCacheLog::getContentHash)
+                .filter(contentHash::equals)
+                .isPresent();
+    }
+
+    /**
+     * {@link ApiCacheType} 별 staleAfter 기준으로 다시 캐싱이 필요한지 판단합니다.
+     * 캐싱 기록이 없다면 항상 true 입니다.
+     * @param type
+     * @param parameters
+     * @return 다시 캐싱이 필요하다면 true
+     */
+    public boolean isStale(ApiCacheType type, Map<String, Object> parameters) {
+        ZonedDateTime lastCachedAt = findLastCachedAt(type, parameters).orElse(null);
+        return type.isStale(lastCachedAt, ZonedDateTime.now());
+    }
+
+    /**
+     * 마지막 캐싱 시점을 조회합니다. 캐싱 기록이 없다면 빈 Optional 을 반환합니다.
+     * @param type
+     * @param parameters
+     * @return 마지막 캐싱 시점
+     */
+    public Optional<ZonedDateTime> findLastCachedAt(ApiCacheType type, Map<String, Object> parameters) {
+        return lastCacheLogRepository.findLastCacheLogByApiCacheTypeAndParametersJson(type, parameters)
+                .map(LastCacheLog::getLastCachedAt);
+    }
+
 }
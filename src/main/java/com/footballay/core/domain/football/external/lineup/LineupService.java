@@ -1,5 +1,6 @@
 package com.footballay.core.domain.football.external.lineup;
 
+import com.footballay.core.domain.football.comparator.LineupSortKey;
 import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse;
 import com.footballay.core.domain.football.persistence.Fixture;
 import com.footballay.core.domain.football.persistence.Player;
@@ -321,6 +322,8 @@ public class LineupService {
      * <p>
      * 선발 또는 교체 선수에 대한 MatchPlayer 엔티티를 생성합니다.
      * ID가 있는 선수는 Player 연관 관계를 설정하고, ID가 null 인 미등록 선수는 unregisteredPlayer 필드를 사용합니다.
+     * 응답 시 정렬하지 않도록 {@link LineupSortKey} 로 정렬 키를 계산해서 함께 저장합니다.
+     * 등록 선수의 정렬 키는 응답에 담기는 {@link Player} 의 등번호로 계산합니다.
      * </p>
      *
      * @param lineups 선수 정보를 포함하는 라인업 데이터
@@ -355,6 +358,7 @@ public class LineupService {
                     .grid(playerResponse.getGrid())
                     .substitute(isSubstitute)
                     .build();
+            matchPlayer.setLineupSortKey(LineupSortKey.of(matchPlayer));
             matchPlayerList.add(matchPlayer);
         });
 
@@ -369,9 +373,12 @@ public class LineupService {
                     .grid(responsePlayer.getGrid())
                     .substitute(isSubstitute)
                     .build();
+            matchPlayer.setLineupSortKey(LineupSortKey.of(matchPlayer));
             matchPlayerList.add(matchPlayer);
         });
 
+        // 정렬 키가 같은 선수는 id 순으로 조회되므로 정렬된 순서로 저장합니다
+        matchPlayerList.sort(Comparator.comparingLong(MatchPlayer::getLineupSortKey));
         return matchPlayerRepository.saveAll(matchPlayerList);
     }
 
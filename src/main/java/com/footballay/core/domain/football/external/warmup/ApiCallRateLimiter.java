@@ -0,0 +1,49 @@
+package com.footballay.core.domain.football.external.warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 호출 간격을 일정하게 유지하기 위한 rate limiter 입니다. <br>
+ * 분당 허용 호출 수로부터 호출 간 최소 간격을 계산하고, 호출 슬롯을 순서대로 예약합니다. <br>
+ * 여러 스레드가 동시에 호출하더라도 슬롯 예약은 직렬화되므로 분당 호출 수를 넘지 않습니다.
+ */
+public class ApiCallRateLimiter {
+
+    private final long intervalNanos;
+    private long nextSlotNanos;
+
+    public ApiCallRateLimiter(int requestsPerMinute) {
+        if (requestsPerMinute <= 0) {
+            throw new IllegalArgumentException("requestsPerMinute must be positive : " + requestsPerMinute);
+        }
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+        this.nextSlotNanos = System.nanoTime();
+    }
+
+    /**
+     * 다음 호출 슬롯까지 대기합니다.
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for api call slot", e);
+        }
+    }
+
+    /**
+     * 다음 호출 슬롯을 예약하고, 해당 슬롯까지 남은 대기 시간을 반환합니다.
+     * @return 대기해야 하는 nano seconds. 즉시 호출 가능하면 0
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        long slot = Math.max(now, nextSlotNanos);
+        nextSlotNanos = slot + intervalNanos;
+        return slot - now;
+    }
+}
@@ -0,0 +1,299 @@
+package com.footballay.core.domain.football.external.warmup;
+
+import com.footballay.core.domain.football.dto.SeasonWarmupStatusDto;
+import com.footballay.core.domain.football.external.FootballApiCacheService;
+import com.footballay.core.domain.football.external.lastlog.LastCacheLogService;
+import com.footballay.core.domain.football.persistence.League;
+import com.footballay.core.domain.football.persistence.Team;
+import com.footballay.core.domain.football.persistence.apicache.ApiCacheType;
+import com.footballay.core.domain.football.repository.LeagueRepository;
+import com.footballay.core.domain.football.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시즌 단위 캐시 워밍업 작업을 백그라운드에서 수행합니다. <br>
+ * 리그별로 아래 의존 관계(DAG)에 따라 {@link FootballApiCacheService} 의 캐싱 메서드를 호출하며, 서로 독립적인 단계는 병렬로 수행합니다.
+ * <pre>
+ * League ─▶ Teams of League ─┬─▶ Squad of Team (팀 마다)
+ *                            └─▶ Fixtures of League
+ * </pre>
+ * Fixture 캐싱은 홈/어웨이 팀 엔티티가 존재해야 하므로 League 가 아닌 Teams of League 단계 이후에 수행합니다. <br>
+ * Teams of League 단계는 여러 리그에 같은 팀이 속한 경우 신규 팀 저장이 충돌할 수 있으므로 리그 간에 직렬로 수행합니다. <br>
+ * 외부 API 호출은 {@link ApiCallRateLimiter} 로 분당 호출 수를 제한합니다.
+ *
+ * <h3>체크포인트</h3>
+ * <pre>
+ * 워밍업 시작 시 리그별로 {@link ApiCacheType#SEASON_WARMUP_STARTED} 를, 모든 단계가 성공하면 {@link ApiCacheType#SEASON_WARMUP_FINISHED} 를 기록합니다.
+ * 서버 장애 등으로 종료되지 않은 워밍업이 있다면 다시 워밍업을 요청했을 때 이전 시작 시점을 기준으로 재개합니다.
+ * 각 단계는 캐싱 메서드가 남기는 {@link ApiCacheType} 별 LastCacheLog 가 기준 시점 이후라면 이미 완료된 것으로 보고 건너뜁니다.
+ * 기준 시점 이전의 캐싱이더라도 {@link ApiCacheType#isStale} 기준으로 아직 유효하다면 외부 API 를 다시 호출하지 않습니다.
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SeasonWarmupService {
+
+    private final FootballApiCacheService footballApiCacheService;
+    private final LastCacheLogService lastCacheLogService;
+
+    private final LeagueRepository leagueRepository;
+    private final TeamRepository teamRepository;
+
+    @Value("${football.warmup.parallelism:4}")
+    private int parallelism;
+
+    @Value("${football.warmup.requests-per-minute:120}")
+    private int requestsPerMinute;
+
+    /**
+     * Teams of League 단계를 리그 간에 직렬화하기 위한 lock 입니다.
+     */
+    private final ReentrantLock teamsOfLeagueLock = new ReentrantLock();
+
+    private final AtomicReference<WarmupRun> currentRun = new AtomicReference<>();
+
+    /**
+     * 주어진 리그들에 대해 시즌 워밍업을 백그라운드에서 시작합니다.
+     *
+     * @param leagueIds 워밍업 할 리그 ID 목록
+     * @return 워밍업이 시작되었는지 여부. 이미 진행 중인 워밍업이 있다면 false
+     */
+    public boolean startWarmup(List<Long> leagueIds) {
+        if (leagueIds.isEmpty()) {
+            throw new IllegalArgumentException("워밍업 할 리그가 없습니다");
+        }
+        WarmupRun prevRun = currentRun.get();
+        if (prevRun != null && prevRun.isRunning()) {
+            log.info("season warmup is already running :: leagueIds={}", prevRun.leagueIds);
+            return false;
+        }
+        WarmupRun run = new WarmupRun(List.copyOf(leagueIds), ZonedDateTime.now());
+        if (!currentRun.compareAndSet(prevRun, run)) {
+            return false;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("season-warmup-"));
+        ApiCallRateLimiter rateLimiter = new ApiCallRateLimiter(requestsPerMinute);
+        log.info("season warmup started :: leagueIds={}, parallelism={}, requestsPerMinute={}",
+                leagueIds, parallelism, requestsPerMinute);
+
+        Map<Long, CompletableFuture<Void>> leagueFutures = new LinkedHashMap<>();
+        for (Long leagueId : run.leagueIds) {
+            leagueFutures.put(leagueId, warmupLeague(run, leagueId, executor, rateLimiter));
+        }
+
+        CompletableFuture.allOf(leagueFutures.values().toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, throwable) -> {
+                    // 체크포인트 저장이 실패하더라도 워밍업은 종료 처리해야 다음 워밍업을 시작할 수 있습니다.
+                    try {
+                        leagueFutures.forEach((leagueId, future) -> {
+                            if (!future.isCompletedExceptionally()) {
+                                saveFinishedCheckpoint(leagueId);
+                            }
+                        });
+                    } finally {
+                        run.finish();
+                        executor.shutdown();
+                        log.info("season warmup finished :: {}", run.toStatusDto());
+                    }
+                });
+        return true;
+    }
+
+    /**
+     * 가장 최근 워밍업 작업의 진행 상태를 반환합니다.
+     */
+    public Optional<SeasonWarmupStatusDto> getStatus() {
+        return Optional.ofNullable(currentRun.get()).map(WarmupRun::toStatusDto);
+    }
+
+    private CompletableFuture<Void> warmupLeague(WarmupRun run, long leagueId, Executor executor, ApiCallRateLimiter rateLimiter) {
+        CompletableFuture<ZonedDateTime> checkpoint = CompletableFuture.supplyAsync(
+                () -> resolveCheckpoint(leagueId, run.startedAt), executor);
+
+        CompletableFuture<ZonedDateTime> leagueStep = checkpoint.thenApplyAsync(since -> {
+            runStep(run, rateLimiter, ApiCacheType.LEAGUE, leagueParam(leagueId), since,
+                    () -> footballApiCacheService.cacheLeague(leagueId));
+            return since;
+        }, executor);
+
+        CompletableFuture<ZonedDateTime> teamsStep = leagueStep.thenApplyAsync(since -> {
+            teamsOfLeagueLock.lock();
+            try {
+                runStep(run, rateLimiter, ApiCacheType.LEAGUE_TEAMS, leagueParam(leagueId), since,
+                        () -> footballApiCacheService.cacheTeamsOfLeague(leagueId));
+            } finally {
+                teamsOfLeagueLock.unlock();
+            }
+            return since;
+        }, executor);
+
+        CompletableFuture<Void> squadsStep = teamsStep.thenComposeAsync(since -> {
+            League league = findLeague(leagueId);
+            CompletableFuture<?>[] squadFutures = teamRepository.findTeamsByLeague(league).stream()
+                    .map(Team::getId)
+                    .filter(run::claimSquad)
+                    .map(teamId -> CompletableFuture.runAsync(
+                            () -> runStep(run, rateLimiter, ApiCacheType.SQUAD, Map.of("teamId", teamId), since,
+                                    () -> footballApiCacheService.cacheTeamSquad(teamId)),
+                            executor))
+                    .toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(squadFutures);
+        }, executor);
+
+        CompletableFuture<Void> fixturesStep = teamsStep.thenAcceptAsync(since -> {
+            int season = findLeague(leagueId).getCurrentSeason();
+            runStep(run, rateLimiter, ApiCacheType.FIXTURES_OF_LEAGUE, FootballApiCacheService.fixturesOfLeagueCacheParams(leagueId, season), since,
+                    () -> footballApiCacheService.cacheFixturesOfLeague(leagueId));
+        }, executor);
+
+        return CompletableFuture.allOf(squadsStep, fixturesStep);
+    }
+
+    /**
+     * 종료되지 않은 이전 워밍업이 있다면 해당 워밍업의 시작 시점을, 없다면 이번 워밍업의 시작 시점을 기준 시점으로 사용합니다.
+     */
+    private ZonedDateTime resolveCheckpoint(long leagueId, ZonedDateTime runStartedAt) {
+        Map<String, Object> param = leagueParam(leagueId);
+        Optional<ZonedDateTime> lastStarted = lastCacheLogService.findLastCachedAt(ApiCacheType.SEASON_WARMUP_STARTED, param);
+        Optional<ZonedDateTime> lastFinished = lastCacheLogService.findLastCachedAt(ApiCacheType.SEASON_WARMUP_FINISHED, param);
+
+        boolean unfinished = lastStarted.isPresent()
+                && (lastFinished.isEmpty() || lastFinished.get().isBefore(lastStarted.get()));
+        if (unfinished) {
+            log.info("resume unfinished season warmup :: leagueId={}, startedAt={}", leagueId, lastStarted.get());
+            return lastStarted.get();
+        }
+        lastCacheLogService.saveApiCache(ApiCacheType.SEASON_WARMUP_STARTED, param, runStartedAt);
+        return runStartedAt;
+    }
+
+    /**
+     * 기준 시점 이후 캐싱된 기록이 있거나 아직 stale 하지 않다면 단계를 건너뛰고, 아니라면 rate limit 안에서 캐싱을 수행합니다.
+     * 단계가 실패하면 예외를 던져 의존하는 이후 단계들이 수행되지 않도록 합니다.
+     */
+    private void runStep(
+            WarmupRun run,
+            ApiCallRateLimiter rateLimiter,
+            ApiCacheType type,
+            Map<String, Object> parameters,
+            ZonedDateTime since,
+            Runnable cacheCall
+    ) {
+        String stepKey = type + ":" + new TreeMap<>(parameters);
+        run.stepRegistered();
+        Optional<ZonedDateTime> lastCachedAt = lastCacheLogService.findLastCachedAt(type, parameters);
+        boolean checkpointed = lastCachedAt.isPresent() && !lastCachedAt.get().isBefore(since);
+        if (checkpointed || !type.isStale(lastCachedAt.orElse(null), ZonedDateTime.now())) {
+            log.info("season warmup step skipped. already cached at {} :: {}", lastCachedAt.get(), stepKey);
+            run.stepSkipped();
+            return;
+        }
+
+        rateLimiter.acquire();
+        try {
+            cacheCall.run();
+            run.stepDone();
+            log.info("season warmup step done :: {}", stepKey);
+        } catch (Exception e) {
+            log.error("season warmup step failed :: {}", stepKey, e);
+            run.stepFailed(stepKey);
+            throw new IllegalStateException("season warmup step failed :: " + stepKey, e);
+        }
+    }
+
+    /**
+     * 종료 체크포인트를 저장하지 못하면 다음 워밍업에서 이전 시작 시점부터 재개하게 되므로, 실패는 로그만 남깁니다.
+     */
+    private void saveFinishedCheckpoint(long leagueId) {
+        try {
+            lastCacheLogService.saveApiCache(ApiCacheType.SEASON_WARMUP_FINISHED, leagueParam(leagueId), ZonedDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("failed to save season warmup finished checkpoint :: leagueId={}", leagueId, e);
+        }
+    }
+
+    private League findLeague(long leagueId) {
+        return leagueRepository.findById(leagueId)
+                .orElseThrow(() -> new IllegalStateException("아직 캐싱되지 않은 league 입니다 :: leagueId=" + leagueId));
+    }
+
+    private static Map<String, Object> leagueParam(long leagueId) {
+        return Map.of("leagueId", leagueId);
+    }
+
+    private static class WarmupRun {
+
+        private final List<Long> leagueIds;
+        private final ZonedDateTime startedAt;
+        private volatile ZonedDateTime finishedAt;
+
+        private final AtomicInteger totalSteps = new AtomicInteger();
+        private final AtomicInteger doneSteps = new AtomicInteger();
+        private final AtomicInteger skippedSteps = new AtomicInteger();
+        private final Queue<String> failedSteps = new ConcurrentLinkedQueue<>();
+
+        /**
+         * 여러 리그에 같은 팀이 속한 경우 선수단 캐싱이 한 번만 수행되도록 합니다.
+         */
+        private final Set<Long> claimedSquads = ConcurrentHashMap.newKeySet();
+
+        private WarmupRun(List<Long> leagueIds, ZonedDateTime startedAt) {
+            this.leagueIds = leagueIds;
+            this.startedAt = startedAt;
+        }
+
+        private boolean isRunning() {
+            return finishedAt == null;
+        }
+
+        private void finish() {
+            this.finishedAt = ZonedDateTime.now();
+        }
+
+        private boolean claimSquad(long teamId) {
+            return claimedSquads.add(teamId);
+        }
+
+        private void stepRegistered() {
+            totalSteps.incrementAndGet();
+        }
+
+        private void stepDone() {
+            doneSteps.incrementAndGet();
+        }
+
+        private void stepSkipped() {
+            skippedSteps.incrementAndGet();
+        }
+
+        private void stepFailed(String stepKey) {
+            failedSteps.add(stepKey);
+        }
+
+        private SeasonWarmupStatusDto toStatusDto() {
+            return new SeasonWarmupStatusDto(
+                    isRunning() ? "RUNNING" : "FINISHED",
+                    leagueIds,
+                    startedAt,
+                    finishedAt,
+                    totalSteps.get(),
+                    doneSteps.get(),
+                    skippedSteps.get(),
+                    List.copyOf(failedSteps)
+            );
+        }
+    }
+}
@@ -1,14 +1,48 @@
 package com.footballay.core.domain.football.persistence.apicache;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * 외부 API 캐싱 종류입니다. <br>
+ * 각 타입은 마지막 캐싱 이후 다시 외부 API 를 호출해야 하는 기준 시간(staleAfter)을 가집니다.
+ * {@link Duration#ZERO} 인 타입은 항상 다시 호출합니다.
+ */
 public enum ApiCacheType {
-    LEAGUE,
-    CURRENT_LEAGUES,
-    CURRENT_LEAGUES_OF_TEAM,
-    LEAGUE_TEAMS,
-    TEAM,
-    SQUAD,
-    PLAYER,
-    FIXTURE,
-    LIVE_FIXTURE,
-    FIXTURES_OF_LEAGUE,
+    LEAGUE(Duration.ofDays(1)),
+    CURRENT_LEAGUES(Duration.ofDays(1)),
+    CURRENT_LEAGUES_OF_TEAM(Duration.ofDays(1)),
+    LEAGUE_TEAMS(Duration.ofDays(1)),
+    TEAM(Duration.ofDays(7)),
+    SQUAD(Duration.ofDays(1)),
+    PLAYER(Duration.ofDays(7)),
+    FIXTURE(Duration.ZERO),
+    LIVE_FIXTURE(Duration.ZERO),
+    FIXTURES_OF_LEAGUE(Duration.ofHours(6)),
+    SEASON_WARMUP_STARTED(Duration.ZERO),
+    SEASON_WARMUP_FINISHED(Duration.ZERO),
+    ;
+
+    private final Duration staleAfter;
+
+    ApiCacheType(Duration staleAfter) {
+        this.staleAfter = staleAfter;
+    }
+
+    public Duration getStaleAfter() {
+        return staleAfter;
+    }
+
+    /**
+     * 마지막 캐싱 시점으로부터 staleAfter 가 지나서 다시 외부 API 호출이 필요한지 판단합니다.
+     * @param lastCachedAt 마지막 캐싱 시점. null 이라면 캐싱된 적 없는 것으로 봅니다.
+     * @param now 기준 시점
+     * @return 다시 캐싱이 필요하다면 true
+     */
+    public boolean isStale(ZonedDateTime lastCachedAt, ZonedDateTime now) {
+        if (lastCachedAt == null) {
+            return true;
+        }
+        return !lastCachedAt.plus(staleAfter).isAfter(now);
+    }
 }
@@ -30,6 +30,14 @@ public class LastCacheLog {
     @Column(nullable = false)
     private ZonedDateTime lastCachedAt;
 
+    /**
+     * 마지막으로 캐싱한 외부 API 응답의 SHA-256 해시입니다. <br>
+     * 같은 응답을 다시 받은 경우 DB 쓰기를 건너뛰기 위해 사용합니다.
+     */
+    @Setter
+    @Column(length = 64)
+    private String contentHash;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
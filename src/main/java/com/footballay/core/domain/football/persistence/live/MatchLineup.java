@@ -42,6 +42,10 @@ public class MatchLineup {
      */
     private String formation;
 
+    /**
+     * {@link MatchPlayer#getLineupSortKey()} 순서로 조회합니다. 응답 시 다시 계산한 정렬 키와 순서가 같으면 다시 정렬하지 않고 이 순서를 사용합니다.
+     */
+    @OrderBy("lineupSortKey ASC, id ASC")
     @OneToMany(mappedBy = "matchLineup", fetch = FetchType.LAZY)
     private List<MatchPlayer> matchPlayers;
 
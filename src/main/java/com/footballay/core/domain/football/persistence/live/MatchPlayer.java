@@ -116,6 +116,16 @@ public class MatchPlayer {
     @Column(nullable = false)
     private Boolean substitute = true;
 
+    /**
+     * 라인업 내 정렬 순서입니다. {@link com.footballay.core.domain.football.comparator.LineupSortKey} 로 라인업 저장 시 계산합니다. <br>
+     * 라인업을 저장된 순서로 조회하기 위한 값입니다. 라인업 저장 이후 {@link Player} 의 등번호가 바뀌면 달라질 수 있으므로,
+     * 응답의 정렬 키는 조회 시점의 등번호로 다시 계산합니다. <br>
+     * 라인업에 속하지 않은 선수이거나 정렬 키 도입 이전에 저장된 라인업이면 null 입니다.
+     */
+    @Column(nullable = true)
+    @Nullable
+    private Long lineupSortKey;
+
     public static final String UNREGISTERED_PLAYER_PHOTO_URL = "https://media.api-sports.io/football/players/0.png";
 
     @Override
@@ -1,7 +1,10 @@
 package com.footballay.core.domain.football.preference;
 
+import com.footballay.core.domain.football.preference.dto.PendingCustomPhotoUpload;
 import com.footballay.core.domain.football.preference.dto.PlayerCustomPhotoDto;
 import com.footballay.core.domain.football.preference.persistence.PreferenceKey;
+import com.footballay.core.domain.football.preference.service.CustomPhotoUploadService;
+import com.footballay.core.domain.football.preference.service.CustomPhotoUrlCache;
 import com.footballay.core.domain.football.preference.service.PlayerCustomPhotoService;
 import com.footballay.core.domain.football.preference.service.PreferenceKeyService;
 import com.footballay.core.domain.user.entity.User;
@@ -30,6 +33,8 @@ public class FootballPreferenceService {
 
     private final PreferenceKeyService preferenceKeyService;
     private final PlayerCustomPhotoService playerCustomPhotoService;
+    private final CustomPhotoUrlCache customPhotoUrlCache;
+    private final CustomPhotoUploadService customPhotoUploadService;
     private final UserService userService;
 
     public boolean validatePreferenceKey(String keyHash) {
@@ -80,6 +85,7 @@ public class FootballPreferenceService {
 
     /**
      * 선수의 커스텀 사진을 저장합니다. <br>
+     * 파일 저장소 업로드는 비동기로 진행되며, 업로드가 확인된 이후 사진이 활성화됩니다. <br>
      * Authenticated 된 User 의 username 을 사용해야 합니다. <br>
      * {@link Authentication} 객체의 {@link Authentication#isAuthenticated()} 된 객체에서 {@link Authentication#getName()} 을 사용합니다.<br>
      *
@@ -89,8 +95,8 @@ public class FootballPreferenceService {
      */
     public void savePlayerCustomPhoto(String username, long playerId, MultipartFile photoFile) {
         User user = userService.findUser(username);
-        PlayerCustomPhotoDto dto = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), playerId, photoFile);
-        log.info("PlayerCustomPhoto saved. playerId={}, photoUrl={}", playerId, dto.getPhotoUrl());
+        PendingCustomPhotoUpload pending = customPhotoUploadService.registerAndUpload(user.getId(), playerId, photoFile);
+        log.info("PlayerCustomPhoto registered. playerId={}, photoId={}, uploadRequired={}", playerId, pending.photoId(), pending.uploadRequired());
     }
 
     /**
@@ -108,16 +114,25 @@ public class FootballPreferenceService {
 
     /**
      * 선수의 커스텀 사진을 조회합니다. <br>
-     * keyHash 가 유효하지 않아 조회되는 데이터가 없다면 빈 Map 을 반환합니다. <br>
+     * PreferenceKey 의 활성 커스텀 사진 맵은 {@link CustomPhotoUrlCache} 에 캐싱되므로, 캐시가 있다면 DB 를 조회하지 않습니다. <br>
+     * 커스텀 사진이 없는 선수는 반환되는 Map 에 포함되지 않습니다. <br>
      *
+     * @throws IllegalArgumentException keyHash 에 해당하는 PreferenceKey 가 없는 경우
      * @param keyHash
      * @param playerIds
      * @return
      */
     public Map<Long, String> getCustomPhotoUrlsOfPlayers(String keyHash, Set<Long> playerIds) {
-        Map<Long, PlayerCustomPhotoDto> photoMap =
-                playerCustomPhotoService.getActiveCustomPhotos(keyHash, playerIds);
-        return extractPhotoUrlMap(photoMap);
+        Map<Long, String> allPhotoUrls =
+                customPhotoUrlCache.getOrLoad(keyHash, playerCustomPhotoService::getAllActiveCustomPhotoUrls);
+        Map<Long, String> photoUrls = new HashMap<>();
+        for (Long playerId : playerIds) {
+            String photoUrl = allPhotoUrls.get(playerId);
+            if (photoUrl != null) {
+                photoUrls.put(playerId, photoUrl);
+            }
+        }
+        return photoUrls;
     }
 
     public List<PlayerCustomPhotoDto> getAllPhotosOfPlayerIncludeInactive(String username, long playerId) {
@@ -0,0 +1,17 @@
+package com.footballay.core.domain.football.preference.dto;
+
+/**
+ * 파일 저장소 업로드를 기다리는 커스텀 이미지입니다.
+ *
+ * @param photoId PlayerCustomPhoto ID
+ * @param playerId 선수 ID
+ * @param s3Key 업로드할 파일 저장소 key
+ * @param uploadRequired 같은 내용의 파일이 이미 업로드되어 있다면 false. 이 경우 이미지는 등록과 함께 활성화됩니다.
+ */
+public record PendingCustomPhotoUpload(
+        long photoId,
+        long playerId,
+        String s3Key,
+        boolean uploadRequired
+) {
+}
@@ -0,0 +1,25 @@
+package com.footballay.core.domain.football.preference.persistence;
+
+/**
+ * {@link PlayerCustomPhoto} 의 파일 저장소 업로드 상태입니다. <br>
+ * 업로드 상태가 도입되기 이전에 저장된 이미지는 null 이며, 업로드가 끝난 것으로 취급합니다.
+ */
+public enum CustomPhotoUploadStatus {
+    /**
+     * 엔티티만 저장되고 파일은 아직 업로드 중입니다. 활성화되지 않습니다.
+     */
+    PENDING,
+    /**
+     * 파일 업로드가 확인되었습니다.
+     */
+    UPLOADED,
+    /**
+     * 재시도 이후에도 업로드에 실패했습니다. 정리 작업에서 삭제됩니다.
+     */
+    FAILED,
+    /**
+     * 업로드가 끝나기 전에 삭제가 요청되었습니다. 업로드 중인 파일이 남지 않도록 엔티티를 바로 지우지 않고,
+     * 업로드 완료 처리나 정리 작업에서 엔티티와 파일을 삭제합니다.
+     */
+    DELETING
+}
@@ -15,7 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 @Entity
 @Table(name = "custom_player_photos",
         indexes = {
-            @Index(name = "idx_preference_player_active", columnList = "preference_key_id, player_id")
+            @Index(name = "idx_preference_player_active", columnList = "preference_key_id, player_id"),
+            @Index(name = "idx_user_file_path_file_name", columnList = "user_file_path_id, file_name")
         }
 )
 public class PlayerCustomPhoto extends BaseDateAuditEntity {
@@ -36,12 +37,31 @@ public class PlayerCustomPhoto extends BaseDateAuditEntity {
     @JoinColumn(name = "user_file_path_id", nullable = true)
     private UserFilePath userFilePath;
 
+    /**
+     * 내용 기반 파일 이름을 사용하므로 같은 이미지를 등록한 엔티티들은 같은 파일을 참조합니다.
+     * 파일은 이 파일을 참조하는 마지막 엔티티가 삭제될 때 함께 삭제됩니다.
+     */
     @Column(nullable = false)
     private String fileName;
 
+    /**
+     * 이미지 파일 내용의 SHA-256 (hex) 입니다. 중복 업로드 확인에 사용합니다. <br>
+     * 내용 기반 파일 이름 도입 이전에 등록된 이미지는 null 입니다.
+     */
+    @Column(name = "content_hash", nullable = true, length = 64)
+    private String contentHash;
+
     @Column(nullable = false)
     private boolean isActive;
 
+    /**
+     * 파일 업로드가 확인된 이후에만 활성화할 수 있습니다.
+     * @see CustomPhotoUploadStatus
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = true)
+    private CustomPhotoUploadStatus uploadStatus;
+
     @PrePersist
     @PreUpdate
     private void removeFilenameSlash() {
@@ -76,7 +96,9 @@ public class PlayerCustomPhoto extends BaseDateAuditEntity {
                 ", player.id=" + player.getId() +
                 ", userFilePath.id=" + userFilePath.getId() +
                 ", fileName='" + fileName + '\'' +
+                ", contentHash='" + contentHash + '\'' +
                 ", isActive=" + isActive +
+                ", uploadStatus=" + uploadStatus +
                 '}';
     }
 }
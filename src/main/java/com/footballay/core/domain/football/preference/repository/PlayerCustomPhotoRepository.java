@@ -1,12 +1,17 @@
 package com.footballay.core.domain.football.preference.repository;
 
+import com.footballay.core.domain.football.preference.persistence.CustomPhotoUploadStatus;
 import com.footballay.core.domain.football.preference.persistence.PlayerCustomPhoto;
 import com.footballay.core.domain.football.preference.persistence.PreferenceKey;
+import com.footballay.core.domain.football.preference.persistence.UserFilePath;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -26,6 +31,17 @@ public interface PlayerCustomPhotoRepository extends JpaRepository<PlayerCustomP
             @Param("playerIds") Set<Long> playerIds
     );
 
+    /**
+     * PreferenceKey 의 모든 활성 이미지를 가져옵니다. photoUrl 을 만들 수 있도록 userFilePath 도 함께 조회합니다.
+     * @param preferenceKeyId
+     * @return
+     */
+    @Query("SELECT pho FROM PlayerCustomPhoto pho " +
+            "JOIN FETCH pho.player pl " +
+            "JOIN FETCH pho.userFilePath ufp " +
+            "WHERE pho.preferenceKey.id = :preferenceKeyId AND pho.isActive = true")
+    List<PlayerCustomPhoto> findAllActivesByPreferenceKey(@Param("preferenceKeyId") Long preferenceKeyId);
+
     @Query("SELECT p FROM PlayerCustomPhoto p " +
             "WHERE p.preferenceKey = :preferenceKey " +
             "AND p.player.id = :playerId " +
@@ -50,4 +66,43 @@ public interface PlayerCustomPhotoRepository extends JpaRepository<PlayerCustomP
     );
 
     void deleteByIdAndPreferenceKey(long photoId, PreferenceKey key);
+
+    /**
+     * 정리 작업에서 오래된 업로드 대기/실패 이미지를 찾기 위해 사용합니다.
+     */
+    @Query("SELECT p FROM PlayerCustomPhoto p " +
+            "JOIN FETCH p.preferenceKey pk " +
+            "JOIN FETCH p.player pl " +
+            "JOIN FETCH p.userFilePath ufp " +
+            "WHERE p.uploadStatus = :uploadStatus AND p.createdDate < :before")
+    List<PlayerCustomPhoto> findAllByUploadStatusAndCreatedBefore(
+            @Param("uploadStatus") CustomPhotoUploadStatus uploadStatus,
+            @Param("before") LocalDateTime before
+    );
+
+    /**
+     * 이미지가 참조하는 파일 경로 ID 를 엔티티를 불러오지 않고 조회합니다. 이미지를 잠금 읽기로 조회하기 전에 경로를 먼저 잠그기 위해 사용합니다.
+     */
+    @Query("SELECT p.userFilePath.id FROM PlayerCustomPhoto p WHERE p.id = :photoId")
+    Optional<Long> findUserFilePathIdById(@Param("photoId") Long photoId);
+
+    /**
+     * 이미지를 잠금 읽기로 조회합니다. 업로드 상태를 바꾸는 트랜잭션들이 다른 트랜잭션이 커밋한 최신 업로드 상태를 읽도록 사용합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PlayerCustomPhoto p WHERE p.id = :photoId")
+    Optional<PlayerCustomPhoto> findByIdForUpdate(@Param("photoId") Long photoId);
+
+    /**
+     * 같은 파일을 참조하는 엔티티들을 잠금 읽기로 조회합니다. 파일의 업로드 여부와 참조 수를 확인할 때 사용합니다. <br>
+     * 잠금 읽기는 트랜잭션의 스냅샷이 아닌 최신 커밋 상태를 읽으므로, {@link UserFilePathRepository#findByIdForUpdate} 로
+     * 경로를 잠근 뒤 호출하면 다른 트랜잭션의 등록/삭제가 반영된 결과를 얻습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PlayerCustomPhoto p " +
+            "WHERE p.userFilePath = :userFilePath AND p.fileName = :fileName")
+    List<PlayerCustomPhoto> findAllByUserFilePathAndFileNameForUpdate(
+            @Param("userFilePath") UserFilePath userFilePath,
+            @Param("fileName") String fileName
+    );
 }
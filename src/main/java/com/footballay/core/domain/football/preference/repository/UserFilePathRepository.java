@@ -2,7 +2,11 @@ package com.footballay.core.domain.football.preference.repository;
 
 import com.footballay.core.domain.football.preference.persistence.UserFilePath;
 import com.footballay.core.domain.football.preference.persistence.UserPathCategory;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +18,11 @@ public interface UserFilePathRepository extends JpaRepository<UserFilePath, Long
 
     Optional<UserFilePath> findByUserIdAndUserPathCategory(Long userId, UserPathCategory userPathCategory);
 
+    /**
+     * 경로에 비관적 쓰기 lock 을 겁니다. 같은 경로의 파일을 등록하거나 삭제하는 트랜잭션을 직렬화하기 위해 사용합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ufp FROM UserFilePath ufp WHERE ufp.id = :id")
+    Optional<UserFilePath> findByIdForUpdate(@Param("id") Long id);
+
 }
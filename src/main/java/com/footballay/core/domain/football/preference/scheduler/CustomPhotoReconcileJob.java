@@ -0,0 +1,32 @@
+package com.footballay.core.domain.football.preference.scheduler;
+
+import com.footballay.core.domain.football.preference.service.CustomPhotoUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+
+/**
+ * 끝나지 않은 커스텀 이미지 업로드와 남은 파일을 주기적으로 정리합니다.
+ * @see CustomPhotoUploadService#reconcile()
+ */
+@Slf4j
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class CustomPhotoReconcileJob implements Job {
+
+    private final CustomPhotoUploadService customPhotoUploadService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        log.info("CustomPhotoReconcileJob executed");
+        try {
+            customPhotoUploadService.reconcile();
+        } catch (Exception e) {
+            log.error("CustomPhotoReconcileJob failed", e);
+            throw new JobExecutionException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.footballay.core.domain.football.preference.scheduler;
+
+import org.quartz.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link CustomPhotoReconcileJob} 을 Quartz 에 등록합니다. <br>
+ * JobDetail 과 Trigger 빈은 애플리케이션 시작 시 스케줄러에 등록되며, 이미 등록되어 있다면 기존 등록을 유지합니다.
+ */
+@Configuration
+public class CustomPhotoReconcileJobConfig {
+
+    private static final String JOB_NAME = "CustomPhotoReconcileJob";
+    private static final String TRIGGER_NAME = "CustomPhotoReconcileTrigger";
+    private static final String GROUP_NAME = "PreferenceGroup";
+
+    @Bean
+    public JobDetail customPhotoReconcileJobDetail() {
+        return JobBuilder.newJob(CustomPhotoReconcileJob.class)
+                .withIdentity(JOB_NAME, GROUP_NAME)
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger customPhotoReconcileTrigger(
+            JobDetail customPhotoReconcileJobDetail,
+            @Value("${football.preference.photo-upload.reconcile-interval-minutes:10}") int intervalMinutes
+    ) {
+        return TriggerBuilder.newTrigger()
+                .forJob(customPhotoReconcileJobDetail)
+                .withIdentity(TRIGGER_NAME, GROUP_NAME)
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInMinutes(intervalMinutes)
+                        .repeatForever()
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+}
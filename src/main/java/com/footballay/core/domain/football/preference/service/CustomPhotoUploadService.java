@@ -0,0 +1,212 @@
+package com.footballay.core.domain.football.preference.service;
+
+import com.footballay.core.domain.football.preference.dto.PendingCustomPhotoUpload;
+import com.footballay.core.domain.football.preference.util.CustomPhotoFileUploader;
+import com.footballay.core.domain.football.preference.util.CustomPhotoImageInspector;
+import com.footballay.core.domain.football.preference.util.CustomPhotoStagingStore;
+import com.footballay.core.domain.football.preference.util.PreferenceValidator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커스텀 선수 이미지 업로드를 DB 트랜잭션과 분리해서 처리합니다. <br>
+ * 파일 저장소 업로드 동안 DB 커넥션을 점유하지 않도록 아래 순서로 진행합니다.
+ * <pre>
+ * 1. 이미지를 한 번 읽어서 검증하고 내용 해시를 계산 (트랜잭션 없음)
+ * 2. PlayerCustomPhoto 를 비활성, 업로드 대기 상태로 저장 (짧은 트랜잭션).
+ *    같은 내용의 파일이 이미 업로드되어 있다면 바로 활성화하고 끝냅니다.
+ *    그렇지 않다면 읽은 바이트를 로컬에 임시 저장합니다.
+ * 3. 업로드 스레드에서 파일 저장소로 업로드. 실패하면 간격을 늘려가며 재시도
+ * 4. 업로드가 확인되면 이미지를 활성화하고, 모든 재시도에 실패하면 실패로 표시 (짧은 트랜잭션).
+ *    업로드 중에 이미지 삭제가 요청되었다면 엔티티와 파일을 삭제합니다.
+ * </pre>
+ * 동시에 진행하는 업로드 수는 업로드 스레드 수로 제한됩니다. <br>
+ * 서버 종료 등으로 끝나지 않은 업로드는 {@link #reconcile()} 가 정리합니다.
+ */
+@Slf4j
+@Service
+public class CustomPhotoUploadService {
+
+    private final PlayerCustomPhotoService playerCustomPhotoService;
+    private final CustomPhotoFileUploader customPhotoFileUploader;
+    private final CustomPhotoStagingStore customPhotoStagingStore;
+    private final PreferenceValidator preferenceValidator;
+
+    private final ScheduledThreadPoolExecutor uploadExecutor;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final Duration staleAfter;
+
+    public CustomPhotoUploadService(
+            PlayerCustomPhotoService playerCustomPhotoService,
+            CustomPhotoFileUploader customPhotoFileUploader,
+            CustomPhotoStagingStore customPhotoStagingStore,
+            PreferenceValidator preferenceValidator,
+            @Value("${football.preference.photo-upload.concurrency:2}") int concurrency,
+            @Value("${football.preference.photo-upload.max-attempts:3}") int maxAttempts,
+            @Value("${football.preference.photo-upload.retry-backoff-millis:1000}") long retryBackoffMillis,
+            @Value("${football.preference.photo-upload.stale-after-minutes:30}") long staleAfterMinutes
+    ) {
+        this.playerCustomPhotoService = playerCustomPhotoService;
+        this.customPhotoFileUploader = customPhotoFileUploader;
+        this.customPhotoStagingStore = customPhotoStagingStore;
+        this.preferenceValidator = preferenceValidator;
+        this.uploadExecutor = new ScheduledThreadPoolExecutor(concurrency, new CustomizableThreadFactory("custom-photo-upload-"));
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+    }
+
+    /**
+     * 이미지를 업로드 대기 상태로 등록하고 업로드를 요청합니다. 업로드가 확인되면 활성화됩니다. <br>
+     * 같은 내용의 파일이 이미 업로드되어 있다면 업로드하지 않고 바로 활성화합니다. <br>
+     * 트랜잭션 안에서 호출하면 커밋 이후 업로드를 시작합니다.
+     *
+     * @throws IllegalArgumentException 이미지 파일이 유효하지 않은 경우
+     * @return 업로드 대기 정보
+     */
+    public PendingCustomPhotoUpload registerAndUpload(long userId, long playerId, MultipartFile file) {
+        CustomPhotoImageInspector.InspectedPhoto photo = preferenceValidator.inspectPlayerCustomPhotoImage(file);
+        String contentType = file.getContentType();
+
+        PendingCustomPhotoUpload pending =
+                playerCustomPhotoService.registerPendingPhoto(userId, playerId, file.getOriginalFilename(), photo.contentHash());
+        if (!pending.uploadRequired()) {
+            return pending;
+        }
+
+        Path stagedFile;
+        try {
+            stagedFile = customPhotoStagingStore.stage(photo.bytes());
+        } catch (RuntimeException e) {
+            playerCustomPhotoService.markUploadFailed(pending.photoId());
+            throw e;
+        }
+
+        Runnable startUpload = () -> scheduleUpload(new UploadTask(pending, stagedFile, contentType), 0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    startUpload.run();
+                }
+            });
+        } else {
+            startUpload.run();
+        }
+        return pending;
+    }
+
+    /**
+     * 끝나지 않은 업로드를 정리합니다.
+     * <pre>
+     * 1. 오래된 업로드 대기 이미지 : 파일이 업로드되어 있다면 활성화하고, 없다면 실패로 표시합니다.
+     * 2. 오래된 업로드 실패 이미지와 업로드 중 삭제된 이미지 : 엔티티와 파일 저장소에 남은 파일을 삭제합니다.
+     * 3. 오래된 임시 파일 : 삭제합니다.
+     * </pre>
+     */
+    public void reconcile() {
+        LocalDateTime before = LocalDateTime.now().minus(staleAfter);
+
+        List<PendingCustomPhotoUpload> stalePendings = playerCustomPhotoService.findPendingUploadsCreatedBefore(before);
+        for (PendingCustomPhotoUpload pending : stalePendings) {
+            try {
+                if (customPhotoFileUploader.existsFile(pending.s3Key())) {
+                    playerCustomPhotoService.activateUploadedPhoto(pending.photoId());
+                } else {
+                    playerCustomPhotoService.markUploadFailed(pending.photoId());
+                }
+            } catch (Exception e) {
+                log.error("failed to reconcile pending custom photo. photoId={}", pending.photoId(), e);
+            }
+        }
+
+        List<String> failedS3Keys = playerCustomPhotoService.deleteFailedUploadsCreatedBefore(before);
+        for (String s3Key : failedS3Keys) {
+            try {
+                if (customPhotoFileUploader.existsFile(s3Key)) {
+                    customPhotoFileUploader.deleteFile(s3Key);
+                }
+            } catch (Exception e) {
+                log.error("failed to delete orphan custom photo file. s3Key={}", s3Key, e);
+            }
+        }
+
+        int deletedStagedFiles = customPhotoStagingStore.deleteStagedFilesBefore(Instant.now().minus(staleAfter));
+        log.info("custom photo reconcile finished. stalePending={}, deletedFailed={}, deletedStagedFiles={}",
+                stalePendings.size(), failedS3Keys.size(), deletedStagedFiles);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
+    private void scheduleUpload(UploadTask task, long delayMillis) {
+        uploadExecutor.schedule(() -> upload(task), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void upload(UploadTask task) {
+        long photoId = task.pending.photoId();
+        task.attempts++;
+        try {
+            customPhotoFileUploader.uploadFile(task.stagedFile, task.contentType, task.pending.s3Key());
+        } catch (Exception e) {
+            if (task.attempts < maxAttempts) {
+                long backoff = retryBackoffMillis << (task.attempts - 1);
+                log.warn("custom photo upload failed. retry in {}ms. photoId={}, attempts={}", backoff, photoId, task.attempts, e);
+                scheduleUpload(task, backoff);
+            } else {
+                log.error("custom photo upload failed after {} attempts. photoId={}", task.attempts, photoId, e);
+                finish(task, false);
+            }
+            return;
+        }
+        finish(task, true);
+    }
+
+    private void finish(UploadTask task, boolean uploaded) {
+        long photoId = task.pending.photoId();
+        try {
+            if (uploaded) {
+                if (playerCustomPhotoService.activateUploadedPhoto(photoId)) {
+                    log.info("custom photo uploaded and activated. photoId={}, s3Key={}", photoId, task.pending.s3Key());
+                }
+            } else {
+                playerCustomPhotoService.markUploadFailed(photoId);
+            }
+        } catch (Exception e) {
+            // 업로드 대기 상태로 남은 이미지는 reconcile 에서 정리됩니다
+            log.error("failed to update custom photo after upload. photoId={}, uploaded={}", photoId, uploaded, e);
+        } finally {
+            customPhotoStagingStore.delete(task.stagedFile);
+        }
+    }
+
+    private static class UploadTask {
+        private final PendingCustomPhotoUpload pending;
+        private final Path stagedFile;
+        private final String contentType;
+        private int attempts;
+
+        private UploadTask(PendingCustomPhotoUpload pending, Path stagedFile, String contentType) {
+            this.pending = pending;
+            this.stagedFile = stagedFile;
+            this.contentType = contentType;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.footballay.core.domain.football.preference.service;
+
+import com.footballay.core.domain.football.preference.persistence.PreferenceKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link PreferenceKey} 별 활성 커스텀 사진 맵(playerId - photoUrl)을 캐싱합니다. <br>
+ * 스트리머의 라인업 조회마다 PreferenceKey 조회와 커스텀 사진 조회가 반복되지 않도록, PreferenceKey 의 모든 활성 사진을 한 번에 만들어 둡니다.
+ * <pre>
+ * 1. 메모리 : 서버마다 가지는 캐시입니다. 다른 서버에서 일어난 변경을 반영하기 위해 짧은 시간만 유지하고, 최대 개수를 넘으면 오래된 항목부터 제거합니다.
+ * 2. Redis : 서버 간에 공유하는 캐시입니다. 사진 업로드/활성화/비활성화/삭제 시 제거합니다.
+ * 3. DB : 두 캐시에 모두 없을 때만 조회합니다.
+ * </pre>
+ * Redis 를 사용할 수 없는 경우 메모리 캐시와 DB 만 사용합니다. <br>
+ * 존재하지 않는 keyHash 는 메모리에만 더 짧은 시간 동안 기록해서, 같은 잘못된 키로 반복 요청해도 매번 DB 를 조회하지 않습니다.
+ *
+ * <h3>캐시 제거</h3>
+ * 쓰기 트랜잭션 안에서 {@link #evict(String)} 를 호출하면 즉시 제거하고, 커밋 이후 한 번 더 제거합니다.
+ * 커밋 전에 다른 요청이 이전 상태로 캐시를 다시 채우더라도 커밋 이후 제거되므로 변경 이전 사진이 남지 않습니다.
+ * 커밋 이후 제거보다 늦게 끝나는 조회가 이전 상태를 다시 쓰는 경우에 대비해 Redis 캐시도 만료 시간을 둡니다.
+ */
+@Slf4j
+@Component
+public class CustomPhotoUrlCache {
+
+    private static final String REDIS_KEY_PREFIX = "football:preference:custom-photos:";
+    /**
+     * 커스텀 사진이 없는 PreferenceKey 도 캐싱되도록 항상 함께 저장하는 필드입니다.
+     */
+    private static final String EMPTY_MARKER_FIELD = "empty";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long redisTtlMinutes;
+
+    private final Cache<String, Map<Long, String>> localCache;
+    /**
+     * PreferenceKey 가 존재하지 않는 keyHash
+     */
+    private final Cache<String, Boolean> missingKeys;
+
+    public CustomPhotoUrlCache(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${football.preference.photo-cache.local-ttl-seconds:10}") long localTtlSeconds,
+            @Value("${football.preference.photo-cache.local-max-size:10000}") long localMaxSize,
+            @Value("${football.preference.photo-cache.missing-key-ttl-seconds:3}") long missingKeyTtlSeconds,
+            @Value("${football.preference.photo-cache.redis-ttl-minutes:60}") long redisTtlMinutes
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisTtlMinutes = redisTtlMinutes;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.missingKeys = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(missingKeyTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 캐싱된 사진 맵을 반환하며, 없다면 loader 로 만들어 캐싱합니다.
+     *
+     * @param keyHash PreferenceKey 의 keyHash
+     * @param loader keyHash 의 모든 활성 커스텀 사진 맵을 DB 에서 만드는 함수
+     * @return 수정할 수 없는 playerId - photoUrl 맵
+     * @throws IllegalArgumentException keyHash 에 해당하는 PreferenceKey 가 없는 경우. loader 가 던진 예외도 그대로 전달합니다.
+     */
+    public Map<Long, String> getOrLoad(String keyHash, Function<String, Map<Long, String>> loader) {
+        Map<Long, String> cached = localCache.getIfPresent(keyHash);
+        if (cached != null) {
+            return cached;
+        }
+        if (missingKeys.getIfPresent(keyHash) != null) {
+            throw new IllegalArgumentException("PreferenceKey not found with key: " + keyHash);
+        }
+
+        Map<Long, String> photoUrls = readRedis(keyHash);
+        if (photoUrls == null) {
+            photoUrls = loadFromDb(keyHash, loader);
+            writeRedis(keyHash, photoUrls);
+            log.info("custom photo map loaded from DB. keyHash={}, size={}", keyHash, photoUrls.size());
+        }
+        localCache.put(keyHash, photoUrls);
+        return photoUrls;
+    }
+
+    private Map<Long, String> loadFromDb(String keyHash, Function<String, Map<Long, String>> loader) {
+        try {
+            return Collections.unmodifiableMap(new HashMap<>(loader.apply(keyHash)));
+        } catch (IllegalArgumentException e) {
+            missingKeys.put(keyHash, Boolean.TRUE);
+            throw e;
+        }
+    }
+
+    /**
+     * keyHash 의 사진 맵을 제거합니다. 트랜잭션 안이라면 커밋 이후 한 번 더 제거합니다.
+     */
+    public void evict(String keyHash) {
+        evictNow(keyHash);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(keyHash);
+                }
+            });
+        }
+    }
+
+    private void evictNow(String keyHash) {
+        localCache.invalidate(keyHash);
+        missingKeys.invalidate(keyHash);
+        try {
+            stringRedisTemplate.delete(redisKey(keyHash));
+        } catch (RuntimeException e) {
+            log.warn("failed to evict custom photo map from redis. keyHash={}, cause={}", keyHash, e.getMessage());
+        }
+        log.info("custom photo map evicted. keyHash={}", keyHash);
+    }
+
+    private Map<Long, String> readRedis(String keyHash) {
+        Map<Object, Object> entries;
+        try {
+            entries = stringRedisTemplate.opsForHash().entries(redisKey(keyHash));
+        } catch (RuntimeException e) {
+            log.warn("failed to read custom photo map from redis. keyHash={}, cause={}", keyHash, e.getMessage());
+            return null;
+        }
+        if (entries.isEmpty()) {
+            return null;
+        }
+        Map<Long, String> photoUrls = new HashMap<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = (String) entry.getKey();
+            if (!EMPTY_MARKER_FIELD.equals(field)) {
+                photoUrls.put(Long.parseLong(field), (String) entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(photoUrls);
+    }
+
+    private void writeRedis(String keyHash, Map<Long, String> photoUrls) {
+        Map<String, String> fields = new HashMap<>(photoUrls.size() + 1);
+        photoUrls.forEach((playerId, photoUrl) -> fields.put(String.valueOf(playerId), photoUrl));
+        fields.put(EMPTY_MARKER_FIELD, "");
+        String redisKey = redisKey(keyHash);
+        try {
+            stringRedisTemplate.opsForHash().putAll(redisKey, fields);
+            stringRedisTemplate.expire(redisKey, Duration.ofMinutes(redisTtlMinutes));
+        } catch (RuntimeException e) {
+            log.warn("failed to write custom photo map to redis. keyHash={}, cause={}", keyHash, e.getMessage());
+        }
+    }
+
+    private static String redisKey(String keyHash) {
+        return REDIS_KEY_PREFIX + keyHash;
+    }
+}
@@ -1,15 +1,17 @@
 package com.footballay.core.domain.football.preference.service;
 
 import com.footballay.core.domain.football.persistence.Player;
+import com.footballay.core.domain.football.preference.dto.PendingCustomPhotoUpload;
 import com.footballay.core.domain.football.preference.dto.PlayerCustomPhotoDto;
+import com.footballay.core.domain.football.preference.persistence.CustomPhotoUploadStatus;
 import com.footballay.core.domain.football.preference.persistence.PlayerCustomPhoto;
 import com.footballay.core.domain.football.preference.persistence.PreferenceKey;
 import com.footballay.core.domain.football.preference.persistence.UserFilePath;
 import com.footballay.core.domain.football.preference.repository.PlayerCustomPhotoRepository;
 import com.footballay.core.domain.football.preference.repository.PreferenceKeyRepository;
+import com.footballay.core.domain.football.preference.repository.UserFilePathRepository;
 import com.footballay.core.domain.football.preference.util.CustomPhotoFileNameGenerator;
 import com.footballay.core.domain.football.preference.util.CustomPhotoFileUploader;
-import com.footballay.core.domain.football.preference.util.PreferenceValidator;
 import com.footballay.core.domain.football.repository.PlayerRepository;
 import com.footballay.core.domain.user.entity.User;
 import com.footballay.core.domain.user.repository.UserRepository;
@@ -18,12 +20,38 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
-// TODO : s3 upload 과정과 entity 저장 과정을 분리해야합니다. 파일 업로드 시간동안 db connection 점유 문제가 있습니다.
+/**
+ * 커스텀 선수 이미지 엔티티를 관리합니다. <br>
+ * 관리자 페이지의 이미지 업로드는 {@link CustomPhotoUploadService} 를 통해 파일 업로드와 엔티티 저장을 분리해서 처리합니다.
+ * <pre>
+ * 1. {@link #registerPendingPhoto} : 비활성, 업로드 대기 상태로 저장
+ * 2. 파일 저장소 업로드 (트랜잭션 밖)
+ * 3. {@link #activateUploadedPhoto} 또는 {@link #markUploadFailed}
+ * </pre>
+ * <h3>내용 기반 파일 이름</h3>
+ * 파일 이름은 이미지 내용의 해시로 만들기 때문에, 사용자가 같은 이미지를 여러 선수나 여러 번 등록해도 파일 저장소에는 하나의 파일만 저장됩니다.
+ * 같은 내용의 파일이 이미 업로드되어 있다면 업로드를 생략합니다. 파일을 참조하는 엔티티 수를 참조 수로 사용하며,
+ * 엔티티를 삭제할 때 마지막 참조였던 경우에만 파일을 삭제합니다.
+ * 파일 경로({@link UserFilePath})가 사용자별로 다르므로 중복 제거는 사용자 단위로 이루어집니다.
+ * 파일 이름에는 확장자가 포함되므로 이미 저장된 파일은 내용 해시가 아닌 파일 이름으로 확인합니다.
+ * <h3>동시성</h3>
+ * 파일 등록과 삭제는 사용자의 파일 경로 row 에 비관적 lock 을 걸어 직렬화합니다.
+ * 그렇지 않으면 삭제 트랜잭션이 참조 수를 0 으로 확인하고 파일을 지우는 동안, 다른 트랜잭션이 같은 파일을 이미 저장된 것으로 보고
+ * 업로드 없이 등록해서 깨진 이미지를 참조하게 됩니다. <br>
+ * 업로드 상태를 바꾸는 작업은 경로를 먼저 잠그고 이미지를 잠금 읽기로 조회해서, 같은 순서로 lock 을 걸고 최신 업로드 상태를 읽습니다.
+ * <h3>파일 삭제</h3>
+ * 파일 저장소의 파일은 삭제 트랜잭션이 커밋된 이후에 삭제합니다. 파일 저장소 요청 동안 DB 커넥션과 경로 lock 을 점유하지 않고,
+ * 롤백된 삭제가 파일을 지우지 않도록 하기 위해서입니다.
+ * 업로드 중인 이미지는 삭제하면 업로드가 끝난 뒤 파일이 남으므로 {@link CustomPhotoUploadStatus#DELETING} 으로 표시만 하고,
+ * 업로드 완료 처리나 정리 작업에서 엔티티와 파일을 삭제합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -34,42 +62,154 @@ public class PlayerCustomPhotoService {
     private final PreferenceKeyRepository preferenceKeyRepository;
     private final PlayerCustomPhotoRepository playerCustomPhotoRepository;
     private final UserFilePathService userFilePathService;
-    private final PreferenceValidator preferenceValidator;
+    private final UserFilePathRepository userFilePathRepository;
     private final CustomPhotoFileUploader customPhotoFileUploader;
+    private final CustomPhotoUrlCache customPhotoUrlCache;
 
     /**
-     * 새로운 커스텀 선수 이미지를 등록하고 업로드이후 활성화합니다. <br>
-     * 기존에 활성화된 커스텀 선수 이미지가 있으면 비활성화하고 새로운 이미지를 활성화 시킵니다. <br>
+     * 커스텀 선수 이미지를 업로드 대기 상태로 저장합니다. 파일 업로드가 확인되기 전까지 활성화되지 않습니다. <br>
+     * 같은 내용의 파일이 이미 업로드되어 있다면 업로드 완료 상태로 저장하고 바로 활성화합니다. <br>
+     * 파일은 검증된 이후여야 합니다.
      *
-     * @throws IllegalArgumentException 이미지 파일이 유효하지 않은 경우
-     * @param userId    사용자 ID
-     * @param playerId  선수 ID
-     * @param file      업로드할 이미지 파일
-     * @return 등록된 커스텀 선수 이미지 DTO
+     * @throws IllegalArgumentException PreferenceKey 나 선수가 없거나 파일 확장자가 없는 경우
+     * @param userId 사용자 ID
+     * @param playerId 선수 ID
+     * @param originalFilename 업로드한 파일 이름. 확장자를 사용합니다.
+     * @param contentHash 이미지 파일 내용의 해시
+     * @return 업로드할 파일 저장소 key 와 업로드 필요 여부를 포함한 업로드 대기 정보
      */
     @Transactional
-    public PlayerCustomPhotoDto registerAndUploadCustomPhoto(long userId, long playerId, MultipartFile file) {
-        if(!validateCustomPhoto(file)) {
-            throw new IllegalArgumentException("Invalid custom photo");
-        }
-
+    public PendingCustomPhotoUpload registerPendingPhoto(long userId, long playerId, String originalFilename, String contentHash) {
         PreferenceKey preferenceKey = getKeyOrThrow(userId);
-        deactivateCurrentActivePhoto(preferenceKey, playerId);
-
         UserFilePath nowUserFilePath = getUserFilePathForNowPhoto(userId);
-        String fileName = generateFileName(playerId, file);
-        PlayerCustomPhoto playerCustomPhoto = createPlayerCustomPhotoEntity(
+        lockUserFilePath(nowUserFilePath.getId());
+        String fileName = generateFileName(contentHash, originalFilename);
+        String s3Key = getS3Key(nowUserFilePath, fileName);
+
+        if (isAlreadyStored(nowUserFilePath, fileName)) {
+            deactivateCurrentActivePhoto(preferenceKey, playerId);
+            PlayerCustomPhoto savedPhoto = playerCustomPhotoRepository.save(createPlayerCustomPhotoEntity(
+                    preferenceKey,
+                    nowUserFilePath,
+                    playerId,
+                    fileName,
+                    contentHash,
+                    true,
+                    CustomPhotoUploadStatus.UPLOADED
+            ));
+            customPhotoUrlCache.evict(preferenceKey.getKeyhash());
+            log.info("Registered custom photo id={}, playerId={} with already stored file={}", savedPhoto.getId(), playerId, fileName);
+            return new PendingCustomPhotoUpload(savedPhoto.getId(), playerId, s3Key, false);
+        }
+
+        PlayerCustomPhoto savedPhoto = playerCustomPhotoRepository.save(createPlayerCustomPhotoEntity(
                 preferenceKey,
                 nowUserFilePath,
                 playerId,
-                fileName
-        );
-        PlayerCustomPhoto savedPhoto = playerCustomPhotoRepository.save(playerCustomPhoto);
+                fileName,
+                contentHash,
+                false,
+                CustomPhotoUploadStatus.PENDING
+        ));
+        log.info("Registered pending custom photo id={}, playerId={}", savedPhoto.getId(), playerId);
+        return new PendingCustomPhotoUpload(savedPhoto.getId(), playerId, s3Key, true);
+    }
 
-        String s3Key = getS3Key(nowUserFilePath, fileName);
-        customPhotoFileUploader.uploadFile(file, s3Key);
+    /**
+     * 업로드가 확인된 이미지를 활성화합니다. <br>
+     * 같은 선수에 이 이미지보다 나중에 등록된 이미지가 이미 활성화되어 있다면, 업로드 완료로만 표시하고 활성화하지 않습니다. <br>
+     * 업로드 중에 삭제가 요청된 이미지라면 엔티티를 삭제하고, 커밋 이후 참조가 없는 파일을 삭제합니다.
+     *
+     * @param photoId 업로드가 확인된 이미지 ID
+     * @return 업로드 대기 중인 이미지가 아니어서 활성화하지 않았다면 false
+     */
+    @Transactional
+    public boolean activateUploadedPhoto(long photoId) {
+        Optional<PlayerCustomPhoto> findPhoto = findPhotoForUpdate(photoId);
+        if (findPhoto.isPresent() && findPhoto.get().getUploadStatus() == CustomPhotoUploadStatus.DELETING) {
+            deleteCancelledUpload(findPhoto.get());
+            return false;
+        }
+        if (findPhoto.isEmpty() || findPhoto.get().getUploadStatus() != CustomPhotoUploadStatus.PENDING) {
+            log.warn("activate requested but photo is not pending. photoId={}", photoId);
+            return false;
+        }
+        PlayerCustomPhoto photo = findPhoto.get();
+        PreferenceKey preferenceKey = photo.getPreferenceKey();
+        long playerId = photo.getPlayer().getId();
+        photo.setUploadStatus(CustomPhotoUploadStatus.UPLOADED);
+
+        Optional<PlayerCustomPhoto> activePhoto = playerCustomPhotoRepository.findActivePhotoByPreferenceKeyAndPlayer(preferenceKey, playerId);
+        if (activePhoto.isPresent() && activePhoto.get().getId() > photo.getId()) {
+            log.info("Newer photo id={} is already active. Uploaded photo id={} stays inactive", activePhoto.get().getId(), photoId);
+            return true;
+        }
 
-        return PlayerCustomPhotoDto.fromEntity(savedPhoto);
+        deactivateCurrentActivePhoto(preferenceKey, playerId);
+        photo.setActive(true);
+        log.info("Activating uploaded photo id={}", photoId);
+        customPhotoUrlCache.evict(preferenceKey.getKeyhash());
+        return true;
+    }
+
+    /**
+     * 업로드에 실패한 이미지를 표시합니다. 정리 작업에서 삭제됩니다. <br>
+     * 업로드 중에 삭제가 요청된 이미지라면 일부만 업로드된 파일이 남지 않도록 엔티티와 파일을 바로 삭제합니다.
+     */
+    @Transactional
+    public void markUploadFailed(long photoId) {
+        findPhotoForUpdate(photoId).ifPresent(photo -> {
+            if (photo.getUploadStatus() == CustomPhotoUploadStatus.PENDING) {
+                photo.setUploadStatus(CustomPhotoUploadStatus.FAILED);
+                log.warn("Marked custom photo upload failed. photoId={}", photoId);
+            } else if (photo.getUploadStatus() == CustomPhotoUploadStatus.DELETING) {
+                deleteCancelledUpload(photo);
+            }
+        });
+    }
+
+    /**
+     * 주어진 시각 이전에 등록되었지만 아직 업로드 대기 중인 이미지를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<PendingCustomPhotoUpload> findPendingUploadsCreatedBefore(LocalDateTime before) {
+        return playerCustomPhotoRepository.findAllByUploadStatusAndCreatedBefore(CustomPhotoUploadStatus.PENDING, before).stream()
+                .map(photo -> new PendingCustomPhotoUpload(
+                        photo.getId(),
+                        photo.getPlayer().getId(),
+                        getS3Key(photo.getUserFilePath(), photo.getFileName()),
+                        true))
+                .toList();
+    }
+
+    /**
+     * 주어진 시각 이전에 등록되고 업로드에 실패했거나, 업로드 중에 삭제가 요청된 이미지 엔티티를 삭제합니다.
+     *
+     * @return 더 이상 참조하는 엔티티가 없는 파일 저장소 key. 일부만 업로드된 파일이 남아있을 수 있으므로 호출자가 파일을 정리합니다.
+     */
+    @Transactional
+    public List<String> deleteFailedUploadsCreatedBefore(LocalDateTime before) {
+        List<PlayerCustomPhoto> failedPhotos = new ArrayList<>();
+        failedPhotos.addAll(playerCustomPhotoRepository.findAllByUploadStatusAndCreatedBefore(CustomPhotoUploadStatus.FAILED, before));
+        failedPhotos.addAll(playerCustomPhotoRepository.findAllByUploadStatusAndCreatedBefore(CustomPhotoUploadStatus.DELETING, before));
+        // 여러 경로에 lock 을 걸 때는 id 순서로 걸어서 교착 상태를 피합니다.
+        failedPhotos.stream()
+                .map(PlayerCustomPhoto::getUserFilePath)
+                .map(UserFilePath::getId)
+                .distinct()
+                .sorted()
+                .forEach(userFilePathRepository::findByIdForUpdate);
+        playerCustomPhotoRepository.deleteAll(failedPhotos);
+        playerCustomPhotoRepository.flush();
+        log.info("Deleted {} failed custom photo uploads", failedPhotos.size());
+
+        Set<String> unreferencedS3Keys = new LinkedHashSet<>();
+        for (PlayerCustomPhoto photo : failedPhotos) {
+            if (!isReferenced(photo.getUserFilePath(), photo.getFileName())) {
+                unreferencedS3Keys.add(getS3Key(photo.getUserFilePath(), photo.getFileName()));
+            }
+        }
+        return new ArrayList<>(unreferencedS3Keys);
     }
 
     /**
@@ -92,6 +232,33 @@ public class PlayerCustomPhotoService {
         return toMapUserIdAndPhotoDto(photos);
     }
 
+    /**
+     * PreferenceKey 의 모든 활성 커스텀 선수 이미지 URL 을 조회합니다. <br>
+     * {@link CustomPhotoUrlCache} 를 채우기 위해 사용하며, 읽기 요청에서 호출되므로 쓰기 작업을 하지 않습니다.
+     * 한 선수에 활성 이미지가 여러 개라면 가장 최근에 수정된 이미지를 사용합니다.
+     *
+     * @throws IllegalArgumentException PreferenceKey 가 존재하지 않는 경우
+     * @param keyHash 커스텀 선수 이미지를 조회할 PreferenceKey
+     * @return playerId - photoUrl 맵
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getAllActiveCustomPhotoUrls(String keyHash) {
+        PreferenceKey key = getKey(keyHash);
+        List<PlayerCustomPhoto> photos = playerCustomPhotoRepository.findAllActivesByPreferenceKey(key.getId());
+
+        Map<Long, PlayerCustomPhoto> latestPhotos = new HashMap<>();
+        for (PlayerCustomPhoto photo : photos) {
+            latestPhotos.merge(photo.getPlayer().getId(), photo, (existing, candidate) -> {
+                log.warn("Multiple active custom photo found for playerId={}, preferenceKey={}", photo.getPlayer().getId(), keyHash);
+                return candidate.getModifiedDate().isAfter(existing.getModifiedDate()) ? candidate : existing;
+            });
+        }
+
+        Map<Long, String> photoUrls = new HashMap<>();
+        latestPhotos.forEach((playerId, photo) -> photoUrls.put(playerId, photo.getPhotoUrl()));
+        return photoUrls;
+    }
+
     @Transactional
     public Map<Long, PlayerCustomPhotoDto> getActiveCustomPhotosWithUsernameAndTeamId(String username, long teamId) {
         User user = getUserOrThrow(username);
@@ -126,7 +293,7 @@ public class PlayerCustomPhotoService {
      * 유저의 특정 커스텀 이미지를 활성화합니다. <br>
      * 기존 활성화된 이미지가 있으면 비활성화 하고 새로운 이미지를 활성화합니다.
      *
-     * @throws IllegalArgumentException 이미지가 존재하지 않거나 username 과 photoId 의 user 가 일치하지 않는 경우
+     * @throws IllegalArgumentException 이미지가 존재하지 않거나 username 과 photoId 의 user 가 일치하지 않거나 업로드가 확인되지 않은 경우
      * @param username 커스텀 이미지를 설정하는 유저 이름
      * @param photoId 활성화할 커스텀 이미지 ID
      * @return 활성화된 커스텀 선수 이미지 DTO
@@ -141,12 +308,18 @@ public class PlayerCustomPhotoService {
         if(!photo.getPreferenceKey().getKeyhash().equals(preferenceKey.getKeyhash())) {
             throw new IllegalArgumentException("Photo preferenceKey is not matched with keyHash: " + preferenceKey.getKeyhash());
         }
+        if(photo.getUploadStatus() == CustomPhotoUploadStatus.PENDING
+                || photo.getUploadStatus() == CustomPhotoUploadStatus.FAILED
+                || photo.getUploadStatus() == CustomPhotoUploadStatus.DELETING) {
+            throw new IllegalArgumentException("Photo upload is not confirmed. photoId=" + photoId + ", uploadStatus=" + photo.getUploadStatus());
+        }
 
         long playerId = photo.getPlayer().getId();
         deactivateCurrentActivePhoto(preferenceKey, playerId);
 
         photo.setActive(true);
         log.info("Activating photo id={}", photo.getId());
+        customPhotoUrlCache.evict(preferenceKey.getKeyhash());
 
         return PlayerCustomPhotoDto.fromEntity(photo);
     }
@@ -163,6 +336,7 @@ public class PlayerCustomPhotoService {
             User user = getUserOrThrow(username);
             PreferenceKey key = getKeyOrThrow(user.getId());
             deactivateCurrentActivePhoto(key, playerId);
+            customPhotoUrlCache.evict(key.getKeyhash());
             return true;
         } catch (Exception e) {
             log.error("Failed to deactivate photo", e);
@@ -189,6 +363,7 @@ public class PlayerCustomPhotoService {
 
             log.info("Deactivating photo id={}", photo.getId());
             photo.setActive(false);
+            customPhotoUrlCache.evict(photo.getPreferenceKey().getKeyhash());
             return true;
         } catch (Exception e) {
             log.error("Failed to deactivate photo", e);
@@ -199,6 +374,8 @@ public class PlayerCustomPhotoService {
     /**
      * 특정 선수의 커스텀 이미지를 삭제합니다. <br>
      * 삭제 성공 여부에 따라 boolean 을 반환하며 이미지가 존재하지 않는 경우에도 true 반환합니다. <br>
+     * 다른 엔티티가 같은 파일을 참조하고 있다면 파일은 남겨둡니다. 파일은 커밋 이후에 삭제합니다. <br>
+     * 아직 업로드 중인 이미지는 삭제 중으로 표시하고, 업로드 완료 처리나 정리 작업에서 엔티티와 파일을 삭제합니다.
      *
      * @param username 인증된 유저의 username
      * @param photoId 삭제할 커스텀 이미지 ID
@@ -207,24 +384,39 @@ public class PlayerCustomPhotoService {
     @Transactional
     public boolean deletePhotoWithUsername(String username, long photoId) {
         try {
-            Optional<PlayerCustomPhoto> findPhoto = playerCustomPhotoRepository.findById(photoId);
+            User user = getUserOrThrow(username);
+            PreferenceKey key = getKeyOrThrow(user.getId());
+            Optional<PlayerCustomPhoto> findPhoto = findPhotoForUpdate(photoId);
             if(findPhoto.isEmpty()) {
                 log.warn("delete requested but not found with id={}", photoId);
                 return true;
             }
             PlayerCustomPhoto photo = findPhoto.get();
-            String filename = photo.getFileName();
+            validatePhotoKeyUser(photo, user);
 
-            User user = getUserOrThrow(username);
-            UserFilePath userFilePath = userFilePathService.getPlayerCustomPhotoPath(user);
+            if (photo.getUploadStatus() == CustomPhotoUploadStatus.PENDING) {
+                photo.setUploadStatus(CustomPhotoUploadStatus.DELETING);
+                photo.setActive(false);
+                log.info("Photo id={} is still uploading. Marked deleting", photoId);
+                return true;
+            }
+            if (photo.getUploadStatus() == CustomPhotoUploadStatus.DELETING) {
+                log.info("Photo id={} is already marked deleting", photoId);
+                return true;
+            }
 
-            PreferenceKey key = getKeyOrThrow(user.getId());
-            playerCustomPhotoRepository.deleteByIdAndPreferenceKey(photoId, key);
+            UserFilePath userFilePath = photo.getUserFilePath();
+            if (userFilePath == null) {
+                userFilePath = userFilePathService.getPlayerCustomPhotoPath(user);
+                lockUserFilePath(userFilePath.getId());
+            }
+            String filename = photo.getFileName();
+            playerCustomPhotoRepository.delete(photo);
+            playerCustomPhotoRepository.flush();
             log.info("Deleted photo id={}", photoId);
+            customPhotoUrlCache.evict(key.getKeyhash());
 
-            String s3key = userFilePath.getFullPath() + filename;
-            log.info("Deleting s3 photo file s3key={}", s3key);
-            customPhotoFileUploader.deleteFile(s3key);
+            deleteFileAfterCommitIfUnreferenced(userFilePath, filename);
             return true;
         } catch (Exception e) {
             log.error("Failed to delete photo", e);
@@ -265,6 +457,7 @@ public class PlayerCustomPhotoService {
             }
 
             playerCustomPhotoRepository.saveAll(playerPhotos);
+            customPhotoUrlCache.evict(preferenceKey.getKeyhash());
         }
 
         return activePhotosAfterEnforcement;
@@ -310,7 +503,15 @@ public class PlayerCustomPhotoService {
         playerCustomPhotoRepository.flush();
     }
 
-    private PlayerCustomPhoto createPlayerCustomPhotoEntity(PreferenceKey preferenceKey, UserFilePath userFilePath, long playerId, String fileName) {
+    private PlayerCustomPhoto createPlayerCustomPhotoEntity(
+            PreferenceKey preferenceKey,
+            UserFilePath userFilePath,
+            long playerId,
+            String fileName,
+            String contentHash,
+            boolean isActive,
+            CustomPhotoUploadStatus uploadStatus
+    ) {
         Player player = playerRepository.findById(playerId)
                 .orElseThrow(() -> new IllegalArgumentException("Player not found with id: " + playerId));
         return PlayerCustomPhoto.builder()
@@ -318,12 +519,77 @@ public class PlayerCustomPhotoService {
                 .userFilePath(userFilePath)
                 .player(player)
                 .fileName(fileName)
-                .isActive(true)
+                .contentHash(contentHash)
+                .isActive(isActive)
+                .uploadStatus(uploadStatus)
                 .build();
     }
 
-    private boolean validateCustomPhoto(MultipartFile file) {
-        return preferenceValidator.isValidPlayerCustomPhotoImage(file);
+    /**
+     * 같은 경로의 파일을 등록하거나 삭제하는 다른 트랜잭션이 끝날 때까지 기다립니다. lock 은 트랜잭션이 끝날 때 해제됩니다.
+     */
+    private void lockUserFilePath(long userFilePathId) {
+        userFilePathRepository.findByIdForUpdate(userFilePathId)
+                .orElseThrow(() -> new IllegalArgumentException("UserFilePath not found with id: " + userFilePathId));
+    }
+
+    /**
+     * 이미지의 경로를 lock 한 뒤 이미지를 잠금 읽기로 조회합니다. 업로드 상태를 바꾸는 작업은 이 메서드로 이미지를 조회합니다. <br>
+     * 잠금 읽기가 최신 업로드 상태를 읽으려면 트랜잭션에서 이미지를 처음 조회할 때 호출해야 합니다.
+     */
+    private Optional<PlayerCustomPhoto> findPhotoForUpdate(long photoId) {
+        playerCustomPhotoRepository.findUserFilePathIdById(photoId).ifPresent(this::lockUserFilePath);
+        return playerCustomPhotoRepository.findByIdForUpdate(photoId);
+    }
+
+    /**
+     * 업로드 중에 삭제가 요청된 이미지의 엔티티를 삭제하고, 커밋 이후 참조가 없는 파일을 삭제합니다. {@link #findPhotoForUpdate} 이후에 호출합니다.
+     */
+    private void deleteCancelledUpload(PlayerCustomPhoto photo) {
+        UserFilePath userFilePath = photo.getUserFilePath();
+        String fileName = photo.getFileName();
+        playerCustomPhotoRepository.delete(photo);
+        playerCustomPhotoRepository.flush();
+        log.info("Deleted photo id={} which was deleted during upload", photo.getId());
+        deleteFileAfterCommitIfUnreferenced(userFilePath, fileName);
+    }
+
+    /**
+     * 파일을 참조하는 엔티티가 남아있지 않다면 트랜잭션이 커밋된 이후에 파일을 삭제합니다. {@link #lockUserFilePath} 이후에 호출합니다. <br>
+     * 삭제에 실패한 파일은 참조하는 엔티티가 없어 정리 작업에서도 찾을 수 없으므로 로그를 남깁니다.
+     */
+    private void deleteFileAfterCommitIfUnreferenced(UserFilePath userFilePath, String fileName) {
+        if (isReferenced(userFilePath, fileName)) {
+            log.info("Photo file is still referenced by other photos. Keep file={}", fileName);
+            return;
+        }
+        String s3key = getS3Key(userFilePath, fileName);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    log.info("Deleting s3 photo file s3key={}", s3key);
+                    customPhotoFileUploader.deleteFile(s3key);
+                } catch (Exception e) {
+                    log.error("Failed to delete s3 photo file s3key={}", s3key, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 같은 파일 이름(내용 해시와 확장자)의 파일이 이미 업로드되어 있는지 확인합니다. {@link #lockUserFilePath} 이후에 호출합니다.
+     */
+    private boolean isAlreadyStored(UserFilePath userFilePath, String fileName) {
+        return playerCustomPhotoRepository.findAllByUserFilePathAndFileNameForUpdate(userFilePath, fileName).stream()
+                .anyMatch(photo -> photo.getUploadStatus() == CustomPhotoUploadStatus.UPLOADED);
+    }
+
+    /**
+     * 파일을 참조하는 엔티티가 남아있는지 확인합니다. {@link #lockUserFilePath} 이후에 호출합니다.
+     */
+    private boolean isReferenced(UserFilePath userFilePath, String fileName) {
+        return !playerCustomPhotoRepository.findAllByUserFilePathAndFileNameForUpdate(userFilePath, fileName).isEmpty();
     }
 
     private static Map<Long, PlayerCustomPhotoDto> toMapUserIdAndPhotoDto(List<PlayerCustomPhoto> photos) {
@@ -344,10 +610,10 @@ public class PlayerCustomPhotoService {
                 .collect(Collectors.toSet());
     }
 
-    private static String generateFileName(long playerId, MultipartFile file) {
-        String fileExtension = FilenameUtils.getExtension(file.getOriginalFilename());
+    private static String generateFileName(String contentHash, String originalFilename) {
+        String fileExtension = FilenameUtils.getExtension(originalFilename);
         validateFileExtension(fileExtension);
-        return CustomPhotoFileNameGenerator.generate(playerId, fileExtension);
+        return CustomPhotoFileNameGenerator.generateContentAddressed(contentHash, fileExtension.toLowerCase());
     }
 
     private static void validateFileExtension(String fileExtension) {
@@ -18,6 +18,7 @@ import java.util.Optional;
 public class PreferenceKeyService {
 
     private final PreferenceKeyRepository preferenceKeyRepository;
+    private final CustomPhotoUrlCache customPhotoUrlCache;
 
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
     private static final int KEY_LENGTH = 32;
@@ -46,6 +47,7 @@ public class PreferenceKeyService {
         PreferenceKey preferenceKey = preferenceKeyRepository.findByUser(user).orElseThrow(
                 () -> new IllegalStateException("PreferenceKey not found for user=" + user)
         );
+        customPhotoUrlCache.evict(preferenceKey.getKeyhash());
         String newKeyHash = generateKeyHash();
         preferenceKey.setKeyhash(newKeyHash);
         return preferenceKeyRepository.save(preferenceKey);
@@ -67,6 +69,7 @@ public class PreferenceKeyService {
                 return false;
             }
             preferenceKeyRepository.delete(preferenceKey.get());
+            customPhotoUrlCache.evict(preferenceKey.get().getKeyhash());
             return true;
         } catch (Exception e) {
             log.error("Unexpected fail while deleting preferenceKey for user={}", user, e);
@@ -17,6 +17,17 @@ public class CustomPhotoFileNameGenerator {
         return String.format("%d_%s.%s", playerId, hash, extension);
     }
 
+    /**
+     * 내용 기반 파일 이름을 만듭니다. 같은 내용의 이미지는 같은 파일 이름을 가집니다.
+     * @param contentHash 이미지 파일 내용의 해시
+     */
+    public static String generateContentAddressed(String contentHash, String extension) {
+        if(extension.startsWith(".")) {
+            extension = extension.substring(1);
+        }
+        return String.format("%s.%s", contentHash, extension);
+    }
+
     private static String generateRandomHash() {
         StringBuilder keyBuilder = new StringBuilder(KEY_LENGTH);
         for (int i = 0; i < KEY_LENGTH; i++) {
@@ -2,6 +2,8 @@ package com.footballay.core.domain.football.preference.util;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+
 public interface CustomPhotoFileUploader {
 
     /**
@@ -12,6 +14,16 @@ public interface CustomPhotoFileUploader {
      * @param s3Key
      */
     void uploadFile(MultipartFile multipartFile, String s3Key);
+
+    /**
+     * 로컬에 임시 저장된 파일을 파일 저장소에 업로드합니다. <br>
+     * 업로드 전에 파일을 검증해야 합니다.
+     *
+     * @param stagedFile 임시 저장된 파일
+     * @param contentType 파일의 content type
+     * @param s3Key
+     */
+    void uploadFile(Path stagedFile, String contentType, String s3Key);
     boolean existsFile(String s3Key);
     void deleteFile(String s3Key);
     void downloadFile(String s3Key, String localDownloadPath);
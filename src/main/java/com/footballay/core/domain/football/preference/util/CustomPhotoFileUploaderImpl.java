@@ -79,6 +79,22 @@ public class CustomPhotoFileUploaderImpl implements CustomPhotoFileUploader {
         }
     }
 
+    /**
+     * 로컬에 임시 저장된 파일을 S3에 업로드
+     * @param stagedFile 업로드할 파일
+     * @param contentType 파일의 content type
+     * @param s3Key S3 상의 업로드될 경로/파일명 (예: "test2.png")
+     */
+    public void uploadFile(Path stagedFile, String contentType, String s3Key) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+
+        log.info("Uploading staged file to S3. s3Key={}", s3Key);
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, s3Key, stagedFile.toFile())
+                .withMetadata(metadata);
+        amazonS3.putObject(putObjectRequest);
+    }
+
     /**
      * 해당 key에 해당하는 파일이 S3 버킷에 존재하는지 여부를 확인합니다.
      *
@@ -0,0 +1,155 @@
+package com.footballay.core.domain.football.preference.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.CRC32;
+
+/**
+ * 커스텀 선수 이미지(150x150 PNG)를 한 번의 스트림 읽기로 검증합니다. <br>
+ * Tika 감지와 ImageIO 디코딩처럼 파일 전체를 여러 번 읽지 않고, 아래 과정을 하나의 스트림에서 진행합니다.
+ * <pre>
+ * 1. PNG 시그니처(8 byte) 확인
+ * 2. 첫 청크인 IHDR 의 CRC 와 가로/세로 크기 확인
+ * 3. 나머지를 읽으면서 SHA-256 해시 계산. 최대 크기를 넘으면 바로 중단
+ * 4. 마지막 청크가 IEND 인지 확인해서 잘린 파일 거부
+ * </pre>
+ * 헤더가 잘못된 파일은 앞부분만 읽고 거부하므로 잘못된 대용량 업로드가 힙을 차지하지 않습니다.
+ * 검증을 통과한 바이트는 그대로 업로드에 사용합니다.
+ */
+@Slf4j
+@Component
+public class CustomPhotoImageInspector {
+
+    public static final int CUSTOM_PHOTO_WIDTH = 150;
+    public static final int CUSTOM_PHOTO_HEIGHT = 150;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] IEND_CHUNK = {0, 0, 0, 0, 'I', 'E', 'N', 'D', (byte) 0xAE, 0x42, 0x60, (byte) 0x82};
+    private static final int IHDR_DATA_LENGTH = 13;
+    /**
+     * 시그니처(8) + IHDR 길이(4) + 타입(4) + 데이터(13) + CRC(4)
+     */
+    private static final int HEADER_LENGTH = PNG_SIGNATURE.length + 4 + 4 + IHDR_DATA_LENGTH + 4;
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private final int maxBytes;
+
+    public CustomPhotoImageInspector(
+            @Value("${football.preference.photo-upload.max-bytes:1048576}") int maxBytes
+    ) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 검증을 통과한 이미지입니다.
+     *
+     * @param bytes 이미지 파일 내용
+     * @param contentHash 파일 내용의 SHA-256 (hex)
+     */
+    public record InspectedPhoto(
+            byte[] bytes,
+            int width,
+            int height,
+            String contentHash
+    ) {
+    }
+
+    /**
+     * @throws IllegalArgumentException 커스텀 선수 이미지로 사용할 수 없는 파일인 경우
+     */
+    public InspectedPhoto inspect(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어 있습니다.");
+        }
+        if (!MediaType.IMAGE_PNG_VALUE.equalsIgnoreCase(file.getContentType())) {
+            throw new IllegalArgumentException("파일의 형식이 일치하지 않습니다. 주어진 파일형식=" + file.getContentType());
+        }
+        if (file.getSize() > maxBytes) {
+            throw new IllegalArgumentException("파일이 너무 큽니다. size=" + file.getSize() + " max=" + maxBytes);
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return inspect(inputStream, (int) file.getSize());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지 파일을 읽는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    InspectedPhoto inspect(InputStream inputStream, int expectedSize) throws IOException {
+        MessageDigest digest = sha256();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(HEADER_LENGTH, Math.min(expectedSize, maxBytes)));
+
+        byte[] header = inputStream.readNBytes(HEADER_LENGTH);
+        if (header.length < HEADER_LENGTH || !Arrays.equals(header, 0, PNG_SIGNATURE.length, PNG_SIGNATURE, 0, PNG_SIGNATURE.length)) {
+            throw new IllegalArgumentException("파일의 서명이 PNG 가 아닙니다.");
+        }
+        int width = validateIhdr(header);
+        int height = readInt(header, 20);
+        if (width != CUSTOM_PHOTO_WIDTH || height != CUSTOM_PHOTO_HEIGHT) {
+            throw new IllegalArgumentException("이미지의 크기는 " + CUSTOM_PHOTO_WIDTH + "px x " + CUSTOM_PHOTO_HEIGHT + "px이어야 합니다.");
+        }
+        digest.update(header);
+        buffer.write(header);
+
+        byte[] chunk = new byte[READ_BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(chunk)) != -1) {
+            if (buffer.size() + read > maxBytes) {
+                throw new IllegalArgumentException("파일이 너무 큽니다. max=" + maxBytes);
+            }
+            digest.update(chunk, 0, read);
+            buffer.write(chunk, 0, read);
+        }
+
+        byte[] bytes = buffer.toByteArray();
+        if (bytes.length < HEADER_LENGTH + IEND_CHUNK.length
+                || !Arrays.equals(bytes, bytes.length - IEND_CHUNK.length, bytes.length, IEND_CHUNK, 0, IEND_CHUNK.length)) {
+            throw new IllegalArgumentException("PNG 파일이 IEND 로 끝나지 않습니다.");
+        }
+        return new InspectedPhoto(bytes, width, height, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * IHDR 청크의 길이, 타입, CRC 를 확인합니다.
+     * @return 이미지 가로 크기
+     */
+    private static int validateIhdr(byte[] header) {
+        int length = readInt(header, 8);
+        if (length != IHDR_DATA_LENGTH
+                || header[12] != 'I' || header[13] != 'H' || header[14] != 'D' || header[15] != 'R') {
+            throw new IllegalArgumentException("PNG 의 첫 청크가 IHDR 이 아닙니다.");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(header, 12, 4 + IHDR_DATA_LENGTH);
+        if ((int) crc.getValue() != readInt(header, 12 + 4 + IHDR_DATA_LENGTH)) {
+            throw new IllegalArgumentException("PNG IHDR 청크의 CRC 가 일치하지 않습니다.");
+        }
+        return readInt(header, 16);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24)
+                | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8)
+                | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
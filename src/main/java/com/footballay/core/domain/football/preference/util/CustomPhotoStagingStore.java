@@ -0,0 +1,77 @@
+package com.footballay.core.domain.football.preference.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+/**
+ * 파일 저장소 업로드가 끝날 때까지 검증된 커스텀 이미지를 로컬에 임시 저장합니다. <br>
+ * 요청이 끝난 뒤에도 비동기 업로드와 재시도에서 파일을 읽을 수 있도록 MultipartFile 대신 사용합니다.
+ */
+@Slf4j
+@Component
+public class CustomPhotoStagingStore {
+
+    private final Path stagingPath;
+
+    public CustomPhotoStagingStore(
+            @Value("${football.preference.photo-upload.staging-path:${java.io.tmpdir}/footballay/custom-photo-staging}") String stagingPath
+    ) {
+        this.stagingPath = Paths.get(stagingPath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * @return 임시 저장된 파일 경로
+     */
+    public Path stage(byte[] bytes) {
+        try {
+            Files.createDirectories(stagingPath);
+            Path stagedFile = Files.createTempFile(stagingPath, "photo-", ".staged");
+            Files.write(stagedFile, bytes);
+            return stagedFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to stage custom photo", e);
+        }
+    }
+
+    public void delete(Path stagedFile) {
+        try {
+            Files.deleteIfExists(stagedFile);
+        } catch (IOException e) {
+            log.warn("failed to delete staged custom photo. path={}", stagedFile, e);
+        }
+    }
+
+    /**
+     * 업로드가 끝나지 않고 남은 오래된 임시 파일을 삭제합니다.
+     *
+     * @param before 이 시각 이전에 수정된 파일을 삭제합니다
+     * @return 삭제한 파일 수
+     */
+    public int deleteStagedFilesBefore(Instant before) {
+        if (!Files.isDirectory(stagingPath)) {
+            return 0;
+        }
+        FileTime threshold = FileTime.from(before);
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(stagingPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.getLastModifiedTime(file).compareTo(threshold) < 0 && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("failed to clean up staged custom photos. path={}", stagingPath, e);
+        }
+        return deleted;
+    }
+}
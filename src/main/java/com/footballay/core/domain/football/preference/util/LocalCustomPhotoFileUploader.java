@@ -0,0 +1,98 @@
+package com.footballay.core.domain.football.preference.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * AWS 없이 로컬 파일 시스템을 파일 저장소로 사용합니다. <br>
+ * s3Key 를 저장소 경로 아래의 상대 경로로 사용합니다.
+ */
+@Profile("!aws")
+@Slf4j
+@Component
+public class LocalCustomPhotoFileUploader implements CustomPhotoFileUploader {
+
+    private final Path rootPath;
+
+    public LocalCustomPhotoFileUploader(
+            @Value("${football.preference.photo-upload.local-storage-path:${java.io.tmpdir}/footballay/custom-photos}") String rootPath
+    ) {
+        this.rootPath = Paths.get(rootPath).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void uploadFile(MultipartFile multipartFile, String s3Key) {
+        log.info("[LocalCustomPhotoFileUploader] Uploading file to local storage. s3Key={}", s3Key);
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            copyToStorage(inputStream, s3Key);
+        } catch (IOException e) {
+            throw new UncheckedIOException("fail local file upload. s3Key=" + s3Key, e);
+        }
+    }
+
+    @Override
+    public void uploadFile(Path stagedFile, String contentType, String s3Key) {
+        log.info("[LocalCustomPhotoFileUploader] Uploading staged file to local storage. s3Key={}", s3Key);
+        try (InputStream inputStream = Files.newInputStream(stagedFile)) {
+            copyToStorage(inputStream, s3Key);
+        } catch (IOException e) {
+            throw new UncheckedIOException("fail local file upload. s3Key=" + s3Key, e);
+        }
+    }
+
+    @Override
+    public boolean existsFile(String s3Key) {
+        return Files.exists(resolve(s3Key));
+    }
+
+    @Override
+    public void deleteFile(String s3Key) {
+        try {
+            Files.deleteIfExists(resolve(s3Key));
+            log.info("[LocalCustomPhotoFileUploader] Deleted file in local storage. s3Key={}", s3Key);
+        } catch (IOException e) {
+            throw new UncheckedIOException("fail local file delete. s3Key=" + s3Key, e);
+        }
+    }
+
+    @Override
+    public void downloadFile(String s3Key, String localDownloadPath) {
+        try {
+            Path downloadPath = Paths.get(localDownloadPath);
+            Files.createDirectories(downloadPath.toAbsolutePath().getParent());
+            Files.copy(resolve(s3Key), downloadPath, StandardCopyOption.REPLACE_EXISTING);
+            log.info("[LocalCustomPhotoFileUploader] Downloaded file from local storage. localPath={}", localDownloadPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("fail local file download. s3Key=" + s3Key, e);
+        }
+    }
+
+    private void copyToStorage(InputStream inputStream, String s3Key) throws IOException {
+        Path target = resolve(s3Key);
+        Files.createDirectories(target.getParent());
+        Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * s3Key 가 저장소 경로 밖을 가리키지 않도록 확인합니다.
+     */
+    private Path resolve(String s3Key) {
+        String relativeKey = s3Key.startsWith("/") ? s3Key.substring(1) : s3Key;
+        Path path = rootPath.resolve(relativeKey).normalize();
+        if (!path.startsWith(rootPath)) {
+            throw new IllegalArgumentException("Invalid s3Key: " + s3Key);
+        }
+        return path;
+    }
+}
@@ -1,10 +1,8 @@
 package com.footballay.core.domain.football.preference.util;
 
-import com.footballay.core.utils.ImageValidator;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -13,15 +11,11 @@ import org.springframework.web.multipart.MultipartFile;
 @Component
 public class PreferenceValidator {
 
-    private final ImageValidator imageValidator;
-
-    private static final MediaType[] CUSTOM_PHOTO_MIME_TYPES = {MediaType.IMAGE_PNG};
-    private static final String[] CUSTOM_PHOTO_CONTENT_TYPES = {MediaType.IMAGE_PNG_VALUE};
-    private static final int CUSTOM_PHOTO_WIDTH = 150;
-    private static final int CUSTOM_PHOTO_HEIGHT = 150;
+    private final CustomPhotoImageInspector customPhotoImageInspector;
 
     /**
      * 선수 커스텀 이미지가 유효한지 확인합니다.
+     * 검증한 파일 내용이 필요하다면 {@link #inspectPlayerCustomPhotoImage(MultipartFile)} 를 사용합니다.
      * @param image 선수 커스텀 이미지
      * @return 유효한 이미지인지 여부
      */
@@ -32,10 +26,7 @@ public class PreferenceValidator {
         }
 
         try{
-            imageValidator.validateFileNotEmpty(image);
-            imageValidator.validateContentType(image, CUSTOM_PHOTO_CONTENT_TYPES);
-            imageValidator.validateFileSignature(image, CUSTOM_PHOTO_MIME_TYPES);
-            imageValidator.validateImageDimensions(image, CUSTOM_PHOTO_WIDTH, CUSTOM_PHOTO_HEIGHT);
+            customPhotoImageInspector.inspect(image);
         } catch (IllegalArgumentException e) {
             log.error("Invalid image file", e);
             return false;
@@ -43,4 +34,18 @@ public class PreferenceValidator {
         return true;
     }
 
+    /**
+     * 선수 커스텀 이미지를 한 번만 읽어서 검증하고, 읽은 내용과 해시를 반환합니다.
+     * @param image 선수 커스텀 이미지
+     * @throws IllegalArgumentException 유효한 이미지가 아닌 경우
+     */
+    public CustomPhotoImageInspector.InspectedPhoto inspectPlayerCustomPhotoImage(@NotNull MultipartFile image) {
+        try {
+            return customPhotoImageInspector.inspect(image);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid image file. cause={}", e.getMessage());
+            throw new IllegalArgumentException("Invalid custom photo", e);
+        }
+    }
+
 }
@@ -4,8 +4,11 @@ import com.footballay.core.domain.football.persistence.Player;
 import com.footballay.core.domain.football.persistence.Team;
 import com.footballay.core.domain.football.persistence.relations.TeamPlayer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,5 +22,14 @@ public interface TeamPlayerRepository extends JpaRepository<TeamPlayer, Long>{
     Optional<TeamPlayer> findByTeamAndPlayer(Team team, Player player);
 
     List<TeamPlayer> findTeamsByPlayer(Player player);
+
+    /**
+     * 여러 팀의 선수단을 한 번에 조회합니다.
+     */
+    @Query("SELECT tp FROM TeamPlayer tp " +
+            "JOIN FETCH tp.team t " +
+            "JOIN FETCH tp.player p " +
+            "WHERE tp.team.id IN :teamIds")
+    List<TeamPlayer> findAllWithPlayerByTeamIds(@Param("teamIds") Collection<Long> teamIds);
     // void deleteByPlayer(_Player player);
 }
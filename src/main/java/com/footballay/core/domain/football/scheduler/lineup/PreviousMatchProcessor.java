@@ -1,5 +1,6 @@
 package com.footballay.core.domain.football.scheduler.lineup;
 
+import com.footballay.core.config.datasource.UsePrimaryDataSource;
 import com.footballay.core.domain.football.external.fetch.ApiCallService;
 import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse;
 import com.footballay.core.domain.football.external.lineup.LineupService;
@@ -27,6 +28,7 @@ import org.springframework.stereotype.Service;
  */
 @Slf4j
 @RequiredArgsConstructor
+@UsePrimaryDataSource
 @Service
 public class PreviousMatchProcessor implements PreviousMatchTask {
 
@@ -1,5 +1,6 @@
 package com.footballay.core.domain.football.scheduler.live;
 
+import com.footballay.core.config.datasource.UsePrimaryDataSource;
 import com.footballay.core.domain.football.persistence.Fixture;
 import com.footballay.core.domain.football.service.FootballDataService;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
 
 @Slf4j
 @RequiredArgsConstructor
+@UsePrimaryDataSource
 @Transactional
 @Component
 public class CheckPostJobDeleteImpl implements CheckPostJobDelete {
@@ -23,6 +23,8 @@ public class LiveMatchJobSchedulerService {
     private static final int POST_FINISH_MAX_REPEAT_COUNT = POST_FINISH_MAX_REPEAT_TIME_SEC / POST_FINISH_INTERVAL_SEC;
 
     private final Scheduler scheduler;
+    private final LiveMatchMetrics liveMatchMetrics;
+    private final LiveSectionHashStore liveSectionHashStore;
 
     public void addJob(Long fixtureId, ZonedDateTime jobStartTime) throws SchedulerException {
         String jobName = FootballSchedulerName.liveMatchJob(fixtureId);
@@ -44,6 +46,7 @@ public class LiveMatchJobSchedulerService {
                         .withMisfireHandlingInstructionNowWithRemainingCount())
                 .build();
 
+        liveSectionHashStore.remove(fixtureId);
         scheduler.scheduleJob(jobDetail, trigger);
         log.info("addJob :: jobName={}, triggerName={}, groupName={}, startAt={}",
                 jobName, triggerName, groupName, startTime);
@@ -53,6 +56,8 @@ public class LiveMatchJobSchedulerService {
         String jobName = FootballSchedulerName.liveMatchJob(fixtureId);
         String jobGroup = FootballSchedulerName.fixtureGroup();
         scheduler.deleteJob(new JobKey(jobName, jobGroup));
+        liveMatchMetrics.removeFixture(fixtureId);
+        liveSectionHashStore.remove(fixtureId);
         log.info("removeJob :: jobName={}, jobGroup={}", jobName, jobGroup);
     }
 
@@ -0,0 +1,229 @@
+package com.footballay.core.domain.football.scheduler.live;
+
+import com.footballay.core.config.datasource.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 라이브 경기 tick 의 단계별 소요 시간과 경기별 상태를 Micrometer 로 기록합니다. <br>
+ * tick 한 번은 {@link #startTick(long)} 으로 시작해서 {@link #success(Tick)} 또는 {@link #failure(Tick)} 로 끝납니다. <br>
+ * 단계별 소요 시간은 tick 안에 모아두었다가 tick 이 끝날 때 league 태그와 함께 기록합니다.
+ * 리그 ID 는 응답을 디코딩한 뒤에야 알 수 있기 때문입니다. <br>
+ *
+ * <h3>태그</h3>
+ * 태그의 cardinality 를 제한하기 위해 fixture ID 는 태그로 사용하지 않고 league 까지만 사용합니다.
+ * 경기별 상태(마지막 성공 이후 경과 시간, 연속 실패 횟수, 이벤트 수)는 내부적으로 경기별로 보관하고, 리그 단위로 집계한 gauge 로 노출합니다. <br>
+ * 리그를 아직 알 수 없는 경기(첫 tick 이 디코딩 전에 실패한 경우)는 {@link #UNKNOWN_LEAGUE} 로 기록됩니다. <br>
+ * 경기별 상태는 경기가 종료되거나 live job 에서 제거될 때 {@link #removeFixture(long)} 로 정리합니다.
+ * job 이 최대 반복 횟수를 채워 조용히 끝나는 경우를 대비해, {@link #STALE_FIXTURE_MINUTES} 분 동안 tick 이 없던 경기도 다음 tick 시작 시 정리합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class LiveMatchMetrics {
+
+    static final String STAGE_TIMER = "football.live.tick.stage";
+    static final String TICK_TIMER = "football.live.tick";
+    static final String TICK_SQL_STATEMENTS = "football.live.tick.sql.statements";
+    static final String LAST_SUCCESS_AGE = "football.live.fixture.last.success.age";
+    static final String CONSECUTIVE_FAILURES = "football.live.fixture.consecutive.failures";
+    static final String EVENTS = "football.live.fixture.events";
+
+    static final String UNKNOWN_LEAGUE = "unknown";
+
+    static final long STALE_FIXTURE_MINUTES = 30;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, FixtureState> fixtureStates = new ConcurrentHashMap<>();
+    private final Set<String> leaguesWithGauges = ConcurrentHashMap.newKeySet();
+
+    public enum Stage {
+        API_FETCH("api_fetch"),
+        JSON_DECODE("json_decode"),
+        LINEUP_CHECK("lineup_check"),
+        EVENT_SAVE("event_save"),
+        TEAM_STATS("team_stats"),
+        PLAYER_STATS("player_stats"),
+        LIVE_STATUS("live_status");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+
+    /**
+     * 경기 하나에 대한 tick 측정을 시작합니다. 현재 스레드의 SQL 문 집계도 함께 시작됩니다.
+     */
+    public Tick startTick(long fixtureId) {
+        long startNanos = now();
+        removeStaleFixtures(startNanos);
+        FixtureState state = fixtureStates.computeIfAbsent(fixtureId, id -> new FixtureState(startNanos));
+        state.lastTickNanos = startNanos;
+        SqlStatementCounter.start();
+        return new Tick(fixtureId, state, startNanos);
+    }
+
+    public void success(Tick tick) {
+        tick.state.lastSuccessNanos = now();
+        tick.state.consecutiveFailures = 0;
+        finish(tick, "success");
+    }
+
+    public void failure(Tick tick) {
+        tick.state.consecutiveFailures++;
+        finish(tick, "failure");
+    }
+
+    /**
+     * 더 이상 tick 이 발생하지 않는 경기의 상태를 정리합니다.
+     * 경기가 종료(연기, 취소, 중단 포함)되었거나 live job 이 제거된 경우 호출합니다.
+     */
+    public void removeFixture(long fixtureId) {
+        fixtureStates.remove(fixtureId);
+    }
+
+    private void removeStaleFixtures(long nowNanos) {
+        long staleNanos = TimeUnit.MINUTES.toNanos(STALE_FIXTURE_MINUTES);
+        fixtureStates.values().removeIf(state -> nowNanos - state.lastTickNanos > staleNanos);
+    }
+
+    private void finish(Tick tick, String outcome) {
+        int sqlStatements = SqlStatementCounter.stop();
+        String league = tick.state.league;
+        registerLeagueGaugesIfAbsent(league);
+
+        tick.stageNanos.forEach((stage, nanos) -> Timer.builder(STAGE_TIMER)
+                .tag("stage", stage.tagValue)
+                .tag("league", league)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS));
+
+        Timer.builder(TICK_TIMER)
+                .tag("league", league)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(now() - tick.startNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder(TICK_SQL_STATEMENTS)
+                .tag("league", league)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(sqlStatements);
+    }
+
+    private void registerLeagueGaugesIfAbsent(String league) {
+        if (!leaguesWithGauges.add(league)) {
+            return;
+        }
+        Gauge.builder(LAST_SUCCESS_AGE, this, metrics -> metrics.maxOfLeague(league,
+                        state -> TimeUnit.NANOSECONDS.toMillis(metrics.now() - state.lastSuccessNanos) / 1000.0))
+                .tag("league", league)
+                .baseUnit("seconds")
+                .description("리그의 라이브 경기 중 마지막 성공 tick 이후 가장 오래 지난 시간")
+                .register(meterRegistry);
+        Gauge.builder(CONSECUTIVE_FAILURES, this, metrics -> metrics.maxOfLeague(league, state -> state.consecutiveFailures))
+                .tag("league", league)
+                .description("리그의 라이브 경기 중 가장 많이 연속 실패한 횟수")
+                .register(meterRegistry);
+        Gauge.builder(EVENTS, this, metrics -> metrics.sumOfLeague(league, state -> state.eventCount))
+                .tag("league", league)
+                .description("리그의 라이브 경기 이벤트 수 합계")
+                .register(meterRegistry);
+    }
+
+    private double maxOfLeague(String league, ToDoubleFunction<FixtureState> valueFunction) {
+        return fixtureStates.values().stream()
+                .filter(state -> league.equals(state.league))
+                .mapToDouble(valueFunction)
+                .max()
+                .orElse(0);
+    }
+
+    private double sumOfLeague(String league, ToDoubleFunction<FixtureState> valueFunction) {
+        return fixtureStates.values().stream()
+                .filter(state -> league.equals(state.league))
+                .mapToDouble(valueFunction)
+                .sum();
+    }
+
+    private long now() {
+        return meterRegistry.config().clock().monotonicTime();
+    }
+
+    private static class FixtureState {
+        private volatile String league = UNKNOWN_LEAGUE;
+        private volatile long lastTickNanos;
+        private volatile long lastSuccessNanos;
+        private volatile int consecutiveFailures;
+        private volatile int eventCount;
+
+        private FixtureState(long createdNanos) {
+            // 한 번도 성공하지 못한 경기는 처음 tick 을 시작한 시점부터 경과 시간을 잽니다.
+            this.lastSuccessNanos = createdNanos;
+            this.lastTickNanos = createdNanos;
+        }
+    }
+
+    /**
+     * 진행 중인 tick 하나의 측정 값입니다. tick 을 수행하는 스레드 안에서만 사용합니다.
+     */
+    public class Tick {
+        private final long fixtureId;
+        private final FixtureState state;
+        private final long startNanos;
+        private final Map<Stage, Long> stageNanos = new EnumMap<>(Stage.class);
+
+        private Tick(long fixtureId, FixtureState state, long startNanos) {
+            this.fixtureId = fixtureId;
+            this.state = state;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * 단계를 수행하고 소요 시간을 기록합니다. 예외가 발생해도 소요 시간은 기록됩니다.
+         */
+        public <T> T record(Stage stage, Supplier<T> task) {
+            long start = now();
+            try {
+                return task.get();
+            } finally {
+                stageNanos.merge(stage, now() - start, Long::sum);
+            }
+        }
+
+        public void record(Stage stage, Runnable task) {
+            record(stage, () -> {
+                task.run();
+                return null;
+            });
+        }
+
+        public void league(long leagueId) {
+            state.league = String.valueOf(leagueId);
+        }
+
+        public void eventCount(int eventCount) {
+            state.eventCount = eventCount;
+        }
+
+        public long getFixtureId() {
+            return fixtureId;
+        }
+    }
+}
@@ -1,33 +1,37 @@
 package com.footballay.core.domain.football.scheduler.live;
 
+import com.footballay.core.config.datasource.UsePrimaryDataSource;
 import com.footballay.core.domain.football.external.fetch.ApiCallService;
+import com.footballay.core.domain.football.external.fetch.DecodedFixtureSingle;
+import com.footballay.core.domain.football.external.fetch.FixtureSingleStreamDecoder;
+import com.footballay.core.domain.football.external.fetch.FixtureSingleStreamDecoder.Section;
+import com.footballay.core.domain.football.external.fetch.ResponseBodyBuffer;
 import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse;
-import com.footballay.core.domain.football.external.lineup.LineupService;
-import com.footballay.core.domain.football.external.live.LiveFixtureEventService;
-import com.footballay.core.domain.football.external.live.PlayerStatisticsService;
-import com.footballay.core.domain.football.external.live.TeamStatisticsService;
 import com.footballay.core.domain.football.persistence.Fixture;
 import com.footballay.core.domain.football.persistence.live.MatchLineup;
 import com.footballay.core.domain.football.persistence.live.MatchPlayer;
-import com.footballay.core.domain.football.service.FixtureDataIntegrityService;
-import jakarta.validation.constraints.NotNull;
+import com.footballay.core.domain.football.scheduler.live.LiveMatchMetrics.Stage;
+import com.footballay.core.domain.football.scheduler.live.LiveMatchMetrics.Tick;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @RequiredArgsConstructor
+@UsePrimaryDataSource
 @Service
 public class LiveMatchProcessor implements LiveMatchTask {
 
     private final ApiCallService apiCallService;
+    private final FixtureSingleStreamDecoder fixtureSingleDecoder;
+    private final LiveMatchTickService liveMatchTickService;
 
-    private final FixtureDataIntegrityService fixtureDataIntegrityService;
-    private final LineupService lineupService;
-
-    private final LiveFixtureEventService liveFixtureService;
-    private final TeamStatisticsService teamStatisticsService;
-    private final PlayerStatisticsService playerStatisticsService;
+    private final LiveMatchMetrics liveMatchMetrics;
+    private final LiveSectionHashStore liveSectionHashStore;
 
     /**
      * `fixtureId` 를 받아서 해당 경기의 라이브 정보를 캐싱합니다. <br>
@@ -35,6 +39,10 @@ public class LiveMatchProcessor implements LiveMatchTask {
      * 라이브 캐싱은 경기 시작 부터 경기가 진행되는 동안 Polling 하여 데이터를 업데이트 합니다. <br>
      * 해당 {@link Fixture} 의 {@link MatchLineup} 이 아직 캐싱되지 않았다면 캐싱을 시도하지 않고 시행을 넘깁니다. <br>
      * 이는 라이브 정보 Task 가 시행되기 이전에, {@link MatchLineup} 의 {@link MatchPlayer} 가 우선 캐싱 될 것을 전제로 하기 때문입니다. <br>
+     * 외부 API 요청과 디코딩을 먼저 끝낸 뒤, {@link LiveMatchTickService} 에서 하나의 트랜잭션으로 모든 섹션을 저장합니다. <br>
+     * 응답은 스레드별 재사용 버퍼에 받아서 {@link FixtureSingleStreamDecoder} 로 디코딩하며,
+     * 마지막으로 저장에 성공한 tick 과 해시가 같은 섹션은 바인딩하지 않습니다. 해시는 {@link LiveSectionHashStore} 에 보관합니다. <br>
+     * 각 단계의 소요 시간과 tick 결과는 {@link LiveMatchMetrics} 로 기록됩니다. <br>
      * @param fixtureId 경기 ID
      * @return live status 에 따라서 경기가 끝났는지 여부. 끝나면 true
      */
@@ -42,110 +50,73 @@ public class LiveMatchProcessor implements LiveMatchTask {
     public boolean requestAndSaveLiveMatchData(long fixtureId) {
         log.info("fixtureId={} live fixture cache started", fixtureId);
         boolean isFinished = false;
+        Tick tick = liveMatchMetrics.startTick(fixtureId);
         try {
-            FixtureSingleResponse fixtureSingleResponse = requestData(fixtureId);
-            isFinished = saveDataAndIsFinished(fixtureSingleResponse);
+            DecodedFixtureSingle decoded = requestData(fixtureId, tick);
+            isFinished = saveDataAndIsFinished(decoded, tick);
+            liveMatchMetrics.success(tick);
             log.info("fixtureId={} live data cache done. isFinished={}", fixtureId, isFinished);
         } catch (Exception e) {
+            liveMatchMetrics.failure(tick);
             log.error("fixtureId={} live data cache FAILED. isFinished={}", fixtureId, isFinished, e);
         }
+        if (isFinished) {
+            liveMatchMetrics.removeFixture(fixtureId);
+            liveSectionHashStore.remove(fixtureId);
+        }
         return isFinished;
     }
 
-    private FixtureSingleResponse requestData(long fixtureId) {
-        FixtureSingleResponse response = apiCallService.fixtureSingle(fixtureId);
+    private DecodedFixtureSingle requestData(long fixtureId, Tick tick) {
+        ResponseBodyBuffer buffer = ResponseBodyBuffer.forCurrentThread();
+        tick.record(Stage.API_FETCH, () -> apiCallService.fixtureSingleBody(fixtureId, buffer));
+        if (buffer.size() == 0) {
+            throw new IllegalArgumentException("FixtureSingle 응답이 없습니다. fixtureId=" + fixtureId);
+        }
+        DecodedFixtureSingle decoded = tick.record(Stage.JSON_DECODE, () -> decode(buffer, fixtureId));
         log.info("Successfully got API Response FROM 'ApiCallService' of fixtureId={}", fixtureId);
-        if (response.getResponse().isEmpty()) {
+        FixtureSingleResponse response = decoded.getResponse();
+        if (response.getResponse() == null || response.getResponse().isEmpty()) {
             throw new IllegalArgumentException("FixtureSingle 응답에 Response 데이터가 없습니다. :: \n\n" + response.getResponse());
         }
-        return response;
-    }
-
-    private boolean saveDataAndIsFinished(FixtureSingleResponse response) {
-        log.info("Data Saving is Started");
-        long fixtureId = response.getResponse().get(0).getFixture().getId();
-        checkAndResaveLineupIfNeed(response, fixtureId);
-        saveFixtureLiveData(response);
-        return updateLiveStatusAndIsFinished(response);
+        tick.league(response.getResponse().get(0).getLeague().getId());
+        return decoded;
     }
 
-    private void checkAndResaveLineupIfNeed(FixtureSingleResponse response, long fixtureId) {
-        try{
-            boolean needToReSaveLineup = lineupService.isNeedToCleanUpAndReSaveLineup(response);
-            if(!needToReSaveLineup) {
-                log.info("no need to save Lineup while saving live data");
-                return;
-            }
-            log.info("need to save Lineup while saving live data");
-            cleanUpAndResaveLineup(response, fixtureId);
-        } catch (Exception e) {
-            log.error("Unexpected error while checking and saving Lineup when saving live data. Try to cleanUp and resave :: FixtureId={}", fixtureId, e);
-            cleanUpAndResaveLineup(response, fixtureId);
+    private DecodedFixtureSingle decode(ResponseBodyBuffer buffer, long fixtureId) {
+        try {
+            return fixtureSingleDecoder.decode(buffer.array(), buffer.size());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("FixtureSingle 응답 파싱에 실패했습니다. fixtureId=" + fixtureId, e);
         }
     }
 
     /**
-     * 해당 경기의 기존 라이브 데이터를 정리하고 새로운 라인업 데이터를 다시 저장합니다.
-     * <p>
-     * 기존 라인업 데이터를 새로 저장해야 할 때 호출됩니다.
-     * 먼저 경기와 관련된 기존 라이브 데이터를 정리한 후, 새로운 라인업 데이터를 저장합니다.
-     * 라인업이 완전하고(모든 선수가 등록됨) 성공적으로 저장되면 true 를 반환합니다.
-     * </p>
-     *
-     * @param response 새로운 라인업 데이터를 포함하는 FixtureSingleResponse
-     * @param fixtureId 경기의 ID
+     * tick 을 하나의 트랜잭션으로 저장합니다. <br>
+     * 마지막으로 저장에 성공한 tick 과 해시가 다른 섹션만 저장 대상으로 넘깁니다. <br>
+     * 저장 중 예외가 발생하면 tick 전체가 롤백되므로, 기존 라이브 데이터를 모두 지우고 다시 저장하는 트랜잭션을 한 번 더 시도합니다.
+     * 다시 저장하는 트랜잭션도 실패하면 예외를 그대로 던지고, 해당 tick 의 변경 사항은 반영되지 않습니다.
+     * @return isFinished 경기 종료시 true
      */
-    private void cleanUpAndResaveLineup(FixtureSingleResponse response, long fixtureId) {
-        fixtureDataIntegrityService.cleanUpFixtureLiveData(fixtureId);
-        try {
-            lineupService.saveLineup(response);
-        } catch (IllegalStateException e) {
-            log.info("fixtureId={} need to save Lineup again because of {}", fixtureId, e.getMessage());
-            fixtureDataIntegrityService.cleanUpFixtureLiveData(fixtureId);
-            lineupService.saveLineup(response);
-        } catch (Exception e) {
-            log.error("Unexpected error while checking and saving Lineup when saving live data. Try to cleanUp and resave :: FixtureId={}", fixtureId, e);
-        }
-    }
-
-    private void saveFixtureLiveData(@NotNull FixtureSingleResponse response) {
-        assert !response.getResponse().isEmpty();
-        long fixtureId = response.getResponse().get(0).getFixture().getId();
-        try {
-            log.info("fixtureId={} has live fixture data. caching events will be started", fixtureId);
-            liveFixtureService.saveLiveEvent(response);
-        } catch (Exception e) {
-            // 저장된 fixture 의 live Event Entity 들을 다시 삭제하고, response 를 기반을 전부 다시 저장 시도
-            log.error("Unexpected error while saving LiveFixtureEvent :: FixtureId={}", fixtureId, e);
-            liveFixtureService.resolveFixtureEventIntegrityError(response);
-            log.info("Resolved Unexpected error while saving LiveFixtureEvent :: FixtureId={}", fixtureId);
-            log.info("Removed Previous Saved FixtureEvent Entities and Re-Saved All Events :: FixtureId={}", fixtureId);
-        }
+    private boolean saveDataAndIsFinished(DecodedFixtureSingle decoded, Tick tick) {
+        log.info("Data Saving is Started");
+        long fixtureId = decoded.getResponse().getResponse().get(0).getFixture().getId();
+        Set<Section> changedSections = decoded.changedSectionsSince(liveSectionHashStore.get(fixtureId));
+        log.info("fixtureId={} changed sections since last tick={}", fixtureId, changedSections);
+        boolean isFinished;
         try {
-            log.info("fixtureId={} has live fixture data. caching team statistics will be started", fixtureId);
-            teamStatisticsService.saveTeamStatistics(response);
+            isFinished = liveMatchTickService.applyTick(decoded, changedSections, tick);
         } catch (Exception e) {
-            log.error("Unexpected error while saving TeamStatistics :: FixtureId={}", fixtureId, e);
-            log.info("Try to remove Previous Saved TeamStatistics Entities :: FixtureId={}", fixtureId);
-            teamStatisticsService.removeTeamStatistics(fixtureId);
-            log.info("Resave team statistics because of unexpected error :: FixtureId={}", fixtureId);
-            teamStatisticsService.saveTeamStatistics(response);
-            log.info("successfully resolved and resaved team statistics from unexpected error :: FixtureId={}", fixtureId);
+            log.error("Unexpected error while saving live data. tick is rolled back, try to clean up and resave :: FixtureId={}", fixtureId, e);
+            isFinished = liveMatchTickService.applyTickWithFullResave(decoded, tick);
+            log.info("successfully resolved and resaved live data from unexpected error :: FixtureId={}", fixtureId);
         }
-        try {
-            log.info("fixtureId={} has live fixture data. caching player statistics will be started", fixtureId);
-            playerStatisticsService.savePlayerStatistics(response);
-            log.info("success to save player statistics :: FixtureId={}", fixtureId);
-        } catch (Exception e) {
-            log.error("Unexpected error while saving PlayerStatistics :: FixtureId={}", fixtureId, e);
+        liveSectionHashStore.commit(fixtureId, decoded.getSectionHashes());
+        // 이벤트가 바뀌지 않아 바인딩하지 않았다면 이전 tick 의 이벤트 수가 그대로 유지됩니다
+        List<FixtureSingleResponse._Events> events = decoded.getResponse().getResponse().get(0).getEvents();
+        if (events != null) {
+            tick.eventCount(events.size());
         }
-    }
-
-    /**
-     * 라이브 상태의 fixture 에 대한 처리 작업을 수행합니다.
-     * @return isFinished 경기 종료시 true
-     */
-    private boolean updateLiveStatusAndIsFinished(FixtureSingleResponse response) {
-        return liveFixtureService.updateLiveStatus(response);
+        return isFinished;
     }
 }
@@ -0,0 +1,122 @@
+package com.footballay.core.domain.football.scheduler.live;
+
+import com.footballay.core.domain.football.external.fetch.DecodedFixtureSingle;
+import com.footballay.core.domain.football.external.fetch.FixtureSingleStreamDecoder.Section;
+import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse;
+import com.footballay.core.domain.football.external.lineup.LineupService;
+import com.footballay.core.domain.football.external.live.LiveFixtureEventService;
+import com.footballay.core.domain.football.external.live.PlayerStatisticsService;
+import com.footballay.core.domain.football.external.live.TeamStatisticsService;
+import com.footballay.core.domain.football.scheduler.live.LiveMatchMetrics.Stage;
+import com.footballay.core.domain.football.scheduler.live.LiveMatchMetrics.Tick;
+import com.footballay.core.domain.football.service.FixtureDataIntegrityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+/**
+ * 라이브 경기 tick 하나를 하나의 트랜잭션으로 저장합니다. <br>
+ * 라인업, 이벤트, 팀 통계, 선수 통계, 라이브 상태를 모두 같은 트랜잭션 안에서 저장하므로
+ * tick 한 번에 커넥션을 한 번만 사용하고, 일부 섹션만 반영된 채로 tick 이 끝나는 일이 없습니다. <br>
+ * 같은 영속성 컨텍스트를 공유하므로 각 섹션에서 반복되는 경기/팀 조회는 1차 캐시에서 처리됩니다. <br>
+ * 외부 API 요청과 JSON 디코딩은 트랜잭션을 열기 전에 {@link LiveMatchProcessor} 에서 끝내야 합니다. <br>
+ *
+ * <h3>변경된 섹션만 저장</h3>
+ * 직전 tick 과 해시가 같은 섹션은 바인딩하지도, 저장하지도 않습니다. 단, 아래 경우는 항상 처리합니다.
+ * <ul>
+ *     <li>팀 통계 : 기대 득점(xG)을 경과 시간별로 기록하므로 통계가 같아도 매 tick 저장합니다.</li>
+ *     <li>라이브 상태 : 경과 시간과 스코어는 매 tick 갱신합니다.</li>
+ *     <li>라인업을 다시 저장한 경우 : 이벤트와 선수 통계가 함께 정리되므로 모두 다시 저장합니다.</li>
+ * </ul>
+ *
+ * <h3>실패 처리</h3>
+ * 트랜잭션 안에서 예외가 발생하면 tick 전체가 롤백됩니다.
+ * 호출자는 {@link #applyTickWithFullResave(DecodedFixtureSingle, Tick)} 로 기존 라이브 데이터를 모두 지우고 다시 저장하는 트랜잭션을 한 번 더 시도할 수 있습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class LiveMatchTickService {
+
+    private final FixtureDataIntegrityService fixtureDataIntegrityService;
+    private final LineupService lineupService;
+
+    private final LiveFixtureEventService liveFixtureService;
+    private final TeamStatisticsService teamStatisticsService;
+    private final PlayerStatisticsService playerStatisticsService;
+
+    /**
+     * 기존 저장 데이터와 응답을 비교해서 변경된 부분만 반영합니다.
+     * @param changedSections 마지막으로 저장에 성공한 tick 과 해시가 다른 섹션
+     * @return 경기가 끝났으면 true
+     */
+    public boolean applyTick(DecodedFixtureSingle decoded, Set<Section> changedSections, Tick tick) {
+        FixtureSingleResponse response = decoded.getResponse();
+        long fixtureId = response.getResponse().get(0).getFixture().getId();
+
+        boolean lineupResaved = false;
+        if (changedSections.contains(Section.LINEUPS)) {
+            decoded.bind(Section.LINEUPS);
+            lineupResaved = tick.record(Stage.LINEUP_CHECK, () -> resaveLineupIfNeed(response, fixtureId));
+        }
+        if (lineupResaved || changedSections.contains(Section.EVENTS)) {
+            // 이벤트 저장 시 라인업에 없는 선수를 구분하기 위해 라인업도 필요합니다
+            decoded.bind(Section.EVENTS, Section.LINEUPS);
+            tick.record(Stage.EVENT_SAVE, () -> liveFixtureService.saveLiveEvent(response));
+        }
+        decoded.bind(Section.STATISTICS);
+        tick.record(Stage.TEAM_STATS, () -> teamStatisticsService.saveTeamStatistics(response));
+        if (lineupResaved || changedSections.contains(Section.PLAYERS)) {
+            decoded.bind(Section.PLAYERS);
+            tick.record(Stage.PLAYER_STATS, () -> playerStatisticsService.savePlayerStatistics(response));
+        }
+        return tick.record(Stage.LIVE_STATUS, () -> liveFixtureService.updateLiveStatus(response));
+    }
+
+    /**
+     * 경기의 라인업, 이벤트, 선수 통계, 팀 통계를 모두 지우고 응답을 기준으로 다시 저장합니다. <br>
+     * {@link #applyTick(DecodedFixtureSingle, Set, Tick)} 가 저장된 데이터와 응답의 불일치로 실패했을 때 사용합니다.
+     * @return 경기가 끝났으면 true
+     */
+    public boolean applyTickWithFullResave(DecodedFixtureSingle decoded, Tick tick) {
+        FixtureSingleResponse response = decoded.bindAll();
+        long fixtureId = response.getResponse().get(0).getFixture().getId();
+        log.info("fixtureId={} clean up live data and resave all sections", fixtureId);
+        tick.record(Stage.LINEUP_CHECK, () -> cleanUpAndResaveLineup(response, fixtureId));
+        tick.record(Stage.EVENT_SAVE, () -> liveFixtureService.saveLiveEvent(response));
+        tick.record(Stage.TEAM_STATS, () -> {
+            teamStatisticsService.removeTeamStatistics(fixtureId);
+            teamStatisticsService.saveTeamStatistics(response);
+        });
+        tick.record(Stage.PLAYER_STATS, () -> playerStatisticsService.savePlayerStatistics(response));
+        return tick.record(Stage.LIVE_STATUS, () -> liveFixtureService.updateLiveStatus(response));
+    }
+
+    /**
+     * @return 라인업을 정리하고 다시 저장했다면 true
+     */
+    private boolean resaveLineupIfNeed(FixtureSingleResponse response, long fixtureId) {
+        if (!lineupService.isNeedToCleanUpAndReSaveLineup(response)) {
+            log.info("no need to save Lineup while saving live data");
+            return false;
+        }
+        log.info("need to save Lineup while saving live data");
+        cleanUpAndResaveLineup(response, fixtureId);
+        return true;
+    }
+
+    /**
+     * 경기의 이벤트와 라인업을 정리하고, 응답에 라인업이 있다면 다시 저장합니다.
+     * 같은 트랜잭션 안에서 정리한 뒤 저장하므로 이전 라인업이 남아있어 저장에 실패하는 경우는 없습니다.
+     */
+    private void cleanUpAndResaveLineup(FixtureSingleResponse response, long fixtureId) {
+        fixtureDataIntegrityService.cleanUpFixtureLiveData(fixtureId);
+        if (lineupService.existLineupDataInResponse(response)) {
+            lineupService.saveLineup(response);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.footballay.core.domain.football.scheduler.live;
+
+import com.footballay.core.domain.football.external.fetch.FixtureSingleStreamDecoder.Section;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경기별로 마지막으로 저장에 성공한 라이브 tick 의 섹션 해시를 보관합니다. <br>
+ * {@link LiveMatchProcessor} 는 이 해시와 같은 섹션은 저장하지 않으므로, 저장된 라이브 데이터가 지워지면 해시도 함께 지워야 합니다.
+ * 해시만 남아있으면 다음 tick 에서 변경이 없다고 판단해 라인업, 이벤트, 선수 통계를 다시 저장하지 않습니다. <br>
+ * 라이브 데이터를 정리할 때({@code FixtureDataIntegrityService}), live job 을 등록하거나 제거할 때, 경기가 끝났을 때 {@link #remove(long)} 를 호출합니다.
+ */
+@Component
+public class LiveSectionHashStore {
+
+    private final Map<Long, Map<Section, Long>> committedSectionHashes = new ConcurrentHashMap<>();
+
+    /**
+     * @return 마지막으로 저장에 성공한 tick 의 섹션 해시. 없으면 null
+     */
+    @Nullable
+    public Map<Section, Long> get(long fixtureId) {
+        return committedSectionHashes.get(fixtureId);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 tick 의 섹션 해시를 기록합니다. 롤백된 tick 의 해시는 기록하면 안 됩니다.
+     */
+    public void commit(long fixtureId, Map<Section, Long> sectionHashes) {
+        committedSectionHashes.put(fixtureId, sectionHashes);
+    }
+
+    public void remove(long fixtureId) {
+        committedSectionHashes.remove(fixtureId);
+    }
+}
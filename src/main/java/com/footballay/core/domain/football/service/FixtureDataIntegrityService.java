@@ -7,6 +7,7 @@ import com.footballay.core.domain.football.repository.live.FixtureEventRepositor
 import com.footballay.core.domain.football.repository.live.MatchLineupRepository;
 import com.footballay.core.domain.football.repository.live.MatchPlayerRepository;
 import com.footballay.core.domain.football.repository.live.PlayerStatisticsRepository;
+import com.footballay.core.domain.football.scheduler.live.LiveSectionHashStore;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,7 @@ import java.util.Optional;
  *
  * {@link LiveStatus} 는 라이브 데이터의 성격을 띌 수 있으나, 단순한 경기결과임과 더불어 FixtureCaching 과정에서 저장되므로 삭제하지 않습니다. <br>
  * 즉 {@link LiveStatus} 는 Fixture 라이브 Job 데이터가 아니라 Fixture 결과 데이터로 간주합니다. <br>
+ * 라이브 데이터를 정리하면 {@link LiveSectionHashStore} 의 섹션 해시도 함께 지워서, 다음 live tick 이 모든 섹션을 다시 저장하도록 합니다. <br>
  * @see MatchLineup
  * @see MatchPlayer
  * @see FixtureEvent
@@ -41,7 +43,10 @@ public class FixtureDataIntegrityService {
     private final FixtureEventRepository fixtureEventRepository;
     private final PlayerStatisticsRepository playerStatisticsRepository;
 
+    private final LiveSectionHashStore liveSectionHashStore;
+
     public void cleanUpFixtureLiveData(long fixtureId) {
+        liveSectionHashStore.remove(fixtureId);
         Optional<Fixture> optionalFixture = fixtureRepository.findByIdWithAllAssociations(fixtureId);
         if(optionalFixture.isEmpty()) {
             log.info("can not find fixture while cleanUpFixtureLiveData :: fixtureId={}", fixtureId);
@@ -62,6 +67,7 @@ public class FixtureDataIntegrityService {
 
         long fixtureId = fixture.getFixtureId();
         log.info("start cleanUpFixtureLiveData :: fixtureId={}", fixtureId);
+        liveSectionHashStore.remove(fixtureId);
 
         List<MatchLineup> lineups = fixture.getLineups();
         List<FixtureEvent> fixtureEvents = fixture.getEvents();
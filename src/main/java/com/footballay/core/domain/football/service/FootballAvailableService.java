@@ -39,6 +39,7 @@ public class FootballAvailableService {
         leagueRepository.save(league);
     }
 
+    @Transactional(readOnly = true)
     public List<League> getAvailableLeagues() {
         log.info("getAvailableLeagues");
         List<League> leagues = leagueRepository.findAllByAvailableOrderByCreatedDateDesc(true);
@@ -82,6 +83,7 @@ public class FootballAvailableService {
      * @param matchDateFrom 포함하여 가장 가까운 날짜에 있는 모든 경기일정 조회
      * @return 해당 날짜에 있는 모든 경기일정
      */
+    @Transactional(readOnly = true)
     public List<Fixture> findAvailableFixturesOnNearestDate(long leagueId, ZonedDateTime matchDateFrom) {
         LocalDateTime localDateTime = toLocalDateTimeTruncated(matchDateFrom);
         League league = getLeagueById(leagueId);
@@ -109,6 +111,7 @@ public class FootballAvailableService {
         return availableFixturesOfNearestDate;
     }
 
+    @Transactional(readOnly = true)
     public List<Fixture> findAvailableFixturesOnDate(long leagueId, ZonedDateTime matchDate) {
         LocalDateTime localDateTime = toLocalDateTimeTruncated(matchDate);
         League league = getLeagueById(leagueId);
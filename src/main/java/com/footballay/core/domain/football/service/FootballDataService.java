@@ -1,5 +1,8 @@
 package com.footballay.core.domain.football.service;
 
+import com.footballay.core.domain.football.dto.PlayerDetailChangeDto;
+import com.footballay.core.domain.football.dto.PlayerDetailUpdateDto;
+import com.footballay.core.domain.football.dto.PlayerDetailUpdateResultDto;
 import com.footballay.core.domain.football.persistence.Fixture;
 import com.footballay.core.domain.football.persistence.League;
 import com.footballay.core.domain.football.persistence.Player;
@@ -29,10 +32,22 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
-
+import java.util.stream.Collectors;
+
+/**
+ * 조회 메서드는 {@code @Transactional(readOnly = true)} 로 선언합니다. <br>
+ * replica DataSource 가 설정된 경우 readOnly 트랜잭션은 replica 로 라우팅됩니다.
+ * 이미 진행 중인 쓰기 트랜잭션 안에서 호출되면 해당 트랜잭션에 참여하므로 primary 를 사용합니다.
+ * @see com.footballay.core.config.datasource.ReplicationRoutingDataSource
+ */
 @Slf4j
 @Transactional
 @RequiredArgsConstructor
@@ -64,32 +79,100 @@ public class FootballDataService {
      * @param numOfLeagues 조회할 리그 수 (page size)
      * @return 조회된 리그 리스트
      */
+    @Transactional(readOnly = true)
     public List<League> getLeagues(int numOfLeagues) {
         Page<League> leagues = leagueRepository.findAll(PageRequest.of(0, numOfLeagues, Sort.by(Sort.Order.asc("createdDate"))));
         return leagues.getContent();
     }
 
+    @Transactional(readOnly = true)
     public League findLeagueById(long leagueId) {
         return leagueRepository.findById(leagueId).orElseThrow(LEAGUE_NOT_EXIST_THROW_SUPPLIER);
     }
 
+    @Transactional(readOnly = true)
     public List<Team> getTeamsByLeagueId(long leagueId) {
         League league = leagueRepository.findById(leagueId).orElseThrow(LEAGUE_NOT_EXIST_THROW_SUPPLIER);
         return teamRepository.findTeamsByLeague(league);
     }
 
+    @Transactional(readOnly = true)
     public List<Player> getSquadOfTeam(long teamId) {
         return playerRepository.findAllByTeam(teamId);
     }
 
+    /**
+     * 선수 한글 이름과 등번호를 한 번에 수정합니다. <br>
+     * 대상 선수들을 한 번에 조회하고, 값이 바뀌는 선수만 수정합니다. 수정은 커밋 시 JDBC batch 로 반영됩니다.
+     *
+     * @param updates 수정 요청. 같은 선수가 여러 번 있다면 뒤의 요청이 적용됩니다.
+     * @param dryRun true 라면 변경 내용만 계산하고 수정하지 않습니다
+     * @return 변경 내용과 존재하지 않는 선수 ID
+     */
+    public PlayerDetailUpdateResultDto updatePlayerDetails(List<PlayerDetailUpdateDto> updates, boolean dryRun) {
+        Set<Long> playerIds = updates.stream()
+                .map(PlayerDetailUpdateDto::playerId)
+                .collect(Collectors.toSet());
+        Map<Long, Player> players = playerRepository.findAllById(playerIds).stream()
+                .collect(Collectors.toMap(Player::getId, player -> player));
+
+        List<PlayerDetailChangeDto> changes = new ArrayList<>();
+        List<Long> notFoundPlayerIds = new ArrayList<>();
+        for (PlayerDetailUpdateDto update : updates) {
+            Player player = players.get(update.playerId());
+            if (player == null) {
+                notFoundPlayerIds.add(update.playerId());
+                continue;
+            }
+            String koreanName = update.koreanName() != null && !update.koreanName().isBlank()
+                    ? update.koreanName() : player.getKoreanName();
+            Integer number = update.number() != null && update.number() != 0
+                    ? update.number() : player.getNumber();
+            if (Objects.equals(koreanName, player.getKoreanName()) && Objects.equals(number, player.getNumber())) {
+                continue;
+            }
+            changes.add(new PlayerDetailChangeDto(
+                    player.getId(), player.getName(), player.getKoreanName(), koreanName, player.getNumber(), number));
+            if (!dryRun) {
+                player.setKoreanName(koreanName);
+                player.setNumber(number);
+            }
+        }
+        log.info("player details {}. requested={}, changed={}, notFound={}",
+                dryRun ? "dry-run" : "updated", updates.size(), changes.size(), notFoundPlayerIds.size());
+        return new PlayerDetailUpdateResultDto(changes, notFoundPlayerIds);
+    }
+
+    /**
+     * 여러 팀의 선수단을 한 번의 쿼리로 조회합니다.
+     *
+     * @param teamIds 조회할 팀 ID 목록
+     * @return teamId - 선수단. teamIds 순서를 유지하며 선수가 없는 팀은 빈 리스트를 가집니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Player>> getSquadsOfTeams(List<Long> teamIds) {
+        Map<Long, List<Player>> squads = new LinkedHashMap<>();
+        teamIds.forEach(teamId -> squads.put(teamId, new ArrayList<>()));
+        if (teamIds.isEmpty()) {
+            return squads;
+        }
+        for (TeamPlayer teamPlayer : teamPlayerRepository.findAllWithPlayerByTeamIds(teamIds)) {
+            squads.get(teamPlayer.getTeam().getId()).add(teamPlayer.getPlayer());
+        }
+        return squads;
+    }
+
+    @Transactional(readOnly = true)
     public Fixture getFixtureById(long fixtureId) {
         return findFixtureOrThrow(fixtureId);
     }
 
+    @Transactional(readOnly = true)
     public LiveStatus getFixtureLiveStatus(long fixtureId) {
         return findFixtureOrThrow(fixtureId).getLiveStatus();
     }
 
+    @Transactional(readOnly = true)
     public List<Fixture> findFixturesOnNearestDate(long leagueId, ZonedDateTime matchDateFrom) {
         LocalDateTime localDateTime = toLocalDateTimeTruncated(matchDateFrom);
         League league = getLeagueById(leagueId);
@@ -117,6 +200,7 @@ public class FootballDataService {
         return fixturesOfNearestDate;
     }
 
+    @Transactional(readOnly = true)
     public List<Fixture> findFixturesOnDate(long leagueId, ZonedDateTime matchDate) {
         LocalDateTime localDateTime = toLocalDateTimeTruncated(matchDate);
         League league = getLeagueById(leagueId);
@@ -131,19 +215,23 @@ public class FootballDataService {
         return fixturesByLeagueAndDate;
     }
 
+    @Transactional(readOnly = true)
     public Optional<Player> findPlayerById(long playerId) {
         return playerRepository.findById(playerId);
     }
 
+    @Transactional(readOnly = true)
     public Fixture getFixtureWithEager(long fixtureId) {
         return fixtureRepository.findFixtureByIdWithDetails(fixtureId)
                 .orElseThrow(FIXTURE_NOT_EXIST_THROW_SUPPLIER);
     }
 
+    @Transactional(readOnly = true)
     public List<FixtureEvent> getFixtureEvents(Fixture fixture) {
         return fixtureEventRepository.findByFixtureOrderBySequenceDesc(fixture);
     }
 
+    @Transactional(readOnly = true)
     public Optional<MatchLineup> getStartLineup(Fixture fixture, Team team) {
         return matchLineupRepository.findByFixtureAndTeam(fixture, team);
     }
@@ -186,6 +274,7 @@ public class FootballDataService {
         log.info("PreventUnlink set to {} for player=[{},{}]", preventUnlink, playerId, player.getName());
     }
 
+    @Transactional(readOnly = true)
     public List<Team> getTeamsOfPlayer(long playerId) {
         Player player = playerRepository.findById(playerId)
                 .orElseThrow(PLAYER_NOT_EXIST_THROW_SUPPLIER);
@@ -196,6 +285,7 @@ public class FootballDataService {
         return teamsOfPlayer;
     }
 
+    @Transactional(readOnly = true)
     public Optional<TeamStatistics> getTeamStatistics(Fixture fixture, Team team) {
         return teamStatisticsRepository.findByFixtureAndTeam(fixture, team);
     }
@@ -214,6 +304,7 @@ public class FootballDataService {
         return new FixtureMatchStats(fixture, homeStatistics, awayStatistics, homePlayerStatistics, awayPlayerStatistics);
     }
 
+    @Transactional(readOnly = true)
     public List<MatchPlayer> getPlayerStatistics(Fixture fixture, Team team) {
         return matchPlayerRepository.findMatchPlayerByFixtureAndTeam(fixture, team);
     }
@@ -1,184 +1,241 @@
 package com.footballay.core.domain.football.service;
 
+import com.footballay.core.domain.football.dto.PlayerDetailChangeDto;
+import com.footballay.core.domain.football.dto.PlayerDetailUpdateDto;
+import com.footballay.core.domain.football.dto.PlayerDetailUpdateResultDto;
 import com.footballay.core.domain.football.persistence.Player;
-import com.footballay.core.domain.football.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.util.IOUtils;
+import org.apache.poi.ss.util.WorkbookUtil;
 import org.apache.poi.util.Units;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class FootballExcelService {
 
-    private final PlayerRepository playerRepository;
-    public ByteArrayInputStream createPlayerExcel(List<Player> players) throws IOException {
-        String[] COLUMNs = {"ID", "Name", "Korean Name", "Number", "Photo"};
+    private final FootballDataService footballDataService;
+    private final PlayerPhotoImageFetcher playerPhotoImageFetcher;
 
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    @Value("${football.excel.import.batch-size:500}")
+    private int importBatchSize = 500;
 
-            Sheet sheet = workbook.createSheet("Players");
-
-            // 열 너비 및 행 높이 설정
-            int photoColumnIdx = 4;
-            sheet.setColumnWidth(photoColumnIdx, 30 * 256); // 사진 열 너비 넓게 설정
-            sheet.setColumnWidth(0, 10 * 256); // ID 열 너비
-            sheet.setColumnWidth(1, 20 * 256); // Name 열 너비
-            sheet.setColumnWidth(2, 20 * 256); // Korean Name 열 너비
-            sheet.setColumnWidth(3, 10 * 256); // Number 열 너비
+    private static final String[] PLAYER_COLUMNS = {"ID", "Name", "Korean Name", "Number", "Photo"};
+    private static final int PHOTO_COLUMN_IDX = 4;
+    private static final int PHOTO_SIZE_PX = 100;
+    private static final float ROW_HEIGHT_IN_POINTS = 100;
+    /**
+     * SXSSF 가 메모리에 유지하는 행 수. 나머지 행은 임시 파일로 내보냅니다.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    private static final long PHOTO_WAIT_TIMEOUT_SECONDS = 10;
 
-            int rowHeightInPoints = 100; // 행 높이 (100px)
+    /**
+     * 엑셀 시트 하나에 기록할 선수 목록입니다.
+     * @param name 시트 이름. 엑셀에서 허용하지 않는 문자는 치환됩니다.
+     */
+    public record PlayerSheet(String name, List<Player> players) {
+    }
 
-            // 헤더 생성
-            Row headerRow = sheet.createRow(0);
-            for (int col = 0; col < COLUMNs.length; col++) {
-                Cell cell = headerRow.createCell(col);
-                cell.setCellValue(COLUMNs[col]);
+    /**
+     * 선수 목록을 엑셀로 만들어 출력 스트림에 바로 씁니다. <br>
+     * SXSSF 로 일정 행 수만 메모리에 유지하며, 여러 팀(리그 전체)을 시트별로 한 번에 내보낼 수 있습니다.
+     * 모든 선수 사진을 먼저 동시에 요청해두고, 행을 순서대로 쓰면서 사진을 기다립니다.
+     * 사진을 가져오지 못한 선수는 사진 없이 기록합니다.
+     *
+     * @param sheets 시트별 선수 목록
+     * @param out 엑셀을 쓸 출력 스트림. 닫지 않습니다.
+     */
+    public void writePlayerExcel(List<PlayerSheet> sheets, OutputStream out) throws IOException {
+        List<List<CompletableFuture<Optional<byte[]>>>> photosOfSheets = new ArrayList<>(sheets.size());
+        for (PlayerSheet playerSheet : sheets) {
+            List<CompletableFuture<Optional<byte[]>>> photos = new ArrayList<>(playerSheet.players().size());
+            for (Player player : playerSheet.players()) {
+                photos.add(playerPhotoImageFetcher.fetch(player.getPhotoUrl()));
             }
+            photosOfSheets.add(photos);
+        }
 
-            // 데이터 생성
-            int rowIdx = 1;
-            log.info("excel data write start");
-            for (Player player : players) {
-                Row row = sheet.createRow(rowIdx);
-                row.setHeightInPoints(rowHeightInPoints); // 각 행의 높이 지정
-
-                row.createCell(0).setCellValue(player.getId());
-                row.createCell(1).setCellValue(player.getName());
-                row.createCell(2).setCellValue(player.getKoreanName() != null ? player.getKoreanName() : "");
-                row.createCell(3).setCellValue(player.getNumber() != null ? player.getNumber() : 0);
-
-                // 이미지 삽입
-                if (player.getPhotoUrl() != null && !player.getPhotoUrl().isEmpty()) {
-                    try (InputStream inputStream = new URL(player.getPhotoUrl()).openStream()) {
-                        byte[] bytes = IOUtils.toByteArray(inputStream);
-                        int pictureIdx = workbook.addPicture(bytes, Workbook.PICTURE_TYPE_PNG);
-                        CreationHelper helper = workbook.getCreationHelper();
-                        Drawing<?> drawing = sheet.createDrawingPatriarch();
-
-                        ClientAnchor anchor = helper.createClientAnchor();
-                        anchor.setCol1(photoColumnIdx);
-                        anchor.setRow1(rowIdx);
-                        anchor.setDx1(0);
-                        anchor.setDy1(0);
-                        anchor.setDy2(100 * Units.EMU_PER_PIXEL); // 이미지 높이 100px로 설정
-                        Picture pict = drawing.createPicture(anchor, pictureIdx);
-                        pict.resize(); // width는 자동으로 조정
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    }
-                }
-
-                rowIdx++;
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try {
+            log.info("excel data write start. sheets={}", sheets.size());
+            Set<String> sheetNames = new HashSet<>();
+            for (int i = 0; i < sheets.size(); i++) {
+                Sheet sheet = workbook.createSheet(uniqueSheetName(sheets.get(i).name(), sheetNames));
+                writePlayerSheet(workbook, sheet, sheets.get(i).players(), photosOfSheets.get(i));
             }
-
             workbook.write(out);
             log.info("excel data write end");
-            return new ByteArrayInputStream(out.toByteArray());
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void writePlayerSheet(
+            Workbook workbook,
+            Sheet sheet,
+            List<Player> players,
+            List<CompletableFuture<Optional<byte[]>>> photos
+    ) {
+        sheet.setColumnWidth(0, 10 * 256); // ID 열 너비
+        sheet.setColumnWidth(1, 20 * 256); // Name 열 너비
+        sheet.setColumnWidth(2, 20 * 256); // Korean Name 열 너비
+        sheet.setColumnWidth(3, 10 * 256); // Number 열 너비
+        sheet.setColumnWidth(PHOTO_COLUMN_IDX, 30 * 256); // 사진 열 너비 넓게 설정
+
+        Row headerRow = sheet.createRow(0);
+        for (int col = 0; col < PLAYER_COLUMNS.length; col++) {
+            headerRow.createCell(col).setCellValue(PLAYER_COLUMNS[col]);
+        }
+
+        Drawing<?> drawing = sheet.createDrawingPatriarch();
+        CreationHelper helper = workbook.getCreationHelper();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            int rowIdx = i + 1;
+            Row row = sheet.createRow(rowIdx);
+            row.setHeightInPoints(ROW_HEIGHT_IN_POINTS);
+
+            row.createCell(0).setCellValue(player.getId());
+            row.createCell(1).setCellValue(player.getName());
+            row.createCell(2).setCellValue(player.getKoreanName() != null ? player.getKoreanName() : "");
+            row.createCell(3).setCellValue(player.getNumber() != null ? player.getNumber() : 0);
+
+            awaitPhoto(player, photos.get(i)).ifPresent(bytes -> {
+                int pictureIdx = workbook.addPicture(bytes, Workbook.PICTURE_TYPE_PNG);
+                // 행이 임시 파일로 내보내진 뒤에는 resize() 가 행 높이를 알 수 없으므로 셀 안의 크기를 직접 지정합니다
+                ClientAnchor anchor = helper.createClientAnchor();
+                anchor.setCol1(PHOTO_COLUMN_IDX);
+                anchor.setCol2(PHOTO_COLUMN_IDX);
+                anchor.setRow1(rowIdx);
+                anchor.setRow2(rowIdx);
+                anchor.setDx1(0);
+                anchor.setDy1(0);
+                anchor.setDx2(PHOTO_SIZE_PX * Units.EMU_PER_PIXEL);
+                anchor.setDy2(PHOTO_SIZE_PX * Units.EMU_PER_PIXEL);
+                drawing.createPicture(anchor, pictureIdx);
+            });
+        }
+    }
+
+    private static Optional<byte[]> awaitPhoto(Player player, CompletableFuture<Optional<byte[]>> photo) {
+        try {
+            return photo.get(PHOTO_WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("skip player photo. playerId={}, cause={}", player.getId(), e.toString());
+            return Optional.empty();
         }
     }
 
+    private static String uniqueSheetName(String name, Set<String> usedNames) {
+        String safeName = WorkbookUtil.createSafeSheetName(name == null || name.isBlank() ? "Players" : name);
+        String candidate = safeName;
+        for (int suffix = 2; !usedNames.add(candidate.toLowerCase()); suffix++) {
+            String postfix = " (" + suffix + ")";
+            candidate = safeName.substring(0, Math.min(safeName.length(), 31 - postfix.length())) + postfix;
+        }
+        return candidate;
+    }
+
     /**
      * 엑셀 데이터로 선수 한글 이름과 등번호를 업데이트 합니다.
-     * @param file
-     * @throws IOException
+     * @see #importPlayerDetails(MultipartFile, boolean)
      */
-    public void updatePlayerDetails(MultipartFile file) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            List<Integer> processedRows = new ArrayList<>();
-            List<String> processedKoreanName = new ArrayList<>();
-            Sheet sheet = workbook.getSheetAt(0);
-            log.info("sheet row count : {}", sheet.getPhysicalNumberOfRows());
-            for (Row row : sheet) {
-                if (row.getRowNum() == 0) {
-                    continue; // Skip header row
-                }
-                if(row.getCell(0) == null) {
-                    continue;
-                }
-                String koreanName;
-                try{
-                    Long playerId;
-                    if (row.getCell(0).getCellType() == CellType.NUMERIC) {
-                        playerId = (long) row.getCell(0).getNumericCellValue();
-                    } else {
-                        playerId = Long.parseLong(row.getCell(0).getStringCellValue());
-                    }
-
-                    String name = getCellValue(row.getCell(1));
-                    koreanName = getCellValue(row.getCell(2));
-                    String number = getCellValue(row.getCell(3));
-
-                    if(playerId != 0) {
-                        log.info("playerId: {}, name: {}, koreanName: {}, number: {}", playerId, name, koreanName, number);
-                    }
-                    Optional<Player> find = playerRepository.findById(playerId);
-                    if(find.isEmpty()) {
-                        log.warn("Player not found: {}", playerId);
-                    }
-                    Player player = find.get();
-
-                    if(koreanName != null && !koreanName.isEmpty()) {
-                        player.setKoreanName(koreanName);
-                    }
-                    if(number != null && !number.isEmpty() && !number.equals("0")) {
-                        int uniformNum = Integer.parseInt(number);
-                        player.setNumber(uniformNum);
-                    }
-                    playerRepository.save(player);
-                } catch (Exception e) {
-                    log.error("Error while processing row: {}", row.getRowNum());
-                    e.printStackTrace();
-                    continue;
+    public PlayerImportReport updatePlayerDetails(MultipartFile file) throws IOException {
+        return importPlayerDetails(file, false);
+    }
+
+    /**
+     * 엑셀 데이터로 선수 한글 이름과 등번호를 업데이트 합니다. <br>
+     * 업로드 파일을 임시 파일로 옮긴 뒤 SAX 로 행을 읽고, {@link #importBatchSize} 행씩 모아서 한 번에 조회/수정합니다.
+     * 모든 시트를 읽으므로 리그 전체 내보내기 파일을 그대로 가져올 수 있습니다.
+     *
+     * @param file 내보내기 형식(ID, Name, Korean Name, Number)의 xlsx 파일
+     * @param dryRun true 라면 수정하지 않고 변경될 내용만 반환합니다
+     * @return 변경 내용, 존재하지 않는 선수, 읽을 수 없는 행
+     */
+    public PlayerImportReport importPlayerDetails(MultipartFile file, boolean dryRun) throws IOException {
+        Path tempFile = Files.createTempFile("player-import-", ".xlsx");
+        try {
+            file.transferTo(tempFile);
+
+            PlayerImportReportBuilder report = new PlayerImportReportBuilder(dryRun);
+            List<PlayerDetailUpdateDto> batch = new ArrayList<>(importBatchSize);
+            PlayerExcelRowReader.read(tempFile, row -> {
+                batch.add(row);
+                if (batch.size() >= importBatchSize) {
+                    report.add(batch.size(), footballDataService.updatePlayerDetails(List.copyOf(batch), dryRun));
+                    batch.clear();
                 }
-                processedRows.add(row.getRowNum());
-                processedKoreanName.add(row.getCell(2).getStringCellValue());
+            }, report.invalidRows::add);
+            if (!batch.isEmpty()) {
+                report.add(batch.size(), footballDataService.updatePlayerDetails(List.copyOf(batch), dryRun));
             }
-            log.info("Processed rows: {}", processedRows);
-            log.info("Processed korean names: {}", processedKoreanName);
-        } catch (IOException e) {
-            e.printStackTrace();
+
+            PlayerImportReport result = report.build();
+            log.info("player excel import finished. dryRun={}, rows={}, changes={}, notFound={}, invalidRows={}",
+                    dryRun, result.rows(), result.changes().size(), result.notFoundPlayerIds().size(), result.invalidRows().size());
+            return result;
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
     }
 
-    private String getCellValue(Cell cell) {
-        if (cell == null) {
-            return "";
+    /**
+     * 선수 엑셀 가져오기 결과입니다.
+     * @param rows 읽은 선수 행 수
+     * @param changes 값이 바뀌었거나(dryRun 이면 바뀔) 선수들
+     * @param notFoundPlayerIds 존재하지 않는 선수 ID
+     * @param invalidRows 읽을 수 없는 행
+     */
+    public record PlayerImportReport(
+            boolean dryRun,
+            int rows,
+            List<PlayerDetailChangeDto> changes,
+            List<Long> notFoundPlayerIds,
+            List<String> invalidRows
+    ) {
+    }
+
+    private static class PlayerImportReportBuilder {
+        private final boolean dryRun;
+        private int rows;
+        private final List<PlayerDetailChangeDto> changes = new ArrayList<>();
+        private final List<Long> notFoundPlayerIds = new ArrayList<>();
+        private final List<String> invalidRows = new ArrayList<>();
+
+        private PlayerImportReportBuilder(boolean dryRun) {
+            this.dryRun = dryRun;
         }
 
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                // 숫자가 날짜일 수 있으므로, 날짜 포맷인지 확인
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                } else {
-                    return String.valueOf((long) cell.getNumericCellValue()); // 숫자값을 문자열로 변환
-                }
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                // 수식 셀의 경우 수식을 평가한 결과를 가져옵니다.
-                return cell.getCellFormula();
-            case BLANK:
-                return "";
-            default:
-                return "";
+        private void add(int batchRows, PlayerDetailUpdateResultDto result) {
+            rows += batchRows;
+            changes.addAll(result.changes());
+            notFoundPlayerIds.addAll(result.notFoundPlayerIds());
+        }
+
+        private PlayerImportReport build() {
+            return new PlayerImportReport(dryRun, rows, changes, notFoundPlayerIds, invalidRows);
         }
     }
 }
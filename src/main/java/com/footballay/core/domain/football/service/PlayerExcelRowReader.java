@@ -0,0 +1,130 @@
+package com.footballay.core.domain.football.service;
+
+import com.footballay.core.domain.football.dto.PlayerDetailUpdateDto;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * 선수 엑셀 파일을 SAX 로 읽어서 행 단위로 전달합니다. <br>
+ * 워크북 전체를 메모리에 올리지 않고 시트 XML 을 순서대로 읽으므로, 행 수와 관계없이 메모리 사용량이 일정합니다.
+ * 내보내기 형식과 같이 모든 시트의 첫 행은 헤더, 이후 행은 ID, Name, Korean Name, Number 열로 읽습니다.
+ */
+final class PlayerExcelRowReader {
+
+    private static final int ID_COLUMN = 0;
+    private static final int KOREAN_NAME_COLUMN = 2;
+    private static final int NUMBER_COLUMN = 3;
+
+    private PlayerExcelRowReader() {
+    }
+
+    /**
+     * @param excelFile 읽을 xlsx 파일
+     * @param rowConsumer 읽은 선수 행
+     * @param invalidRowConsumer 읽을 수 없는 행의 설명 (시트 이름, 행 번호, 사유)
+     */
+    static void read(Path excelFile, Consumer<PlayerDetailUpdateDto> rowConsumer, Consumer<String> invalidRowConsumer)
+            throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(excelFile.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            DataFormatter formatter = new DataFormatter();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheetStream = sheets.next()) {
+                    RowHandler handler = new RowHandler(sheets.getSheetName(), rowConsumer, invalidRowConsumer);
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, handler, formatter, false));
+                    parser.parse(new InputSource(sheetStream));
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("failed to read player excel", e);
+        }
+    }
+
+    private static class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final String sheetName;
+        private final Consumer<PlayerDetailUpdateDto> rowConsumer;
+        private final Consumer<String> invalidRowConsumer;
+
+        private int currentColumn;
+        private String id;
+        private String koreanName;
+        private String number;
+
+        private RowHandler(String sheetName, Consumer<PlayerDetailUpdateDto> rowConsumer, Consumer<String> invalidRowConsumer) {
+            this.sheetName = sheetName;
+            this.rowConsumer = rowConsumer;
+            this.invalidRowConsumer = invalidRowConsumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            currentColumn = -1;
+            id = null;
+            koreanName = null;
+            number = null;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            currentColumn = cellReference != null ? new CellReference(cellReference).getCol() : currentColumn + 1;
+            String value = formattedValue == null || formattedValue.isBlank() ? null : formattedValue.trim();
+            switch (currentColumn) {
+                case ID_COLUMN -> id = value;
+                case KOREAN_NAME_COLUMN -> koreanName = value;
+                case NUMBER_COLUMN -> number = value;
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0 || id == null) {
+                return; // 헤더와 빈 행
+            }
+            try {
+                long playerId = parseLong(id);
+                Integer uniformNumber = number == null ? null : (int) parseLong(number);
+                rowConsumer.accept(new PlayerDetailUpdateDto(playerId, koreanName, uniformNumber));
+            } catch (NumberFormatException e) {
+                invalidRowConsumer.accept(sheetName + " row " + (rowNum + 1) + ": " + e.getMessage());
+            }
+        }
+
+        private static long parseLong(String value) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                double parsed = Double.parseDouble(value);
+                if (parsed != Math.rint(parsed)) {
+                    throw new NumberFormatException("not an integer: " + value);
+                }
+                return (long) parsed;
+            }
+        }
+    }
+}
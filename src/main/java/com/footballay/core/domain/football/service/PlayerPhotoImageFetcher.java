@@ -0,0 +1,133 @@
+package com.footballay.core.domain.football.service;
+
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * 엑셀 내보내기에 사용하는 선수 사진을 내려받습니다. <br>
+ * 선수마다 순서대로 내려받지 않도록 요청을 동시에 시작하고, 연결/읽기 시간 제한을 둡니다.
+ * 내려받은 사진은 최대 크기가 정해진 메모리 캐시(LRU)에 보관해서 같은 선수를 다시 내보낼 때 재사용합니다.
+ * 사진을 가져오지 못하면 빈 값을 반환하고, 엑셀에는 사진 없이 기록합니다.
+ */
+@Slf4j
+@Component
+public class PlayerPhotoImageFetcher {
+
+    private final OkHttpClient client;
+    private final ExecutorService fetchExecutor;
+    private final long cacheMaxBytes;
+
+    /**
+     * 접근 순서를 유지하는 LRU 캐시. {@link #cacheBytes} 와 함께 this 로 동기화합니다.
+     */
+    private final LinkedHashMap<String, byte[]> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private long cacheBytes;
+    private final Map<String, CompletableFuture<Optional<byte[]>>> inFlight = new ConcurrentHashMap<>();
+
+    public PlayerPhotoImageFetcher(
+            @Value("${football.excel.photo.concurrency:8}") int concurrency,
+            @Value("${football.excel.photo.connect-timeout-millis:2000}") long connectTimeoutMillis,
+            @Value("${football.excel.photo.read-timeout-millis:3000}") long readTimeoutMillis,
+            @Value("${football.excel.photo.cache-max-bytes:33554432}") long cacheMaxBytes
+    ) {
+        this.client = new OkHttpClient.Builder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .readTimeout(Duration.ofMillis(readTimeoutMillis))
+                .callTimeout(Duration.ofMillis(connectTimeoutMillis + readTimeoutMillis))
+                .build();
+        this.fetchExecutor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("player-photo-fetch-"));
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+
+    /**
+     * 사진을 비동기로 가져옵니다. 캐시에 있다면 바로 완료된 결과를 반환하고, 같은 URL 을 가져오는 중이라면 그 결과를 공유합니다.
+     *
+     * @param photoUrl 선수 사진 URL
+     * @return 사진 바이트. URL 이 없거나 가져오지 못한 경우 빈 값
+     */
+    public CompletableFuture<Optional<byte[]>> fetch(@Nullable String photoUrl) {
+        if (photoUrl == null || photoUrl.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        byte[] cached = getCached(photoUrl);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Optional.of(cached));
+        }
+        CompletableFuture<Optional<byte[]>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<byte[]>> existing = inFlight.putIfAbsent(photoUrl, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            fetchExecutor.execute(() -> {
+                try {
+                    created.complete(download(photoUrl));
+                } catch (RuntimeException e) {
+                    log.warn("failed to fetch player photo. url={}", photoUrl, e);
+                    created.complete(Optional.empty());
+                } finally {
+                    inFlight.remove(photoUrl, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(photoUrl, created);
+            created.complete(Optional.empty());
+        }
+        return created;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+
+    private Optional<byte[]> download(String photoUrl) {
+        Request request = new Request.Builder().url(photoUrl).get().build();
+        try (Response response = client.newCall(request).execute()) {
+            ResponseBody body = response.body();
+            if (!response.isSuccessful() || body == null) {
+                log.warn("failed to fetch player photo. url={}, status={}", photoUrl, response.code());
+                return Optional.empty();
+            }
+            byte[] bytes = body.bytes();
+            putCache(photoUrl, bytes);
+            return Optional.of(bytes);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("failed to fetch player photo. url={}, cause={}", photoUrl, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private synchronized byte[] getCached(String photoUrl) {
+        return cache.get(photoUrl);
+    }
+
+    private synchronized void putCache(String photoUrl, byte[] bytes) {
+        if (bytes.length > cacheMaxBytes) {
+            return;
+        }
+        byte[] previous = cache.put(photoUrl, bytes);
+        cacheBytes += bytes.length - (previous == null ? 0 : previous.length);
+        Iterator<byte[]> eldest = cache.values().iterator();
+        while (cacheBytes > cacheMaxBytes && eldest.hasNext()) {
+            cacheBytes -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+}
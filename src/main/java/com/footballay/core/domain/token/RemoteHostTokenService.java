@@ -3,6 +3,7 @@ package com.footballay.core.domain.token;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,9 +20,12 @@ import java.util.Map;
 public class RemoteHostTokenService {
 
     private final SecretKey SECRET_KEY; // provider 에 의해 주입받음
+    private final JwtParser parser;
 
     public RemoteHostTokenService(HS256KeyProvider provider) {
         SECRET_KEY = provider.getSECRET_KEY();
+        // parser 는 thread-safe 하므로 한 번만 생성해서 재사용합니다.
+        this.parser = Jwts.parser().verifyWith(SECRET_KEY).build();
     }
 
     public String generateRemoteHostToken(String remoteCode, LocalDateTime generatedTime) {
@@ -69,7 +73,7 @@ public class RemoteHostTokenService {
     }
 
     private Jws<Claims> getClaimsFromToken(String token) {
-        return Jwts.parser().verifyWith(SECRET_KEY).build().parseSignedClaims(token);
+        return parser.parseSignedClaims(token);
     }
 
     private Date convertIssuedAt(LocalDateTime generatedTime) {
@@ -0,0 +1,76 @@
+package com.footballay.core.domain.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 원격 코드 참여 정보를 담은 짧은 수명의 토큰을 발급하고 검증합니다. <br>
+ * 원격 제어 메시지마다 Redis 에서 참여 여부를 확인하지 않고 서명만 검증하기 위해 사용합니다.
+ * 참여 여부는 토큰을 발급하거나 갱신할 때만 확인합니다.
+ * <pre>
+ * subject : remoteSession
+ * claims  : remoteCode, principal(Principal.getName()), type=remoteSession
+ * exp     : 발급 시각 + ttl
+ * </pre>
+ */
+@Slf4j
+@Service
+public class RemoteSessionTokenService {
+
+    private static final String SUBJECT = "remoteSession";
+
+    private final SecretKey SECRET_KEY; // provider 에 의해 주입받음
+    private final JwtParser parser;
+    private final Duration ttl;
+
+    public RemoteSessionTokenService(
+            HS256KeyProvider provider,
+            @Value("${football.remote.session-token.ttl-seconds:300}") long ttlSeconds
+    ) {
+        SECRET_KEY = provider.getSECRET_KEY();
+        // parser 는 thread-safe 하므로 한 번만 생성해서 재사용합니다.
+        this.parser = Jwts.parser().verifyWith(SECRET_KEY).requireSubject(SUBJECT).build();
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public String issue(String remoteCode, String principalName) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(SUBJECT)
+                .claim("type", SUBJECT)
+                .claim("remoteCode", remoteCode)
+                .claim("principal", principalName)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(ttl)))
+                .signWith(SECRET_KEY)
+                .compact();
+    }
+
+    /**
+     * 서명, 만료 시각과 원격 코드, principal 일치 여부를 검증합니다.
+     */
+    public boolean verify(String token, String remoteCode, String principalName) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return remoteCode.equals(claims.get("remoteCode", String.class))
+                    && principalName.equals(claims.get("principal", String.class));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("remote session token validation fail. remoteCode={}, reason={}", remoteCode, e.getMessage());
+            return false;
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+}
@@ -2,9 +2,11 @@ package com.footballay.core.web.admin.football.controller;
 
 import com.footballay.core.web.admin.football.request.CachePlayerSingleRequest;
 import com.footballay.core.web.admin.football.request.LeagueIdRequest;
+import com.footballay.core.web.admin.football.request.LeagueIdsRequest;
 import com.footballay.core.web.admin.football.request.PreventUnlinkRequest;
 import com.footballay.core.web.admin.football.request.TeamIdRequest;
 import com.footballay.core.web.admin.football.response.ExternalApiStatusResponse;
+import com.footballay.core.web.admin.football.response.SeasonWarmupStatusResponse;
 import com.footballay.core.web.admin.football.service.AdminFootballCacheWebService;
 import com.footballay.core.web.common.dto.ApiResponse;
 import com.footballay.core.web.common.service.ApiV1CommonResponseService;
@@ -163,6 +165,30 @@ public class AdminFootballCacheRestController {
         );
     }
 
+    /**
+     * 리그, 리그의 팀, 팀의 선수단, 리그 일정을 한 번에 캐싱하는 시즌 워밍업을 백그라운드에서 시작합니다.
+     * 진행 상태는 {@code GET /warmup} 으로 확인합니다.
+     *
+     * @param request 워밍업 할 리그 아이디 배열. 비어있다면 즐겨찾기 리그들을 워밍업 합니다.
+     * @return 워밍업 시작 결과
+     */
+    @PostMapping("/warmup")
+    public ResponseEntity<ApiResponse<Void>> startSeasonWarmup(@RequestBody LeagueIdsRequest request) {
+        final String requestUrl = "/api/admin/football/cache/warmup";
+        log.info("start season warmup :: leagueIds={}", request.leagueIds());
+        return ResponseEntity.ok().body(
+                adminFootballCacheWebService.startSeasonWarmup(request.leagueIds(), requestUrl)
+        );
+    }
+
+    @GetMapping("/warmup")
+    public ResponseEntity<ApiResponse<SeasonWarmupStatusResponse>> getSeasonWarmupStatus() {
+        final String requestUrl = "/api/admin/football/cache/warmup";
+        return ResponseEntity.ok().body(
+                adminFootballCacheWebService.getSeasonWarmupStatus(requestUrl)
+        );
+    }
+
     // ---------
     @PostMapping("/fixtures/date")
     public ResponseEntity<String> cacheFixtures(
@@ -1,6 +1,7 @@
 package com.footballay.core.web.admin.football.controller;
 
 import com.footballay.core.domain.football.persistence.Player;
+import com.footballay.core.domain.football.persistence.Team;
 import com.footballay.core.domain.football.service.FootballDataService;
 import com.footballay.core.domain.football.service.FootballExcelService;
 import com.footballay.core.web.admin.football.response.*;
@@ -8,7 +9,6 @@ import com.footballay.core.web.admin.football.service.AdminFootballDataWebServic
 import com.footballay.core.web.common.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -17,13 +17,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -139,26 +139,38 @@ public class AdminFootballDataRestController {
     }
 
     @GetMapping("/teams/{teamId}/players/export")
-    public ResponseEntity<InputStreamResource> exportPlayersToExcel(@PathVariable long teamId) throws IOException {
+    public ResponseEntity<StreamingResponseBody> exportPlayersToExcel(@PathVariable long teamId) {
         List<Player> players = footballDataService.getSquadOfTeam(teamId);
-        log.info("controller :: players : {}", players);
-        ByteArrayInputStream in = excelService.createPlayerExcel(players);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Disposition", "attachment; filename=players.xlsx");
-
-        return ResponseEntity
-                .ok()
-                .headers(headers)
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(new InputStreamResource(in));
-    }
-
+        log.info("export players of team. teamId={}, players={}", teamId, players.size());
+        return excelAttachment("players.xlsx", List.of(new FootballExcelService.PlayerSheet("Players", players)));
+    }
+
+    /**
+     * 리그에 속한 모든 팀의 선수를 팀별 시트로 나눠서 하나의 엑셀로 내보냅니다.
+     */
+    @GetMapping("/leagues/{leagueId}/players/export")
+    public ResponseEntity<StreamingResponseBody> exportLeaguePlayersToExcel(@PathVariable long leagueId) {
+        List<Team> teams = footballDataService.getTeamsByLeagueId(leagueId);
+        Map<Long, List<Player>> squads = footballDataService.getSquadsOfTeams(teams.stream().map(Team::getId).toList());
+        List<FootballExcelService.PlayerSheet> sheets = teams.stream()
+                .map(team -> new FootballExcelService.PlayerSheet(team.getName(), squads.get(team.getId())))
+                .toList();
+        log.info("export players of league. leagueId={}, teams={}", leagueId, teams.size());
+        return excelAttachment("players_league_" + leagueId + ".xlsx", sheets);
+    }
+
+    /**
+     * 엑셀 데이터로 선수 한글 이름과 등번호를 업데이트 합니다.
+     * @param dryRun true 라면 수정하지 않고 변경될 내용만 응답합니다
+     */
     @PostMapping("/players/import")
-    public ResponseEntity<?> importPlayersFromExcel(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<?> importPlayersFromExcel(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean dryRun
+    ) {
         try {
-            excelService.updatePlayerDetails(file);
-            return ResponseEntity.ok("Players updated successfully");
+            FootballExcelService.PlayerImportReport report = excelService.importPlayerDetails(file, dryRun);
+            return ResponseEntity.ok(report);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error processing file: " + e.getMessage());
         }
@@ -183,4 +195,20 @@ public class AdminFootballDataRestController {
         ApiResponse<Void> response = adminFootballDataWebService.removeTeamPlayerRelation(teamId, playerId, requestUrl);
         return ResponseEntity.ok().body(response);
     }
+
+    /**
+     * 조회는 요청 스레드에서 끝내고, 엑셀은 응답 스트림에 바로 씁니다.
+     */
+    private ResponseEntity<StreamingResponseBody> excelAttachment(String filename, List<FootballExcelService.PlayerSheet> sheets) {
+        StreamingResponseBody body = out -> excelService.writePlayerExcel(sheets, out);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-Disposition", "attachment; filename=" + filename);
+
+        return ResponseEntity
+                .ok()
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
 }
@@ -0,0 +1,8 @@
+package com.footballay.core.web.admin.football.request;
+
+import java.util.List;
+
+public record LeagueIdsRequest(
+        List<Long> leagueIds
+) {
+}
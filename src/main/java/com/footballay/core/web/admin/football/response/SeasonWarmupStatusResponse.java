@@ -0,0 +1,15 @@
+package com.footballay.core.web.admin.football.response;
+
+import java.util.List;
+
+public record SeasonWarmupStatusResponse(
+        String state,
+        List<Long> leagueIds,
+        String startedAt,
+        String finishedAt,
+        int totalSteps,
+        int doneSteps,
+        int skippedSteps,
+        List<String> failedSteps
+) {
+}
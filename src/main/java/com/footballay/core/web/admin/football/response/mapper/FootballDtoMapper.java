@@ -116,6 +116,19 @@ public class FootballDtoMapper {
         return new TeamsOfPlayerResponse(_player, _teams);
     }
 
+    public static SeasonWarmupStatusResponse toSeasonWarmupStatusResponse(SeasonWarmupStatusDto status) {
+        return new SeasonWarmupStatusResponse(
+                status.state(),
+                status.leagueIds(),
+                formatZonedDateTime(status.startedAt()),
+                formatZonedDateTime(status.finishedAt()),
+                status.totalSteps(),
+                status.doneSteps(),
+                status.skippedSteps(),
+                status.failedSteps()
+        );
+    }
+
     private static String formatZonedDateTime(ZonedDateTime zonedDateTime) {
         if (zonedDateTime == null) return null;
         return zonedDateTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
@@ -1,9 +1,12 @@
 package com.footballay.core.web.admin.football.service;
 
+import com.footballay.core.config.datasource.UsePrimaryDataSource;
 import com.footballay.core.domain.football.FootballRoot;
 import com.footballay.core.domain.football.dto.ExternalApiStatusDto;
+import com.footballay.core.domain.football.dto.SeasonWarmupStatusDto;
 import com.footballay.core.domain.football.persistence.Player;
 import com.footballay.core.web.admin.football.response.ExternalApiStatusResponse;
+import com.footballay.core.web.admin.football.response.SeasonWarmupStatusResponse;
 import com.footballay.core.web.admin.football.response.mapper.FootballDtoMapper;
 import com.footballay.core.web.common.dto.ApiResponse;
 import com.footballay.core.web.common.service.ApiCommonResponseService;
@@ -11,8 +14,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @RequiredArgsConstructor
+@UsePrimaryDataSource
 @Service
 public class AdminFootballCacheWebService {
 
@@ -110,6 +117,25 @@ public class AdminFootballCacheWebService {
         return apiCommonResponseService.createSuccessResponse(null, requestUrl);
     }
 
+    public ApiResponse<Void> startSeasonWarmup(List<Long> leagueIds, String requestUrl) {
+        boolean isStarted = footballRoot.startSeasonWarmup(leagueIds);
+        if(!isStarted) {
+            log.error("season warmup is not started :: leagueIds={}", leagueIds);
+            return apiCommonResponseService.createFailureResponse("시즌 워밍업 시작 실패. 이미 진행 중인 워밍업이 있는지 확인해주세요", requestUrl);
+        }
+        log.info("season warmup started :: leagueIds={}", leagueIds);
+        return apiCommonResponseService.createSuccessResponse(null, requestUrl);
+    }
+
+    public ApiResponse<SeasonWarmupStatusResponse> getSeasonWarmupStatus(String requestUrl) {
+        Optional<SeasonWarmupStatusDto> status = footballRoot.getSeasonWarmupStatus();
+        if(status.isEmpty()) {
+            return apiCommonResponseService.createFailureResponse("진행된 시즌 워밍업이 없습니다", requestUrl);
+        }
+        SeasonWarmupStatusResponse[] response = {FootballDtoMapper.toSeasonWarmupStatusResponse(status.get())};
+        return apiCommonResponseService.createSuccessResponse(response, requestUrl);
+    }
+
     /**
      * 선수 Prevent Unlink 설정 <br>
      * @see Player#getPreventUnlink()
@@ -1,5 +1,6 @@
 package com.footballay.core.web.admin.football.service;
 
+import com.footballay.core.config.datasource.UsePrimaryDataSource;
 import com.footballay.core.domain.football.FootballRoot;
 import com.footballay.core.domain.football.dto.FixtureInfoDto;
 import com.footballay.core.domain.football.dto.LeagueDto;
@@ -22,6 +23,7 @@ import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
+@UsePrimaryDataSource
 @Service
 public class AdminFootballDataWebService {
 
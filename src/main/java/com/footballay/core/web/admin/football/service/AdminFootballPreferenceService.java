@@ -1,5 +1,6 @@
 package com.footballay.core.web.admin.football.service;
 
+import com.footballay.core.config.datasource.UsePrimaryDataSource;
 import com.footballay.core.domain.football.FootballRoot;
 import com.footballay.core.domain.football.dto.PlayerDto;
 import com.footballay.core.domain.football.preference.FootballPreferenceService;
@@ -23,6 +24,7 @@ import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
+@UsePrimaryDataSource
 @Service
 public class AdminFootballPreferenceService {
 
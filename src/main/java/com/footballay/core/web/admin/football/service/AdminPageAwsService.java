@@ -6,6 +6,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.DERNull;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.pkcs.RSAPrivateKey;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -19,15 +24,25 @@ import software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest;
 import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Clock;
 import java.time.Instant;
-import java.util.Arrays;
+import java.util.Base64;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Admin 페이지 관련 CloudFront Signed URL / Cookie 발급 서비스
+ *
+ * <h4>서명 캐싱</h4>
+ * RSA 서명 비용을 요청마다 지불하지 않도록 private key 는 처음 사용할 때 한 번만 읽고,
+ * 서명된 쿠키와 URL 은 시간 구간(bucket) 단위로 발급해서 같은 구간의 요청에 재사용합니다.
+ * 만료 시각은 구간 시작 시각을 기준으로 계산하므로, 재사용되는 쿠키/URL 도 최소 (유효기간 - 구간 길이) 만큼 유효합니다.
+ * 쿠키 캐시 구간이 0 이하면 요청마다 서명합니다.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -35,6 +50,7 @@ import java.util.stream.Collectors;
 public class AdminPageAwsService {
 
     private final AppEnvironmentVariable envVar;
+    private final Clock clock;
 
     @Value("${aws.cloudfront.domain}")
     private String cloudfrontDomain;
@@ -50,8 +66,20 @@ public class AdminPageAwsService {
     private final int COOKIE_MAX_AGE_SEC = 2 * 3600 ;
     private final int STATIC_FILE_EXPIRATION_SEC = 60;
 
+    @Value("${football.admin.cloudfront.cookie-bucket-seconds:600}")
+    private long cookieBucketSeconds;
+
+    @Value("${football.admin.cloudfront.url-bucket-seconds:20}")
+    private long urlBucketSeconds;
+
+    private static final int MAX_CACHED_URLS = 1000;
+
     private final CloudFrontUtilities cloudFrontUtilities = CloudFrontUtilities.create();
 
+    private volatile PrivateKey privateKey;
+    private volatile SignedCookies cachedCookies;
+    private final Map<String, SignedUrlEntry> cachedUrls = new ConcurrentHashMap<>();
+
     /**
      * 쿠키 존재 여부 확인
      *
@@ -65,8 +93,23 @@ public class AdminPageAwsService {
      * @return 쿠키 존재 여부
      */
     public boolean hasSignedCookies(HttpServletRequest request) {
-        Map<String, String> cookieMap = collectCookies(request);
-        return isContainCloudfrontCookies(cookieMap);
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        boolean hasPolicyOrExpires = false;
+        boolean hasSignature = false;
+        boolean hasKeyPairId = false;
+        for (Cookie cookie : cookies) {
+            switch (cookie.getName()) {
+                case "CloudFront-Policy", "CloudFront-Expires" -> hasPolicyOrExpires = true;
+                case "CloudFront-Signature" -> hasSignature = true;
+                case "CloudFront-Key-Pair-Id" -> hasKeyPairId = true;
+                default -> {
+                }
+            }
+        }
+        return hasPolicyOrExpires && hasSignature && hasKeyPairId;
     }
 
     /**
@@ -75,13 +118,12 @@ public class AdminPageAwsService {
      */
     public void setCloudFrontSignedCookie(HttpServletResponse response) {
         try {
-            final Instant expirationDate = Instant.now().plusSeconds(COOKIE_MAX_AGE_SEC);
-
-            CookiesForCustomPolicy cookiesForCustomPolicy = createSignedCookies(cloudfrontDomain+"/*", expirationDate);
-            Map<String, String> cookiesMap = cookiesToMap(cookiesForCustomPolicy);
-            setCookiesToHttpResponse(response, cookiesMap, envVar.getFOOTBALLAY_DOMAIN(), COOKIE_MAX_AGE_SEC);
+            final Instant now = clock.instant();
+            SignedCookies signedCookies = getSignedCookies(now);
+            long maxAge = Math.max(0, signedCookies.expiresAt().getEpochSecond() - now.getEpochSecond());
+            setCookiesToHttpResponse(response, signedCookies.cookies(), envVar.getFOOTBALLAY_DOMAIN(), maxAge);
 
-            log.info("issued and set CloudFront signed Cookies for admin page");
+            log.info("set CloudFront signed Cookies for admin page. expiresAt={}", signedCookies.expiresAt());
         } catch (IOException e) {
             log.error("Failed to load private key file", e);
             throw new RuntimeException(e);
@@ -97,10 +139,7 @@ public class AdminPageAwsService {
      */
     public String generateSignedUrlForAdminPage() {
         try {
-            Instant expirationDate = Instant.now().plusSeconds(STATIC_FILE_EXPIRATION_SEC);
-            CannedSignerRequest cannedRequest = createCannedRequest(ADMIN_INDEX_PATH, expirationDate);
-            SignedUrl signedUrl = cloudFrontUtilities.getSignedUrlWithCannedPolicy(cannedRequest);
-            return signedUrl.url();
+            return getSignedUrl(ADMIN_INDEX_PATH, clock.instant());
         } catch (Exception e) {
             throw new RuntimeException("Failed to create signed URL", e);
         }
@@ -117,39 +156,128 @@ public class AdminPageAwsService {
                 url = "/" + url;
             }
 
-            Instant expirationDate = Instant.now().plusSeconds(STATIC_FILE_EXPIRATION_SEC);
-            CannedSignerRequest cannedRequest = createCannedRequest(url, expirationDate);
-            SignedUrl signedUrl = cloudFrontUtilities.getSignedUrlWithCannedPolicy(cannedRequest);
-            log.info("Generated Signed URL: {}", signedUrl.url());
-            return signedUrl.url();
+            String signedUrl = getSignedUrl(url, clock.instant());
+            log.info("Generated Signed URL: {}", signedUrl);
+            return signedUrl;
         } catch (Exception e) {
             log.error("Failed to generate signed URL for file: {}", url, e);
             throw new RuntimeException("Failed to generate signed URL for file: " + url, e);
         }
     }
 
+    /**
+     * 현재 구간의 서명된 쿠키를 반환합니다. 구간이 바뀌었다면 새로 서명합니다.
+     */
+    private SignedCookies getSignedCookies(Instant now) throws Exception {
+        if (cookieBucketSeconds <= 0) {
+            return issueSignedCookies(now, now.plusSeconds(COOKIE_MAX_AGE_SEC));
+        }
+        final long bucket = now.getEpochSecond() / cookieBucketSeconds;
+        SignedCookies cached = cachedCookies;
+        if (cached != null && cached.bucket() == bucket) {
+            return cached;
+        }
+        synchronized (this) {
+            cached = cachedCookies;
+            if (cached != null && cached.bucket() == bucket) {
+                return cached;
+            }
+            Instant bucketStart = Instant.ofEpochSecond(bucket * cookieBucketSeconds);
+            SignedCookies issued = issueSignedCookies(now, bucketStart.plusSeconds(COOKIE_MAX_AGE_SEC));
+            cachedCookies = new SignedCookies(bucket, issued.expiresAt(), issued.cookies());
+            return cachedCookies;
+        }
+    }
+
+    private SignedCookies issueSignedCookies(Instant now, Instant expirationDate) throws Exception {
+        CookiesForCustomPolicy cookiesForCustomPolicy = createSignedCookies(cloudfrontDomain + "/*", expirationDate);
+        log.info("signed CloudFront cookies for admin page. expiresAt={}", expirationDate);
+        return new SignedCookies(now.getEpochSecond(), expirationDate, cookiesToMap(cookiesForCustomPolicy));
+    }
+
+    /**
+     * 현재 구간의 서명된 URL 을 반환합니다. 구간이 바뀌었다면 새로 서명합니다.
+     */
+    private String getSignedUrl(String url, Instant now) throws Exception {
+        if (urlBucketSeconds <= 0) {
+            return signUrl(url, now.plusSeconds(STATIC_FILE_EXPIRATION_SEC));
+        }
+        final long bucket = now.getEpochSecond() / urlBucketSeconds;
+        SignedUrlEntry cached = cachedUrls.get(url);
+        if (cached != null && cached.bucket() == bucket) {
+            return cached.url();
+        }
+        if (cachedUrls.size() >= MAX_CACHED_URLS) {
+            cachedUrls.clear();
+        }
+        // 만료 시각을 구간 끝 기준으로 정해서, 구간 안에서 재사용되는 URL 도 최소 STATIC_FILE_EXPIRATION_SEC 동안 유효합니다.
+        Instant bucketEnd = Instant.ofEpochSecond((bucket + 1) * urlBucketSeconds);
+        String signedUrl = signUrl(url, bucketEnd.plusSeconds(STATIC_FILE_EXPIRATION_SEC));
+        cachedUrls.put(url, new SignedUrlEntry(bucket, signedUrl));
+        return signedUrl;
+    }
+
+    private String signUrl(String url, Instant expirationDate) throws Exception {
+        CannedSignerRequest cannedRequest = createCannedRequest(url, expirationDate);
+        SignedUrl signedUrl = cloudFrontUtilities.getSignedUrlWithCannedPolicy(cannedRequest);
+        return signedUrl.url();
+    }
+
     private CannedSignerRequest createCannedRequest(String url, Instant expirationDate) throws Exception {
-        Path privateKeyPath = Paths.get(privateKeyResource.getFile().getPath());
         String resourceUrl = cloudfrontDomain + ADMIN_RESOURCE_PATH + url;
         return CannedSignerRequest.builder()
                 .resourceUrl(resourceUrl)
                 .keyPairId(keyPairId)
-                .privateKey(privateKeyPath)
+                .privateKey(getPrivateKey())
                 .expirationDate(expirationDate)
                 .build();
     }
 
     private CookiesForCustomPolicy createSignedCookies(String resourceUrl, Instant expirationDate) throws Exception {
-        Path privateKeyPath = Paths.get(privateKeyResource.getFile().getPath());
         CustomSignerRequest customPolicyRequest = CustomSignerRequest.builder()
                 .keyPairId(keyPairId)
-                .privateKey(privateKeyPath)
+                .privateKey(getPrivateKey())
                 .resourceUrl(resourceUrl)
                 .expirationDate(expirationDate)
                 .build();
         return cloudFrontUtilities.getCookiesForCustomPolicy(customPolicyRequest);
     }
 
+    /**
+     * private key 파일은 처음 서명할 때 한 번만 읽고 파싱합니다.
+     */
+    private PrivateKey getPrivateKey() throws IOException, GeneralSecurityException {
+        PrivateKey key = privateKey;
+        if (key == null) {
+            synchronized (this) {
+                if (privateKey == null) {
+                    privateKey = loadPrivateKey(privateKeyResource);
+                    log.info("loaded CloudFront private key");
+                }
+                key = privateKey;
+            }
+        }
+        return key;
+    }
+
+    /**
+     * PEM(PKCS#1 "RSA PRIVATE KEY", PKCS#8 "PRIVATE KEY") 형식의 RSA private key 를 읽습니다.
+     */
+    static PrivateKey loadPrivateKey(Resource resource) throws IOException, GeneralSecurityException {
+        String pem = resource.getContentAsString(StandardCharsets.US_ASCII);
+        byte[] der = Base64.getDecoder().decode(
+                pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "")
+        );
+        if (pem.contains("BEGIN RSA PRIVATE KEY")) {
+            // PKCS#1 은 KeyFactory 가 읽을 수 없으므로 PKCS#8 로 감쌉니다.
+            der = new PrivateKeyInfo(
+                    new AlgorithmIdentifier(PKCSObjectIdentifiers.rsaEncryption, DERNull.INSTANCE),
+                    RSAPrivateKey.getInstance(der)
+            ).getEncoded();
+        }
+        return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der));
+    }
+
     /**
      * aws util 에서 제공하는 cookieValue 는 "{cookieName}={cookieValue}" 로 구성되어 있습니다.
      * 이때 name 과 value 둘 다 = 문자를 포함하지 않습니다.
@@ -170,12 +298,6 @@ public class AdminPageAwsService {
         );
     }
 
-    private static boolean isContainCloudfrontCookies(Map<String, String> cookieMap) {
-        return (cookieMap.containsKey("CloudFront-Policy") || cookieMap.containsKey("CloudFront-Expires"))
-                && cookieMap.containsKey("CloudFront-Signature")
-                && cookieMap.containsKey("CloudFront-Key-Pair-Id");
-    }
-
     private static void setCookiesToHttpResponse(
             HttpServletResponse response,
             Map<String, String> cookiesMap,
@@ -202,9 +324,13 @@ public class AdminPageAwsService {
                 .build();
     }
 
-    private static @NotNull Map<String, String> collectCookies(HttpServletRequest request) {
-        return Arrays.stream(request.getCookies())
-                .collect(Collectors.toMap(Cookie::getName, Cookie::getValue));
+    /**
+     * @param bucket 발급한 시간 구간. 캐시하지 않는 경우 발급 시각(epoch seconds)
+     */
+    private record SignedCookies(long bucket, Instant expiresAt, Map<String, String> cookies) {
+    }
+
+    private record SignedUrlEntry(long bucket, String url) {
     }
 
 }
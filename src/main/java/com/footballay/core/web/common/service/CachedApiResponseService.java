@@ -2,21 +2,38 @@ package com.footballay.core.web.common.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.footballay.core.web.common.dto.MetaData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * 응답 데이터를 JSON 형식으로 캐싱하고, CBOR 로 요청된 응답은 CBOR 형식으로도 캐싱합니다. <br>
+ * CBOR 는 StringRedisTemplate 에 저장하기 위해 Base64 로 인코딩하며, 같은 TTL 을 가진 별도 키({@code key + ":cbor"})에 저장합니다.
+ * CBOR 를 요청하는 클라이언트가 없다면 CBOR 인코딩과 Redis 쓰기를 하지 않습니다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class CachedApiResponseService {
 
+    private static final Duration CACHE_TTL = Duration.ofSeconds(10);
+    private static final String CBOR_KEY_SUFFIX = ":cbor";
+    /**
+     * CBOR major type 5 (map) 에 원소 2개
+     */
+    private static final int CBOR_MAP_OF_TWO = 0xA2;
+
     private final ObjectMapper OBJECT_MAPPER;
+    private final CBORMapper cborMapper;
     private final StringRedisTemplate stringRedisTemplate;
 
     public Optional<String> getCachedResponseIfExist(String requestUrl, Map<String, ? extends String> parameters) {
@@ -25,10 +42,49 @@ public class CachedApiResponseService {
         return Optional.ofNullable(cachedResponse);
     }
 
+    /**
+     * @return CBOR 로 인코딩된 캐싱 응답
+     */
+    public Optional<byte[]> getCachedCborResponseIfExist(String requestUrl, Map<String, ? extends String> parameters) {
+        String key = generateKey(requestUrl, parameters) + CBOR_KEY_SUFFIX;
+        String cachedResponse = stringRedisTemplate.opsForValue().get(key);
+        return Optional.ofNullable(cachedResponse).map(Base64.getDecoder()::decode);
+    }
+
     public void cacheResponse(String requestUrl, Map<String, ? extends String> parameters, Object response) throws JsonProcessingException {
+        cacheResponse(requestUrl, parameters, response, false);
+    }
+
+    /**
+     * @param includeCbor CBOR 로 요청된 응답이라면 true. JSON 과 함께 CBOR 형식도 캐싱합니다.
+     */
+    public void cacheResponse(String requestUrl, Map<String, ? extends String> parameters, Object response, boolean includeCbor) throws JsonProcessingException {
         String key = generateKey(requestUrl, parameters);
-        stringRedisTemplate.opsForValue().set(key, OBJECT_MAPPER.writeValueAsString(new Object[]{response}), Duration.ofSeconds(10));
-        log.info("Cached response for key: {}", key);
+        Object[] wrapped = new Object[]{response};
+        stringRedisTemplate.opsForValue().set(key, OBJECT_MAPPER.writeValueAsString(wrapped), CACHE_TTL);
+        if (includeCbor) {
+            stringRedisTemplate.opsForValue().set(
+                    key + CBOR_KEY_SUFFIX,
+                    Base64.getEncoder().encodeToString(cborMapper.writeValueAsBytes(wrapped)),
+                    CACHE_TTL
+            );
+        }
+        log.info("Cached response for key: {}, cbor: {}", key, includeCbor);
+    }
+
+    /**
+     * {@link com.footballay.core.web.common.dto.CachedApiResponse} 와 같은 구조({@code {metaData, response}})의 CBOR 응답을 만듭니다. <br>
+     * CBOR 는 raw value 를 지원하지 않으므로, 캐싱된 response 바이트를 다시 파싱하지 않고 map 헤더 뒤에 그대로 이어 붙입니다.
+     */
+    public byte[] createCachedCborResponse(MetaData metaData, byte[] cachedCborResponse) throws JsonProcessingException {
+        byte[] metaDataBytes = cborMapper.writeValueAsBytes(metaData);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(metaDataBytes.length + cachedCborResponse.length + 32);
+        out.write(CBOR_MAP_OF_TWO);
+        out.writeBytes(cborMapper.writeValueAsBytes("metaData"));
+        out.writeBytes(metaDataBytes);
+        out.writeBytes(cborMapper.writeValueAsBytes("response"));
+        out.writeBytes(cachedCborResponse);
+        return out.toByteArray();
     }
 
     private String generateKey(String requestUrl, Map<String, ? extends String> parameters) {
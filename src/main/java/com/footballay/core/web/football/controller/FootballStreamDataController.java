@@ -19,8 +19,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -28,12 +32,14 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
- * Rest API 로 football stream 데이터 제공.
+ * Rest API 로 football stream 데이터 제공. <br>
+ * Accept: application/cbor 로 요청하면 같은 응답 구조를 CBOR 로 인코딩해서 제공합니다.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -159,10 +165,24 @@ public class FootballStreamDataController {
     @GetMapping("/fixtures/statistics")
     public ResponseEntity<?> fixturesStatistics(
             @RequestParam long fixtureId,
-            @RequestParam(required = false) String preferenceKey
+            @RequestParam(required = false) String preferenceKey,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
         final String requestUrl = "/api/football/fixtures/statistics";
         try {
+            if (acceptsCbor(accept)) {
+                Map<String, String> params = Map.of("fixtureId", String.valueOf(fixtureId));
+                Optional<byte[]> cachedCbor = cachedApiResponseService.getCachedCborResponseIfExist(requestUrl, params);
+                if (cachedCbor.isPresent()) {
+                    MetaData successMetaData = apiCommonResponseService.createSuccessMetaData(requestUrl, params);
+                    log.info("Cache hit [requestId={}] of fixtureStatistics(cbor) for fixtureId: {}", successMetaData.requestId(), fixtureId);
+                    return ResponseEntity.ok()
+                            .header("X-Cache", "HIT")
+                            .contentType(MediaType.APPLICATION_CBOR)
+                            .body(cachedApiResponseService.createCachedCborResponse(successMetaData, cachedCbor.get()));
+                }
+                return ResponseEntity.ok(footballStreamWebService.getMatchStatistics(requestUrl, preferenceKey, fixtureId, true));
+            }
             Optional<String> cachedResponseIfExist = cachedApiResponseService.getCachedResponseIfExist(requestUrl, Map.of("fixtureId", String.valueOf(fixtureId)));
             if(cachedResponseIfExist.isPresent()) {
                 MetaData successMetaData = apiCommonResponseService.createSuccessMetaData(
@@ -181,6 +201,33 @@ public class FootballStreamDataController {
         return ResponseEntity.ok(footballStreamWebService.getMatchStatistics(requestUrl, preferenceKey, fixtureId));
     }
 
+    /**
+     * JSON 보다 CBOR 를 명시적으로 요청한 경우에만 true. Accept 가 없거나 * 만 있는 요청은 JSON 으로 응답합니다.
+     */
+    private static boolean acceptsCbor(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+            for (MediaType mediaType : mediaTypes) {
+                if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                    continue;
+                }
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return false;
+                }
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                    return true;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            log.debug("invalid accept header : {}", accept);
+        }
+        return false;
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ApiResponse<Void>> handleMissingServletRequestParameterException(
             MissingServletRequestParameterException ex,
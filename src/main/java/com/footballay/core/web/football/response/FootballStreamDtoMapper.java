@@ -14,6 +14,7 @@ import org.jetbrains.annotations.NotNull;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
@@ -143,12 +144,12 @@ public class FootballStreamDtoMapper {
             LineupDto homeLineup = dto.homeLineup();
             LineupDto awayLineup = dto.awayLineup();
             try {
-                List<LineupDto.LineupPlayer> dtoHomePlayers = sortWithStartLineupComparator(homeLineup);
+                List<LineupDto.LineupPlayer> dtoHomePlayers = orderedLineupPlayers(homeLineup);
                 List<FixtureLineupResponse._LineupPlayer> homeStartXI = new ArrayList<>();
                 List<FixtureLineupResponse._LineupPlayer> homeSubstitutes = new ArrayList<>();
                 toLineupPlayerList(dtoHomePlayers, homeStartXI, homeSubstitutes);
 
-                List<LineupDto.LineupPlayer> dtoAwayPlayers = sortWithStartLineupComparator(awayLineup);
+                List<LineupDto.LineupPlayer> dtoAwayPlayers = orderedLineupPlayers(awayLineup);
                 List<FixtureLineupResponse._LineupPlayer> awayStartXI = new ArrayList<>();
                 List<FixtureLineupResponse._LineupPlayer> awaySubstitutes = new ArrayList<>();
                 toLineupPlayerList(dtoAwayPlayers, awayStartXI, awaySubstitutes);
@@ -249,8 +250,27 @@ public class FootballStreamDtoMapper {
         );
     }
 
-    private static @NotNull List<LineupDto.LineupPlayer> sortWithStartLineupComparator(LineupDto lineupDto) {
-        return lineupDto.players().stream().sorted(new StartLineupComparator()).toList();
+    /**
+     * 라인업은 저장 시 계산한 정렬 키 순서로 조회되므로 대부분 그대로 사용합니다. <br>
+     * 등번호가 바뀌어 조회 시점에 다시 계산한 정렬 키 순서가 아니면 정렬 키로 정렬하고, 정렬 키가 없으면 {@link StartLineupComparator} 로 정렬합니다.
+     */
+    private static @NotNull List<LineupDto.LineupPlayer> orderedLineupPlayers(LineupDto lineupDto) {
+        List<LineupDto.LineupPlayer> players = lineupDto.players();
+        boolean ordered = true;
+        long previousKey = Long.MIN_VALUE;
+        for (LineupDto.LineupPlayer player : players) {
+            if (player.lineupSortKey() == null) {
+                return players.stream().sorted(new StartLineupComparator()).toList();
+            }
+            if (player.lineupSortKey() < previousKey) {
+                ordered = false;
+            }
+            previousKey = player.lineupSortKey();
+        }
+        if (ordered) {
+            return players;
+        }
+        return players.stream().sorted(Comparator.comparingLong(LineupDto.LineupPlayer::lineupSortKey)).toList();
     }
 
     private static void toLineupPlayerList(
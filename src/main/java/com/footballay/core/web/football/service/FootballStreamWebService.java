@@ -233,12 +233,19 @@ public class FootballStreamWebService {
     }
 
     public ApiResponse<MatchStatisticsResponse> getMatchStatistics(String requestUrl, @Nullable String preferenceKey, long fixtureId) {
+        return getMatchStatistics(requestUrl, preferenceKey, fixtureId, false);
+    }
+
+    /**
+     * @param cacheCbor CBOR 로 요청된 경우 true. 응답을 CBOR 형식으로도 캐싱합니다.
+     */
+    public ApiResponse<MatchStatisticsResponse> getMatchStatistics(String requestUrl, @Nullable String preferenceKey, long fixtureId, boolean cacheCbor) {
         Map<String, String> params = Map.of("fixtureId", String.valueOf(fixtureId));
         log.info("getMatchStatistics. params={}", params);
         try {
             MatchStatisticsDto matchStatisticsDTO = footballRoot.getMatchStatistics(fixtureId);
             MatchStatisticsResponse responseData = MatchStatisticsResponseMapper.toResponse(matchStatisticsDTO);
-            cachedApiResponseService.cacheResponse(requestUrl, params, responseData);
+            cachedApiResponseService.cacheResponse(requestUrl, params, responseData, cacheCbor);
             return apiCommonResponseService.createSuccessResponse(new MatchStatisticsResponse[]{responseData}, requestUrl, params);
         } catch (Exception e) {
             log.error("Error occurred while calling method getMatchStatistics() fixtureId : {}", fixtureId, e);
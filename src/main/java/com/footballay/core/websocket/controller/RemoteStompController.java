@@ -1,14 +1,20 @@
 package com.footballay.core.websocket.controller;
 
+import com.footballay.core.domain.token.RemoteSessionTokenService;
 import com.footballay.core.websocket.domain.scoreboard.remote.ScoreBoardRemoteServiceImpl;
 import com.footballay.core.websocket.domain.scoreboard.remote.code.RemoteCode;
+import com.footballay.core.websocket.domain.scoreboard.remote.dispatch.RemoteDispatchExecutor;
+import com.footballay.core.websocket.domain.scoreboard.remote.dispatch.RemoteMembersBroadcaster;
+import com.footballay.core.websocket.domain.scoreboard.remote.dispatch.RemoteMessageCoalescer;
 import com.footballay.core.websocket.request.AutoRemoteReconnectRequestMessage;
 import com.footballay.core.websocket.request.RemoteConnectRequestMessage;
 import com.footballay.core.websocket.request.RemoteIssueRequestMessage;
 import com.footballay.core.websocket.response.ErrorResponse;
 import com.footballay.core.websocket.response.RemoteConnectResponse;
 import com.footballay.core.websocket.response.RemoteMembersResponse;
+import com.footballay.core.websocket.response.RemoteSessionTokenResponse;
 import com.footballay.core.websocket.response.SubscribeDoneResponse;
+import com.footballay.core.websocket.user.RemoteSessionRegistry;
 import io.jsonwebtoken.lang.Strings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,15 +32,23 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Consumer;
 
 @Slf4j
 @RequiredArgsConstructor
 @Controller
 public class RemoteStompController {
 
+    /**
+     * 원격 제어 메시지에 원격 세션 토큰을 담는 STOMP 헤더
+     */
+    public static final String REMOTE_TOKEN_HEADER = "remote-token";
+
     private final ScoreBoardRemoteServiceImpl scoreBoardRemoteService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final RemoteMessageCoalescer remoteMessageCoalescer;
+    private final RemoteMembersBroadcaster remoteMembersBroadcaster;
+    private final RemoteSessionRegistry remoteSessionRegistry;
+    private final RemoteSessionTokenService remoteSessionTokenService;
 
     @MessageMapping("/remote.issuecode")
     @SendToUser("/topic/remote")
@@ -59,11 +73,14 @@ public class RemoteStompController {
             scoreBoardRemoteService.cacheUserPrincipalAndUuidForAutoRemote(principal, uuid.toString());
         }
 
-        sendRemoteMembersUpdateMessage(remoteCode);
+        remoteMembersBroadcaster.requestBroadcast(remoteCode);
 
         log.info("issued remoteCode: {} , user : {}", remoteCode, principal.getName());
         headerAccessor.getSessionAttributes().put("remoteCode", remoteCode.getRemoteCode());
-        return new RemoteConnectResponse(remoteCode.getRemoteCode(), message.isAutoRemote());
+        registerSession(headerAccessor, principal, remoteCode.getRemoteCode());
+        RemoteConnectResponse response = new RemoteConnectResponse(remoteCode.getRemoteCode(), message.isAutoRemote());
+        response.setSessionToken(remoteSessionTokenService.issue(remoteCode.getRemoteCode(), principal.getName()));
+        return response;
     }
 
     /**
@@ -102,10 +119,13 @@ public class RemoteStompController {
             scoreBoardRemoteService.cacheUserPrincipalAndUuidForAutoRemote(principal, uuid.toString());
         }
 
-        sendRemoteMembersUpdateMessage(remoteCode);
+        remoteMembersBroadcaster.requestBroadcast(remoteCode);
 
         sessionAttributes.put("remoteCode", remoteCode.getRemoteCode());
-        return new RemoteConnectResponse(remoteCode.getRemoteCode(), message.isAutoRemote());
+        registerSession(headerAccessor, principal, remoteCode.getRemoteCode());
+        RemoteConnectResponse response = new RemoteConnectResponse(remoteCode.getRemoteCode(), message.isAutoRemote());
+        response.setSessionToken(remoteSessionTokenService.issue(remoteCode.getRemoteCode(), principal.getName()));
+        return response;
     }
 
     /**
@@ -133,12 +153,50 @@ public class RemoteStompController {
         RemoteConnectResponse response = scoreBoardRemoteService.autoRemoteReconnect(principal, nickname);
         log.info("autoRemoteReconnect _FixtureSingle : {}", response);
 
-        sendRemoteMembersUpdateMessage(RemoteCode.of(response.getRemoteCode()));
+        remoteMembersBroadcaster.requestBroadcast(RemoteCode.of(response.getRemoteCode()));
 
         headerAccessor.getSessionAttributes().put("remoteCode", response.getRemoteCode());
+        registerSession(headerAccessor, principal, response.getRemoteCode());
+        response.setSessionToken(remoteSessionTokenService.issue(response.getRemoteCode(), principal.getName()));
         return response;
     }
 
+    /**
+     * 세션을 원격 코드에 등록합니다. 같은 세션이 다른 코드로 옮겨 이전 코드를 떠났다면 DISCONNECT 와 같이 퇴장 처리하고 멤버 목록을 전송합니다.
+     */
+    private void registerSession(StompHeaderAccessor headerAccessor, Principal principal, String remoteCode) {
+        remoteSessionRegistry.register(headerAccessor.getSessionId(), principal.getName(), remoteCode)
+                .ifPresent(departed -> {
+                    log.info("session moved to another remoteCode. exit previous remoteCode :: {} , Principal :: {}", departed.remoteCode(), departed.principalName());
+                    RemoteCode previousCode = RemoteCode.of(departed.remoteCode());
+                    scoreBoardRemoteService.exitUser(previousCode, principal);
+                    remoteMembersBroadcaster.requestBroadcast(previousCode);
+                });
+    }
+
+    /**
+     * 원격 세션 토큰을 갱신합니다. 세션에 등록된 원격 코드의 구독자 명단에 있는 경우에만 새 토큰을 발급합니다.
+     */
+    @MessageMapping("/remote.token")
+    @SendToUser("/topic/remote")
+    public RemoteSessionTokenResponse refreshSessionToken(
+            Principal principal,
+            StompHeaderAccessor headerAccessor
+    ) {
+        if (principal == null) {
+            throw new IllegalArgumentException("general:유저 이름 객체가 비어있습니다. 서버 관리자에게 문의해주세요");
+        }
+        String sessionRemoteCode = (String) headerAccessor.getSessionAttributes().get("remoteCode");
+        if (sessionRemoteCode == null) {
+            throw new IllegalArgumentException("remotecode:세션에 등록된 코드가 없습니다. 재접속해주세요.");
+        }
+        if (!scoreBoardRemoteService.isSubscriber(RemoteCode.of(sessionRemoteCode), principal)) {
+            throw new IllegalArgumentException("remotecode:원격 코드에 참여하고 있지 않습니다. 재접속해주세요.");
+        }
+        String token = remoteSessionTokenService.issue(sessionRemoteCode, principal.getName());
+        return new RemoteSessionTokenResponse(sessionRemoteCode, token, remoteSessionTokenService.getTtl().toSeconds());
+    }
+
     @MessageMapping("/remote.subcheck")
     @SendToUser("/topic/remote")
     public SubscribeDoneResponse subscribeCheck() {
@@ -146,12 +204,15 @@ public class RemoteStompController {
     }
 
     /**
-     * 원격 명령을 중개해줍니다.
+     * 원격 명령을 중개해줍니다. <br>
+     * inbound 스레드에서는 세션 검증만 하고, Redis 조회와 구독자 전송은 {@link RemoteDispatchExecutor} 의 원격 코드별 lane 에서 순서대로 처리합니다.
+     * lane 이 가득 찬 경우 메시지를 버리고 발행자에게 알립니다. <br>
+     * 메시지에 {@link RemoteMessageCoalescer#COALESCE_KEY} 가 있으면 상태 메시지로 보고 coalescing window 안에서 마지막 상태만 전송합니다. <br>
+     * 요청된 코드는 항상 세션에 등록된 코드와 비교하고, {@link #REMOTE_TOKEN_HEADER} 헤더가 있으면 원격 세션 토큰의 서명도 확인합니다.
      * @param remoteCode
      * @param message
      * @param principal
      * @param headerAccessor
-     * @return
      */
     @MessageMapping("/remote/{remoteCode}")
     public void remoteControl(
@@ -163,28 +224,49 @@ public class RemoteStompController {
         if (principal == null || !StringUtils.hasText(principal.getName())) {
             throw new IllegalArgumentException("nickname:유저 이름 객체가 비어있습니다. 서버 관리자에게 문의해주세요");
         }
+        RemoteCode code = RemoteCode.of(remoteCode);
 
-        log.info("remoteCode : {}", remoteCode);
-        log.info("remote control message : {}", message);
-        log.info("principal name : {}", principal.getName());
-        if (!scoreBoardRemoteService.isValidCode(RemoteCode.of(remoteCode))) {
-            throw new IllegalArgumentException("remotecode:유효하지 않은 코드입니다.");
-        }
-
+        // 토큰이 있더라도 세션에 등록된 코드와 비교합니다. 다른 코드로 옮긴 세션이 이전 코드의 토큰으로 제어하지 못하게 합니다.
         String sessionRemoteCode = (String) headerAccessor.getSessionAttributes().get("remoteCode");
-        log.info("sessionRemoteCode : {}", sessionRemoteCode);
         if (sessionRemoteCode == null || !sessionRemoteCode.equals(remoteCode)) {
             throw new IllegalArgumentException("remotecode:세션에 등록된 코드와 요청된 코드가 일치하지 않습니다. 재접속해주세요.");
         }
+        String sessionToken = headerAccessor.getFirstNativeHeader(REMOTE_TOKEN_HEADER);
+        if (sessionToken != null && !remoteSessionTokenService.verify(sessionToken, remoteCode, principal.getName())) {
+            throw new IllegalArgumentException("remotecode:원격 세션 토큰이 유효하지 않습니다. 토큰을 갱신해주세요.");
+        }
 
-        LocalDateTime now = LocalDateTime.now();
-        message.put("serverTime", now);
-        log.info("server time added To Message : {}", now);
+        message.put("serverTime", LocalDateTime.now());
+        log.debug("remote control message. remoteCode={}, principal={}, message={}", remoteCode, principal.getName(), message);
 
-        Consumer<String> sendMessageToUser = (userName) -> {
-            messagingTemplate.convertAndSendToUser(userName, "/topic/remote/" + remoteCode, message);
-        };
-        scoreBoardRemoteService.sendMessageToSubscribers(remoteCode, principal, sendMessageToUser);
+        final String publisherName = principal.getName();
+        final String coalesceKey = message.get(RemoteMessageCoalescer.COALESCE_KEY) instanceof String key && StringUtils.hasText(key)
+                ? key
+                : null;
+        boolean accepted = remoteMessageCoalescer.submit(
+                code.getRemoteCode(),
+                coalesceKey,
+                () -> dispatchRemoteControl(code, publisherName, message)
+        );
+        if (!accepted) {
+            throw new IllegalArgumentException("noshow:원격 명령이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void dispatchRemoteControl(RemoteCode remoteCode, String publisherName, Map<String, Object> message) {
+        final String destination = "/topic/remote/" + remoteCode.getRemoteCode();
+        boolean isValidCode = scoreBoardRemoteService.sendMessageToSubscribers(
+                remoteCode.getRemoteCode(),
+                publisherName,
+                userName -> messagingTemplate.convertAndSendToUser(userName, destination, message)
+        );
+        if (!isValidCode) {
+            messagingTemplate.convertAndSendToUser(
+                    publisherName,
+                    "/topic/remote",
+                    new ErrorResponse("remotecode:유효하지 않은 코드입니다.")
+            );
+        }
     }
 
     @MessageMapping("/remote/{remoteCode}/members")
@@ -225,20 +307,4 @@ public class RemoteStompController {
         }
         return false;
     }
-
-    private void sendRemoteMembersUpdateMessage(RemoteCode remoteCode) {
-        List<List<String>> remoteUserDetails = scoreBoardRemoteService.getRemoteUserDetails(remoteCode);
-        List<String> principals = remoteUserDetails.get(0);
-        List<String> nicknames = remoteUserDetails.get(1);
-        log.info("principals : {}", principals);
-        log.info("nicknames : {}", nicknames);
-        RemoteMembersResponse memberResponse = new RemoteMembersResponse(nicknames);
-        for (String userName : principals) {
-            messagingTemplate.convertAndSendToUser(
-                    userName,
-                    "/topic/remote/"+ remoteCode.getRemoteCode(),
-                    memberResponse
-            );
-        }
-    }
 }
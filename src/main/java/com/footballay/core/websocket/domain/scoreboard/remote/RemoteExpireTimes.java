@@ -7,5 +7,6 @@ public class RemoteExpireTimes {
     public static final Duration REMOTECODE_EXP = Duration.ofHours(24);
     public static final Duration ACTIVE_REMOTE_GROUP = Duration.ofHours(24);
     public static final Duration USER_PRE_CACHING = Duration.ofMinutes(5);
+    public static final Duration ANONYMOUS_USER_GROUP = Duration.ofDays(30);
 
 }
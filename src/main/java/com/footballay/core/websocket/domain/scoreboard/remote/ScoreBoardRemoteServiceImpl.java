@@ -3,6 +3,7 @@ package com.footballay.core.websocket.domain.scoreboard.remote;
 import com.footballay.core.websocket.domain.scoreboard.remote.autoremote.service.AutoRemoteService;
 import com.footballay.core.websocket.domain.scoreboard.remote.code.RemoteCode;
 import com.footballay.core.websocket.domain.scoreboard.remote.code.service.RemoteCodeService;
+import com.footballay.core.websocket.domain.scoreboard.remote.dispatch.RemoteDispatchExecutor;
 import com.footballay.core.websocket.response.RemoteConnectResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,7 @@ public class ScoreBoardRemoteServiceImpl {
 
     private final RemoteCodeService remoteCodeService;
     private final AutoRemoteService autoRemoteService;
+    private final RemoteDispatchExecutor remoteDispatchExecutor;
 
     /**
      * 자동 연결 과정에서 사용할 Principal - UUID 쌍을 Redis 에 캐싱합니다.
@@ -116,19 +118,26 @@ public class ScoreBoardRemoteServiceImpl {
         this.cacheUserPrincipalAndUuidForAutoRemote(principal, userUUID);
     }
 
-    public void sendMessageToSubscribers(String remoteCode, Principal remotePublisher, Consumer<String> sendMessageToSubscriber) {
-        remoteCodeService.refreshExpiration(RemoteCode.of(remoteCode));
+    /**
+     * 원격 코드의 구독자 중 발행자를 제외한 구독자들에게 병렬로 전송합니다.
+     * 구독자 조회로 코드의 유효성을 함께 확인하므로, 별도의 유효성 확인 요청을 보내지 않습니다.
+     * {@link RemoteDispatchExecutor} 의 lane 안에서 호출해서 같은 코드의 메시지 순서를 유지합니다.
+     *
+     * @return 구독자가 없는(만료된) 코드인 경우 false
+     */
+    public boolean sendMessageToSubscribers(String remoteCode, String publisherName, Consumer<String> sendMessageToSubscriber) {
         Map<Object, Object> subscribers = remoteCodeService.getSubscribers(remoteCode);
-        subscribers.keySet().forEach(key -> {
-            String subscriber = (String) key;
-            log.info("subscriber : {}", subscriber);
-            if(!subscriber.equals(remotePublisher.getName())) {
-                log.info("send to user : {}", subscriber);
-                sendMessageToSubscriber.accept(subscriber);
-            } else {
-                log.info("skip send to user : {}", subscriber);
-            }
-        });
+        if (subscribers.isEmpty()) {
+            return false;
+        }
+        remoteCodeService.refreshExpiration(RemoteCode.of(remoteCode));
+        List<String> receivers = subscribers.keySet().stream()
+                .map(String.class::cast)
+                .filter(subscriber -> !subscriber.equals(publisherName))
+                .toList();
+        log.debug("send remote message. remoteCode={}, receivers={}", remoteCode, receivers);
+        remoteDispatchExecutor.fanOut(receivers, sendMessageToSubscriber);
+        return true;
     }
 
     public RemoteConnectResponse autoRemoteReconnect(Principal principal, String nickname) {
@@ -140,4 +149,8 @@ public class ScoreBoardRemoteServiceImpl {
     public boolean isValidCode(RemoteCode remoteCode) {
         return remoteCodeService.isValidCode(remoteCode);
     }
+
+    public boolean isSubscriber(RemoteCode remoteCode, Principal principal) {
+        return remoteCodeService.isSubscriber(remoteCode, principal.getName());
+    }
 }
@@ -4,11 +4,18 @@ import com.footballay.core.websocket.domain.scoreboard.remote.RemoteExpireTimes;
 import io.jsonwebtoken.lang.Strings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -31,7 +38,22 @@ import java.util.Set;
  * 3) RemoteCode to AutoGroupId
  * key : autoremote_remotecode_{remoteCode}
  * value : {groupid}
+ * <br>
+ * 4) 활성 그룹 index [Sorted Set]
+ * key : autoremote_active_groups
+ * member : {groupid} , score : 만료 시각(epoch millis)
+ * <br>
+ * 5) 익명 유저 UUID to AutoGroupId [Value]
+ * key : autoremote_user_{UUID}
+ * value : {groupid}
+ * <br>
+ * 6) DB 반영 대기중인 활동 시각 [Hash]
+ * key : autoremote_activity_users , field : {UUID} , value : 마지막 연결 시각(epoch millis)
+ * key : autoremote_activity_groups , field : {groupid} , value : 마지막 활성 시각(epoch millis)
  * </pre>
+ * 활성 그룹 목록 조회와 일괄 삭제는 KEYS 로 전체 keyspace 를 훑지 않고 index 를 ZRANGEBYSCORE 로 나눠 읽습니다.
+ * 값 조회는 MGET, 삭제는 pipeline 으로 batch 단위로 처리합니다.
+ * index 의 만료 시각이 지난 member 는 목록 조회 시 ZREMRANGEBYSCORE 로 정리합니다. (key pair 자체는 TTL 로 만료)
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -42,9 +64,24 @@ public class AutoRemoteRedisRepository {
     private static final String IDENTIFIER_BEFORE_CACHE = "usercookie_";
     private static final String IDENTIFIER_GROUP_ID = "groupid_";
     private static final String IDENTIFIER_REMOTE_CODE = "remotecode_";
+    private static final String KEY_ACTIVE_GROUP_INDEX = PREFIX_AUTOREMOTE_COMMON + "active_groups";
+    private static final int INDEX_BATCH_SIZE = 500;
+    private static final String IDENTIFIER_USER = "user_";
+    private static final String KEY_USER_ACTIVITY = PREFIX_AUTOREMOTE_COMMON + "activity_users";
+    private static final String KEY_GROUP_ACTIVITY = PREFIX_AUTOREMOTE_COMMON + "activity_groups";
+
+    /**
+     * hash 를 읽고 삭제하는 작업을 원자적으로 실행해서, 읽은 뒤 삭제 전에 기록된 활동 시각이 사라지지 않게 합니다.
+     */
+    private static final RedisScript<List> DRAIN_HASH_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return entries
+            """, List.class);
 
     private static final Duration EXP_ACTIVE_GROUP = RemoteExpireTimes.ACTIVE_REMOTE_GROUP;
     private static final Duration EXP_USER_PRE_CACHE = RemoteExpireTimes.USER_PRE_CACHING;
+    private static final Duration EXP_USER_GROUP = RemoteExpireTimes.ANONYMOUS_USER_GROUP;
 
     private final StringRedisTemplate stringRedisTemplate;
 
@@ -55,16 +92,72 @@ public class AutoRemoteRedisRepository {
         // Key log
         log.info("Key from autogroup: {}", KEY_FROM_AUTOGROUP);
         log.info("Key from remotecode: {}", KEY_FROM_REMOTECODE);
-        stringRedisTemplate.opsForValue()
-                .set(KEY_FROM_AUTOGROUP, remoteCode, EXP_ACTIVE_GROUP);
-        stringRedisTemplate.opsForValue()
-                .set(KEY_FROM_REMOTECODE, autoGroupId, EXP_ACTIVE_GROUP);
+        final double expireAt = System.currentTimeMillis() + EXP_ACTIVE_GROUP.toMillis();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.setEx(KEY_FROM_AUTOGROUP, EXP_ACTIVE_GROUP.toSeconds(), remoteCode);
+            stringConnection.setEx(KEY_FROM_REMOTECODE, EXP_ACTIVE_GROUP.toSeconds(), autoGroupId);
+            stringConnection.zAdd(KEY_ACTIVE_GROUP_INDEX, expireAt, autoGroupId);
+            return null;
+        });
     }
 
-    public void setUserPreCacheForCookie(String principalName, String userId) {
-        log.info("setUserPreCacheForCookie Called :: Principal={} , userId={}", principalName, userId);
+    /**
+     * Principal - UUID 를 캐싱하고 유저의 연결 시각을 기록합니다. 한 번의 pipeline 으로 처리합니다.
+     */
+    public void setUserPreCacheAndRecordConnection(String principalName, String userId, long connectedAtMillis) {
+        log.info("setUserPreCacheAndRecordConnection Called :: Principal={} , userId={}", principalName, userId);
         final String key = keyForPrincipalToUuid(principalName);
-        stringRedisTemplate.opsForValue().set(key, userId, EXP_USER_PRE_CACHE);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.setEx(key, EXP_USER_PRE_CACHE.toSeconds(), userId);
+            stringConnection.hSet(KEY_USER_ACTIVITY, userId, Long.toString(connectedAtMillis));
+            return null;
+        });
+    }
+
+    /**
+     * 익명 유저가 속한 자동 원격 그룹 ID 를 조회하고 만료시간을 갱신합니다.
+     */
+    public Optional<Long> findGroupIdOfUser(String userId) {
+        String groupId = stringRedisTemplate.opsForValue().getAndExpire(keyForUserToGroup(userId), EXP_USER_GROUP);
+        return Optional.ofNullable(groupId).map(Long::parseLong);
+    }
+
+    public void setGroupIdOfUser(String userId, long groupId) {
+        stringRedisTemplate.opsForValue().set(keyForUserToGroup(userId), Long.toString(groupId), EXP_USER_GROUP);
+    }
+
+    public void recordGroupActive(long groupId, long activeAtMillis) {
+        stringRedisTemplate.opsForHash().put(KEY_GROUP_ACTIVITY, Long.toString(groupId), Long.toString(activeAtMillis));
+    }
+
+    /**
+     * DB 반영 대기중인 유저 연결 시각을 꺼내고 비웁니다.
+     * @return {UUID, epoch millis}
+     */
+    public Map<String, Long> drainUserActivities() {
+        return drainHash(KEY_USER_ACTIVITY);
+    }
+
+    /**
+     * DB 반영 대기중인 그룹 활성 시각을 꺼내고 비웁니다.
+     * @return {groupId, epoch millis}
+     */
+    public Map<String, Long> drainGroupActivities() {
+        return drainHash(KEY_GROUP_ACTIVITY);
+    }
+
+    /**
+     * DB 반영에 실패한 활동 시각을 되돌립니다. 그 사이 새로 기록된 시각이 있다면 새 값을 유지합니다.
+     */
+    public void restoreActivities(Map<String, Long> userActivities, Map<String, Long> groupActivities) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            userActivities.forEach((userId, millis) -> stringConnection.hSetNX(KEY_USER_ACTIVITY, userId, Long.toString(millis)));
+            groupActivities.forEach((groupId, millis) -> stringConnection.hSetNX(KEY_GROUP_ACTIVITY, groupId, Long.toString(millis)));
+            return null;
+        });
     }
 
     /**
@@ -80,10 +173,7 @@ public class AutoRemoteRedisRepository {
         if(remoteCode == null)
             return;
 
-        final String KEY_FROM_REMOTECODE = activeKeyFromCode(remoteCode);
-
-        stringRedisTemplate.delete(KEY_FROM_AUTOGROUP);
-        stringRedisTemplate.delete(KEY_FROM_REMOTECODE);
+        deleteKeyPairs(Map.of(autoGroupId, remoteCode));
     }
 
     public Optional<String> findUserPreCache(String principalName) {
@@ -131,17 +221,31 @@ public class AutoRemoteRedisRepository {
         return PREFIX_AUTOREMOTE_COMMON + IDENTIFIER_BEFORE_CACHE + principalName;
     }
 
-    public void removeAllActiveGroups() {
-        Set<String> activeFromGroupKeys = stringRedisTemplate
-                .keys(PREFIX_AUTOREMOTE_COMMON + IDENTIFIER_GROUP_ID + '*');
-        Set<String> activeFromRemoteKeys = stringRedisTemplate
-                .keys(PREFIX_AUTOREMOTE_COMMON + IDENTIFIER_REMOTE_CODE + '*');
+    private static String keyForUserToGroup(String userId) {
+        return PREFIX_AUTOREMOTE_COMMON + IDENTIFIER_USER + userId;
+    }
 
-        if (activeFromGroupKeys != null) {
-            activeFromGroupKeys.forEach(stringRedisTemplate::delete);
+    private Map<String, Long> drainHash(String key) {
+        List<?> entries = stringRedisTemplate.execute(DRAIN_HASH_SCRIPT, List.of(key));
+        Map<String, Long> result = new HashMap<>();
+        if (entries == null) {
+            return result;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            result.put(String.valueOf(entries.get(i)), Long.parseLong(String.valueOf(entries.get(i + 1))));
         }
-        if (activeFromRemoteKeys != null) {
-            activeFromRemoteKeys.forEach(stringRedisTemplate::delete);
+        return result;
+    }
+
+    /**
+     * 활성 그룹 index 를 batch 단위로 읽어서 모든 key pair 와 index 를 삭제합니다.
+     */
+    public void removeAllActiveGroups() {
+        Set<String> groupIds;
+        while (!(groupIds = activeGroupIdsPage(Double.NEGATIVE_INFINITY, 0)).isEmpty()) {
+            deleteKeyPairs(findRemoteCodes(groupIds));
+            // key 가 먼저 만료된 그룹도 index 에서 제거해서 다음 batch 로 넘어갑니다
+            stringRedisTemplate.opsForZSet().remove(KEY_ACTIVE_GROUP_INDEX, groupIds.toArray());
         }
     }
 
@@ -151,28 +255,80 @@ public class AutoRemoteRedisRepository {
                 .get(KEY_FROM_REMOTECODE);
         if(autoGroupId == null) return;
 
-        final String KEY_FROM_AUTOGROUP = activeKeyFromGroup(autoGroupId);
-
-        stringRedisTemplate.delete(KEY_FROM_AUTOGROUP);
-        stringRedisTemplate.delete(KEY_FROM_REMOTECODE);
+        deleteKeyPairs(Map.of(autoGroupId, remoteCode));
     }
 
+    /**
+     * 만료되지 않은 활성 그룹의 key pair 를 조회합니다.
+     * @return {key, value} 형태로 autoremote_groupid_{groupid} 와 autoremote_remotecode_{remoteCode} key 를 모두 포함
+     */
     public Map<String, String> getAllActiveGroups() {
-        Set<String> activeFromGroupKeys = stringRedisTemplate
-                .keys(PREFIX_AUTOREMOTE_COMMON + IDENTIFIER_GROUP_ID + '*');
-        Set<String> activeFromRemoteKeys = stringRedisTemplate
-                .keys(PREFIX_AUTOREMOTE_COMMON + IDENTIFIER_REMOTE_CODE + '*');
+        sweepExpiredGroups();
 
         Map<String, String> map = new HashMap<>();
-        for (String key : activeFromRemoteKeys) {
-            String value = stringRedisTemplate.opsForValue().get(key);
-            map.put(key, value);
-        }
-        for (String key : activeFromGroupKeys) {
-            String value = stringRedisTemplate.opsForValue().get(key);
-            map.put(key, value);
+        final double now = System.currentTimeMillis();
+        long offset = 0;
+        Set<String> groupIds;
+        while (!(groupIds = activeGroupIdsPage(now, offset)).isEmpty()) {
+            findRemoteCodes(groupIds).forEach((groupId, remoteCode) -> {
+                map.put(activeKeyFromGroup(groupId), remoteCode);
+                map.put(activeKeyFromCode(remoteCode), groupId);
+            });
+            offset += groupIds.size();
         }
         return map;
     }
 
+    /**
+     * 만료 시각이 지난 활성 그룹을 index 에서 제거합니다.
+     * @return 제거된 그룹 수
+     */
+    public long sweepExpiredGroups() {
+        Long removed = stringRedisTemplate.opsForZSet()
+                .removeRangeByScore(KEY_ACTIVE_GROUP_INDEX, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+        return removed == null ? 0 : removed;
+    }
+
+    private Set<String> activeGroupIdsPage(double minScore, long offset) {
+        Set<String> groupIds = stringRedisTemplate.opsForZSet()
+                .rangeByScore(KEY_ACTIVE_GROUP_INDEX, minScore, Double.POSITIVE_INFINITY, offset, INDEX_BATCH_SIZE);
+        return groupIds == null ? Set.of() : groupIds;
+    }
+
+    /**
+     * MGET 한 번으로 그룹들의 remoteCode 를 조회합니다. key 가 이미 만료된 그룹은 결과에서 제외합니다.
+     * @return {groupId, remoteCode}
+     */
+    private Map<String, String> findRemoteCodes(Collection<String> groupIds) {
+        List<String> orderedIds = new ArrayList<>(groupIds);
+        List<String> remoteCodes = stringRedisTemplate.opsForValue()
+                .multiGet(orderedIds.stream().map(AutoRemoteRedisRepository::activeKeyFromGroup).toList());
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < orderedIds.size(); i++) {
+            String remoteCode = remoteCodes == null ? null : remoteCodes.get(i);
+            if (Strings.hasText(remoteCode)) {
+                result.put(orderedIds.get(i), remoteCode);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * key pair 와 index member 를 pipeline 으로 삭제합니다.
+     * @param pairs {groupId, remoteCode}
+     */
+    private void deleteKeyPairs(Map<String, String> pairs) {
+        if (pairs.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            pairs.forEach((groupId, remoteCode) -> {
+                stringConnection.del(activeKeyFromGroup(groupId), activeKeyFromCode(remoteCode));
+                stringConnection.zRem(KEY_ACTIVE_GROUP_INDEX, groupId);
+            });
+            return null;
+        });
+    }
+
 }
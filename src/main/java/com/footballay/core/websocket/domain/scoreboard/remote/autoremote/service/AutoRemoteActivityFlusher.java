@@ -0,0 +1,94 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.autoremote.service;
+
+import com.footballay.core.websocket.domain.scoreboard.remote.autoremote.repository.AutoRemoteRedisRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 에 기록된 익명 유저의 연결 시각과 자동 원격 그룹의 활성 시각을 주기적으로 DB 에 반영합니다. <br>
+ * 재연결마다 DB 를 갱신하지 않고, flush 주기 동안 유저/그룹별 마지막 시각만 모아서 한 번에 갱신합니다.
+ * DB 반영에 실패하면 꺼낸 시각을 Redis 에 되돌려서 다음 flush 에서 다시 시도합니다.
+ */
+@Slf4j
+@Component
+public class AutoRemoteActivityFlusher {
+
+    private final AutoRemoteRedisRepository autoRemoteRedisRepository;
+    private final AutoRemoteService autoRemoteService;
+    private final long intervalSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    public AutoRemoteActivityFlusher(
+            AutoRemoteRedisRepository autoRemoteRedisRepository,
+            AutoRemoteService autoRemoteService,
+            @Value("${football.autoremote.activity-flush-interval-seconds:60}") long intervalSeconds
+    ) {
+        this.autoRemoteRedisRepository = autoRemoteRedisRepository;
+        this.autoRemoteService = autoRemoteService;
+        this.intervalSeconds = intervalSeconds;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("autoremote-activity-flush-"));
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flushSafely();
+    }
+
+    /**
+     * 대기중인 활동 시각을 DB 에 반영합니다.
+     * @return DB 에 반영을 시도한 유저와 그룹 수
+     */
+    public int flush() {
+        Map<String, Long> userActivities = autoRemoteRedisRepository.drainUserActivities();
+        Map<String, Long> groupActivities = autoRemoteRedisRepository.drainGroupActivities();
+        if (userActivities.isEmpty() && groupActivities.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, LocalDateTime> users = new HashMap<>();
+        userActivities.forEach((userId, millis) -> users.put(UUID.fromString(userId), toLocalDateTime(millis)));
+        Map<Long, LocalDateTime> groups = new HashMap<>();
+        groupActivities.forEach((groupId, millis) -> groups.put(Long.parseLong(groupId), toLocalDateTime(millis)));
+
+        try {
+            autoRemoteService.applyActivities(users, groups);
+        } catch (RuntimeException e) {
+            autoRemoteRedisRepository.restoreActivities(userActivities, groupActivities);
+            throw e;
+        }
+        log.info("flushed auto remote activities. users={}, groups={}", users.size(), groups.size());
+        return users.size() + groups.size();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("failed to flush auto remote activities", e);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
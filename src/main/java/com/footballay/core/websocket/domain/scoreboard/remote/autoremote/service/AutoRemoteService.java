@@ -10,11 +10,16 @@ import com.footballay.core.websocket.domain.scoreboard.remote.code.service.Redis
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.security.Principal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,6 +35,8 @@ public class AutoRemoteService {
     private final AutoRemoteGroupRepository groupRepository;
     private final AnonymousUserRepository userRepository;
 
+    private static final int ACTIVITY_BATCH_SIZE = 500;
+
     /**
      * 익명 유저를 생성하고 저장합니다.
      * @param autoRemoteGroup
@@ -44,7 +51,9 @@ public class AutoRemoteService {
         AnonymousUser anonymousUser = new AnonymousUser(); // UUID는 자동으로 생성됩니다.
         anonymousUser.setAutoRemoteGroup(autoRemoteGroup); // AutoRemoteGroup을 설정합니다.
         anonymousUser.setLastConnectedAt(LocalDateTime.now());
-        return userRepository.save(anonymousUser);
+        AnonymousUser saved = userRepository.save(anonymousUser);
+        autoRemoteRedisRepository.setGroupIdOfUser(saved.getId().toString(), autoRemoteGroup.getId());
+        return saved;
     }
 
     /**
@@ -55,10 +64,13 @@ public class AutoRemoteService {
      * 2) 활성된 상태 - 발급된 원격 코드가 있는 경우
      * RemoteCode 에 해당 사용자를 subscriber 로 추가합니다.
      * </pre>
+     * 유저가 속한 그룹과 활성 시각은 Redis 에서 읽고 기록하므로 재연결 시 DB 에 접근하지 않습니다.
+     * 활성 시각은 {@link AutoRemoteActivityFlusher} 가 주기적으로 DB 에 반영합니다.
      * @param principal
      * @param nickname
      * @return
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public RemoteCode connectToPrevFormedAutoRemoteGroup(Principal principal, String nickname) {
         if (principal == null || !StringUtils.hasText(nickname)) {
             throw new IllegalArgumentException("noshow:잘못된 요청입니다. 사용자 UUID 또는 Principal 이 존재하지 않습니다.");
@@ -69,11 +81,9 @@ public class AutoRemoteService {
             throw new IllegalArgumentException("noshow:존재하지 않는 익명 유저 UUID 입니다.");
         }
         UUID uuid = UUID.fromString(userUuid);
-        AnonymousUser findUser = userRepository.findById(uuid)
-                .orElseThrow(() -> new IllegalArgumentException("noshow:일치하는 익명 유저가 없습니다."));
+        long groupId = findGroupIdOfUser(uuid);
 
-        AutoRemoteGroup autoRemoteGroup = findUser.getAutoRemoteGroup();
-        String findRemoteCode = getActiveRemoteCodeFrom(autoRemoteGroup);
+        String findRemoteCode = autoRemoteRedisRepository.findRemoteCodeFromAutoGroupId(Long.toString(groupId));
         RemoteCode remoteCode;
 
         if (isActiveRemoteCodeExist(findRemoteCode)) {
@@ -85,10 +95,10 @@ public class AutoRemoteService {
             // cleanPrevRemoteGroup(autoRemoteGroup);
             remoteCode = remoteCodeService
                     .generateCodeAndSubscribe(principal.getName(), nickname);
-            activateAutoRemoteGroup(remoteCode, autoRemoteGroup.getId());
+            activateAutoRemoteGroup(remoteCode, groupId);
         }
 
-        autoRemoteGroup.setLastActiveAt(LocalDateTime.now());
+        autoRemoteRedisRepository.recordGroupActive(groupId, System.currentTimeMillis());
         return remoteCode;
     }
 
@@ -107,10 +117,11 @@ public class AutoRemoteService {
      * 클라이언트는 Cookie 로
      * Cookie 에서 얻은 User UUID 값을 검증하고, 통과하면 Redis 에 Value {key=Principal.Name, value=UUID} 로 캐싱합니다.
      * Cookie 에서 얻은 User UUID 가 DB 에 존재하지 않으면, IllegalArgumentException 을 던집니다.
+     * UUID 검증은 Redis 에 캐싱된 유저-그룹 정보로 먼저 하고, 캐싱되지 않은 경우에만 DB 를 조회합니다.
      * @param principal
      * @param userUUID
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void validateAndCacheUserToRedis(Principal principal, String userUUID) {
         if (principal == null || !StringUtils.hasText(userUUID)) {
             log.info("Principal: {}", principal);
@@ -119,13 +130,59 @@ public class AutoRemoteService {
         }
 
         UUID uuid = UUID.fromString(userUUID);
-        AnonymousUser findUser = userRepository.findById(uuid)
-                .orElseThrow(() -> new IllegalArgumentException("noshow:존재하지 않는 익명 유저입니다."));
+        findGroupIdOfUser(uuid);
 
         autoRemoteRedisRepository
-                .setUserPreCacheForCookie(principal.getName(), userUUID);
+                .setUserPreCacheAndRecordConnection(principal.getName(), userUUID, System.currentTimeMillis());
+    }
+
+    /**
+     * Redis 에 캐싱된 유저와 그룹의 활동 시각을 DB 에 반영합니다. 이미 저장된 시각보다 최신인 경우에만 갱신합니다.
+     * @param userActivities {UUID, 마지막 연결 시각}
+     * @param groupActivities {groupId, 마지막 활성 시각}
+     */
+    @Transactional
+    public void applyActivities(Map<UUID, LocalDateTime> userActivities, Map<Long, LocalDateTime> groupActivities) {
+        for (List<UUID> chunk : chunks(userActivities.keySet())) {
+            for (AnonymousUser user : userRepository.findAllById(chunk)) {
+                LocalDateTime connectedAt = userActivities.get(user.getId());
+                if (user.getLastConnectedAt() == null || connectedAt.isAfter(user.getLastConnectedAt())) {
+                    user.setLastConnectedAt(connectedAt);
+                }
+            }
+        }
+        for (List<Long> chunk : chunks(groupActivities.keySet())) {
+            for (AutoRemoteGroup group : groupRepository.findAllById(chunk)) {
+                LocalDateTime activeAt = groupActivities.get(group.getId());
+                if (group.getLastActiveAt() == null || activeAt.isAfter(group.getLastActiveAt())) {
+                    group.setLastActiveAt(activeAt);
+                }
+            }
+        }
+    }
+
+    /**
+     * 익명 유저가 속한 자동 원격 그룹 ID 를 찾습니다. Redis 에 없으면 DB 에서 찾아 Redis 에 캐싱합니다.
+     */
+    private long findGroupIdOfUser(UUID uuid) {
+        Optional<Long> cachedGroupId = autoRemoteRedisRepository.findGroupIdOfUser(uuid.toString());
+        if (cachedGroupId.isPresent()) {
+            return cachedGroupId.get();
+        }
+        AnonymousUser findUser = userRepository.findById(uuid)
+                .orElseThrow(() -> new IllegalArgumentException("noshow:존재하지 않는 익명 유저입니다."));
+        long groupId = findUser.getAutoRemoteGroup().getId();
+        autoRemoteRedisRepository.setGroupIdOfUser(uuid.toString(), groupId);
+        return groupId;
+    }
 
-        findUser.setLastConnectedAt(LocalDateTime.now());
+    private static <T> List<List<T>> chunks(Collection<T> ids) {
+        List<T> list = new ArrayList<>(ids);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += ACTIVITY_BATCH_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + ACTIVITY_BATCH_SIZE, list.size())));
+        }
+        return chunks;
     }
 
     @Transactional
@@ -156,11 +213,6 @@ public class AutoRemoteService {
         return activeAutoGroupId.map(Long::parseLong);
     }
 
-    private String getActiveRemoteCodeFrom(AutoRemoteGroup autoRemoteGroup) {
-        return autoRemoteRedisRepository
-                .findRemoteCodeFromAutoGroupId(autoRemoteGroup.getId().toString());
-    }
-
     public String findPreCachedUserUUID(Principal principal) {
         return autoRemoteRedisRepository
                 .findPrincipalToUuid(principal.getName()).orElseThrow(() -> new IllegalArgumentException("noshow:유저 정보가 존재하지 않습니다."));
@@ -6,15 +6,24 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -26,9 +35,56 @@ public class RedisRemoteCodeService implements RemoteCodeService {
 
     private static final String REMOTECODE_SET_PREFIX = "remote:";
     private static final Duration REMOTECODE_EXPIRATION = RemoteExpireTimes.REMOTECODE_EXP;
+    /**
+     * 활성 코드 index. member : remote:{remoteCode} , score : 만료 시각(epoch millis) <br>
+     * 전체 코드 조회/삭제 시 KEYS 대신 사용합니다. 만료 시각이 지난 member 는 조회 시 정리합니다.
+     */
+    private static final String REMOTECODE_INDEX_KEY = "remote_code_index";
+    private static final int INDEX_BATCH_SIZE = 500;
 
     protected static final int MAX_CHANNEL_MEMBER = 5;
 
+    /**
+     * 후보 코드 중 사용되지 않은 첫 코드를 점유합니다. <br>
+     * 존재 확인, 구독자 hash 생성, 만료시간 설정을 하나의 스크립트로 실행하므로 확인과 생성 사이의 경쟁이 없습니다.
+     * KEYS : 후보 코드 key 들, 마지막은 코드 index key / ARGV : {principalName, nickname, 만료시간(ms), 만료시각(epoch ms)}
+     * 반환 : 점유한 후보의 index (1부터 시작), 모두 사용중이면 0
+     */
+    private static final RedisScript<Long> ALLOCATE_CODE_SCRIPT = new DefaultRedisScript<>("""
+            local index = KEYS[#KEYS]
+            for i = 1, #KEYS - 1 do
+                local key = KEYS[i]
+                if redis.call('EXISTS', key) == 0 then
+                    redis.call('HSET', key, ARGV[1], ARGV[2])
+                    redis.call('PEXPIRE', key, ARGV[3])
+                    redis.call('ZADD', index, ARGV[4], key)
+                    return i
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 코드가 존재할 때만 만료시간을 설정하고 index 의 만료 시각을 갱신합니다. <br>
+     * 이미 만료되었거나 삭제된 코드를 index 에 다시 추가하지 않도록 PEXPIRE 결과를 확인한 뒤 ZADD 합니다.
+     * KEYS : {코드 key, 코드 index key} / ARGV : {만료시간(ms), 만료시각(epoch ms)}
+     * 반환 : 만료시간을 설정했으면 1, 코드가 없으면 0
+     */
+    private static final RedisScript<Long> SET_EXPIRATION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('PEXPIRE', KEYS[1], ARGV[1]) == 1 then
+                redis.call('ZADD', KEYS[2], ARGV[2], KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 한 번의 요청에 함께 보내는 후보 코드 수. 코드 공간(36^6)에 비해 활성 코드가 적으므로
+     * 후보가 모두 사용중일 확률은 무시할 수 있고, 사실상 항상 한 번의 round-trip 으로 코드를 발급합니다.
+     */
+    protected static final int CODE_CANDIDATES_PER_ATTEMPT = 4;
+    private static final int MAX_ALLOCATE_ATTEMPTS = 3;
+
     /**
      * 코드를 생성하고 Redis 에 코드 채널을 생성합니다.
      * Key : remote:{remoteCode}
@@ -40,24 +96,46 @@ public class RedisRemoteCodeService implements RemoteCodeService {
      */
     @Override
     public RemoteCode generateCodeAndSubscribe(String principalName, String nickname) {
-        RemoteCode remoteCode;
-        try{
-            do {
-                remoteCode = RemoteCode.generate();
-            } while (stringRedisTemplate.hasKey(getRemoteCodeKey(remoteCode)));
+        try {
+            for (int attempt = 0; attempt < MAX_ALLOCATE_ATTEMPTS; attempt++) {
+                List<RemoteCode> candidates = Stream.generate(RemoteCode::generate)
+                        .limit(CODE_CANDIDATES_PER_ATTEMPT)
+                        .toList();
+                Optional<RemoteCode> allocated = allocate(candidates, principalName, nickname);
+                if (allocated.isPresent()) {
+                    log.info("CodeService - generateCodeAndSubscribe: {}", allocated.get().getRemoteCode());
+                    return allocated.get();
+                }
+                log.warn("all remote code candidates are in use. attempt={}", attempt + 1);
+            }
         } catch (RedisConnectionFailureException e) {
             throw new RuntimeException("Maybe Redis Docker is Not running.",e);
         }
-        log.info("CodeService - generateCodeAndSubscribe: {}", remoteCode.getRemoteCode());
-
-        // 코드 SET 생성 - set 의 key 를 remote:remoteCode 로 하고, value 는 구독자들의 이름으로 한다.
-        final String REMOTE_CODE_KEY = getRemoteCodeKey(remoteCode);
-        stringRedisTemplate.opsForHash()
-                .put(REMOTE_CODE_KEY, principalName, nickname);
+        throw new IllegalArgumentException("general:원격 코드를 발급하지 못했습니다. 잠시 후 다시 시도해주세요");
+    }
 
-        // 코드 만료시간 설정
-        this.refreshExpiration(remoteCode);
-        return remoteCode;
+    /**
+     * 후보 코드 중 사용되지 않은 첫 코드를 점유하고 principalName 을 첫 구독자로 등록합니다.
+     *
+     * @param candidates 후보 코드
+     * @return 점유한 코드. 모든 후보가 사용중이면 empty
+     */
+    protected Optional<RemoteCode> allocate(List<RemoteCode> candidates, String principalName, String nickname) {
+        List<String> keys = new ArrayList<>(candidates.size() + 1);
+        candidates.forEach(candidate -> keys.add(getRemoteCodeKey(candidate)));
+        keys.add(REMOTECODE_INDEX_KEY);
+        Long index = stringRedisTemplate.execute(
+                ALLOCATE_CODE_SCRIPT,
+                keys,
+                principalName,
+                nickname,
+                String.valueOf(REMOTECODE_EXPIRATION.toMillis()),
+                String.valueOf(System.currentTimeMillis() + REMOTECODE_EXPIRATION.toMillis())
+        );
+        if (index == null || index == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.get(index.intValue() - 1));
     }
 
     /**
@@ -122,13 +200,22 @@ public class RedisRemoteCodeService implements RemoteCodeService {
     @Override
     public boolean removeSubscriber(RemoteCode remoteCode, String subscriber) {
         String remoteCodeKey = getRemoteCodeKey(remoteCode);
-        stringRedisTemplate.opsForHash().delete(remoteCodeKey, subscriber);
-        Long size = stringRedisTemplate.opsForHash().size(remoteCodeKey);
-        return size == 0;
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hDel(remoteCodeKey, subscriber);
+            stringConnection.hLen(remoteCodeKey);
+            return null;
+        });
+        boolean isEmpty = Long.valueOf(0).equals(results.get(1));
+        if (isEmpty) {
+            // 마지막 필드가 삭제되면 hash 도 삭제되므로 index 에서도 제거
+            stringRedisTemplate.opsForZSet().remove(REMOTECODE_INDEX_KEY, remoteCodeKey);
+        }
+        return isEmpty;
     }
 
     /**
-     * RemoteCode 만료 시간 설정
+     * RemoteCode 만료 시간 설정. 코드가 존재하지 않으면 아무것도 하지 않습니다.
      *
      * @param remoteCode
      * @param duration
@@ -136,7 +223,15 @@ public class RedisRemoteCodeService implements RemoteCodeService {
     @Override
     public void setExpiration(RemoteCode remoteCode, Duration duration) {
         String remoteCodeKey = getRemoteCodeKey(remoteCode);
-        stringRedisTemplate.expire(remoteCodeKey, duration);
+        Long updated = stringRedisTemplate.execute(
+                SET_EXPIRATION_SCRIPT,
+                List.of(remoteCodeKey, REMOTECODE_INDEX_KEY),
+                String.valueOf(duration.toMillis()),
+                String.valueOf(System.currentTimeMillis() + duration.toMillis())
+        );
+        if (updated == null || updated == 0) {
+            log.info("skip setting expiration of missing remote code. remoteCode={}", remoteCode.getRemoteCode());
+        }
     }
 
     @Override
@@ -151,6 +246,11 @@ public class RedisRemoteCodeService implements RemoteCodeService {
         return stringRedisTemplate.hasKey(REMOTE_CODE_KEY);
     }
 
+    @Override
+    public boolean isSubscriber(RemoteCode remoteCode, String subscriber) {
+        return stringRedisTemplate.opsForHash().hasKey(getRemoteCodeKey(remoteCode), subscriber);
+    }
+
     /**
      * 코드를 만료시킵니다. 만료된 코드는 redis 에서 삭제됩니다.
      * 원격 코드 hash 를 제외한 다른 값들으 삭제는 도메인 로직에서 처리해야 합니다.
@@ -168,6 +268,7 @@ public class RedisRemoteCodeService implements RemoteCodeService {
             // 코드 삭제 실패
             return false;
         }
+        stringRedisTemplate.opsForZSet().remove(REMOTECODE_INDEX_KEY, remoteCodeKey);
 
         subs.forEach(sub ->
                 messagingTemplate.convertAndSendToUser((String) sub, "/topic/remote/" + remoteCode.getRemoteCode(), "code expired")
@@ -177,15 +278,37 @@ public class RedisRemoteCodeService implements RemoteCodeService {
 
     protected void removeAllRemoteCodes() {
         log.info("!!! TEST UTIL METHOD :: removed All Remote Codes in Redis !!!");
-        stringRedisTemplate.delete(REMOTECODE_SET_PREFIX + "*");
+        Set<String> keys;
+        while (!(keys = remoteCodeKeysPage(Double.NEGATIVE_INFINITY, 0)).isEmpty()) {
+            final Set<String> batch = keys;
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.del(batch.toArray(String[]::new));
+                stringConnection.zRem(REMOTECODE_INDEX_KEY, batch.toArray(String[]::new));
+                return null;
+            });
+        }
     }
 
     protected Set<String> getAllRemoteCodes() {
         log.info("!!! TEST UTIL METHOD :: get All Remote Codes in Redis !!!");
-        Set<String> keys = stringRedisTemplate.keys(REMOTECODE_SET_PREFIX + "*");
+        stringRedisTemplate.opsForZSet()
+                .removeRangeByScore(REMOTECODE_INDEX_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+        Set<String> keys = new LinkedHashSet<>();
+        final double now = System.currentTimeMillis();
+        Set<String> page;
+        while (!(page = remoteCodeKeysPage(now, keys.size())).isEmpty()) {
+            keys.addAll(page);
+        }
         return keys;
     }
 
+    private Set<String> remoteCodeKeysPage(double minScore, long offset) {
+        Set<String> keys = stringRedisTemplate.opsForZSet()
+                .rangeByScore(REMOTECODE_INDEX_KEY, minScore, Double.POSITIVE_INFINITY, offset, INDEX_BATCH_SIZE);
+        return keys == null ? Set.of() : keys;
+    }
+
     protected int getMaxChannelMember() {
         return this.MAX_CHANNEL_MEMBER;
     }
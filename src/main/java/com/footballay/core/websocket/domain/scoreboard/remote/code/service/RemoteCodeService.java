@@ -35,5 +35,11 @@ public interface RemoteCodeService {
 
     boolean isValidCode(RemoteCode remoteCode);
 
+    /**
+     * @param subscriber Principal.getName()
+     * @return 해당 코드의 구독자 명단에 있는지 여부
+     */
+    boolean isSubscriber(RemoteCode remoteCode, String subscriber);
+
     boolean expireCode(RemoteCode remoteCode);
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.dispatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 원격 제어 메시지를 clientInboundChannel 스레드 밖에서 처리합니다. <br>
+ * 원격 코드마다 lane(큐)을 두고, 한 lane 의 작업은 항상 하나의 스레드가 순서대로 실행하므로 같은 코드의 메시지 순서가 유지됩니다.
+ * 서로 다른 코드의 lane 들은 공유 스레드 풀에서 병렬로 실행됩니다.
+ * <pre>
+ * - lane 의 대기 작업 수는 laneCapacity 로 제한합니다. 가득 차면 {@link #submit} 이 false 를 반환합니다. (backpressure)
+ * - lane 은 한 번에 최대 {@link #DRAIN_BATCH} 개를 처리하고 스레드를 양보해서 바쁜 코드가 다른 코드를 굶기지 않게 합니다.
+ * - 비어 있는 lane 은 바로 제거합니다.
+ * - 구독자 전송은 {@link #fanOut} 으로 병렬 실행하고, 모두 끝난 뒤 다음 메시지를 처리합니다.
+ * </pre>
+ *
+ * <h3>metrics</h3>
+ * 대기 작업 수, 활성 lane 수, 거부 횟수, 큐 대기 시간, 작업 실행 시간을 기록합니다.
+ * 태그의 cardinality 를 제한하기 위해 원격 코드는 태그로 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RemoteDispatchExecutor {
+
+    static final String QUEUED = "football.remote.dispatch.queued";
+    static final String LANES = "football.remote.dispatch.lanes";
+    static final String REJECTED = "football.remote.dispatch.rejected";
+    static final String QUEUE_WAIT = "football.remote.dispatch.queue.wait";
+    static final String TASK = "football.remote.dispatch.task";
+
+    private static final int DRAIN_BATCH = 32;
+
+    private final ExecutorService laneExecutor;
+    private final ExecutorService fanOutExecutor;
+    private final int laneCapacity;
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+
+    private final Counter rejectedCounter;
+    private final Timer queueWaitTimer;
+    private final Timer taskTimer;
+
+    public RemoteDispatchExecutor(
+            @Value("${football.remote.dispatch.threads:4}") int threads,
+            @Value("${football.remote.dispatch.fan-out-threads:8}") int fanOutThreads,
+            @Value("${football.remote.dispatch.lane-capacity:256}") int laneCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        this.laneExecutor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("remote-dispatch-"));
+        this.fanOutExecutor = Executors.newFixedThreadPool(fanOutThreads, new CustomizableThreadFactory("remote-fan-out-"));
+        this.laneCapacity = laneCapacity;
+
+        Gauge.builder(QUEUED, queuedTasks, AtomicInteger::get)
+                .description("원격 제어 lane 에서 대기중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(LANES, lanes, Map::size)
+                .description("대기 또는 실행중인 작업이 있는 원격 코드 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED)
+                .description("lane 이 가득 차서 거부된 원격 제어 메시지 수")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(QUEUE_WAIT)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.taskTimer = Timer.builder(TASK)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원격 코드의 lane 에 작업을 추가합니다. 같은 원격 코드의 작업은 추가된 순서대로 실행됩니다.
+     *
+     * @return lane 이 가득 차서 작업을 거부한 경우 false
+     */
+    public boolean submit(String remoteCode, Runnable task) {
+        AtomicBoolean accepted = new AtomicBoolean();
+        // lane 의 생성/제거와 작업 추가를 같은 key 의 compute 안에서 처리해서 제거중인 lane 에 작업이 들어가지 않게 합니다.
+        lanes.compute(remoteCode, (code, lane) -> {
+            Lane target = lane == null ? new Lane(code) : lane;
+            accepted.set(target.offer(task));
+            return target.isIdle() ? null : target;
+        });
+        if (!accepted.get()) {
+            rejectedCounter.increment();
+            log.warn("remote dispatch lane is full. remoteCode={}, capacity={}", remoteCode, laneCapacity);
+        }
+        return accepted.get();
+    }
+
+    /**
+     * 구독자들에게 병렬로 전송하고 모두 끝날 때까지 기다립니다. lane 안에서 호출해서 메시지 간 순서를 유지합니다.
+     * 한 구독자의 전송 실패는 다른 구독자에게 영향을 주지 않습니다.
+     */
+    public void fanOut(Collection<String> subscribers, Consumer<String> send) {
+        if (subscribers.size() <= 1) {
+            subscribers.forEach(subscriber -> sendSafely(subscriber, send));
+            return;
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>(subscribers.size());
+        for (String subscriber : subscribers) {
+            try {
+                futures.add(CompletableFuture.runAsync(() -> sendSafely(subscriber, send), fanOutExecutor));
+            } catch (RejectedExecutionException e) {
+                sendSafely(subscriber, send);
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        laneExecutor.shutdown();
+        fanOutExecutor.shutdown();
+    }
+
+    private static void sendSafely(String subscriber, Consumer<String> send) {
+        try {
+            send.accept(subscriber);
+        } catch (RuntimeException e) {
+            log.warn("failed to send remote message. subscriber={}", subscriber, e);
+        }
+    }
+
+    private record QueuedTask(Runnable task, long enqueuedNanos) {
+    }
+
+    private final class Lane implements Runnable {
+
+        private final String remoteCode;
+        private final Queue<QueuedTask> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Lane(String remoteCode) {
+            this.remoteCode = remoteCode;
+        }
+
+        private boolean offer(Runnable task) {
+            if (size.incrementAndGet() > laneCapacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            queue.offer(new QueuedTask(task, System.nanoTime()));
+            queuedTasks.incrementAndGet();
+            schedule();
+            return true;
+        }
+
+        private boolean isIdle() {
+            return queue.isEmpty() && !scheduled.get();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                laneExecutor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // 종료중. 남은 작업은 버립니다.
+                scheduled.set(false);
+                log.warn("remote dispatch executor is shut down. dropped {} tasks of remoteCode={}", size.get(), remoteCode);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                QueuedTask queued;
+                int drained = 0;
+                while (drained < DRAIN_BATCH && (queued = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    queuedTasks.decrementAndGet();
+                    drained++;
+                    queueWaitTimer.record(System.nanoTime() - queued.enqueuedNanos(), TimeUnit.NANOSECONDS);
+                    long start = System.nanoTime();
+                    try {
+                        queued.task().run();
+                    } catch (RuntimeException e) {
+                        log.warn("remote dispatch task failed. remoteCode={}", remoteCode, e);
+                    } finally {
+                        taskTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                } else {
+                    lanes.computeIfPresent(remoteCode, (code, lane) -> lane == this && isIdle() ? null : lane);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.dispatch;
+
+import com.footballay.core.websocket.domain.scoreboard.remote.ScoreBoardRemoteServiceImpl;
+import com.footballay.core.websocket.domain.scoreboard.remote.code.RemoteCode;
+import com.footballay.core.websocket.response.RemoteMembersResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원격 코드의 멤버 목록 전송을 window 단위로 모아서 보냅니다. <br>
+ * 입장/퇴장이 몰리면 원격 코드마다 window 안의 요청을 한 번의 구독자 조회와 전송으로 합칩니다.
+ * 전송은 {@link RemoteDispatchExecutor} 의 원격 코드 lane 에서 실행해서 원격 제어 메시지와 순서가 섞이지 않게 합니다.
+ * window 가 0 이하면 요청마다 바로 전송합니다.
+ */
+@Slf4j
+@Component
+public class RemoteMembersBroadcaster {
+
+    static final String COALESCED = "football.remote.members.coalesced";
+
+    private final ScoreBoardRemoteServiceImpl scoreBoardRemoteService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RemoteDispatchExecutor dispatchExecutor;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Counter coalescedCounter;
+
+    /**
+     * 전송이 예약된 원격 코드
+     */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public RemoteMembersBroadcaster(
+            ScoreBoardRemoteServiceImpl scoreBoardRemoteService,
+            SimpMessagingTemplate messagingTemplate,
+            RemoteDispatchExecutor dispatchExecutor,
+            @Value("${football.remote.members.broadcast-window-millis:100}") long windowMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.scoreBoardRemoteService = scoreBoardRemoteService;
+        this.messagingTemplate = messagingTemplate;
+        this.dispatchExecutor = dispatchExecutor;
+        this.windowMillis = windowMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("remote-members-"));
+        this.coalescedCounter = Counter.builder(COALESCED)
+                .description("이미 예약된 전송에 합쳐진 멤버 목록 전송 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원격 코드의 멤버 목록 전송을 요청합니다. window 안에 이미 예약된 전송이 있으면 그 전송에 합칩니다.
+     */
+    public void requestBroadcast(RemoteCode remoteCode) {
+        final String code = remoteCode.getRemoteCode();
+        if (windowMillis <= 0) {
+            submit(code);
+            return;
+        }
+        if (!pending.add(code)) {
+            coalescedCounter.increment();
+            return;
+        }
+        try {
+            scheduler.schedule(() -> {
+                // 구독자를 조회하기 전에 제거해서, 조회 이후의 변경은 다음 전송에 반영되게 합니다.
+                pending.remove(code);
+                submit(code);
+            }, windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pending.remove(code);
+            submit(code);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void submit(String remoteCode) {
+        if (!dispatchExecutor.submit(remoteCode, () -> broadcast(remoteCode))) {
+            log.warn("failed to queue members broadcast. remoteCode={}", remoteCode);
+        }
+    }
+
+    private void broadcast(String remoteCode) {
+        List<List<String>> remoteUserDetails = scoreBoardRemoteService.getRemoteUserDetails(RemoteCode.of(remoteCode));
+        List<String> principals = remoteUserDetails.get(0);
+        List<String> nicknames = remoteUserDetails.get(1);
+        log.info("broadcast remote members. remoteCode={}, nicknames={}", remoteCode, nicknames);
+        RemoteMembersResponse memberResponse = new RemoteMembersResponse(nicknames);
+        dispatchExecutor.fanOut(principals, userName -> messagingTemplate.convertAndSendToUser(
+                userName,
+                "/topic/remote/" + remoteCode,
+                memberResponse
+        ));
+    }
+}
@@ -0,0 +1,156 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.dispatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 원격 코드별로 짧은 시간 동안 들어온 상태 메시지를 합칩니다. <br>
+ * 타이머, 점수처럼 마지막 상태만 의미 있는 메시지는 클라이언트가 {@code coalesceKey} 를 지정해서 보냅니다.
+ * <pre>
+ * - 원격 코드에 열린 window 가 없으면 메시지를 바로 전송하고 window 를 엽니다.
+ * - window 가 열려 있는 동안 들어온 상태 메시지는 coalesceKey 별로 마지막 메시지만 보관합니다.
+ * - window 가 닫힐 때 보관한 메시지를 전송하고, 보관한 메시지가 있었다면 window 를 다시 엽니다.
+ * - coalesceKey 가 없는 메시지(일반 명령)는 보관중인 상태 메시지를 먼저 전송한 뒤 바로 전송합니다.
+ * - lane 이 가득 차서 보관한 메시지를 전송하지 못하면 버리지 않고 남겨두었다가 다음 window 가 닫힐 때 다시 전송합니다.
+ *   이때 들어온 일반 명령은 상태 메시지보다 먼저 전송되지 않도록 거부합니다.
+ * </pre>
+ * 전송은 모두 {@link RemoteDispatchExecutor} 의 lane 을 거치므로 원격 코드별 순서가 유지됩니다.
+ * 브로커가 세션별 발행 순서를 유지하므로(WebSocketConfig 의 preservePublishOrder) 마지막 상태는 항상 마지막에 전달됩니다.
+ * window 가 0 이하면 합치지 않고 모든 메시지를 바로 전송합니다.
+ */
+@Slf4j
+@Component
+public class RemoteMessageCoalescer {
+
+    public static final String COALESCE_KEY = "coalesceKey";
+
+    static final String COALESCED = "football.remote.coalesce.superseded";
+
+    private final RemoteDispatchExecutor dispatchExecutor;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Counter supersededCounter;
+
+    /**
+     * 원격 코드별 열린 window. 같은 key 의 compute 안에서만 읽고 수정합니다.
+     */
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public RemoteMessageCoalescer(
+            RemoteDispatchExecutor dispatchExecutor,
+            @Value("${football.remote.coalesce.window-millis:0}") long windowMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.dispatchExecutor = dispatchExecutor;
+        this.windowMillis = windowMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("remote-coalesce-"));
+        this.supersededCounter = Counter.builder(COALESCED)
+                .description("coalescing window 안에서 더 최신 상태로 대체되어 전송되지 않은 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param coalesceKey 상태 메시지의 key. null 이면 일반 명령으로 보고 바로 전송합니다.
+     * @param dispatch 구독자에게 전송하는 작업
+     * @return 원격 코드의 lane 이 가득 차서 거부된 경우 false
+     */
+    public boolean submit(String remoteCode, @Nullable String coalesceKey, Runnable dispatch) {
+        if (windowMillis <= 0) {
+            return dispatchExecutor.submit(remoteCode, dispatch);
+        }
+        AtomicBoolean accepted = new AtomicBoolean(true);
+        windows.compute(remoteCode, (code, window) -> {
+            if (coalesceKey == null) {
+                if (window != null && !flush(code, window)) {
+                    accepted.set(false);
+                    return window;
+                }
+                accepted.set(dispatchExecutor.submit(code, dispatch));
+                return window;
+            }
+            if (window == null) {
+                accepted.set(dispatchExecutor.submit(code, dispatch));
+                Window opened = new Window();
+                scheduleClose(code, opened);
+                return opened;
+            }
+            if (window.pending.put(coalesceKey, dispatch) != null) {
+                supersededCounter.increment();
+            }
+            return window;
+        });
+        return accepted.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void closeWindow(String remoteCode, Window window) {
+        windows.compute(remoteCode, (code, current) -> {
+            if (current != window) {
+                return current;
+            }
+            if (window.pending.isEmpty()) {
+                return null;
+            }
+            flush(code, window);
+            scheduleClose(code, window);
+            return window;
+        });
+    }
+
+    /**
+     * 보관중인 메시지를 보관한 순서대로 전송합니다. lane 이 거부하면 거부된 메시지부터 남겨둡니다.
+     *
+     * @return 보관중인 메시지를 모두 전송했으면 true
+     */
+    private boolean flush(String remoteCode, Window window) {
+        Iterator<Runnable> iterator = window.pending.values().iterator();
+        while (iterator.hasNext()) {
+            if (!dispatchExecutor.submit(remoteCode, iterator.next())) {
+                log.info("remote coalesce flush is deferred. remoteCode={}, pending={}", remoteCode, window.pending.size());
+                return false;
+            }
+            iterator.remove();
+        }
+        return true;
+    }
+
+    private void scheduleClose(String remoteCode, Window window) {
+        try {
+            scheduler.schedule(() -> closeWindow(remoteCode, window), windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료중. window 를 닫을 수 없으므로 보관중인 메시지를 바로 전송합니다.
+            log.warn("remote coalesce scheduler is shut down. flush remoteCode={}", remoteCode);
+            if (!flush(remoteCode, window)) {
+                log.warn("remote coalesce scheduler is shut down. dropped {} pending messages of remoteCode={}", window.pending.size(), remoteCode);
+                window.pending.clear();
+            }
+        }
+    }
+
+    private static final class Window {
+        /**
+         * coalesceKey 별 마지막 전송 작업. 처음 들어온 key 순서대로 전송합니다.
+         */
+        private final Map<String, Runnable> pending = new LinkedHashMap<>();
+    }
+}
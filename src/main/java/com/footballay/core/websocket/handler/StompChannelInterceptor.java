@@ -2,35 +2,37 @@ package com.footballay.core.websocket.handler;
 
 import com.footballay.core.websocket.domain.scoreboard.remote.ScoreBoardRemoteServiceImpl;
 import com.footballay.core.websocket.domain.scoreboard.remote.code.RemoteCode;
-import com.footballay.core.websocket.response.RemoteMembersResponse;
+import com.footballay.core.websocket.domain.scoreboard.remote.dispatch.RemoteMembersBroadcaster;
+import com.footballay.core.websocket.user.RemoteSessionRegistry;
+import com.footballay.core.websocket.user.RemoteSessionRegistry.RemoteSession;
+import com.footballay.core.websocket.user.StompPrincipal;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.stereotype.Component;
 
-import java.security.Principal;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompChannelInterceptor implements ChannelInterceptor {
 
-    private final SimpMessagingTemplate messagingTemplate;
-
     private final ScoreBoardRemoteServiceImpl scoreBoardRemoteService;
+    private final RemoteSessionRegistry remoteSessionRegistry;
+    private final RemoteMembersBroadcaster remoteMembersBroadcaster;
 
     /**
      * 주의 : DISCONNECT 는 두 번 발생합니다.
      * Spring 은 안전한 종료를 보장하기 위해서, 사용자의 DISCONNECT 요청 뿐만 아니라, Websocket 종료시에도 DISCONNECT command 를 실행시킵니다.
      * 따라서 StompHeaderAccessor.getCommand() == DISCONNECT 를 다룰 때에는
      * 항상 두 번 실행될 가능성이 더 높음을 인지하고 작성해야 합니다.
+     * 퇴장 처리는 {@link RemoteSessionRegistry} 에서 세션을 처음 제거할 때만 하고, 멤버 목록 전송은 {@link RemoteMembersBroadcaster} 로 모아서 보냅니다.
      * @param message
      * @param channel
      * @param sent
@@ -54,32 +56,17 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                 break;
             case DISCONNECT:
                 log.info("세션 끊음 :: {}", sessionId);
-                Principal user = accessor.getUser();
-                String remoteCode = (String) sessionAttributes.get("remoteCode");
-                if (user == null) {
-                    log.info("Principal User IS NULL");
-                    break;
-                }
-                if (remoteCode == null) {
-                    log.info("remoteCode IS NULL");
+                Optional<RemoteSession> departed = remoteSessionRegistry.unregister(sessionId);
+                if (departed.isEmpty()) {
+                    log.debug("이미 퇴장 처리되었거나 같은 유저의 다른 세션이 남아 있습니다 :: {}", sessionId);
                     break;
                 }
 
-                log.info("remoteCode :: {} , Principal :: {}", remoteCode, user.getName());
-                RemoteCode remoteCodeInstance = RemoteCode.of(remoteCode);
-                scoreBoardRemoteService.exitUser(remoteCodeInstance, user);
-
-                List<List<String>> remoteUserDetails = scoreBoardRemoteService.getRemoteUserDetails(remoteCodeInstance);
-                List<String> principals = remoteUserDetails.get(0);
-                List<String> nicknames = remoteUserDetails.get(1);
-                RemoteMembersResponse memberResponse = new RemoteMembersResponse(nicknames);
-                for (String userName : principals) {
-                    messagingTemplate.convertAndSendToUser(
-                            userName,
-                            "/topic/remote/"+remoteCode,
-                            memberResponse
-                    );
-                }
+                RemoteSession session = departed.get();
+                log.info("remoteCode :: {} , Principal :: {}", session.remoteCode(), session.principalName());
+                RemoteCode remoteCodeInstance = RemoteCode.of(session.remoteCode());
+                scoreBoardRemoteService.exitUser(remoteCodeInstance, new StompPrincipal(session.principalName()));
+                remoteMembersBroadcaster.requestBroadcast(remoteCodeInstance);
                 break;
             case SUBSCRIBE:
                 log.info("구독 요청한 WebsocketSession :: {}", sessionId);
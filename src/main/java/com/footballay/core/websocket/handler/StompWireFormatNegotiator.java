@@ -0,0 +1,170 @@
+package com.footballay.core.websocket.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션별로 메시지 인코딩(JSON / CBOR)을 정합니다. <br>
+ * 클라이언트가 CONNECT 프레임에 {@code accept: application/cbor} 헤더를 보내면 해당 세션으로 나가는 JSON 메시지를 CBOR 로 바꿔서 보냅니다.
+ * 헤더가 없는 세션은 지금과 같이 JSON 을 받습니다.
+ * <pre>
+ * - inbound : CONNECT 에서 세션의 인코딩을 기록하고, DISCONNECT 에서 제거
+ * - outbound : CBOR 세션으로 가는 application/json MESSAGE 프레임의 payload 를 CBOR 로 변환
+ *   content-type : application/octet-stream
+ *   x-wire-format : cbor
+ * </pre>
+ * StompSubProtocolHandler 는 content-type 이 application/octet-stream 인 프레임만 websocket binary 메시지로 보내고,
+ * 그 외에는 payload 를 UTF-8 문자열로 바꾼 text 메시지로 보냅니다. CBOR 는 UTF-8 로 해석할 수 없는 바이트를 포함하므로
+ * content-type 은 application/octet-stream 으로 두고, 실제 인코딩은 {@link #WIRE_FORMAT_HEADER} 헤더로 알립니다. <br>
+ * SockJS 세션은 binary 메시지를 보낼 수 없어서 StompSubProtocolHandler 가 text 메시지로 보내므로 CBOR payload 가 깨집니다.
+ * 지금은 /ws 엔드포인트에 SockJS 를 사용하지 않지만, SockJS 엔드포인트를 추가한다면 해당 세션에서는 CBOR 를 협상하면 안 됩니다.
+ * broker 가 구독자마다 같은 payload 배열로 메시지를 만들기 때문에, 변환 결과를 payload 배열 기준으로 캐싱해서
+ * 같은 메시지를 여러 CBOR 세션에 보낼 때 한 번만 변환합니다. payload 가 더 이상 참조되지 않으면 캐시에서도 사라집니다.
+ */
+@Slf4j
+@Component
+public class StompWireFormatNegotiator {
+
+    public static final String ACCEPT_HEADER = "accept";
+    public static final String WIRE_FORMAT_HEADER = "x-wire-format";
+    public static final String CBOR_WIRE_FORMAT = "cbor";
+
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper;
+
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+    /**
+     * byte[] 는 identity 기반 equals/hashCode 를 사용하므로 같은 payload 인스턴스끼리만 적중합니다.
+     */
+    private final Map<byte[], byte[]> encodedCache = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ChannelInterceptor inboundInterceptor = new InboundInterceptor();
+    private final ChannelInterceptor outboundInterceptor = new OutboundInterceptor();
+
+    public StompWireFormatNegotiator(ObjectMapper objectMapper, CBORMapper cborMapper) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborMapper;
+    }
+
+    public ChannelInterceptor inboundInterceptor() {
+        return inboundInterceptor;
+    }
+
+    public ChannelInterceptor outboundInterceptor() {
+        return outboundInterceptor;
+    }
+
+    public boolean isCborSession(String sessionId) {
+        return sessionId != null && cborSessions.contains(sessionId);
+    }
+
+    private class InboundInterceptor implements ChannelInterceptor {
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            String sessionId = accessor.getSessionId();
+            if (sessionId == null || accessor.getCommand() == null) {
+                return message;
+            }
+            switch (accessor.getCommand()) {
+                case CONNECT, STOMP -> {
+                    if (acceptsCbor(accessor.getFirstNativeHeader(ACCEPT_HEADER))) {
+                        cborSessions.add(sessionId);
+                        log.info("STOMP session {} negotiated wire format : cbor", sessionId);
+                    }
+                }
+                case DISCONNECT -> cborSessions.remove(sessionId);
+                default -> {
+                }
+            }
+            return message;
+        }
+    }
+
+    private class OutboundInterceptor implements ChannelInterceptor {
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            MessageHeaders headers = message.getHeaders();
+            if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                    || !isCborSession(SimpMessageHeaderAccessor.getSessionId(headers))
+                    || !(message.getPayload() instanceof byte[] payload)
+                    || !isJson(headers.get(MessageHeaders.CONTENT_TYPE))) {
+                return message;
+            }
+
+            byte[] encoded = encode(payload);
+            if (encoded == null) {
+                return message;
+            }
+            SimpMessageHeaderAccessor mutable = SimpMessageHeaderAccessor.wrap(message);
+            // binary 메시지로 보내도록 octet-stream 으로 지정합니다.
+            mutable.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+            mutable.setNativeHeader(WIRE_FORMAT_HEADER, CBOR_WIRE_FORMAT);
+            return MessageBuilder.createMessage(encoded, mutable.getMessageHeaders());
+        }
+    }
+
+    private byte[] encode(byte[] jsonPayload) {
+        byte[] cached = encodedCache.get(jsonPayload);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            JsonNode tree = objectMapper.readTree(jsonPayload);
+            byte[] encoded = cborMapper.writeValueAsBytes(tree);
+            encodedCache.put(jsonPayload, encoded);
+            return encoded;
+        } catch (IOException e) {
+            log.warn("failed to encode STOMP payload as cbor. sent as json instead", e);
+            return null;
+        }
+    }
+
+    private static boolean isJson(Object contentType) {
+        if (contentType instanceof MimeType mimeType) {
+            return mimeType.isCompatibleWith(MediaType.APPLICATION_JSON);
+        }
+        if (contentType instanceof String value) {
+            try {
+                return MimeTypeUtils.parseMimeType(value).isCompatibleWith(MediaType.APPLICATION_JSON);
+            } catch (InvalidMimeTypeException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsCbor(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(mediaType -> mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.footballay.core.websocket.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * client → server heartbeat 를 협상하지 않은 websocket 세션 중 응답이 없는 세션을 닫습니다. <br>
+ * 응답 없는 오버레이 브라우저가 TCP 타임아웃까지 남아 있으면 Redis 원격 코드 명단과 세션 메모리가 정리되지 않습니다.
+ * 세션을 닫으면 Spring 이 DISCONNECT 를 발생시키므로, 원격 코드 퇴장 처리는 {@link StompChannelInterceptor} 가 그대로 담당합니다.
+ *
+ * <h3>idle 판단</h3>
+ * CONNECT 프레임의 heart-beat 헤더로 협상된 client → server 간격을 세션별로 기록합니다.
+ * heartbeat 를 협상한 세션은 simple broker 가 협상된 간격의 3배 동안 프레임이 없으면 닫으므로 이 클래스에서는 다루지 않습니다.
+ * heartbeat 를 협상하지 않은 세션(client heartbeat 0)은 수신만 하는 정상 클라이언트도 오래 조용할 수 있으므로,
+ * idle-timeout 의 절반 동안 프레임이 없으면 websocket ping 을 보냅니다. 브라우저는 ping 에 pong 으로 자동 응답하고, pong 도 수신 프레임으로 기록됩니다.
+ * ping 전송에 실패하거나 idle-timeout 동안 pong 을 포함한 어떤 프레임도 받지 못하면 세션을 닫습니다.
+ * 협상 결과를 알 수 있도록 {@link #inboundInterceptor()} 를 client inbound 채널에 등록해야 합니다.
+ *
+ * <h3>metrics</h3>
+ * <pre>
+ * - football.websocket.sessions.live : 열려 있는 websocket 세션 수
+ * - football.websocket.sessions.reaped : 응답이 없어 닫은 세션 수
+ * - football.websocket.subscriptions{destination} : destination 별 구독 수.
+ *   원격 코드, 세션 suffix 는 cardinality 를 제한하기 위해 앞의 두 경로까지만 태그로 사용합니다. ex) /topic/remote
+ * </pre>
+ * idle-timeout 이 0 이하면 세션을 닫지 않고 metrics 만 갱신합니다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionReaper implements WebSocketHandlerDecoratorFactory {
+
+    static final String LIVE_SESSIONS = "football.websocket.sessions.live";
+    static final String REAPED = "football.websocket.sessions.reaped";
+    static final String SUBSCRIPTIONS = "football.websocket.subscriptions";
+
+    private final SimpUserRegistry simpUserRegistry;
+    private final long idleTimeoutMillis;
+    private final long expectedClientHeartbeatMillis;
+    private final long sweepIntervalSeconds;
+    private final ScheduledExecutorService scheduler;
+    private final Counter reapedCounter;
+    private final MultiGauge subscriptionsGauge;
+    private final ChannelInterceptor inboundInterceptor = new InboundInterceptor();
+
+    /**
+     * {sessionId, 추적중인 세션}
+     */
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * SimpUserRegistry 는 WebSocketConfig 설정이 끝난 뒤 생성되므로 @Lazy 로 주입합니다.
+     * @param expectedClientHeartbeatMillis 서버가 클라이언트에게 기대하는 heartbeat 간격. broker 설정과 같은 값을 사용합니다.
+     */
+    public WebSocketSessionReaper(
+            @Lazy SimpUserRegistry simpUserRegistry,
+            @Value("${football.websocket.idle-timeout-seconds:120}") long idleTimeoutSeconds,
+            @Value("${football.websocket.reaper-interval-seconds:30}") long sweepIntervalSeconds,
+            @Value("${football.websocket.heartbeat.client-millis:10000}") long expectedClientHeartbeatMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.simpUserRegistry = simpUserRegistry;
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(idleTimeoutSeconds);
+        this.expectedClientHeartbeatMillis = expectedClientHeartbeatMillis;
+        this.sweepIntervalSeconds = sweepIntervalSeconds;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("websocket-reaper-"));
+
+        Gauge.builder(LIVE_SESSIONS, sessions, Map::size)
+                .description("열려 있는 websocket 세션 수")
+                .register(meterRegistry);
+        this.reapedCounter = Counter.builder(REAPED)
+                .description("idle 상태가 길어져 서버가 닫은 websocket 세션 수")
+                .register(meterRegistry);
+        this.subscriptionsGauge = MultiGauge.builder(SUBSCRIPTIONS)
+                .description("destination 별 STOMP 구독 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::sweepSafely, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * CONNECT 프레임에서 세션별 client → server heartbeat 간격을 기록하는 인터셉터
+     */
+    public ChannelInterceptor inboundInterceptor() {
+        return inboundInterceptor;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), new TrackedSession(session));
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                TrackedSession tracked = sessions.get(session.getId());
+                if (tracked != null) {
+                    tracked.touch();
+                }
+                super.handleMessage(session, message);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * 응답이 없는 세션을 닫고, idle 세션에 ping 을 보내고, 구독 metrics 를 갱신합니다.
+     * @return 닫은 세션 수
+     */
+    public int sweep() {
+        int reaped = idleTimeoutMillis > 0 ? reapIdleSessions(System.currentTimeMillis()) : 0;
+        refreshSubscriptionGauge();
+        return reaped;
+    }
+
+    private int reapIdleSessions(long now) {
+        int reaped = 0;
+        for (TrackedSession tracked : sessions.values()) {
+            if (tracked.clientHeartbeatMillis > 0) {
+                // heartbeat 를 협상한 세션은 simple broker 가 닫습니다
+                continue;
+            }
+            long idleMillis = now - tracked.lastActiveAt;
+            if (idleMillis >= idleTimeoutMillis) {
+                log.info("close idle websocket session. sessionId={}, idleMillis={}", tracked.session.getId(), idleMillis);
+                reap(tracked);
+                reaped++;
+            } else if (idleMillis * 2 >= idleTimeoutMillis && !ping(tracked.session)) {
+                log.info("close unreachable websocket session. sessionId={}, idleMillis={}", tracked.session.getId(), idleMillis);
+                reap(tracked);
+                reaped++;
+            }
+        }
+        return reaped;
+    }
+
+    /**
+     * @return ping 전송에 실패해서 세션이 끊긴 것으로 판단되면 false
+     */
+    private boolean ping(WebSocketSession session) {
+        try {
+            session.sendMessage(new PingMessage());
+            return true;
+        } catch (IOException e) {
+            log.debug("failed to ping websocket session. sessionId={}", session.getId(), e);
+            return false;
+        } catch (IllegalStateException e) {
+            // 다른 스레드가 프레임을 쓰는 중입니다. 다음 sweep 에서 다시 보냅니다
+            log.debug("skip websocket ping while another frame is being written. sessionId={}", session.getId());
+            return true;
+        }
+    }
+
+    private void reap(TrackedSession tracked) {
+        WebSocketSession session = tracked.session;
+        sessions.remove(session.getId());
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("failed to close idle websocket session. sessionId={}", session.getId(), e);
+        }
+        reapedCounter.increment();
+    }
+
+    private void refreshSubscriptionGauge() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (SimpUser user : simpUserRegistry.getUsers()) {
+            for (SimpSession session : user.getSessions()) {
+                for (SimpSubscription subscription : session.getSubscriptions()) {
+                    counts.merge(normalizeDestination(subscription.getDestination()), 1, Integer::sum);
+                }
+            }
+        }
+        List<MultiGauge.Row<?>> rows = counts.entrySet().stream()
+                .<MultiGauge.Row<?>>map(entry -> MultiGauge.Row.of(Tags.of("destination", entry.getKey()), entry.getValue()))
+                .toList();
+        subscriptionsGauge.register(rows, true);
+    }
+
+    /**
+     * "/topic/remote/abc123" , "/topic/remote-user{sessionId}" → "/topic/remote"
+     */
+    static String normalizeDestination(String destination) {
+        if (destination == null) {
+            return "unknown";
+        }
+        String[] segments = destination.split("/");
+        StringBuilder normalized = new StringBuilder();
+        int appended = 0;
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            int userSuffix = segment.indexOf("-user");
+            normalized.append('/').append(userSuffix > 0 ? segment.substring(0, userSuffix) : segment);
+            if (++appended == 2) {
+                break;
+            }
+        }
+        return normalized.isEmpty() ? "/" : normalized.toString();
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.warn("failed to sweep websocket sessions", e);
+        }
+    }
+
+    /**
+     * 클라이언트가 보내겠다는 간격과 서버가 기대하는 간격 중 긴 값이 협상된 간격이며, 둘 중 하나라도 0 이면 heartbeat 를 사용하지 않습니다.
+     */
+    private long negotiateClientHeartbeat(@Nullable long[] clientHeartbeat) {
+        if (clientHeartbeat == null || clientHeartbeat.length < 1 || clientHeartbeat[0] <= 0 || expectedClientHeartbeatMillis <= 0) {
+            return 0;
+        }
+        return Math.max(clientHeartbeat[0], expectedClientHeartbeatMillis);
+    }
+
+    private class InboundInterceptor implements ChannelInterceptor {
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            StompCommand command = accessor.getCommand();
+            if (command != StompCommand.CONNECT && command != StompCommand.STOMP) {
+                return message;
+            }
+            TrackedSession tracked = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+            if (tracked != null) {
+                tracked.clientHeartbeatMillis = negotiateClientHeartbeat(accessor.getHeartbeat());
+                log.debug("websocket session {} negotiated client heartbeat {}ms", accessor.getSessionId(), tracked.clientHeartbeatMillis);
+            }
+            return message;
+        }
+    }
+
+    private static final class TrackedSession {
+
+        private final WebSocketSession session;
+        private volatile long lastActiveAt = System.currentTimeMillis();
+        /**
+         * 협상된 client → server heartbeat 간격. 0 이면 heartbeat 를 사용하지 않는 세션입니다.
+         */
+        private volatile long clientHeartbeatMillis;
+
+        private TrackedSession(WebSocketSession session) {
+            this.session = session;
+        }
+
+        private void touch() {
+            lastActiveAt = System.currentTimeMillis();
+        }
+    }
+}
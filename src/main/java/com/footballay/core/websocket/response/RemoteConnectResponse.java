@@ -1,6 +1,7 @@
 package com.footballay.core.websocket.response;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -10,6 +11,7 @@ import lombok.ToString;
  *     pubPath      : "/app/remote/{remoteCode}"
  *     subPath      : "/user/topic/remote/{remoteCode}"
  *     remoteCode   : "remoteCode"
+ *     sessionToken : "원격 세션 토큰"
  * </pre>
  */
 @Getter
@@ -19,6 +21,11 @@ public class RemoteConnectResponse extends AbstractRemoteResponse {
     protected final boolean isAutoRemote;
     protected final String cookieGetUrl;
     protected String type = "connect";
+    /**
+     * 원격 제어 메시지의 remote-token 헤더에 담아 보낼 토큰. 만료되면 /app/remote.token 으로 갱신합니다.
+     */
+    @Setter
+    protected String sessionToken;
 
     public RemoteConnectResponse(String remoteCode) {
         super(remoteCode);
@@ -0,0 +1,29 @@
+package com.footballay.core.websocket.response;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * <pre>
+ *     code         : 200
+ *     message      : "success"
+ *     type         : "token"
+ *     remoteCode   : "remoteCode"
+ *     sessionToken : 원격 제어 메시지의 remote-token 헤더에 담아 보낼 토큰
+ *     expiresIn    : 토큰 만료까지 남은 시간(초)
+ * </pre>
+ */
+@Getter
+@ToString(callSuper = true)
+public class RemoteSessionTokenResponse extends AbstractRemoteResponse {
+
+    protected final String type = "token";
+    protected final String sessionToken;
+    protected final long expiresIn;
+
+    public RemoteSessionTokenResponse(String remoteCode, String sessionToken, long expiresIn) {
+        super(remoteCode);
+        this.sessionToken = sessionToken;
+        this.expiresIn = expiresIn;
+    }
+}
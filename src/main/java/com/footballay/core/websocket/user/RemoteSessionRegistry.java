@@ -0,0 +1,83 @@
+package com.footballay.core.websocket.user;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 원격 코드에 연결된 websocket 세션을 메모리에서 관리합니다. <br>
+ * <pre>
+ * - DISCONNECT 는 한 세션에 두 번 발생할 수 있으므로, 세션을 처음 제거할 때만 퇴장 처리 대상으로 반환합니다.
+ * - 같은 Principal 이 재연결해서 새 세션이 먼저 등록된 경우, 이전 세션의 DISCONNECT 는 퇴장으로 보지 않습니다.
+ *   네트워크 순단 후 재연결이 몰려도 Redis 구독자 명단을 지웠다가 다시 쓰지 않습니다.
+ * - 같은 세션이 다른 원격 코드로 다시 등록되어 이전 코드에 남은 세션이 없다면, 이전 코드에서 퇴장한 것으로 반환합니다.
+ * </pre>
+ * 서버 인스턴스의 세션만 관리합니다. 원격 코드의 구독자 명단은 여전히 Redis 가 기준입니다.
+ */
+@Component
+public class RemoteSessionRegistry {
+
+    /**
+     * {sessionId, 세션}
+     */
+    private final Map<String, RemoteSession> sessions = new ConcurrentHashMap<>();
+    /**
+     * {remoteCode:principalName, 연결중인 세션 수}
+     */
+    private final Map<String, Integer> liveSessionsPerMember = new ConcurrentHashMap<>();
+
+    /**
+     * 세션을 원격 코드에 등록합니다. 같은 세션이 다른 코드로 다시 등록되면 이전 등록을 대체합니다.
+     * @return 다시 등록하면서 유저가 이전 원격 코드를 떠난 경우 이전 등록. 호출자는 DISCONNECT 와 같은 퇴장 처리를 해야 합니다.
+     */
+    public Optional<RemoteSession> register(String sessionId, String principalName, String remoteCode) {
+        RemoteSession session = new RemoteSession(sessionId, principalName, remoteCode);
+        RemoteSession previous = sessions.put(sessionId, session);
+        if (session.equals(previous)) {
+            return Optional.empty();
+        }
+        liveSessionsPerMember.merge(memberKey(session), 1, Integer::sum);
+        if (previous != null && release(previous)) {
+            return Optional.of(previous);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 세션을 제거합니다.
+     * @return 유저가 원격 코드를 떠난 경우 제거한 세션. 이미 제거된 세션이거나 같은 유저의 다른 세션이 남아 있다면 empty
+     */
+    public Optional<RemoteSession> unregister(String sessionId) {
+        RemoteSession removed = sessions.remove(sessionId);
+        if (removed == null) {
+            return Optional.empty();
+        }
+        return release(removed) ? Optional.of(removed) : Optional.empty();
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private boolean release(RemoteSession session) {
+        AtomicBoolean last = new AtomicBoolean();
+        liveSessionsPerMember.computeIfPresent(memberKey(session), (key, count) -> {
+            if (count <= 1) {
+                last.set(true);
+                return null;
+            }
+            return count - 1;
+        });
+        return last.get();
+    }
+
+    private static String memberKey(RemoteSession session) {
+        return session.remoteCode() + ":" + session.principalName();
+    }
+
+    public record RemoteSession(String sessionId, String principalName, String remoteCode) {
+    }
+}
@@ -0,0 +1,4 @@
+-- 시즌 캐시 warmup 진행 기록(SEASON_WARMUP_STARTED, SEASON_WARMUP_FINISHED)을 last_cache_log 에 저장할 수 있도록 enum 값을 추가합니다.
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 실행해야 합니다.
+ALTER TABLE last_cache_log
+    MODIFY api_cache_type enum ('LEAGUE','CURRENT_LEAGUES','CURRENT_LEAGUES_OF_TEAM','LEAGUE_TEAMS','TEAM','SQUAD','PLAYER','FIXTURE','LIVE_FIXTURE','FIXTURES_OF_LEAGUE','SEASON_WARMUP_STARTED','SEASON_WARMUP_FINISHED') not null;
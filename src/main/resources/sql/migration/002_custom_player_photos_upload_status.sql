@@ -0,0 +1,15 @@
+-- 커스텀 선수 사진의 내용 해시와 업로드 상태 컬럼을 추가합니다.
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 실행해야 합니다.
+ALTER TABLE custom_player_photos
+    ADD COLUMN IF NOT EXISTS content_hash varchar(64),
+    ADD COLUMN IF NOT EXISTS upload_status enum ('PENDING','UPLOADED','FAILED');
+
+-- 업로드 상태 도입 이전에 등록된 사진은 파일 업로드가 끝난 상태입니다.
+-- 내용 해시는 SQL 로 계산할 수 없으므로 기존 사진은 null 로 둡니다.
+UPDATE custom_player_photos
+SET upload_status = 'UPLOADED'
+WHERE upload_status IS NULL;
+
+-- 중복 파일 확인과 참조 수 확인은 (user_file_path_id, file_name) 으로 SELECT ... FOR UPDATE 합니다.
+DROP INDEX IF EXISTS idx_user_file_path_content_hash ON custom_player_photos;
+CREATE INDEX IF NOT EXISTS idx_user_file_path_file_name ON custom_player_photos (user_file_path_id, file_name);
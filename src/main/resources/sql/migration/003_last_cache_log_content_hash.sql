@@ -0,0 +1,4 @@
+-- 외부 API 응답의 내용 해시 컬럼을 추가합니다. 기존 기록은 null 이며, 다음 캐싱 때 채워집니다.
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 실행해야 합니다.
+ALTER TABLE last_cache_log
+    ADD COLUMN IF NOT EXISTS content_hash varchar(64);
@@ -0,0 +1,4 @@
+-- 업로드가 끝나기 전에 삭제된 커스텀 선수 사진을 표시하는 DELETING 업로드 상태를 추가합니다.
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 실행해야 합니다.
+ALTER TABLE custom_player_photos
+    MODIFY upload_status enum ('PENDING','UPLOADED','FAILED','DELETING');
@@ -0,0 +1,52 @@
+package com.footballay.core.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private final ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @DisplayName("readOnly 트랜잭션은 replica 로, 그 외에는 primary 로 라우팅합니다")
+    @Test
+    void routeByReadOnly() {
+        // when
+        Object writeKey = routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Object readKey = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(writeKey).isEqualTo(DataSourceType.PRIMARY);
+        assertThat(readKey).isEqualTo(DataSourceType.REPLICA);
+    }
+
+    @DisplayName("primary 가 강제된 동안에는 readOnly 트랜잭션도 primary 로 라우팅하고, 중첩이 모두 해제되면 replica 로 돌아갑니다")
+    @Test
+    void routeToPrimaryWhenForced() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        DataSourceRoutingContext.forcePrimary();
+        DataSourceRoutingContext.forcePrimary();
+        Object nestedKey = routingDataSource.determineCurrentLookupKey();
+        DataSourceRoutingContext.release();
+        Object outerKey = routingDataSource.determineCurrentLookupKey();
+        DataSourceRoutingContext.release();
+        Object releasedKey = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(nestedKey).isEqualTo(DataSourceType.PRIMARY);
+        assertThat(outerKey).isEqualTo(DataSourceType.PRIMARY);
+        assertThat(releasedKey).isEqualTo(DataSourceType.REPLICA);
+    }
+}
@@ -0,0 +1,175 @@
+package com.footballay.core.domain.football.comparator;
+
+import com.footballay.core.domain.football.dto.FootballDomainDtoMapper;
+import com.footballay.core.domain.football.dto.LineupDto;
+import com.footballay.core.domain.football.persistence.Player;
+import com.footballay.core.domain.football.persistence.Team;
+import com.footballay.core.domain.football.persistence.live.MatchLineup;
+import com.footballay.core.domain.football.persistence.live.MatchPlayer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class LineupSortKeyTest {
+
+    @DisplayName("정렬 키 순서는 StartLineupComparator 의 정렬 순서와 같습니다")
+    @Test
+    void sameOrderAsStartLineupComparator() {
+        // given
+        List<LineupDto.LineupPlayer> players = new ArrayList<>();
+        String[] grids = {"1:1", "2:4", "2:3", "2:2", "2:1", "3:3", "3:2", "3:1", "4:3", "4:2", "4:1"};
+        String[] positions = {"G", "D", "D", "D", "D", "M", "M", "M", "F", "F", "F"};
+        for (int i = 0; i < grids.length; i++) {
+            players.add(registered(100L + i, positions[i], i + 1, grids[i], false));
+        }
+        players.add(registered(201L, "F", 9, null, true));
+        players.add(registered(202L, "d", 4, null, true));
+        players.add(registered(203L, "G", 30, null, true));
+        players.add(registered(204L, "M", 8, null, true));
+        players.add(unregistered("m", 8, true));
+        players.add(registered(205L, null, 19, null, true));
+        players.add(unregistered("D", 2, true));
+
+        List<LineupDto.LineupPlayer> shuffled = new ArrayList<>(players);
+        Collections.shuffle(shuffled, new Random(42));
+
+        // when
+        List<LineupDto.LineupPlayer> byComparator = shuffled.stream().sorted(new StartLineupComparator()).toList();
+        List<LineupDto.LineupPlayer> bySortKey = shuffled.stream()
+                .sorted(Comparator.comparingLong(LineupDto.LineupPlayer::lineupSortKey))
+                .toList();
+
+        // then
+        assertThat(bySortKey).containsExactlyElementsOf(byComparator);
+    }
+
+    @DisplayName("grid 나 등번호가 없으면 같은 구분(선발/후보) 안에서 뒤로 정렬됩니다")
+    @Test
+    void unknownFieldsAreOrderedLast() {
+        // when
+        long starter = LineupSortKey.of(false, "F", "4:1", 9, false);
+        long starterWithoutGrid = LineupSortKey.of(false, "F", null, 9, false);
+        long starterWithInvalidGrid = LineupSortKey.of(false, "F", "x:1", 9, false);
+        long substitute = LineupSortKey.of(true, "G", null, 1, false);
+        long substituteWithoutNumber = LineupSortKey.of(true, "G", null, null, false);
+
+        // then
+        assertThat(starter).isLessThan(starterWithoutGrid);
+        assertThat(starterWithInvalidGrid).isEqualTo(starterWithoutGrid);
+        assertThat(starterWithoutGrid).isLessThan(substitute);
+        assertThat(substitute).isLessThan(substituteWithoutNumber);
+    }
+
+    @DisplayName("등록 선수의 정렬 키는 API 라인업 번호가 아닌 라인업 응답에 담기는 선수 등번호로 계산합니다")
+    @Test
+    void registeredPlayerKeyUsesPlayerNumber() {
+        // given : API 라인업 응답의 번호는 각각 1, 30 이지만 저장된 선수 번호는 30, 1 입니다
+        MatchPlayer keeperA = MatchPlayer.builder()
+                .player(Player.builder().id(301L).name("Keeper A").number(30).build())
+                .position("G")
+                .substitute(true)
+                .build();
+        MatchPlayer keeperB = MatchPlayer.builder()
+                .player(Player.builder().id(302L).name("Keeper B").number(1).build())
+                .position("G")
+                .substitute(true)
+                .build();
+        MatchPlayer keeperC = MatchPlayer.builder()
+                .unregisteredPlayerName("Keeper C")
+                .unregisteredPlayerNumber(12)
+                .temporaryId(UUID.randomUUID())
+                .position("G")
+                .substitute(true)
+                .build();
+        List<MatchPlayer> matchPlayers = List.of(keeperA, keeperB, keeperC);
+        matchPlayers.forEach(matchPlayer -> matchPlayer.setLineupSortKey(LineupSortKey.of(matchPlayer)));
+        MatchLineup matchLineup = MatchLineup.builder()
+                .team(Team.builder().id(1L).name("Team").build())
+                .formation("4-3-3")
+                .matchPlayers(matchPlayers)
+                .build();
+
+        // when
+        List<LineupDto.LineupPlayer> players = FootballDomainDtoMapper.lineupDtoFromEntity(matchLineup).players();
+        List<LineupDto.LineupPlayer> byComparator = players.stream().sorted(new StartLineupComparator()).toList();
+        List<LineupDto.LineupPlayer> bySortKey = players.stream()
+                .sorted(Comparator.comparingLong(LineupDto.LineupPlayer::lineupSortKey))
+                .toList();
+
+        // then
+        assertThat(keeperA.getLineupSortKey()).isEqualTo(LineupSortKey.of(true, "G", null, 30, false));
+        assertThat(bySortKey).containsExactlyElementsOf(byComparator);
+        assertThat(bySortKey).extracting(LineupDto.LineupPlayer::name).containsExactly("Keeper B", "Keeper C", "Keeper A");
+    }
+
+    @DisplayName("라인업 저장 이후 선수 등번호가 바뀌면 응답의 정렬 키는 바뀐 등번호로 계산됩니다")
+    @Test
+    void sortKeyFollowsChangedPlayerNumber() {
+        // given
+        Player playerA = Player.builder().id(401L).name("Keeper A").number(1).build();
+        Player playerB = Player.builder().id(402L).name("Keeper B").number(30).build();
+        MatchPlayer keeperA = MatchPlayer.builder().player(playerA).position("G").substitute(true).build();
+        MatchPlayer keeperB = MatchPlayer.builder().player(playerB).position("G").substitute(true).build();
+        List<MatchPlayer> matchPlayers = List.of(keeperA, keeperB);
+        matchPlayers.forEach(matchPlayer -> matchPlayer.setLineupSortKey(LineupSortKey.of(matchPlayer)));
+        MatchLineup matchLineup = MatchLineup.builder()
+                .team(Team.builder().id(1L).name("Team").build())
+                .formation("4-3-3")
+                .matchPlayers(matchPlayers)
+                .build();
+
+        // when : 엑셀 가져오기나 API 갱신으로 등번호가 바뀝니다
+        playerA.setNumber(40);
+        List<LineupDto.LineupPlayer> bySortKey = FootballDomainDtoMapper.lineupDtoFromEntity(matchLineup).players().stream()
+                .sorted(Comparator.comparingLong(LineupDto.LineupPlayer::lineupSortKey))
+                .toList();
+
+        // then
+        assertThat(bySortKey).extracting(LineupDto.LineupPlayer::name).containsExactly("Keeper B", "Keeper A");
+        assertThat(bySortKey.get(1).lineupSortKey()).isEqualTo(LineupSortKey.of(true, "G", null, 40, false));
+    }
+
+    private static LineupDto.LineupPlayer registered(long playerId, String position, int number, String grid, boolean substitute) {
+        return new LineupDto.LineupPlayer(
+                playerId,
+                "Player " + playerId,
+                "",
+                "",
+                position,
+                number,
+                null,
+                null,
+                null,
+                grid,
+                substitute,
+                LineupSortKey.of(substitute, position, grid, number, false)
+        );
+    }
+
+    private static LineupDto.LineupPlayer unregistered(String position, int number, boolean substitute) {
+        return new LineupDto.LineupPlayer(
+                null,
+                "Unregistered " + number,
+                "",
+                "",
+                position,
+                null,
+                UUID.randomUUID(),
+                "Unregistered " + number,
+                number,
+                null,
+                substitute,
+                LineupSortKey.of(substitute, position, null, number, true)
+        );
+    }
+}
@@ -27,6 +27,8 @@ import static com.footballay.core.domain.football.external.fetch.response.Player
 import static com.footballay.core.domain.football.external.fetch.response.PlayerSquadResponse._TeamSquad;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -199,6 +201,24 @@ class FootballApiCacheServiceMockTest {
         assertEquals(team.getId(), foundPlayer.getTeamPlayers().iterator().next().getTeam().getId());
     }
 
+    @DisplayName("6. staleAfter 가 지나기 전에 다시 캐싱하면 외부 API 를 호출하지 않고 DB 의 선수단을 반환합니다")
+    @Test
+    public void whenSquadIsFresh_thenSkipApiCall() {
+        // given
+        _PlayerData playerData = new _PlayerData(6L, "_Player Six", 24, 7, "Forward", "url6");
+        PlayerSquadResponse mockPlayerSquadResponse = createMockPlayerSquadResponse(playerData);
+        when(apiCallService.playerSquad(anyLong())).thenReturn(mockPlayerSquadResponse);
+        footballApiCacheService.cacheTeamSquad(team.getId());
+        em.flush(); em.clear();
+
+        // when
+        List<Player> players = footballApiCacheService.cacheTeamSquad(team.getId());
+
+        // then
+        verify(apiCallService, times(1)).playerSquad(team.getId());
+        assertEquals(List.of(6L), players.stream().map(Player::getId).toList());
+    }
+
     private PlayerSquadResponse createMockPlayerSquadResponse(_PlayerData... playerData) {
         // _PlayerData 객체들을 리스트로 변환
         List<_PlayerData> playerDataList = Arrays.asList(playerData);
@@ -0,0 +1,90 @@
+package com.footballay.core.domain.football.external.fetch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballay.core.config.JacksonConfig;
+import com.footballay.core.domain.football.constant.FixtureId;
+import com.footballay.core.domain.football.external.fetch.FixtureSingleStreamDecoder.Section;
+import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse;
+import com.footballay.core.domain.football.external.fetch.response.FixtureSingleResponse._FixtureSingle;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class FixtureSingleStreamDecoderTest {
+
+    private ObjectMapper objectMapper;
+    private FixtureSingleStreamDecoder decoder;
+    private byte[] body;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        objectMapper = new JacksonConfig().objectMapper();
+        decoder = new FixtureSingleStreamDecoder(objectMapper);
+        String path = "/devdata/mockapi/fixture/single/" + FixtureId.FIXTURE_SINGLE_1145526 + "_fixture.json";
+        try (InputStream inputStream = getClass().getResourceAsStream(path)) {
+            assertThat(inputStream).isNotNull();
+            body = inputStream.readAllBytes();
+        }
+    }
+
+    @DisplayName("작은 섹션은 바로 바인딩하고, 큰 섹션은 bind 하기 전까지 비어있습니다")
+    @Test
+    void decodeWithoutSections() throws IOException {
+        // when
+        DecodedFixtureSingle decoded = decoder.decode(body, body.length);
+
+        // then
+        _FixtureSingle fixtureSingle = decoded.getResponse().getResponse().get(0);
+        assertThat(fixtureSingle.getFixture().getId()).isEqualTo(FixtureId.FIXTURE_SINGLE_1145526);
+        assertThat(fixtureSingle.getLeague().getId()).isNotNull();
+        assertThat(fixtureSingle.getGoals()).isNotNull();
+        assertThat(fixtureSingle.getEvents()).isNull();
+        assertThat(fixtureSingle.getLineups()).isNull();
+        assertThat(fixtureSingle.getPlayers()).isNull();
+        assertThat(decoded.getSectionHashes()).containsOnlyKeys(Section.values());
+    }
+
+    @DisplayName("모든 섹션을 바인딩하면 ObjectMapper 로 전체 바인딩한 결과와 같습니다")
+    @Test
+    void bindAllEqualsFullBinding() throws IOException {
+        // given
+        FixtureSingleResponse expected = objectMapper.readValue(body, FixtureSingleResponse.class);
+
+        // when
+        FixtureSingleResponse actual = decoder.decode(body, body.length).bindAll();
+
+        // then
+        assertThat(actual.getResults()).isEqualTo(expected.getResults());
+        assertThat(actual.getResponse()).hasSize(1);
+        assertThat(actual.getResponse().get(0)).usingRecursiveComparison().isEqualTo(expected.getResponse().get(0));
+    }
+
+    @DisplayName("바뀐 섹션만 changedSectionsSince 에 포함됩니다")
+    @Test
+    void changedSections() throws IOException {
+        // given
+        DecodedFixtureSingle previous = decoder.decode(body, body.length);
+        String json = new String(body, StandardCharsets.UTF_8);
+        int eventsStart = json.indexOf("\"events\"");
+        int detailIndex = json.indexOf("\"detail\": \"", eventsStart) + "\"detail\": \"".length();
+        byte[] changedBody = (json.substring(0, detailIndex) + "X" + json.substring(detailIndex)).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        DecodedFixtureSingle sameBody = decoder.decode(body, body.length);
+        DecodedFixtureSingle eventChanged = decoder.decode(changedBody, changedBody.length);
+
+        // then
+        assertThat(sameBody.changedSectionsSince(previous.getSectionHashes())).isEmpty();
+        assertThat(eventChanged.changedSectionsSince(previous.getSectionHashes())).isEqualTo(Set.of(Section.EVENTS));
+        assertThat(eventChanged.changedSectionsSince(null)).containsExactlyInAnyOrder(Section.values());
+    }
+}
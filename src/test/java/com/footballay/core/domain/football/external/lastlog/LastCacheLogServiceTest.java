@@ -87,5 +87,39 @@ class LastCacheLogServiceTest {
         assertThat(lastCacheLog.getLastCachedAt()).isEqualTo(cachedAt);
     }
 
+    @DisplayName("저장된 응답 해시와 같은 해시인 경우에만 같은 내용으로 판단합니다")
+    @Test
+    void success_isSameContent() {
+        // given
+        ApiCacheType type = ApiCacheType.SQUAD;
+        Map<String, Object> parameters = Map.of("teamId", 50L);
+        lastCacheLogService.saveApiCache(type, parameters, ZonedDateTime.now(), "hash-1");
+
+        // when
+        boolean same = lastCacheLogService.isSameContent(type, parameters, "hash-1");
+        boolean changed = lastCacheLogService.isSameContent(type, parameters, "hash-2");
+        boolean notCached = lastCacheLogService.isSameContent(type, Map.of("teamId", 51L), "hash-1");
+
+        // then
+        assertThat(same).isTrue();
+        assertThat(changed).isFalse();
+        assertThat(notCached).isFalse();
+    }
+
+    @DisplayName("ApiCacheType 의 staleAfter 가 지나지 않았다면 다시 캐싱할 필요가 없습니다")
+    @Test
+    void success_isStale() {
+        // given
+        ApiCacheType type = ApiCacheType.TEAM;
+        Map<String, Object> freshParams = Map.of("teamId", 33L);
+        Map<String, Object> staleParams = Map.of("teamId", 34L);
+        lastCacheLogService.saveApiCache(type, freshParams, ZonedDateTime.now().minusHours(1));
+        lastCacheLogService.saveApiCache(type, staleParams, ZonedDateTime.now().minus(type.getStaleAfter()).minusMinutes(1));
+
+        // when & then
+        assertThat(lastCacheLogService.isStale(type, freshParams)).isFalse();
+        assertThat(lastCacheLogService.isStale(type, staleParams)).isTrue();
+        assertThat(lastCacheLogService.isStale(type, Map.of("teamId", 35L))).isTrue();
+    }
 
-}
\ No newline at end of file
+}
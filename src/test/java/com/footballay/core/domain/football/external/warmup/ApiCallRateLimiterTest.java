@@ -0,0 +1,40 @@
+package com.footballay.core.domain.football.external.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class ApiCallRateLimiterTest {
+
+    @DisplayName("첫 호출은 즉시, 이후 호출은 분당 호출 수에 맞춘 간격만큼 대기 시간이 늘어납니다")
+    @Test
+    void reserveSlotsWithInterval() {
+        // given
+        ApiCallRateLimiter rateLimiter = new ApiCallRateLimiter(60);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1);
+
+        // when
+        long first = rateLimiter.reserve();
+        long second = rateLimiter.reserve();
+        long third = rateLimiter.reserve();
+        log.info("wait nanos :: first={}, second={}, third={}", first, second, third);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isGreaterThan(intervalNanos / 2).isLessThanOrEqualTo(intervalNanos);
+        assertThat(third).isGreaterThan(intervalNanos).isLessThanOrEqualTo(intervalNanos * 2);
+    }
+
+    @DisplayName("분당 호출 수가 0 이하라면 예외를 던집니다")
+    @Test
+    void invalidRequestsPerMinute() {
+        assertThatThrownBy(() -> new ApiCallRateLimiter(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
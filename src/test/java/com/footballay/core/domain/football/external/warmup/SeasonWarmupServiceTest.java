@@ -0,0 +1,150 @@
+package com.footballay.core.domain.football.external.warmup;
+
+import com.footballay.core.domain.football.dto.SeasonWarmupStatusDto;
+import com.footballay.core.domain.football.external.FootballApiCacheService;
+import com.footballay.core.domain.football.external.lastlog.LastCacheLogService;
+import com.footballay.core.domain.football.persistence.League;
+import com.footballay.core.domain.football.persistence.apicache.ApiCacheType;
+import com.footballay.core.domain.football.repository.LeagueRepository;
+import com.footballay.core.domain.football.repository.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+class SeasonWarmupServiceTest {
+
+    private static final long LEAGUE_ID = 39L;
+
+    private FootballApiCacheService footballApiCacheService;
+    private LastCacheLogService lastCacheLogService;
+    private SeasonWarmupService seasonWarmupService;
+
+    @BeforeEach
+    void setUp() {
+        footballApiCacheService = mock(FootballApiCacheService.class);
+        lastCacheLogService = mock(LastCacheLogService.class);
+        LeagueRepository leagueRepository = mock(LeagueRepository.class);
+        TeamRepository teamRepository = mock(TeamRepository.class);
+
+        League league = new League();
+        league.setCurrentSeason(2024);
+        when(leagueRepository.findById(anyLong())).thenReturn(Optional.of(league));
+        when(teamRepository.findTeamsByLeague(any())).thenReturn(List.of());
+        when(lastCacheLogService.findLastCachedAt(any(ApiCacheType.class), anyMap())).thenReturn(Optional.empty());
+
+        seasonWarmupService = new SeasonWarmupService(footballApiCacheService, lastCacheLogService, leagueRepository, teamRepository);
+        ReflectionTestUtils.setField(seasonWarmupService, "parallelism", 2);
+        ReflectionTestUtils.setField(seasonWarmupService, "requestsPerMinute", 60_000);
+    }
+
+    @DisplayName("여러 스레드에서 동시에 워밍업을 시작해도 하나의 워밍업만 시작됩니다")
+    @Test
+    void concurrentStartWarmup() throws Exception {
+        // given
+        CountDownLatch cacheLeagueBlocked = new CountDownLatch(1);
+        when(footballApiCacheService.cacheLeague(LEAGUE_ID)).thenAnswer(invocation -> {
+            cacheLeagueBlocked.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        int threads = 8;
+        ExecutorService callers = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        // when
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(callers.submit(() -> {
+                startGate.await();
+                return seasonWarmupService.startWarmup(List.of(LEAGUE_ID));
+            }));
+        }
+        startGate.countDown();
+        long started = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(5, TimeUnit.SECONDS)) {
+                started++;
+            }
+        }
+        callers.shutdown();
+        log.info("started warmups={}, status={}", started, seasonWarmupService.getStatus());
+
+        // then
+        assertThat(started).isEqualTo(1);
+        assertThat(seasonWarmupService.getStatus()).map(SeasonWarmupStatusDto::state).contains("RUNNING");
+
+        cacheLeagueBlocked.countDown();
+        awaitFinished();
+        assertThat(seasonWarmupService.startWarmup(List.of(LEAGUE_ID))).isTrue();
+        awaitFinished();
+    }
+
+    @DisplayName("단계가 실패하면 실패한 단계를 기록하고 워밍업을 종료합니다")
+    @Test
+    void stepFailure() {
+        // given
+        when(footballApiCacheService.cacheLeague(LEAGUE_ID)).thenThrow(new IllegalStateException("api error"));
+
+        // when
+        boolean started = seasonWarmupService.startWarmup(List.of(LEAGUE_ID));
+        SeasonWarmupStatusDto status = awaitFinished();
+        log.info("status={}", status);
+
+        // then
+        assertThat(started).isTrue();
+        assertThat(status.failedSteps()).hasSize(1);
+        assertThat(status.failedSteps().get(0)).startsWith(ApiCacheType.LEAGUE.name());
+        assertThat(seasonWarmupService.startWarmup(List.of(LEAGUE_ID))).isTrue();
+        awaitFinished();
+    }
+
+    @DisplayName("종료 체크포인트 저장이 실패해도 워밍업은 종료되고 다음 워밍업을 시작할 수 있습니다")
+    @Test
+    void finishedCheckpointFailure() {
+        // given
+        when(lastCacheLogService.saveApiCache(eq(ApiCacheType.SEASON_WARMUP_FINISHED), anyMap(), any(ZonedDateTime.class)))
+                .thenThrow(new IllegalStateException("db error"));
+
+        // when
+        boolean started = seasonWarmupService.startWarmup(List.of(LEAGUE_ID));
+        SeasonWarmupStatusDto status = awaitFinished();
+        log.info("status={}", status);
+
+        // then
+        assertThat(started).isTrue();
+        assertThat(status.finishedAt()).isNotNull();
+        assertThat(status.failedSteps()).isEmpty();
+        assertThat(seasonWarmupService.startWarmup(List.of(LEAGUE_ID))).isTrue();
+        awaitFinished();
+    }
+
+    private SeasonWarmupStatusDto awaitFinished() {
+        await().atMost(Duration.ofSeconds(5)).until(() -> seasonWarmupService.getStatus()
+                .map(SeasonWarmupStatusDto::state)
+                .filter("FINISHED"::equals)
+                .isPresent());
+        return seasonWarmupService.getStatus().orElseThrow();
+    }
+}
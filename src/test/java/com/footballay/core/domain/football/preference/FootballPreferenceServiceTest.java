@@ -1,11 +1,15 @@
 package com.footballay.core.domain.football.preference;
 
 import com.footballay.core.domain.football.persistence.Player;
+import com.footballay.core.domain.football.preference.dto.PendingCustomPhotoUpload;
 import com.footballay.core.domain.football.preference.dto.PlayerCustomPhotoDto;
 import com.footballay.core.domain.football.preference.persistence.PreferenceKey;
+import com.footballay.core.domain.football.preference.repository.PlayerCustomPhotoRepository;
 import com.footballay.core.domain.football.preference.repository.PreferenceKeyRepository;
+import com.footballay.core.domain.football.preference.service.CustomPhotoUploadService;
 import com.footballay.core.domain.football.preference.service.PlayerCustomPhotoService;
 import com.footballay.core.domain.football.preference.service.PreferenceKeyService;
+import com.footballay.core.domain.football.preference.util.CustomPhotoFileUploader;
 import com.footballay.core.domain.football.repository.PlayerRepository;
 import com.footballay.core.domain.user.entity.User;
 import com.footballay.core.domain.user.repository.UserRepository;
@@ -39,6 +43,12 @@ class FootballPreferenceServiceTest {
     @Autowired
     private PlayerCustomPhotoService playerCustomPhotoService;
     @Autowired
+    private CustomPhotoUploadService customPhotoUploadService;
+    @Autowired
+    private CustomPhotoFileUploader customPhotoFileUploader;
+    @Autowired
+    private PlayerCustomPhotoRepository playerCustomPhotoRepository;
+    @Autowired
     private PreferenceKeyService preferenceKeyService;
     @Autowired
     private UserService userService;
@@ -119,10 +129,11 @@ class FootballPreferenceServiceTest {
     class SavePlayerCustomPhotoTest {
 
         @Test
-        @DisplayName("정상적으로 커스텀 이미지를 저장하고 로그에 출력한다")
+        @DisplayName("커스텀 이미지를 업로드 대기 상태로 저장한다. 업로드 완료 이후 활성화는 CustomPhotoUploadServiceTest 에서 검증한다")
         void savePlayerCustomPhoto() {
             // given
             MultipartFile multipartFile = CustomPhotoMultipartGenerator.generate();
+            User user = userService.findUser(USERNAME);
 
             // when
             footballPreferenceService.savePlayerCustomPhoto(USERNAME, PLAYER1_ID, multipartFile);
@@ -131,13 +142,11 @@ class FootballPreferenceServiceTest {
             em.clear();
 
             // then
-            User user = userService.findUser(USERNAME);
-            List<PlayerCustomPhotoDto> allPhotos =
+            List<PlayerCustomPhotoDto> pendingPhotos =
                     playerCustomPhotoService.getAllCustomPhotosWithUsername(user.getUsername(), PLAYER1_ID);
-
-            assertThat(allPhotos).hasSize(1);
-            assertThat(allPhotos.get(0).getPlayerId()).isEqualTo(PLAYER1_ID);
-            assertThat(allPhotos.get(0).getIsActive()).isTrue();
+            assertThat(pendingPhotos).hasSize(1);
+            assertThat(pendingPhotos.get(0).getPlayerId()).isEqualTo(PLAYER1_ID);
+            assertThat(pendingPhotos.get(0).getIsActive()).isFalse();
         }
     }
 
@@ -154,8 +163,8 @@ class FootballPreferenceServiceTest {
             MultipartFile file1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile file2 = CustomPhotoMultipartGenerator.generate();
 
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file1);
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER2_ID, file2);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, file1);
+            registerUploadedPhoto(user.getId(), PLAYER2_ID, file2);
 
             em.flush();
             em.clear();
@@ -177,7 +186,7 @@ class FootballPreferenceServiceTest {
             User user = userService.findUser(USERNAME);
             MultipartFile file1 = CustomPhotoMultipartGenerator.generate();
 
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file1);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, file1);
 
             em.flush();
             em.clear();
@@ -200,8 +209,8 @@ class FootballPreferenceServiceTest {
             MultipartFile file1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile file2 = CustomPhotoMultipartGenerator.generate();
 
-            PlayerCustomPhotoDto dto1 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file1);
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER2_ID, file2);
+            PlayerCustomPhotoDto dto1 = registerUploadedPhoto(user.getId(), PLAYER1_ID, file1);
+            registerUploadedPhoto(user.getId(), PLAYER2_ID, file2);
 
             em.flush();
             em.clear();
@@ -230,8 +239,8 @@ class FootballPreferenceServiceTest {
             User user = userService.findUser(USERNAME);
             MultipartFile file1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile file2 = CustomPhotoMultipartGenerator.generate();
-            PlayerCustomPhotoDto photoDto1 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file1);
-            PlayerCustomPhotoDto photoDto2 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER2_ID, file2);
+            PlayerCustomPhotoDto photoDto1 = registerUploadedPhoto(user.getId(), PLAYER1_ID, file1);
+            PlayerCustomPhotoDto photoDto2 = registerUploadedPhoto(user.getId(), PLAYER2_ID, file2);
             em.flush();
             em.clear();
 
@@ -254,8 +263,8 @@ class FootballPreferenceServiceTest {
             User user = userService.findUser(USERNAME);
             MultipartFile file1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile file2 = CustomPhotoMultipartGenerator.generate();
-            PlayerCustomPhotoDto photoDto1 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file1);
-            PlayerCustomPhotoDto photoDto2 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER2_ID, file2);
+            PlayerCustomPhotoDto photoDto1 = registerUploadedPhoto(user.getId(), PLAYER1_ID, file1);
+            PlayerCustomPhotoDto photoDto2 = registerUploadedPhoto(user.getId(), PLAYER2_ID, file2);
             em.flush();
             em.clear();
 
@@ -268,6 +277,33 @@ class FootballPreferenceServiceTest {
             assertThat(photoUrlMap).hasSize(1);
             assertThat(photoUrlMap).containsKeys(PLAYER2_ID);
         }
+
+        @Test
+        @DisplayName("캐싱된 이후에도 커스텀 이미지를 업로드하거나 비활성화하면 변경된 이미지를 가져온다")
+        void getCustomPhotoUrlsAfterCachedAndChanged() {
+            // given
+            final String keyHash = preferenceKey.getKeyhash();
+            User user = userService.findUser(USERNAME);
+            Map<Long, String> beforeUpload = footballPreferenceService.getCustomPhotoUrlsOfPlayers(keyHash, Set.of(PLAYER1_ID, PLAYER2_ID));
+
+            // when
+            PlayerCustomPhotoDto photoDto = registerUploadedPhoto(user.getId(), PLAYER1_ID, CustomPhotoMultipartGenerator.generate());
+            em.flush();
+            em.clear();
+            Map<Long, String> afterUpload = footballPreferenceService.getCustomPhotoUrlsOfPlayers(keyHash, Set.of(PLAYER1_ID, PLAYER2_ID));
+            Map<Long, String> cached = footballPreferenceService.getCustomPhotoUrlsOfPlayers(keyHash, Set.of(PLAYER1_ID));
+            footballPreferenceService.deactivatePhoto(USERNAME, photoDto.getId());
+            em.flush();
+            em.clear();
+            Map<Long, String> afterDeactivate = footballPreferenceService.getCustomPhotoUrlsOfPlayers(keyHash, Set.of(PLAYER1_ID, PLAYER2_ID));
+
+            // then
+            assertThat(beforeUpload).isEmpty();
+            assertThat(afterUpload).containsOnlyKeys(PLAYER1_ID);
+            assertThat(afterUpload.get(PLAYER1_ID)).isEqualTo(photoDto.getPhotoUrl());
+            assertThat(cached).isEqualTo(afterUpload);
+            assertThat(afterDeactivate).isEmpty();
+        }
     }
 
     @Nested
@@ -282,9 +318,9 @@ class FootballPreferenceServiceTest {
             MultipartFile file2 = CustomPhotoMultipartGenerator.generate();
 
             User user = userService.findUser(USERNAME);
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file1);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, file1);
             // 이전의 이미지는 자동으로 deactivate 된다
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file2);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, file2);
             em.flush();
             em.clear();
 
@@ -307,7 +343,7 @@ class FootballPreferenceServiceTest {
             // given
             MultipartFile file1 = CustomPhotoMultipartGenerator.generate();
             User user = userService.findUser(USERNAME);
-            PlayerCustomPhotoDto photoDto = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file1);
+            PlayerCustomPhotoDto photoDto = registerUploadedPhoto(user.getId(), PLAYER1_ID, file1);
 
             em.flush();
             em.clear();
@@ -344,7 +380,7 @@ class FootballPreferenceServiceTest {
             // given
             MultipartFile file1 = CustomPhotoMultipartGenerator.generate();
             User user = userService.findUser(USERNAME);
-            PlayerCustomPhotoDto photoDto = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file1);
+            PlayerCustomPhotoDto photoDto = registerUploadedPhoto(user.getId(), PLAYER1_ID, file1);
 
             em.flush();
             em.clear();
@@ -387,8 +423,8 @@ class FootballPreferenceServiceTest {
             MultipartFile file1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile file2 = CustomPhotoMultipartGenerator.generate();
             User user = userService.findUser(USERNAME);
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file1);
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, file2);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, file1);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, file2);
 
             em.flush();
             em.clear();
@@ -403,4 +439,18 @@ class FootballPreferenceServiceTest {
             assertThat(allPhotos).allMatch(photo -> !photo.getIsActive());
         }
     }
+
+    /**
+     * {@link CustomPhotoUploadService#registerAndUpload} 로 이미지를 등록하고 업로드가 끝난 상태로 만듭니다. <br>
+     * 테스트 트랜잭션은 커밋되지 않아 업로드 스레드가 시작되지 않으므로, 업로드 스레드가 하는 업로드와 활성화를 직접 수행합니다.
+     * 비동기 업로드 완료는 {@link com.footballay.core.domain.football.preference.service.CustomPhotoUploadServiceTest} 에서 검증합니다.
+     */
+    private PlayerCustomPhotoDto registerUploadedPhoto(long userId, long playerId, MultipartFile file) {
+        PendingCustomPhotoUpload pending = customPhotoUploadService.registerAndUpload(userId, playerId, file);
+        if (pending.uploadRequired()) {
+            customPhotoFileUploader.uploadFile(file, pending.s3Key());
+            playerCustomPhotoService.activateUploadedPhoto(pending.photoId());
+        }
+        return PlayerCustomPhotoDto.fromEntity(playerCustomPhotoRepository.findById(pending.photoId()).orElseThrow());
+    }
 }
@@ -0,0 +1,210 @@
+package com.footballay.core.domain.football.preference.service;
+
+import com.footballay.core.domain.football.persistence.Player;
+import com.footballay.core.domain.football.preference.dto.PendingCustomPhotoUpload;
+import com.footballay.core.domain.football.preference.persistence.CustomPhotoUploadStatus;
+import com.footballay.core.domain.football.preference.persistence.PlayerCustomPhoto;
+import com.footballay.core.domain.football.preference.repository.PlayerCustomPhotoRepository;
+import com.footballay.core.domain.football.preference.repository.PreferenceKeyRepository;
+import com.footballay.core.domain.football.preference.repository.UserFilePathRepository;
+import com.footballay.core.domain.football.preference.util.CustomPhotoFileUploader;
+import com.footballay.core.domain.football.repository.PlayerRepository;
+import com.footballay.core.domain.user.entity.User;
+import com.footballay.core.domain.user.repository.UserRepository;
+import com.footballay.core.util.CustomPhotoMultipartGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * 업로드 스레드가 실제로 업로드를 끝내고 이미지를 활성화하는지 확인합니다. <br>
+ * 업로드는 트랜잭션 커밋 이후에 시작되므로 테스트 트랜잭션 없이 실행하고, 저장한 데이터는 직접 정리합니다.
+ */
+@Slf4j
+@ActiveProfiles("mockapi")
+@SpringBootTest(properties = {
+        "football.preference.photo-upload.max-attempts=2",
+        "football.preference.photo-upload.retry-backoff-millis=10"
+})
+class CustomPhotoUploadServiceTest {
+
+    @Autowired
+    private CustomPhotoUploadService customPhotoUploadService;
+    @Autowired
+    private PlayerCustomPhotoService playerCustomPhotoService;
+    @Autowired
+    private PlayerCustomPhotoRepository playerCustomPhotoRepository;
+    @Autowired
+    private UserFilePathRepository userFilePathRepository;
+    @Autowired
+    private PreferenceKeyRepository preferenceKeyRepository;
+    @Autowired
+    private PreferenceKeyService preferenceKeyService;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @SpyBean
+    private CustomPhotoFileUploader customPhotoFileUploader;
+
+    private static final long PLAYER1_ID = 1L;
+    private static final long PLAYER2_ID = 2L;
+    private static final Duration UPLOAD_TIMEOUT = Duration.ofSeconds(10);
+
+    private User user;
+    private final List<String> uploadedS3Keys = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        playerRepository.save(Player.builder().id(PLAYER1_ID).number(7).name("Ronaldo").position("F").build());
+        playerRepository.save(Player.builder().id(PLAYER2_ID).number(10).name("Messi").position("F").build());
+        user = userRepository.save(User.builder()
+                .username("uploader")
+                .password("password1")
+                .enabled(true)
+                .build());
+        preferenceKeyService.generatePreferenceKeyForUser(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadedS3Keys.forEach(customPhotoFileUploader::deleteFile);
+        playerCustomPhotoRepository.deleteAll();
+        userFilePathRepository.deleteAll();
+        preferenceKeyRepository.deleteAll();
+        userRepository.deleteAll();
+        playerRepository.deleteAll();
+    }
+
+    @DisplayName("업로드 스레드가 업로드를 마치면 이미지를 업로드 완료 상태로 바꾸고 활성화한다")
+    @Test
+    void activateAfterAsyncUpload() {
+        // given
+        MultipartFile file = CustomPhotoMultipartGenerator.generate();
+
+        // when
+        PendingCustomPhotoUpload pending = customPhotoUploadService.registerAndUpload(user.getId(), PLAYER1_ID, file);
+        uploadedS3Keys.add(pending.s3Key());
+        PlayerCustomPhoto photo = awaitUploadStatus(pending.photoId(), CustomPhotoUploadStatus.UPLOADED);
+        log.info("pending={}, uploaded photo id={}", pending, photo.getId());
+
+        // then
+        assertThat(pending.uploadRequired()).isTrue();
+        assertThat(photo.isActive()).isTrue();
+        assertThat(customPhotoFileUploader.existsFile(pending.s3Key())).isTrue();
+    }
+
+    @DisplayName("업로드가 끝난 이미지와 같은 내용을 다른 선수에 등록하면 업로드 없이 바로 활성화한다")
+    @Test
+    void reuseUploadedFileOfSameContent() {
+        // given
+        PendingCustomPhotoUpload first = customPhotoUploadService.registerAndUpload(user.getId(), PLAYER1_ID, CustomPhotoMultipartGenerator.generate());
+        uploadedS3Keys.add(first.s3Key());
+        awaitUploadStatus(first.photoId(), CustomPhotoUploadStatus.UPLOADED);
+
+        // when
+        PendingCustomPhotoUpload second = customPhotoUploadService.registerAndUpload(user.getId(), PLAYER2_ID, CustomPhotoMultipartGenerator.generate());
+        PlayerCustomPhoto photo = playerCustomPhotoRepository.findById(second.photoId()).orElseThrow();
+
+        // then
+        assertThat(second.uploadRequired()).isFalse();
+        assertThat(second.s3Key()).isEqualTo(first.s3Key());
+        assertThat(photo.isActive()).isTrue();
+        assertThat(photo.getUploadStatus()).isEqualTo(CustomPhotoUploadStatus.UPLOADED);
+    }
+
+    @DisplayName("모든 재시도에서 업로드에 실패하면 업로드 실패로 표시하고 활성화하지 않는다")
+    @Test
+    void markFailedAfterRetries() {
+        // given
+        Mockito.doThrow(new IllegalStateException("storage unavailable"))
+                .when(customPhotoFileUploader).uploadFile(any(Path.class), any(), anyString());
+
+        // when
+        PendingCustomPhotoUpload pending = customPhotoUploadService.registerAndUpload(user.getId(), PLAYER1_ID, CustomPhotoMultipartGenerator.generate());
+        PlayerCustomPhoto photo = awaitUploadStatus(pending.photoId(), CustomPhotoUploadStatus.FAILED);
+
+        // then
+        assertThat(photo.isActive()).isFalse();
+        Mockito.verify(customPhotoFileUploader, Mockito.times(2)).uploadFile(any(Path.class), any(), anyString());
+    }
+
+    @DisplayName("같은 이미지를 여러 선수에 등록하면 하나의 파일을 공유하고, 마지막 참조를 삭제한 트랜잭션이 커밋된 뒤 파일을 삭제한다")
+    @Test
+    void shareFileAndDeleteWithLastReference() {
+        // given
+        PendingCustomPhotoUpload first = customPhotoUploadService.registerAndUpload(user.getId(), PLAYER1_ID, CustomPhotoMultipartGenerator.generate());
+        uploadedS3Keys.add(first.s3Key());
+        awaitUploadStatus(first.photoId(), CustomPhotoUploadStatus.UPLOADED);
+        PendingCustomPhotoUpload second = customPhotoUploadService.registerAndUpload(user.getId(), PLAYER2_ID, CustomPhotoMultipartGenerator.generate());
+
+        // when
+        playerCustomPhotoService.deletePhotoWithUsername(user.getUsername(), first.photoId());
+        boolean existsAfterFirstDelete = customPhotoFileUploader.existsFile(first.s3Key());
+        playerCustomPhotoService.deletePhotoWithUsername(user.getUsername(), second.photoId());
+        boolean existsAfterLastDelete = customPhotoFileUploader.existsFile(first.s3Key());
+
+        // then
+        assertThat(second.s3Key()).isEqualTo(first.s3Key());
+        assertThat(existsAfterFirstDelete).isTrue();
+        assertThat(existsAfterLastDelete).isFalse();
+    }
+
+    @DisplayName("업로드 중에 이미지를 삭제하면 업로드가 끝난 뒤 엔티티와 업로드된 파일을 삭제한다")
+    @Test
+    void deletePhotoDuringUpload() throws InterruptedException {
+        // given
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        CountDownLatch releaseUpload = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            uploadStarted.countDown();
+            releaseUpload.await();
+            return invocation.callRealMethod();
+        }).when(customPhotoFileUploader).uploadFile(any(Path.class), any(), anyString());
+        PendingCustomPhotoUpload pending = customPhotoUploadService.registerAndUpload(user.getId(), PLAYER1_ID, CustomPhotoMultipartGenerator.generate());
+        uploadedS3Keys.add(pending.s3Key());
+        assertThat(uploadStarted.await(UPLOAD_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+        // when
+        boolean deleted = playerCustomPhotoService.deletePhotoWithUsername(user.getUsername(), pending.photoId());
+        CustomPhotoUploadStatus statusDuringUpload = playerCustomPhotoRepository.findById(pending.photoId())
+                .map(PlayerCustomPhoto::getUploadStatus)
+                .orElseThrow();
+        releaseUpload.countDown();
+        await().atMost(UPLOAD_TIMEOUT).until(() -> playerCustomPhotoRepository.findById(pending.photoId()).isEmpty()
+                && !customPhotoFileUploader.existsFile(pending.s3Key()));
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(statusDuringUpload).isEqualTo(CustomPhotoUploadStatus.DELETING);
+        Mockito.verify(customPhotoFileUploader).deleteFile(pending.s3Key());
+    }
+
+    private PlayerCustomPhoto awaitUploadStatus(long photoId, CustomPhotoUploadStatus status) {
+        await().atMost(UPLOAD_TIMEOUT).until(() -> playerCustomPhotoRepository.findById(photoId)
+                .map(PlayerCustomPhoto::getUploadStatus)
+                .filter(status::equals)
+                .isPresent());
+        return playerCustomPhotoRepository.findById(photoId).orElseThrow();
+    }
+}
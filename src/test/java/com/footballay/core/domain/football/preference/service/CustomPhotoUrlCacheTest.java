@@ -0,0 +1,75 @@
+package com.footballay.core.domain.football.preference.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Redis 를 사용할 수 없는 상황(mock 이 null 을 반환)에서 메모리 캐시 동작을 확인합니다.
+ */
+@Slf4j
+class CustomPhotoUrlCacheTest {
+
+    private static final String KEY_HASH = "keyhash";
+
+    private final CustomPhotoUrlCache cache = new CustomPhotoUrlCache(mock(StringRedisTemplate.class), 60, 2, 60, 60);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @DisplayName("존재하지 않는 keyHash 는 잠시 캐싱해서 반복 요청에도 DB 를 한 번만 조회하고, 제거하면 다시 조회한다")
+    @Test
+    void cacheMissingKeyBriefly() {
+        // given
+        Function<String, Map<Long, String>> missingKeyLoader = keyHash -> {
+            loads.incrementAndGet();
+            throw new IllegalArgumentException("PreferenceKey not found with key: " + keyHash);
+        };
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> cache.getOrLoad(KEY_HASH, missingKeyLoader)).isInstanceOf(IllegalArgumentException.class);
+        }
+        cache.evict(KEY_HASH);
+        Map<Long, String> afterEvict = cache.getOrLoad(KEY_HASH, countingLoader(Map.of(7L, "https://photo/7.png")));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(afterEvict).containsEntry(7L, "https://photo/7.png");
+    }
+
+    @DisplayName("메모리 캐시는 최대 개수를 넘으면 항목을 제거해서 다시 DB 를 조회한다")
+    @Test
+    void boundedLocalCache() {
+        // given
+        Function<String, Map<Long, String>> loader = countingLoader(Map.of());
+        for (int i = 0; i < 100; i++) {
+            cache.getOrLoad(KEY_HASH + i, loader);
+        }
+        int loadsAfterFill = loads.get();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.getOrLoad(KEY_HASH + i, loader);
+        }
+        log.info("loads after fill={}, after second pass={}", loadsAfterFill, loads.get());
+
+        // then
+        assertThat(loadsAfterFill).isEqualTo(100);
+        assertThat(loads.get()).isGreaterThan(loadsAfterFill);
+    }
+
+    private Function<String, Map<Long, String>> countingLoader(Map<Long, String> photoUrls) {
+        return keyHash -> {
+            loads.incrementAndGet();
+            return photoUrls;
+        };
+    }
+}
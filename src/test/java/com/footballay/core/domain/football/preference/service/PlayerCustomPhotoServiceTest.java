@@ -1,11 +1,14 @@
 package com.footballay.core.domain.football.preference.service;
 
 import com.footballay.core.domain.football.persistence.Player;
+import com.footballay.core.domain.football.preference.dto.PendingCustomPhotoUpload;
 import com.footballay.core.domain.football.preference.dto.PlayerCustomPhotoDto;
+import com.footballay.core.domain.football.preference.persistence.CustomPhotoUploadStatus;
 import com.footballay.core.domain.football.preference.persistence.PlayerCustomPhoto;
 import com.footballay.core.domain.football.preference.persistence.PreferenceKey;
 import com.footballay.core.domain.football.preference.repository.PlayerCustomPhotoRepository;
 import com.footballay.core.domain.football.preference.repository.PreferenceKeyRepository;
+import com.footballay.core.domain.football.preference.util.CustomPhotoFileUploader;
 import com.footballay.core.domain.football.repository.PlayerRepository;
 import com.footballay.core.domain.user.entity.User;
 import com.footballay.core.domain.user.repository.UserRepository;
@@ -20,6 +23,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +52,10 @@ class PlayerCustomPhotoServiceTest {
     @Autowired
     private PreferenceKeyService preferenceKeyService;
     @Autowired
+    private CustomPhotoUploadService customPhotoUploadService;
+    @Autowired
+    private CustomPhotoFileUploader customPhotoFileUploader;
+    @Autowired
     private EntityManager em;
 
     private PreferenceKey preferenceKey;
@@ -105,7 +116,7 @@ class PlayerCustomPhotoServiceTest {
             log.info("preferenceKey: {}", preferenceKey.getKeyhash());
 
             // when
-            PlayerCustomPhotoDto dto = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile);
+            PlayerCustomPhotoDto dto = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile);
             log.info("dto: {}", dto);
 
             // then
@@ -127,8 +138,8 @@ class PlayerCustomPhotoServiceTest {
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
 
             // when
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile1);
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile2);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile1);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile2);
 
             em.flush();
             em.clear();
@@ -153,8 +164,8 @@ class PlayerCustomPhotoServiceTest {
             MultipartFile multipartFile1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile multipartFile2 = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile1);
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER2_ID, multipartFile2);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile1);
+            registerUploadedPhoto(user.getId(), PLAYER2_ID, multipartFile2);
             final String keyhash = preferenceKey.getKeyhash();
 
             // when
@@ -174,9 +185,9 @@ class PlayerCustomPhotoServiceTest {
             MultipartFile multipartFile1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile multipartFile2 = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile1);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile1);
             // first photo is deactivated when second photo is uploaded for the same player and the same user
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile2);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile2);
             em.flush();
             em.clear();
             final String keyhash = preferenceKey.getKeyhash();
@@ -217,8 +228,8 @@ class PlayerCustomPhotoServiceTest {
             MultipartFile multipartFile1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile multipartFile2 = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile1);
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile2);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile1);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile2);
 
             // when
             List<PlayerCustomPhotoDto> photoDtoList = playerCustomPhotoService.getAllCustomPhotosWithUsername(USERNAME, PLAYER1_ID);
@@ -234,9 +245,9 @@ class PlayerCustomPhotoServiceTest {
             MultipartFile multipartFile1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile multipartFile2 = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile1);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile1);
             // first photo is deactivated when second photo is uploaded for the same player and the same user
-            playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile2);
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile2);
 
             // when
             List<PlayerCustomPhotoDto> photoDtoList = playerCustomPhotoService.getAllCustomPhotosWithUsername(USERNAME, PLAYER1_ID);
@@ -265,7 +276,7 @@ class PlayerCustomPhotoServiceTest {
             // given
             MultipartFile multipartFile = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            PlayerCustomPhotoDto photoDto = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile);
+            PlayerCustomPhotoDto photoDto = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile);
 
             // when
             playerCustomPhotoService.deactivatePhotoWithUsername(USERNAME, photoDto.getId());
@@ -285,8 +296,8 @@ class PlayerCustomPhotoServiceTest {
             MultipartFile multipartFile1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile multipartFile2 = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            PlayerCustomPhotoDto photoDto1 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile1);
-            PlayerCustomPhotoDto photoDto2 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile2);
+            PlayerCustomPhotoDto photoDto1 = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile1);
+            PlayerCustomPhotoDto photoDto2 = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile2);
             em.flush();
             em.clear();
 
@@ -316,7 +327,7 @@ class PlayerCustomPhotoServiceTest {
             // given
             MultipartFile multipartFile = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            PlayerCustomPhotoDto photoDto = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile);
+            PlayerCustomPhotoDto photoDto = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile);
             long photoId = photoDto.getId();
 
             // when
@@ -338,8 +349,8 @@ class PlayerCustomPhotoServiceTest {
             MultipartFile multipartFile1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile multipartFile2 = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            PlayerCustomPhotoDto photoDto1 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile1);
-            PlayerCustomPhotoDto photoDto2 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile2);
+            PlayerCustomPhotoDto photoDto1 = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile1);
+            PlayerCustomPhotoDto photoDto2 = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile2);
             em.flush();
             em.clear();
 
@@ -372,7 +383,7 @@ class PlayerCustomPhotoServiceTest {
             // given
             MultipartFile multipartFile = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            PlayerCustomPhotoDto photoDto = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile);
+            PlayerCustomPhotoDto photoDto = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile);
             final long photoId = photoDto.getId();
 
             // when
@@ -396,6 +407,33 @@ class PlayerCustomPhotoServiceTest {
             // then
             assertThat(result).isTrue();
         }
+
+        @DisplayName("업로드 중인 이미지를 삭제하면 삭제 중으로 표시하고, 업로드가 끝나면 엔티티를 삭제한다")
+        @Test
+        void deletePendingPhoto() {
+            // given
+            User user = userRepository.findByUsername(USERNAME).orElseThrow();
+            PendingCustomPhotoUpload pending = customPhotoUploadService.registerAndUpload(user.getId(), PLAYER1_ID, CustomPhotoMultipartGenerator.generate());
+            em.flush();
+            em.clear();
+
+            // when
+            boolean deleted = playerCustomPhotoService.deletePhotoWithUsername(USERNAME, pending.photoId());
+            em.flush();
+            em.clear();
+            PlayerCustomPhoto deletingPhoto = playerCustomPhotoRepository.findById(pending.photoId()).orElseThrow();
+            em.clear();
+            boolean activated = playerCustomPhotoService.activateUploadedPhoto(pending.photoId());
+            em.flush();
+            em.clear();
+
+            // then
+            assertThat(deleted).isTrue();
+            assertThat(deletingPhoto.getUploadStatus()).isEqualTo(CustomPhotoUploadStatus.DELETING);
+            assertThat(deletingPhoto.isActive()).isFalse();
+            assertThat(activated).isFalse();
+            assertThat(playerCustomPhotoRepository.findById(pending.photoId())).isEmpty();
+        }
     }
 
     @Nested
@@ -423,7 +461,7 @@ class PlayerCustomPhotoServiceTest {
             // given
             MultipartFile multipartFile = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            PlayerCustomPhotoDto photoDto = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile);
+            PlayerCustomPhotoDto photoDto = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile);
             em.flush();
             em.clear();
 
@@ -445,8 +483,8 @@ class PlayerCustomPhotoServiceTest {
             MultipartFile multipartFile1 = CustomPhotoMultipartGenerator.generate();
             MultipartFile multipartFile2 = CustomPhotoMultipartGenerator.generate();
             User user = userRepository.findByUsername(USERNAME).orElseThrow();
-            PlayerCustomPhotoDto photoDto1 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile1);
-            PlayerCustomPhotoDto photoDto2 = playerCustomPhotoService.registerAndUploadCustomPhoto(user.getId(), PLAYER1_ID, multipartFile2);
+            PlayerCustomPhotoDto photoDto1 = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile1);
+            PlayerCustomPhotoDto photoDto2 = registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile2);
             em.flush();
             em.clear();
 
@@ -464,6 +502,78 @@ class PlayerCustomPhotoServiceTest {
 
     }
 
+    @Nested
+    class ContentAddressedPhoto {
+
+        @DisplayName("이미 업로드된 이미지와 같은 내용이면 업로드 없이 바로 활성화한다")
+        @Test
+        void registerAlreadyStoredPhoto() throws IOException {
+            // given
+            MultipartFile multipartFile = CustomPhotoMultipartGenerator.generate();
+            User user = userRepository.findByUsername(USERNAME).orElseThrow();
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile);
+            String contentHash = HexFormat.of().formatHex(sha256(multipartFile.getBytes()));
+
+            // when
+            PendingCustomPhotoUpload pending = playerCustomPhotoService.registerPendingPhoto(
+                    user.getId(), PLAYER2_ID, multipartFile.getOriginalFilename(), contentHash);
+            em.flush();
+            em.clear();
+
+            // then
+            assertThat(pending.uploadRequired()).isFalse();
+            PlayerCustomPhoto photo = playerCustomPhotoRepository.findById(pending.photoId()).orElseThrow();
+            assertThat(photo.isActive()).isTrue();
+            assertThat(photo.getUploadStatus()).isEqualTo(CustomPhotoUploadStatus.UPLOADED);
+            assertThat(photo.getContentHash()).isEqualTo(contentHash);
+        }
+
+        @DisplayName("같은 내용이더라도 확장자가 다르면 다른 파일이므로 업로드가 필요하다")
+        @Test
+        void registerSameContentWithDifferentExtension() throws IOException {
+            // given
+            MultipartFile multipartFile = CustomPhotoMultipartGenerator.generate();
+            User user = userRepository.findByUsername(USERNAME).orElseThrow();
+            registerUploadedPhoto(user.getId(), PLAYER1_ID, multipartFile);
+            String contentHash = HexFormat.of().formatHex(sha256(multipartFile.getBytes()));
+
+            // when
+            PendingCustomPhotoUpload pending = playerCustomPhotoService.registerPendingPhoto(
+                    user.getId(), PLAYER2_ID, "custom_photo.jpg", contentHash);
+            em.flush();
+            em.clear();
+
+            // then
+            assertThat(pending.uploadRequired()).isTrue();
+            assertThat(pending.s3Key()).endsWith(".jpg");
+            PlayerCustomPhoto photo = playerCustomPhotoRepository.findById(pending.photoId()).orElseThrow();
+            assertThat(photo.isActive()).isFalse();
+            assertThat(photo.getUploadStatus()).isEqualTo(CustomPhotoUploadStatus.PENDING);
+        }
+
+        private static byte[] sha256(byte[] bytes) {
+            try {
+                return MessageDigest.getInstance("SHA-256").digest(bytes);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * {@link CustomPhotoUploadService#registerAndUpload} 로 이미지를 등록하고 업로드가 끝난 상태로 만듭니다. <br>
+     * 테스트 트랜잭션은 커밋되지 않아 업로드 스레드가 시작되지 않으므로, 업로드 스레드가 하는 업로드와 활성화를 직접 수행합니다.
+     * 비동기 업로드 완료는 {@link CustomPhotoUploadServiceTest} 에서 검증합니다.
+     */
+    private PlayerCustomPhotoDto registerUploadedPhoto(long userId, long playerId, MultipartFile file) {
+        PendingCustomPhotoUpload pending = customPhotoUploadService.registerAndUpload(userId, playerId, file);
+        if (pending.uploadRequired()) {
+            customPhotoFileUploader.uploadFile(file, pending.s3Key());
+            playerCustomPhotoService.activateUploadedPhoto(pending.photoId());
+        }
+        return PlayerCustomPhotoDto.fromEntity(playerCustomPhotoRepository.findById(pending.photoId()).orElseThrow());
+    }
+
     private static void OneIsActiveAndAnotherIsInactive(PlayerCustomPhoto photo1, PlayerCustomPhoto photo2) {
         boolean active1 = photo1.isActive();
         boolean active2 = photo2.isActive();
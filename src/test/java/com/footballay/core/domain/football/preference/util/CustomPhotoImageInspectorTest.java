@@ -0,0 +1,94 @@
+package com.footballay.core.domain.football.preference.util;
+
+import com.footballay.core.util.CustomPhotoMultipartGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+class CustomPhotoImageInspectorTest {
+
+    private final CustomPhotoImageInspector inspector = new CustomPhotoImageInspector(1024 * 1024);
+
+    @DisplayName("150x150 PNG 를 한 번 읽어서 크기와 해시를 구한다")
+    @Test
+    void inspectValidPng() throws Exception {
+        // given
+        MultipartFile file = CustomPhotoMultipartGenerator.generate();
+        byte[] expectedBytes = file.getBytes();
+
+        // when
+        CustomPhotoImageInspector.InspectedPhoto photo = inspector.inspect(file);
+
+        // then
+        assertThat(photo.width()).isEqualTo(150);
+        assertThat(photo.height()).isEqualTo(150);
+        assertThat(photo.bytes()).isEqualTo(expectedBytes);
+        assertThat(photo.contentHash())
+                .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(expectedBytes)));
+    }
+
+    @DisplayName("크기가 다른 PNG 는 거부한다")
+    @Test
+    void rejectWrongDimensions() throws IOException {
+        // given
+        MultipartFile file = png(new BufferedImage(100, 150, BufferedImage.TYPE_INT_RGB));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> inspector.inspect(file));
+    }
+
+    @DisplayName("PNG 시그니처가 아니면 거부한다")
+    @Test
+    void rejectNonPngSignature() {
+        // given
+        byte[] bytes = new byte[64];
+        Arrays.fill(bytes, (byte) 'a');
+        MultipartFile file = new MockMultipartFile("file", "custom_photo.png", "image/png", bytes);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> inspector.inspect(file));
+    }
+
+    @DisplayName("끝이 잘린 PNG 는 거부한다")
+    @Test
+    void rejectTruncatedPng() throws IOException {
+        // given
+        byte[] bytes = CustomPhotoMultipartGenerator.generate().getBytes();
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 4);
+        MultipartFile file = new MockMultipartFile("file", "custom_photo.png", "image/png", truncated);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> inspector.inspect(file));
+    }
+
+    @DisplayName("최대 크기를 넘는 파일은 거부한다")
+    @Test
+    void rejectTooLargeFile() throws IOException {
+        // given
+        CustomPhotoImageInspector smallLimitInspector = new CustomPhotoImageInspector(64);
+        MultipartFile file = CustomPhotoMultipartGenerator.generate();
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> smallLimitInspector.inspect(file));
+    }
+
+    private static MultipartFile png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", baos);
+        return new MockMultipartFile("file", "custom_photo.png", "image/png", baos.toByteArray());
+    }
+}
@@ -0,0 +1,69 @@
+package com.footballay.core.domain.football.preference.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+class LocalCustomPhotoFileUploaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("임시 저장한 파일을 로컬 저장소에 업로드하고 삭제한다")
+    @Test
+    void uploadStagedFileAndDelete() throws IOException {
+        // given
+        CustomPhotoStagingStore stagingStore = new CustomPhotoStagingStore(tempDir.resolve("staging").toString());
+        LocalCustomPhotoFileUploader uploader = new LocalCustomPhotoFileUploader(tempDir.resolve("storage").toString());
+        byte[] bytes = {1, 2, 3};
+        String s3Key = "chuncity/customphoto/1_abc.png";
+
+        // when
+        Path stagedFile = stagingStore.stage(bytes);
+        uploader.uploadFile(stagedFile, "image/png", s3Key);
+
+        // then
+        assertThat(uploader.existsFile(s3Key)).isTrue();
+        assertThat(Files.readAllBytes(tempDir.resolve("storage").resolve(s3Key))).isEqualTo(bytes);
+
+        uploader.deleteFile(s3Key);
+        assertThat(uploader.existsFile(s3Key)).isFalse();
+    }
+
+    @DisplayName("저장소 경로 밖을 가리키는 key 는 허용하지 않는다")
+    @Test
+    void rejectPathTraversal() {
+        // given
+        LocalCustomPhotoFileUploader uploader = new LocalCustomPhotoFileUploader(tempDir.resolve("storage").toString());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> uploader.existsFile("../outside.png"));
+    }
+
+    @DisplayName("오래된 임시 파일만 삭제한다")
+    @Test
+    void deleteStagedFilesBefore() {
+        // given
+        CustomPhotoStagingStore stagingStore = new CustomPhotoStagingStore(tempDir.resolve("staging").toString());
+        Path stagedFile = stagingStore.stage(new byte[]{1});
+
+        // when
+        int deletedBefore = stagingStore.deleteStagedFilesBefore(Instant.now().minusSeconds(60));
+        int deletedAfter = stagingStore.deleteStagedFilesBefore(Instant.now().plusSeconds(60));
+
+        // then
+        assertThat(deletedBefore).isZero();
+        assertThat(deletedAfter).isEqualTo(1);
+        assertThat(Files.exists(stagedFile)).isFalse();
+    }
+}
@@ -0,0 +1,121 @@
+package com.footballay.core.domain.football.scheduler.live;
+
+import com.footballay.core.domain.football.scheduler.live.LiveMatchMetrics.Stage;
+import com.footballay.core.domain.football.scheduler.live.LiveMatchMetrics.Tick;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LiveMatchMetricsTest {
+
+    private MockClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private LiveMatchMetrics liveMatchMetrics;
+
+    private static final long FIXTURE_ID = 1145526L;
+    private static final long LEAGUE_ID = 39L;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MockClock();
+        meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        liveMatchMetrics = new LiveMatchMetrics(meterRegistry);
+    }
+
+    @DisplayName("단계별 소요 시간은 fixture ID 가 아닌 league 태그로 기록됩니다")
+    @Test
+    void recordStageWithLeagueTag() {
+        // given
+        Tick tick = liveMatchMetrics.startTick(FIXTURE_ID);
+
+        // when
+        tick.record(Stage.API_FETCH, () -> clock.add(300, TimeUnit.MILLISECONDS));
+        tick.league(LEAGUE_ID);
+        liveMatchMetrics.success(tick);
+
+        // then
+        Timer timer = meterRegistry.get(LiveMatchMetrics.STAGE_TIMER)
+                .tag("stage", "api_fetch")
+                .tag("league", String.valueOf(LEAGUE_ID))
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(300);
+        assertThat(meterRegistry.find(LiveMatchMetrics.STAGE_TIMER).tag("fixture", String.valueOf(FIXTURE_ID)).timer()).isNull();
+    }
+
+    @DisplayName("단계에서 예외가 발생해도 소요 시간은 기록되고, 연속 실패 횟수가 늘어납니다")
+    @Test
+    void recordFailure() {
+        // given
+        Tick first = liveMatchMetrics.startTick(FIXTURE_ID);
+        first.league(LEAGUE_ID);
+        liveMatchMetrics.success(first);
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            Tick tick = liveMatchMetrics.startTick(FIXTURE_ID);
+            assertThatThrownBy(() -> tick.record(Stage.EVENT_SAVE, () -> {
+                clock.add(17, TimeUnit.SECONDS);
+                throw new IllegalStateException("test");
+            })).isInstanceOf(IllegalStateException.class);
+            liveMatchMetrics.failure(tick);
+        }
+
+        // then
+        String league = String.valueOf(LEAGUE_ID);
+        assertThat(meterRegistry.get(LiveMatchMetrics.CONSECUTIVE_FAILURES).tag("league", league).gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get(LiveMatchMetrics.LAST_SUCCESS_AGE).tag("league", league).gauge().value()).isEqualTo(34);
+        assertThat(meterRegistry.get(LiveMatchMetrics.STAGE_TIMER).tag("stage", "event_save").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(LiveMatchMetrics.TICK_TIMER).tag("outcome", "failure").timer().count()).isEqualTo(2);
+    }
+
+    @DisplayName("종료된 경기는 리그 gauge 집계에서 제외됩니다")
+    @Test
+    void removeFinishedFixture() {
+        // given
+        Tick tick = liveMatchMetrics.startTick(FIXTURE_ID);
+        tick.league(LEAGUE_ID);
+        tick.eventCount(12);
+        liveMatchMetrics.success(tick);
+        String league = String.valueOf(LEAGUE_ID);
+        assertThat(meterRegistry.get(LiveMatchMetrics.EVENTS).tag("league", league).gauge().value()).isEqualTo(12);
+
+        // when
+        liveMatchMetrics.removeFixture(FIXTURE_ID);
+
+        // then
+        assertThat(meterRegistry.get(LiveMatchMetrics.EVENTS).tag("league", league).gauge().value()).isZero();
+    }
+
+    @DisplayName("오랫동안 tick 이 없던 경기는 다른 경기의 tick 이 시작될 때 gauge 집계에서 제외됩니다")
+    @Test
+    void removeStaleFixture() {
+        // given
+        Tick failed = liveMatchMetrics.startTick(FIXTURE_ID);
+        failed.league(LEAGUE_ID);
+        liveMatchMetrics.failure(failed);
+        String league = String.valueOf(LEAGUE_ID);
+        assertThat(meterRegistry.get(LiveMatchMetrics.CONSECUTIVE_FAILURES).tag("league", league).gauge().value()).isEqualTo(1);
+
+        // when
+        clock.add(LiveMatchMetrics.STALE_FIXTURE_MINUTES + 1, TimeUnit.MINUTES);
+        Tick other = liveMatchMetrics.startTick(FIXTURE_ID + 1);
+        other.league(LEAGUE_ID);
+        liveMatchMetrics.success(other);
+
+        // then
+        assertThat(meterRegistry.get(LiveMatchMetrics.CONSECUTIVE_FAILURES).tag("league", league).gauge().value()).isZero();
+        assertThat(meterRegistry.get(LiveMatchMetrics.LAST_SUCCESS_AGE).tag("league", league).gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,116 @@
+package com.footballay.core.domain.football.scheduler.live;
+
+import com.footballay.core.config.JacksonConfig;
+import com.footballay.core.domain.football.constant.FixtureId;
+import com.footballay.core.domain.football.external.fetch.ApiCallService;
+import com.footballay.core.domain.football.external.fetch.DecodedFixtureSingle;
+import com.footballay.core.domain.football.external.fetch.FixtureSingleStreamDecoder;
+import com.footballay.core.domain.football.external.fetch.FixtureSingleStreamDecoder.Section;
+import com.footballay.core.domain.football.persistence.Fixture;
+import com.footballay.core.domain.football.repository.FixtureRepository;
+import com.footballay.core.domain.football.repository.live.FixtureEventRepository;
+import com.footballay.core.domain.football.repository.live.MatchLineupRepository;
+import com.footballay.core.domain.football.repository.live.MatchPlayerRepository;
+import com.footballay.core.domain.football.repository.live.PlayerStatisticsRepository;
+import com.footballay.core.domain.football.scheduler.live.LiveMatchMetrics.Tick;
+import com.footballay.core.domain.football.service.FixtureDataIntegrityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.quartz.Scheduler;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LiveMatchProcessorTest {
+
+    private static final long FIXTURE_ID = FixtureId.FIXTURE_SINGLE_1145526;
+
+    private final ApiCallService apiCallService = mock(ApiCallService.class);
+    private final LiveMatchTickService liveMatchTickService = mock(LiveMatchTickService.class);
+    private final LiveSectionHashStore liveSectionHashStore = new LiveSectionHashStore();
+    private final LiveMatchMetrics liveMatchMetrics = new LiveMatchMetrics(new SimpleMeterRegistry());
+
+    private LiveMatchProcessor liveMatchProcessor;
+    private LiveMatchJobSchedulerService liveMatchJobSchedulerService;
+    private FixtureDataIntegrityService fixtureDataIntegrityService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String path = "/devdata/mockapi/fixture/single/" + FIXTURE_ID + "_fixture.json";
+        byte[] body;
+        try (InputStream inputStream = getClass().getResourceAsStream(path)) {
+            assertThat(inputStream).isNotNull();
+            body = inputStream.readAllBytes();
+        }
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write(body);
+            return null;
+        }).when(apiCallService).fixtureSingleBody(anyLong(), any(OutputStream.class));
+        when(liveMatchTickService.applyTick(any(DecodedFixtureSingle.class), anySet(), any(Tick.class))).thenReturn(false);
+
+        FixtureSingleStreamDecoder decoder = new FixtureSingleStreamDecoder(new JacksonConfig().objectMapper());
+        liveMatchProcessor = new LiveMatchProcessor(apiCallService, decoder, liveMatchTickService, liveMatchMetrics, liveSectionHashStore);
+        liveMatchJobSchedulerService = new LiveMatchJobSchedulerService(mock(Scheduler.class), liveMatchMetrics, liveSectionHashStore);
+        fixtureDataIntegrityService = new FixtureDataIntegrityService(
+                mock(FixtureRepository.class),
+                mock(MatchLineupRepository.class),
+                mock(MatchPlayerRepository.class),
+                mock(FixtureEventRepository.class),
+                mock(PlayerStatisticsRepository.class),
+                liveSectionHashStore
+        );
+    }
+
+    @DisplayName("live job 을 제거하고 라이브 데이터를 정리한 뒤 다시 등록하면, 다음 tick 은 모든 섹션을 다시 저장합니다")
+    @Test
+    void resaveAllSectionsAfterRemoveCleanUpAndReAdd() throws Exception {
+        // given
+        liveMatchProcessor.requestAndSaveLiveMatchData(FIXTURE_ID);
+        liveMatchProcessor.requestAndSaveLiveMatchData(FIXTURE_ID);
+
+        // when
+        liveMatchJobSchedulerService.removeJob(FIXTURE_ID);
+        fixtureDataIntegrityService.cleanUpFixtureLiveData(Fixture.builder().fixtureId(FIXTURE_ID).build());
+        liveMatchJobSchedulerService.addJob(FIXTURE_ID, ZonedDateTime.now());
+        liveMatchProcessor.requestAndSaveLiveMatchData(FIXTURE_ID);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<Section>> changedSections = ArgumentCaptor.forClass(Set.class);
+        verify(liveMatchTickService, times(3)).applyTick(any(DecodedFixtureSingle.class), changedSections.capture(), any(Tick.class));
+        List<Set<Section>> ticks = changedSections.getAllValues();
+        assertThat(ticks.get(0)).containsExactlyInAnyOrder(Section.values());
+        assertThat(ticks.get(1)).isEmpty();
+        assertThat(ticks.get(2)).containsExactlyInAnyOrder(Section.values());
+    }
+
+    @DisplayName("라이브 데이터만 정리해도 섹션 해시가 지워져서 다음 tick 이 모든 섹션을 다시 저장합니다")
+    @Test
+    void resaveAllSectionsAfterCleanUp() {
+        // given
+        liveMatchProcessor.requestAndSaveLiveMatchData(FIXTURE_ID);
+        assertThat(liveSectionHashStore.get(FIXTURE_ID)).isNotNull();
+
+        // when
+        fixtureDataIntegrityService.cleanUpFixtureLiveData(FIXTURE_ID);
+
+        // then
+        assertThat(liveSectionHashStore.get(FIXTURE_ID)).isNull();
+    }
+}
@@ -1,5 +1,7 @@
 package com.footballay.core.domain.football.service;
 
+import com.footballay.core.domain.football.dto.PlayerDetailUpdateDto;
+import com.footballay.core.domain.football.dto.PlayerDetailUpdateResultDto;
 import com.footballay.core.domain.football.persistence.League;
 import com.footballay.core.domain.football.persistence.Player;
 import com.footballay.core.domain.football.persistence.Team;
@@ -153,4 +155,45 @@ class FootballDataServiceTest {
         assertThat(squad.get(0).getName()).isNotNull();
     }
 
-}
\ No newline at end of file
+    @DisplayName("선수 한글 이름과 등번호를 한 번에 수정하고, dryRun 이면 변경 내용만 반환합니다")
+    @Test
+    void success_updatePlayerDetails() {
+        // given
+        LeagueTeamFixture generate = generate();
+        Team savedTeam = teamRepository.save(generate.home);
+        List<Player> savedPlayers = playerRepository.saveAll(generatePlayersOfTeam(savedTeam));
+        Player target = savedPlayers.get(0);
+        Player unchanged = savedPlayers.get(1);
+        final long NOT_EXIST_PLAYER_ID = 999_999_999L;
+        em.flush();
+        em.clear();
+
+        List<PlayerDetailUpdateDto> updates = List.of(
+                new PlayerDetailUpdateDto(target.getId(), "새이름", 77),
+                new PlayerDetailUpdateDto(unchanged.getId(), "", 0),
+                new PlayerDetailUpdateDto(NOT_EXIST_PLAYER_ID, "없는선수", 1)
+        );
+
+        // when
+        PlayerDetailUpdateResultDto dryRunResult = footballDataService.updatePlayerDetails(updates, true);
+        em.flush();
+        em.clear();
+        Player afterDryRun = playerRepository.findById(target.getId()).orElseThrow();
+
+        PlayerDetailUpdateResultDto result = footballDataService.updatePlayerDetails(updates, false);
+        em.flush();
+        em.clear();
+        Player afterUpdate = playerRepository.findById(target.getId()).orElseThrow();
+
+        // then
+        assertThat(dryRunResult.changes()).hasSize(1);
+        assertThat(dryRunResult.changes().get(0).afterKoreanName()).isEqualTo("새이름");
+        assertThat(dryRunResult.notFoundPlayerIds()).containsExactly(NOT_EXIST_PLAYER_ID);
+        assertThat(afterDryRun.getKoreanName()).isEqualTo(target.getKoreanName());
+
+        assertThat(result.changes()).isEqualTo(dryRunResult.changes());
+        assertThat(afterUpdate.getKoreanName()).isEqualTo("새이름");
+        assertThat(afterUpdate.getNumber()).isEqualTo(77);
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.footballay.core.domain.football.service;
+
+import com.footballay.core.domain.football.dto.PlayerDetailUpdateDto;
+import com.footballay.core.domain.football.dto.PlayerDetailUpdateResultDto;
+import com.footballay.core.domain.football.persistence.Player;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class FootballExcelServiceTest {
+
+    private final PlayerPhotoImageFetcher photoImageFetcher = new PlayerPhotoImageFetcher(2, 100, 100, 1024);
+    private final FootballDataService footballDataService = Mockito.mock(FootballDataService.class);
+    private final FootballExcelService excelService =
+            new FootballExcelService(footballDataService, photoImageFetcher);
+
+    @AfterEach
+    void tearDown() {
+        photoImageFetcher.shutdown();
+    }
+
+    @DisplayName("여러 팀의 선수를 팀별 시트로 한 번에 내보낸다")
+    @Test
+    void writePlayerExcelWithMultipleSheets() throws IOException {
+        // given
+        List<FootballExcelService.PlayerSheet> sheets = List.of(
+                new FootballExcelService.PlayerSheet("Manchester City", List.of(player(1L, "Haaland", 9), player(2L, "Foden", 47))),
+                new FootballExcelService.PlayerSheet("Manchester City", List.of(player(3L, "Rashford", 10))),
+                new FootballExcelService.PlayerSheet("Arsenal/Chelsea?", List.of())
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        excelService.writePlayerExcel(sheets, out);
+
+        // then
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(workbook.getNumberOfSheets()).isEqualTo(3);
+            assertThat(workbook.getSheetName(0)).isEqualTo("Manchester City");
+            assertThat(workbook.getSheetName(1)).isEqualTo("Manchester City (2)");
+
+            Sheet first = workbook.getSheetAt(0);
+            assertThat(first.getLastRowNum()).isEqualTo(2);
+            assertThat(first.getRow(1).getCell(0).getNumericCellValue()).isEqualTo(1.0);
+            assertThat(first.getRow(2).getCell(1).getStringCellValue()).isEqualTo("Foden");
+            assertThat(workbook.getSheetAt(2).getLastRowNum()).isZero();
+        }
+    }
+
+    @DisplayName("내보낸 엑셀의 모든 시트를 읽어서 batch 단위로 선수 정보를 수정한다")
+    @Test
+    void importPlayerDetailsInBatches() throws IOException {
+        // given
+        Player haaland = player(1L, "Haaland", 9);
+        haaland.setKoreanName("홀란");
+        List<FootballExcelService.PlayerSheet> sheets = List.of(
+                new FootballExcelService.PlayerSheet("Manchester City", List.of(haaland, player(2L, "Foden", 47))),
+                new FootballExcelService.PlayerSheet("Manchester United", List.of(player(3L, "Rashford", 10)))
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        excelService.writePlayerExcel(sheets, out);
+        MockMultipartFile file = new MockMultipartFile("file", "players.xlsx", "application/octet-stream", out.toByteArray());
+
+        ReflectionTestUtils.setField(excelService, "importBatchSize", 2);
+        Mockito.when(footballDataService.updatePlayerDetails(Mockito.anyList(), Mockito.eq(true)))
+                .thenReturn(new PlayerDetailUpdateResultDto(List.of(), List.of()));
+
+        // when
+        FootballExcelService.PlayerImportReport report = excelService.importPlayerDetails(file, true);
+
+        // then
+        ArgumentCaptor<List<PlayerDetailUpdateDto>> batches = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(footballDataService, Mockito.times(2)).updatePlayerDetails(batches.capture(), Mockito.eq(true));
+        assertThat(batches.getAllValues().get(0)).containsExactly(
+                new PlayerDetailUpdateDto(1L, "홀란", 9),
+                new PlayerDetailUpdateDto(2L, null, 47));
+        assertThat(batches.getAllValues().get(1)).containsExactly(new PlayerDetailUpdateDto(3L, null, 10));
+        assertThat(report.dryRun()).isTrue();
+        assertThat(report.rows()).isEqualTo(3);
+        assertThat(report.invalidRows()).isEmpty();
+    }
+
+    private static Player player(long id, String name, int number) {
+        return Player.builder()
+                .id(id)
+                .name(name)
+                .number(number)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.footballay.core.domain.token;
+
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class RemoteSessionTokenServiceTest {
+
+    private static final String REMOTE_CODE = "2ro23p";
+    private static final String PRINCIPAL = "principal";
+
+    private final SecretKey secretKey = Jwts.SIG.HS256.key().build();
+    private final RemoteSessionTokenService tokenService =
+            new RemoteSessionTokenService(new HS256KeyProvider(secretKey), 300);
+
+    @DisplayName("발급한 토큰은 같은 원격 코드와 principal 로 검증된다")
+    @Test
+    void issueAndVerify() {
+        // given
+        String token = tokenService.issue(REMOTE_CODE, PRINCIPAL);
+
+        // when
+        boolean valid = tokenService.verify(token, REMOTE_CODE, PRINCIPAL);
+
+        // then
+        assertThat(valid).isTrue();
+    }
+
+    @DisplayName("원격 코드나 principal 이 다르면 검증에 실패한다")
+    @Test
+    void verifyMismatch() {
+        // given
+        String token = tokenService.issue(REMOTE_CODE, PRINCIPAL);
+
+        // when & then
+        assertThat(tokenService.verify(token, "invalidCode", PRINCIPAL)).isFalse();
+        assertThat(tokenService.verify(token, REMOTE_CODE, "other")).isFalse();
+    }
+
+    @DisplayName("만료된 토큰과 다른 키로 서명한 토큰은 검증에 실패한다")
+    @Test
+    void verifyExpiredOrForged() {
+        // given
+        RemoteSessionTokenService expiredIssuer = new RemoteSessionTokenService(new HS256KeyProvider(secretKey), -1);
+        RemoteSessionTokenService forgedIssuer =
+                new RemoteSessionTokenService(new HS256KeyProvider(Jwts.SIG.HS256.key().build()), 300);
+
+        // when
+        String expired = expiredIssuer.issue(REMOTE_CODE, PRINCIPAL);
+        String forged = forgedIssuer.issue(REMOTE_CODE, PRINCIPAL);
+
+        // then
+        assertThat(tokenService.verify(expired, REMOTE_CODE, PRINCIPAL)).isFalse();
+        assertThat(tokenService.verify(forged, REMOTE_CODE, PRINCIPAL)).isFalse();
+    }
+}
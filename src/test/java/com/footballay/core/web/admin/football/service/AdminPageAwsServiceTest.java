@@ -0,0 +1,164 @@
+package com.footballay.core.web.admin.football.service;
+
+import com.footballay.core.config.AppEnvironmentVariable;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminPageAwsServiceTest {
+
+    /**
+     * 쿠키 캐시 구간(600초)의 시작 시각
+     */
+    private static final Instant BUCKET_START = Instant.ofEpochSecond(600L * 2_900_000);
+
+    private KeyPair keyPair;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        clock = new MutableClock(BUCKET_START.plusSeconds(10));
+    }
+
+    @DisplayName("PKCS#1, PKCS#8 형식의 PEM private key 를 읽는다")
+    @Test
+    void loadPrivateKey() throws Exception {
+        // given
+        byte[] pkcs8 = keyPair.getPrivate().getEncoded();
+        byte[] pkcs1 = PrivateKeyInfo.getInstance(pkcs8).parsePrivateKey().toASN1Primitive().getEncoded();
+
+        // when
+        PrivateKey fromPkcs8 = AdminPageAwsService.loadPrivateKey(pem("PRIVATE KEY", pkcs8));
+        PrivateKey fromPkcs1 = AdminPageAwsService.loadPrivateKey(pem("RSA PRIVATE KEY", pkcs1));
+
+        // then
+        assertThat(fromPkcs8).isEqualTo(keyPair.getPrivate());
+        assertThat(fromPkcs1).isEqualTo(keyPair.getPrivate());
+    }
+
+    @DisplayName("같은 시간 구간의 요청에는 서명된 쿠키를 재사용하고, 구간이 바뀌면 다시 서명한다")
+    @Test
+    void reuseSignedCookiesInBucket() {
+        // given
+        AdminPageAwsService service = createService(600);
+
+        // when
+        List<String> first = issueCookies(service);
+        clock.advance(Duration.ofSeconds(500));
+        List<String> second = issueCookies(service);
+        clock.advance(Duration.ofSeconds(100));
+        List<String> nextBucket = issueCookies(service);
+
+        // then
+        assertThat(first).hasSize(3);
+        assertThat(values(second)).containsExactlyInAnyOrderElementsOf(values(first));
+        assertThat(values(nextBucket)).doesNotContainAnyElementsOf(policies(first));
+    }
+
+    @DisplayName("구간 캐시를 사용하지 않으면 요청마다 서명한다")
+    @Test
+    void signPerRequestWithoutBucket() {
+        // given
+        AdminPageAwsService service = createService(0);
+
+        // when
+        List<String> first = issueCookies(service);
+        clock.advance(Duration.ofSeconds(1));
+        List<String> second = issueCookies(service);
+
+        // then
+        assertThat(values(second)).doesNotContainAnyElementsOf(policies(first));
+    }
+
+    private AdminPageAwsService createService(long cookieBucketSeconds) {
+        AppEnvironmentVariable envVar = new AppEnvironmentVariable();
+        envVar.setFOOTBALLAY_DOMAIN("footballay.com");
+        AdminPageAwsService service = new AdminPageAwsService(envVar, clock);
+        ReflectionTestUtils.setField(service, "cloudfrontDomain", "https://static.footballay.com");
+        ReflectionTestUtils.setField(service, "keyPairId", "TESTKEYPAIRID");
+        ReflectionTestUtils.setField(service, "privateKeyResource", pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        ReflectionTestUtils.setField(service, "cookieBucketSeconds", cookieBucketSeconds);
+        ReflectionTestUtils.setField(service, "urlBucketSeconds", 20L);
+        return service;
+    }
+
+    private static List<String> issueCookies(AdminPageAwsService service) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        service.setCloudFrontSignedCookie(response);
+        return response.getHeaders(HttpHeaders.SET_COOKIE);
+    }
+
+    /**
+     * Max-Age 는 요청 시각에 따라 달라지므로 name=value 만 비교합니다.
+     */
+    private static List<String> values(List<String> setCookieHeaders) {
+        return setCookieHeaders.stream().map(header -> header.substring(0, header.indexOf(';'))).toList();
+    }
+
+    /**
+     * 만료 시각이 담긴 CloudFront-Policy 쿠키만 골라냅니다. 서명 키가 같으면 Key-Pair-Id 는 항상 같습니다.
+     */
+    private static List<String> policies(List<String> setCookieHeaders) {
+        return values(setCookieHeaders).stream().filter(cookie -> cookie.startsWith("CloudFront-Policy")).toList();
+    }
+
+    private static Resource pem(String type, byte[] der) {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        String pem = "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+        return new ByteArrayResource(pem.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 테스트에서 시각을 직접 옮길 수 있는 시계
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(now, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.footballay.core.web.common.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.footballay.core.web.common.dto.MetaData;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@Slf4j
+class CachedApiResponseServiceTest {
+
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final StringRedisTemplate stringRedisTemplate = Mockito.mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = Mockito.mock(ValueOperations.class);
+    private final CachedApiResponseService cachedApiResponseService = new CachedApiResponseService(
+            new ObjectMapper(),
+            cborMapper,
+            stringRedisTemplate
+    );
+
+    @DisplayName("캐싱된 CBOR 응답을 다시 파싱하지 않고 metaData 와 함께 CachedApiResponse 구조로 만든다")
+    @Test
+    void createCachedCborResponse() throws Exception {
+        // given
+        MetaData metaData = new MetaData(
+                "request-id", "2024-01-01T00:00:00Z", "SUCCESS", 200, "ok",
+                "/api/football/fixtures/statistics", Map.of("fixtureId", "1"), "1.0"
+        );
+        byte[] cachedResponse = cborMapper.writeValueAsBytes(new Object[]{Map.of("home", 1, "away", 2)});
+
+        // when
+        byte[] response = cachedApiResponseService.createCachedCborResponse(metaData, cachedResponse);
+
+        // then
+        JsonNode tree = cborMapper.readTree(response);
+        log.info("decoded={}", tree);
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.get("metaData").get("requestId").asText()).isEqualTo("request-id");
+        assertThat(tree.get("metaData").get("params").get("fixtureId").asText()).isEqualTo("1");
+        assertThat(tree.get("response").get(0).get("home").asInt()).isEqualTo(1);
+        assertThat(tree.get("response").get(0).get("away").asInt()).isEqualTo(2);
+    }
+
+    @DisplayName("CBOR 로 요청된 응답만 CBOR 키에 캐싱한다")
+    @Test
+    void cacheCborOnlyWhenRequested() throws Exception {
+        // given
+        Mockito.when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        Map<String, String> params = Map.of("fixtureId", "1");
+        Map<String, Integer> response = Map.of("home", 1, "away", 2);
+
+        // when
+        cachedApiResponseService.cacheResponse("/api/football/fixtures/statistics", params, response);
+        cachedApiResponseService.cacheResponse("/api/football/fixtures/statistics", params, response, true);
+
+        // then
+        String key = "/api/football/fixtures/statistics&fixtureId=1";
+        Mockito.verify(valueOperations, Mockito.times(2)).set(eq(key), anyString(), any(Duration.class));
+        Mockito.verify(valueOperations, Mockito.times(1)).set(eq(key + ":cbor"), anyString(), any(Duration.class));
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -45,6 +46,9 @@ class AutoRemoteServiceTest extends AbstractRedisTestContainerInit {
     @Autowired
     private StringRedisTemplate stringRedisTemplate;
 
+    @Autowired
+    private AutoRemoteActivityFlusher activityFlusher;
+
     @Autowired
     private EntityManager em;
 
@@ -220,4 +224,31 @@ class AutoRemoteServiceTest extends AbstractRedisTestContainerInit {
                 "존재하지 않는 익명 유저입니다."
         );
     }
-}
\ No newline at end of file
+
+    @Transactional
+    @DisplayName("재연결 시 Redis 에 기록된 활동 시각은 flush 할 때 DB 에 반영된다.")
+    @Test
+    void Success_flushActivitiesToDatabase() {
+        // given
+        AutoRemoteGroup autoRemoteGroup = autoRemoteService.createAutoRemoteGroup();
+        AnonymousUser savedUser = autoRemoteService.createAndSaveAnonymousUser(autoRemoteGroup);
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+        autoRemoteGroup.setLastActiveAt(before);
+        savedUser.setLastConnectedAt(before);
+        autoRemoteRedisRepository.removeAllActiveGroups();
+
+        // when
+        autoRemoteService.validateAndCacheUserToRedis(mockFirstPrincipal, savedUser.getId().toString());
+        autoRemoteService.connectToPrevFormedAutoRemoteGroup(mockFirstPrincipal, "nickname");
+        assertThat(savedUser.getLastConnectedAt()).isEqualTo(before);
+        assertThat(autoRemoteGroup.getLastActiveAt()).isEqualTo(before);
+        int flushed = activityFlusher.flush();
+
+        // then
+        assertThat(flushed).isGreaterThanOrEqualTo(2);
+        assertThat(savedUser.getLastConnectedAt()).isAfter(before);
+        assertThat(autoRemoteGroup.getLastActiveAt()).isAfter(before);
+        assertThat(autoRemoteRedisRepository.drainUserActivities()).isEmpty();
+        assertThat(autoRemoteRedisRepository.drainGroupActivities()).isEmpty();
+    }
+}
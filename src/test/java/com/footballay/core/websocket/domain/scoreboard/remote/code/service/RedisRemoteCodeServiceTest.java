@@ -15,7 +15,10 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.security.Principal;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -130,6 +133,22 @@ public class RedisRemoteCodeServiceTest extends AbstractRedisTestContainerInit {
         assertFalse(redisRemoteCodeService.isValidCode(remoteCode));
     }
 
+    @DisplayName("존재하지 않는 코드의 만료시간을 설정하면 index 에 추가하지 않습니다.")
+    @Test
+    void setExpirationOfMissingCodeDoesNotIndex() {
+        // given
+        RemoteCode missing = RemoteCode.generate();
+        stringRedisTemplate.delete(REMOTECODE_SET_PREFIX + missing.getRemoteCode());
+
+        // when
+        redisRemoteCodeService.setExpiration(missing, Duration.ofMinutes(1));
+
+        // then
+        assertFalse(redisRemoteCodeService.isValidCode(missing));
+        assertThat(redisRemoteCodeService.getAllRemoteCodes())
+                .doesNotContain(REMOTECODE_SET_PREFIX + missing.getRemoteCode());
+    }
+
     @DisplayName("같은 remoteCode 채널에 중복 닉네임이 있는 경우 예외를 반환합니다.")
     @Test
     void fail_duplicate_nickname() {
@@ -171,4 +190,52 @@ public class RedisRemoteCodeServiceTest extends AbstractRedisTestContainerInit {
         // 로그에 에러 메시지 출력
         log.info("Caught exception: {}", exception.getMessage());
     }
+
+    @DisplayName("이미 사용중인 후보 코드는 건너뛰고, 사용되지 않은 코드를 구독자와 만료시간과 함께 한 번에 점유합니다.")
+    @Test
+    void allocateSkipsOccupiedCandidate() {
+        // given
+        RemoteCode occupied = redisRemoteCodeService.generateCodeAndSubscribe(mockFirstPrincipal.getName(), "hostUser");
+        RemoteCode free = RemoteCode.generate();
+        stringRedisTemplate.delete(REMOTECODE_SET_PREFIX + free.getRemoteCode());
+
+        // when
+        Optional<RemoteCode> allocated = redisRemoteCodeService.allocate(
+                List.of(occupied, free), mockSecondPrincipal.getName(), "secondUser");
+        Optional<RemoteCode> allOccupied = redisRemoteCodeService.allocate(
+                List.of(occupied, free), mockSecondPrincipal.getName(), "thirdUser");
+
+        // then
+        assertThat(allocated).contains(free);
+        assertThat(allOccupied).isEmpty();
+        assertThat(redisRemoteCodeService.getSubscribers(occupied.getRemoteCode()))
+                .containsOnlyKeys(FIRST_USER_PRINCIPAL_NAME);
+        assertThat(redisRemoteCodeService.getSubscribers(free.getRemoteCode()))
+                .containsExactlyEntriesOf(Map.of(SECOND_USER_PRINCIPAL_NAME, "secondUser"));
+        assertThat(stringRedisTemplate.getExpire(REMOTECODE_SET_PREFIX + free.getRemoteCode())).isPositive();
+    }
+
+    @DisplayName("전체 코드 조회는 KEYS 대신 index 를 사용하고, 만료되거나 삭제된 코드는 포함하지 않습니다.")
+    @Test
+    void getAllRemoteCodesFromIndex() throws InterruptedException {
+        // given
+        RemoteCode active = redisRemoteCodeService.generateCodeAndSubscribe(mockFirstPrincipal.getName(), "hostUser");
+        RemoteCode expired = redisRemoteCodeService.generateCodeAndSubscribe(mockFirstPrincipal.getName(), "hostUser");
+        RemoteCode emptied = redisRemoteCodeService.generateCodeAndSubscribe(mockSecondPrincipal.getName(), "secondUser");
+        redisRemoteCodeService.setExpiration(expired, Duration.ofMillis(500));
+        Thread.sleep(1000);
+
+        // when
+        boolean isEmpty = redisRemoteCodeService.removeSubscriber(emptied, mockSecondPrincipal.getName());
+        Set<String> allRemoteCodes = redisRemoteCodeService.getAllRemoteCodes();
+
+        // then
+        assertTrue(isEmpty);
+        assertThat(allRemoteCodes)
+                .contains(REMOTECODE_SET_PREFIX + active.getRemoteCode())
+                .doesNotContain(
+                        REMOTECODE_SET_PREFIX + expired.getRemoteCode(),
+                        REMOTECODE_SET_PREFIX + emptied.getRemoteCode()
+                );
+    }
 }
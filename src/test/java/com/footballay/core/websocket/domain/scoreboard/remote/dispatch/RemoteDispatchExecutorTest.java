@@ -0,0 +1,114 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.dispatch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class RemoteDispatchExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RemoteDispatchExecutor executor = new RemoteDispatchExecutor(4, 4, 2, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @DisplayName("같은 원격 코드의 작업은 추가된 순서대로 실행된다")
+    @Test
+    void preserveOrderPerRemoteCode() throws InterruptedException {
+        // given
+        RemoteDispatchExecutor largeLaneExecutor = new RemoteDispatchExecutor(4, 4, 1000, new SimpleMeterRegistry());
+        List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(2 * 500);
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            final int order = i;
+            largeLaneExecutor.submit("aaaaaa", () -> {
+                first.add(order);
+                done.countDown();
+            });
+            largeLaneExecutor.submit("bbbbbb", () -> {
+                second.add(order);
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Integer> expected = IntStream.range(0, 500).boxed().toList();
+        assertThat(first).containsExactlyElementsOf(expected);
+        assertThat(second).containsExactlyElementsOf(expected);
+        largeLaneExecutor.shutdown();
+    }
+
+    @DisplayName("lane 이 가득 차면 작업을 거부하고 거부 횟수를 기록한다")
+    @Test
+    void rejectWhenLaneIsFull() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit("aaaaaa", () -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        boolean queued1 = executor.submit("aaaaaa", () -> { });
+        boolean queued2 = executor.submit("aaaaaa", () -> { });
+        boolean rejected = executor.submit("aaaaaa", () -> { });
+        boolean otherCode = executor.submit("bbbbbb", () -> { });
+        release.countDown();
+
+        // then
+        assertThat(queued1).isTrue();
+        assertThat(queued2).isTrue();
+        assertThat(rejected).isFalse();
+        assertThat(otherCode).isTrue();
+        assertThat(meterRegistry.get(RemoteDispatchExecutor.REJECTED).counter().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("구독자 전송을 병렬로 실행하고, 한 구독자의 실패가 다른 구독자에게 영향을 주지 않는다")
+    @Test
+    void fanOutToAllSubscribers() {
+        // given
+        Set<String> received = ConcurrentHashMap.newKeySet();
+        List<String> subscribers = List.of("user1", "user2", "user3", "user4");
+
+        // when
+        executor.fanOut(subscribers, subscriber -> {
+            if (subscriber.equals("user2")) {
+                throw new IllegalStateException("send failed");
+            }
+            received.add(subscriber);
+        });
+
+        // then
+        assertThat(received).containsExactlyInAnyOrder("user1", "user3", "user4");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
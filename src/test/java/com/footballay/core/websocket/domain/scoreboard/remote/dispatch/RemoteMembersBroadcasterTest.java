@@ -0,0 +1,61 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.dispatch;
+
+import com.footballay.core.websocket.domain.scoreboard.remote.ScoreBoardRemoteServiceImpl;
+import com.footballay.core.websocket.domain.scoreboard.remote.code.RemoteCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+class RemoteMembersBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScoreBoardRemoteServiceImpl scoreBoardRemoteService = mock(ScoreBoardRemoteServiceImpl.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final RemoteDispatchExecutor dispatchExecutor = new RemoteDispatchExecutor(2, 2, 100, meterRegistry);
+    private final RemoteMembersBroadcaster broadcaster =
+            new RemoteMembersBroadcaster(scoreBoardRemoteService, messagingTemplate, dispatchExecutor, 200, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+        dispatchExecutor.shutdown();
+    }
+
+    @DisplayName("window 안에 몰린 멤버 목록 전송 요청은 원격 코드별로 한 번의 구독자 조회로 합친다")
+    @Test
+    void coalesceBroadcastsPerRemoteCode() {
+        // given
+        RemoteCode remoteCode = RemoteCode.of("aaaaaa");
+        when(scoreBoardRemoteService.getRemoteUserDetails(any()))
+                .thenReturn(List.of(List.of("user1", "user2"), List.of("nick1", "nick2")));
+
+        // when
+        for (int i = 0; i < 2000; i++) {
+            broadcaster.requestBroadcast(remoteCode);
+        }
+
+        // then
+        await().untilAsserted(() -> verify(messagingTemplate, atLeast(2))
+                .convertAndSendToUser(anyString(), eq("/topic/remote/aaaaaa"), any(Object.class)));
+        verify(scoreBoardRemoteService, atMost(2)).getRemoteUserDetails(remoteCode);
+        log.info("coalesced : {}", meterRegistry.get(RemoteMembersBroadcaster.COALESCED).counter().count());
+        assertThat(meterRegistry.get(RemoteMembersBroadcaster.COALESCED).counter().count()).isGreaterThanOrEqualTo(1998.0);
+    }
+}
@@ -0,0 +1,180 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.dispatch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@Slf4j
+class RemoteMessageCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RemoteDispatchExecutor dispatchExecutor = new RemoteDispatchExecutor(2, 2, 100, meterRegistry);
+    private final RemoteMessageCoalescer coalescer = new RemoteMessageCoalescer(dispatchExecutor, 200, meterRegistry);
+
+    private final List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+        dispatchExecutor.shutdown();
+    }
+
+    @DisplayName("window 안의 상태 메시지는 key 별로 마지막 상태만 전송한다")
+    @Test
+    void deliverOnlyLatestStatePerKey() {
+        // when
+        submit("timer", "timer-1");
+        submit("timer", "timer-2");
+        submit("score", "score-1");
+        submit("timer", "timer-3");
+        submit("score", "score-2");
+
+        // then
+        await().untilAsserted(() -> assertThat(delivered).containsExactly("timer-1", "timer-3", "score-2"));
+        assertThat(meterRegistry.get(RemoteMessageCoalescer.COALESCED).counter().count()).isEqualTo(2.0);
+    }
+
+    @DisplayName("일반 명령은 보관중인 상태 메시지를 먼저 전송한 뒤 바로 전송한다")
+    @Test
+    void passThroughDiscreteCommand() {
+        // when
+        submit("timer", "timer-1");
+        submit("timer", "timer-2");
+        submit(null, "goal");
+
+        // then
+        await().untilAsserted(() -> assertThat(delivered).containsExactly("timer-1", "timer-2", "goal"));
+    }
+
+    @DisplayName("lane 이 가득 차서 전송하지 못한 상태 메시지는 버리지 않고 다음 window 에서 다시 전송한다")
+    @Test
+    void retryPendingWhenLaneIsFull() throws InterruptedException {
+        // given
+        RemoteDispatchExecutor smallLaneExecutor = new RemoteDispatchExecutor(1, 1, 1, new SimpleMeterRegistry());
+        RemoteMessageCoalescer smallLaneCoalescer = new RemoteMessageCoalescer(smallLaneExecutor, 50, new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            smallLaneCoalescer.submit("aaaaaa", "timer", () -> {
+                awaitQuietly(release);
+                delivered.add("timer-1");
+            });
+            await().until(() -> smallLaneExecutor.submit("aaaaaa", () -> delivered.add("queued")));
+
+            // when
+            smallLaneCoalescer.submit("aaaaaa", "timer", () -> delivered.add("timer-2"));
+            Thread.sleep(200);
+            boolean commandAccepted = smallLaneCoalescer.submit("aaaaaa", null, () -> delivered.add("goal"));
+            release.countDown();
+
+            // then
+            assertThat(commandAccepted).isFalse();
+            await().untilAsserted(() -> assertThat(delivered).containsExactly("timer-1", "queued", "timer-2"));
+        } finally {
+            release.countDown();
+            smallLaneCoalescer.shutdown();
+            smallLaneExecutor.shutdown();
+        }
+    }
+
+    @DisplayName("세션별 발행 순서를 유지하는 브로커를 거치면 마지막 상태가 항상 마지막에 도착한다")
+    @Test
+    void deliverFinalStateLastThroughOrderedBroker() throws InterruptedException {
+        // given
+        ThreadPoolTaskExecutor outboundExecutor = new ThreadPoolTaskExecutor();
+        outboundExecutor.setCorePoolSize(4);
+        outboundExecutor.initialize();
+        ExecutorSubscribableChannel outboundChannel = new ExecutorSubscribableChannel(outboundExecutor);
+        outboundChannel.subscribe(message -> {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+                return;
+            }
+            // outbound 스레드마다 처리 시간이 달라서, 순서를 유지하지 않으면 이전 상태가 늦게 도착할 수 있습니다
+            sleepQuietly(ThreadLocalRandom.current().nextInt(3));
+            delivered.add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+        });
+        SimpleBrokerMessageHandler broker = new SimpleBrokerMessageHandler(
+                new ExecutorSubscribableChannel(), outboundChannel, new ExecutorSubscribableChannel(), Set.of("/topic"));
+        broker.setPreservePublishOrder(true);
+        broker.start();
+        broker.handleMessage(brokerMessage(SimpMessageType.CONNECT, null, new byte[0]));
+        broker.handleMessage(brokerMessage(SimpMessageType.SUBSCRIBE, null, new byte[0]));
+        int states = 200;
+        try {
+            // when
+            for (int i = 1; i <= states; i++) {
+                byte[] payload = ("timer-" + i).getBytes(StandardCharsets.UTF_8);
+                coalescer.submit("aaaaaa", "timer", () -> broker.handleMessage(brokerMessage(SimpMessageType.MESSAGE, "/topic/remote/aaaaaa", payload)));
+                if (i % 20 == 0) {
+                    Thread.sleep(50);
+                }
+            }
+
+            // then
+            String finalState = "timer-" + states;
+            await().untilAsserted(() -> assertThat(delivered).contains(finalState));
+            Thread.sleep(300);
+            assertThat(delivered).last().isEqualTo(finalState);
+            assertThat(delivered).isSortedAccordingTo((a, b) -> Integer.compare(stateNumber(a), stateNumber(b)));
+        } finally {
+            broker.stop();
+            outboundExecutor.shutdown();
+        }
+    }
+
+    private static Message<byte[]> brokerMessage(SimpMessageType type, String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId("session-1");
+        if (type == SimpMessageType.SUBSCRIBE) {
+            accessor.setSubscriptionId("sub-1");
+            accessor.setDestination("/topic/remote/aaaaaa");
+        } else if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private static int stateNumber(String state) {
+        return Integer.parseInt(state.substring(state.indexOf('-') + 1));
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(String coalesceKey, String payload) {
+        coalescer.submit("aaaaaa", coalesceKey, () -> delivered.add(payload));
+    }
+}
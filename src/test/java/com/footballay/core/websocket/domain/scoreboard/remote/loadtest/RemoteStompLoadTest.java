@@ -0,0 +1,237 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballay.core.config.AbstractRedisTestContainerInit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원격 제어(STOMP) 부하 테스트. 기본 테스트 실행에서는 제외되며 {@code -Dloadtest=true} 로 실행합니다.
+ * <pre>
+ * ./gradlew test --tests '*RemoteStompLoadTest' -Dloadtest=true -Dloadtest.codes=50 -Dloadtest.subscribers=5 -Dloadtest.rate=20
+ *
+ * - loadtest.codes               : 원격 코드 수 (기본 20)
+ * - loadtest.subscribers         : 원격 코드별 구독자 수, 발행자 제외 (기본 5)
+ * - loadtest.rate                : 원격 코드별 초당 제어 메시지 수 (기본 10)
+ * - loadtest.duration-seconds    : 메시지 발행 시간 (기본 10)
+ * - loadtest.max-drop-ratio      : 허용하는 유실 비율 (기본 0.01)
+ * </pre>
+ * 발행자가 보낸 시각과 구독자가 받은 시각의 차이로 end-to-end 지연을 측정합니다.
+ * 클라이언트와 서버가 같은 JVM 에서 실행되므로, 메시지당 CPU 시간에는 클라이언트의 처리 시간도 포함됩니다.
+ */
+@Slf4j
+@ActiveProfiles("mockapi")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.ssl.enabled=false",
+                "football.websocket.idle-timeout-seconds=0"
+        }
+)
+class RemoteStompLoadTest extends AbstractRedisTestContainerInit {
+
+    private static final String SENT_AT = "loadtestSentAtNanos";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final int codes = Integer.getInteger("loadtest.codes", 20);
+    private final int subscribers = Integer.getInteger("loadtest.subscribers", 5);
+    private final int rate = Integer.getInteger("loadtest.rate", 10);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 10);
+    private final double maxDropRatio = Double.parseDouble(System.getProperty("loadtest.max-drop-ratio", "0.01"));
+
+    private final List<StompSession> sessions = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sent = new AtomicLong();
+    private WebSocketStompClient stompClient;
+
+    @AfterEach
+    void tearDown() {
+        sessions.forEach(session -> {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        });
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    @DisplayName("원격 코드 N 개, 구독자 M 명에게 제어 메시지를 발행하고 지연 시간과 유실을 측정한다")
+    @Test
+    void remoteControlLoad() throws Exception {
+        // given
+        assertThat(rate).as("loadtest.rate must be positive").isPositive();
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(converter);
+
+        List<RemoteGroup> groups = new ArrayList<>();
+        for (int i = 0; i < codes; i++) {
+            groups.add(openRemoteGroup(i));
+        }
+        log.info("opened remote codes={}, subscribers per code={}", codes, subscribers);
+
+        Counter rejected = meterRegistry.find("football.remote.dispatch.rejected").counter();
+        double rejectedBefore = rejected == null ? 0 : rejected.count();
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        long cpuBefore = os.getProcessCpuTime();
+
+        // when
+        ScheduledExecutorService publishers = Executors.newScheduledThreadPool(Math.min(codes, 8));
+        try {
+            long periodNanos = Math.max(1, TimeUnit.SECONDS.toNanos(1) / rate);
+            for (RemoteGroup group : groups) {
+                publishers.scheduleAtFixedRate(() -> publish(group), 0, periodNanos, TimeUnit.NANOSECONDS);
+            }
+            TimeUnit.SECONDS.sleep(durationSeconds);
+        } finally {
+            publishers.shutdownNow();
+            publishers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        // 전송중인 메시지가 도착할 때까지 대기
+        TimeUnit.SECONDS.sleep(3);
+
+        // then
+        long cpuNanos = os.getProcessCpuTime() - cpuBefore;
+        long expected = sent.get() * subscribers;
+        long delivered = latencies.size();
+        long dropped = expected - delivered;
+        double rejectedCount = (rejected == null ? 0 : rejected.count()) - rejectedBefore;
+        List<Long> sorted = latencies.stream().sorted().toList();
+
+        log.info("=== remote stomp load test ===");
+        log.info("codes={}, subscribers/code={}, rate/code={}/s, duration={}s", codes, subscribers, rate, durationSeconds);
+        log.info("sent={}, expected deliveries={}, delivered={}, dropped={}, rejected by dispatch lanes={}",
+                sent.get(), expected, delivered, dropped, (long) rejectedCount);
+        log.info("latency ms p50={}, p90={}, p99={}, max={}",
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.90), percentileMillis(sorted, 0.99), percentileMillis(sorted, 1.0));
+        log.info("process cpu per delivered message={} us (client included)",
+                delivered == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(cpuNanos) / delivered);
+
+        assertThat(delivered).isPositive();
+        assertThat((double) dropped / expected).isLessThanOrEqualTo(maxDropRatio);
+    }
+
+    private RemoteGroup openRemoteGroup(int index) throws Exception {
+        StompSession publisher = connect();
+        Map<String, Object> issued = request(publisher, "/app/remote.issuecode",
+                Map.of("nickname", "publisher" + index, "autoRemote", false));
+        String remoteCode = (String) issued.get("remoteCode");
+        assertThat(remoteCode).as("issue response : %s", issued).isNotNull();
+
+        for (int j = 0; j < subscribers; j++) {
+            StompSession subscriber = connect();
+            subscriber.subscribe("/user/topic/remote/" + remoteCode, new MapFrameHandler(payload -> {
+                if (payload.get(SENT_AT) instanceof Number sentAt) {
+                    latencies.add(System.nanoTime() - sentAt.longValue());
+                }
+            }));
+            Map<String, Object> connected = request(subscriber, "/app/remote.connect",
+                    Map.of("remoteCode", remoteCode, "nickname", "subscriber" + index + "_" + j, "autoRemote", false));
+            assertThat(connected.get("remoteCode")).as("connect response : %s", connected).isEqualTo(remoteCode);
+        }
+        return new RemoteGroup(remoteCode, publisher, new AtomicLong());
+    }
+
+    private void publish(RemoteGroup group) {
+        long seq = group.seq().incrementAndGet();
+        group.publisher().send("/app/remote/" + group.remoteCode(), Map.of(
+                "type", "loadtest",
+                "seq", seq,
+                SENT_AT, System.nanoTime()
+        ));
+        sent.incrementAndGet();
+    }
+
+    private StompSession connect() throws Exception {
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port + "/ws", new StompSessionHandlerAdapter() {
+                })
+                .get(5, TimeUnit.SECONDS);
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * /user/topic/remote 를 구독하고 요청을 보낸 뒤 응답을 기다립니다.
+     * inbound 채널은 스레드 풀에서 프레임을 처리하므로, subcheck 응답으로 구독이 등록된 것을 확인한 뒤 요청을 보냅니다.
+     */
+    private Map<String, Object> request(StompSession session, String destination, Map<String, Object> payload) throws Exception {
+        BlockingQueue<Map<String, Object>> responses = new LinkedBlockingQueue<>();
+        session.subscribe("/user/topic/remote", new MapFrameHandler(responses::add));
+        session.send("/app/remote.subcheck", Map.of());
+        assertThat(responses.poll(5, TimeUnit.SECONDS)).as("subcheck response").isNotNull();
+
+        session.send(destination, payload);
+        Map<String, Object> response = responses.poll(5, TimeUnit.SECONDS);
+        assertThat(response).as("response of %s", destination).isNotNull();
+        return response;
+    }
+
+    private static long percentileMillis(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(index, 0)));
+    }
+
+    private record RemoteGroup(String remoteCode, StompSession publisher, AtomicLong seq) {
+    }
+
+    private record MapFrameHandler(Consumer<Map<String, Object>> onPayload) implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void handleFrame(StompHeaders headers, Object payload) {
+            onPayload.accept((Map<String, Object>) payload);
+        }
+    }
+}
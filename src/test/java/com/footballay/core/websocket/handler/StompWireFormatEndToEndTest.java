@@ -0,0 +1,143 @@
+package com.footballay.core.websocket.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.footballay.core.config.AbstractRedisTestContainerInit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 STOMP 클라이언트로 CBOR 를 협상한 세션이 websocket binary 메시지로 CBOR payload 를 받는지 확인합니다. <br>
+ * CBOR payload 가 text 메시지로 전송되면 UTF-8 변환 과정에서 바이트가 깨지므로 디코딩 결과가 원본과 달라집니다.
+ */
+@Slf4j
+@ActiveProfiles("mockapi")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.ssl.enabled=false"
+)
+class StompWireFormatEndToEndTest extends AbstractRedisTestContainerInit {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CBORMapper cborMapper;
+
+    private final List<StompSession> sessions = new ArrayList<>();
+    private WebSocketStompClient stompClient;
+
+    @AfterEach
+    void tearDown() {
+        sessions.forEach(session -> {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        });
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    @DisplayName("CONNECT 에서 CBOR 를 요청한 세션은 binary 프레임으로 CBOR payload 를 받고, 그 외 세션은 JSON 을 받는다")
+    @Test
+    void receiveCborOverBinaryFrame() throws Exception {
+        // given
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter jsonConverter = new MappingJackson2MessageConverter();
+        jsonConverter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(new CompositeMessageConverter(List.of(new ByteArrayMessageConverter(), jsonConverter)));
+
+        StompSession cborSession = connect("application/cbor");
+        StompSession jsonSession = connect(null);
+
+        // when
+        Received cbor = subscribeCheck(cborSession);
+        Received json = subscribeCheck(jsonSession);
+        log.info("cbor frame headers={}, json frame headers={}", cbor.headers(), json.headers());
+
+        // then
+        assertThat(cbor.headers().getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        assertThat(cbor.headers().getFirst(StompWireFormatNegotiator.WIRE_FORMAT_HEADER))
+                .isEqualTo(StompWireFormatNegotiator.CBOR_WIRE_FORMAT);
+        JsonNode decoded = cborMapper.readTree((byte[]) cbor.payload());
+        assertThat(decoded.get("type").asText()).isEqualTo("sub");
+        assertThat(decoded.get("data").get("destination").asText()).isEqualTo("/user/topic/remote");
+
+        assertThat(json.headers().getContentType().isCompatibleWith(MimeTypeUtils.APPLICATION_JSON)).isTrue();
+        assertThat(json.headers().getFirst(StompWireFormatNegotiator.WIRE_FORMAT_HEADER)).isNull();
+        assertThat(json.payload()).isEqualTo(decoded);
+    }
+
+    private StompSession connect(String accept) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        if (accept != null) {
+            connectHeaders.add(StompWireFormatNegotiator.ACCEPT_HEADER, accept);
+        }
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port + "/ws", null, connectHeaders, new StompSessionHandlerAdapter() {
+                })
+                .get(5, TimeUnit.SECONDS);
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * /user/topic/remote 를 구독하고 subcheck 응답 프레임을 받습니다.
+     * CBOR 프레임은 디코딩하지 않은 byte[] 로, JSON 프레임은 JsonNode 로 받습니다.
+     */
+    private Received subscribeCheck(StompSession session) throws Exception {
+        BlockingQueue<Received> frames = new LinkedBlockingQueue<>();
+        session.subscribe("/user/topic/remote", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return MimeTypeUtils.APPLICATION_OCTET_STREAM.equals(headers.getContentType()) ? byte[].class : JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                frames.add(new Received(headers, payload));
+            }
+        });
+        // 구독이 inbound 스레드 풀에서 등록되기 전에 응답이 전송될 수 있으므로 응답이 올 때까지 다시 요청합니다.
+        Received received = null;
+        for (int attempt = 0; attempt < 5 && received == null; attempt++) {
+            session.send("/app/remote.subcheck", Map.of());
+            received = frames.poll(1, TimeUnit.SECONDS);
+        }
+        assertThat(received).as("subcheck response").isNotNull();
+        return received;
+    }
+
+    private record Received(StompHeaders headers, Object payload) {
+    }
+}
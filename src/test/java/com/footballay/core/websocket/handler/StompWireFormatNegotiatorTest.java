@@ -0,0 +1,110 @@
+package com.footballay.core.websocket.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class StompWireFormatNegotiatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final StompWireFormatNegotiator negotiator = new StompWireFormatNegotiator(objectMapper, cborMapper);
+
+    @DisplayName("CONNECT 에서 CBOR 를 요청한 세션으로 가는 JSON 메시지는 CBOR 로 변환한다")
+    @Test
+    void encodeAsCborForNegotiatedSession() throws Exception {
+        // given
+        connect("cbor-session", "application/cbor");
+        connect("json-session", null);
+        byte[] json = objectMapper.writeValueAsBytes(Map.of("remoteCode", "abc123", "members", 2));
+
+        // when
+        Message<?> cborMessage = sendToClient("cbor-session", json);
+        Message<?> jsonMessage = sendToClient("json-session", json);
+
+        // then
+        assertThat(cborMessage.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MediaType.APPLICATION_OCTET_STREAM);
+        assertThat(SimpMessageHeaderAccessor.wrap(cborMessage).getFirstNativeHeader(StompWireFormatNegotiator.WIRE_FORMAT_HEADER))
+                .isEqualTo(StompWireFormatNegotiator.CBOR_WIRE_FORMAT);
+        assertThat(cborMapper.readTree((byte[]) cborMessage.getPayload()))
+                .isEqualTo(objectMapper.readTree(json));
+        assertThat(jsonMessage.getPayload()).isSameAs(json);
+    }
+
+    @DisplayName("같은 payload 를 여러 CBOR 세션에 보내면 한 번만 변환한다")
+    @Test
+    void reuseEncodedPayload() throws Exception {
+        // given
+        connect("cbor-1", "application/cbor");
+        connect("cbor-2", "application/json, application/cbor");
+        byte[] json = objectMapper.writeValueAsBytes(Map.of("score", "1:0"));
+
+        // when
+        Message<?> first = sendToClient("cbor-1", json);
+        Message<?> second = sendToClient("cbor-2", json);
+
+        // then
+        assertThat(first.getPayload()).isSameAs(second.getPayload());
+    }
+
+    @DisplayName("JSON 이 아닌 메시지와 DISCONNECT 이후 메시지는 변환하지 않는다")
+    @Test
+    void skipNonJsonAndDisconnectedSession() {
+        // given
+        connect("cbor-session", "application/cbor");
+        byte[] text = "code expired".getBytes(StandardCharsets.UTF_8);
+        byte[] json = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        Message<?> textMessage = sendToClient("cbor-session", text, MediaType.TEXT_PLAIN);
+        disconnect("cbor-session");
+        Message<?> afterDisconnect = sendToClient("cbor-session", json);
+
+        // then
+        assertThat(textMessage.getPayload()).isSameAs(text);
+        assertThat(afterDisconnect.getPayload()).isSameAs(json);
+    }
+
+    private void connect(String sessionId, String accept) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (accept != null) {
+            accessor.setNativeHeader(StompWireFormatNegotiator.ACCEPT_HEADER, accept);
+        }
+        negotiator.inboundInterceptor().preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+    }
+
+    private void disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        negotiator.inboundInterceptor().preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+    }
+
+    private Message<?> sendToClient(String sessionId, byte[] payload) {
+        return sendToClient(sessionId, payload, MediaType.APPLICATION_JSON);
+    }
+
+    private Message<?> sendToClient(String sessionId, byte[] payload, MediaType contentType) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination("/topic/remote/abc123");
+        accessor.setContentType(contentType);
+        return negotiator.outboundInterceptor().preSend(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()), null);
+    }
+}
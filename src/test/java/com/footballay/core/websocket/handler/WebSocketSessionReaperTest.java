@@ -0,0 +1,155 @@
+package com.footballay.core.websocket.handler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+class WebSocketSessionReaperTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SimpUserRegistry simpUserRegistry = mock(SimpUserRegistry.class);
+    private final WebSocketSessionReaper reaper = new WebSocketSessionReaper(simpUserRegistry, 1, 30, 100, meterRegistry);
+    private final WebSocketHandler handler = reaper.decorate(mock(WebSocketHandler.class));
+
+    @AfterEach
+    void tearDown() {
+        reaper.shutdown();
+    }
+
+    @DisplayName("heartbeat 를 협상하지 않은 세션 중 idle timeout 동안 프레임을 보내지 않은 세션만 닫는다")
+    @Test
+    void reapOnlyIdleSessions() throws Exception {
+        // given
+        when(simpUserRegistry.getUsers()).thenReturn(Set.of());
+        WebSocketSession idle = session("idle");
+        WebSocketSession active = session("active");
+        handler.afterConnectionEstablished(idle);
+        handler.afterConnectionEstablished(active);
+        connect("idle", 0);
+        connect("active", 0);
+        assertThat(meterRegistry.get(WebSocketSessionReaper.LIVE_SESSIONS).gauge().value()).isEqualTo(2.0);
+
+        // when
+        await().atMost(Duration.ofSeconds(3)).until(() -> {
+            handler.handleMessage(active, new TextMessage("\n"));
+            return reaper.sweep() == 1;
+        });
+
+        // then
+        verify(idle).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(active, never()).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get(WebSocketSessionReaper.REAPED).counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(WebSocketSessionReaper.LIVE_SESSIONS).gauge().value()).isEqualTo(1.0);
+    }
+
+    @DisplayName("수신만 하는 세션은 idle timeout 의 절반이 지나면 ping 을 받고, pong 으로 응답하면 닫지 않는다")
+    @Test
+    void keepSessionsAnsweringPing() throws Exception {
+        // given
+        when(simpUserRegistry.getUsers()).thenReturn(Set.of());
+        WebSocketSession receiveOnly = session("receive-only");
+        handler.afterConnectionEstablished(receiveOnly);
+        connect("receive-only", 0);
+
+        // when
+        await().atMost(Duration.ofSeconds(3)).untilAsserted(() -> {
+            reaper.sweep();
+            verify(receiveOnly).sendMessage(any(PingMessage.class));
+        });
+        handler.handleMessage(receiveOnly, new PongMessage());
+
+        // then
+        assertThat(reaper.sweep()).isZero();
+        verify(receiveOnly, never()).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @DisplayName("ping 전송에 실패한 세션은 idle timeout 전이라도 닫는다")
+    @Test
+    void reapSessionWhenPingFails() throws Exception {
+        // given
+        when(simpUserRegistry.getUsers()).thenReturn(Set.of());
+        WebSocketSession broken = session("broken");
+        doThrow(new IOException("broken pipe")).when(broken).sendMessage(any(PingMessage.class));
+        handler.afterConnectionEstablished(broken);
+        connect("broken", 0);
+
+        // when
+        await().atMost(Duration.ofSeconds(3)).until(() -> reaper.sweep() == 1);
+
+        // then
+        verify(broken).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get(WebSocketSessionReaper.REAPED).counter().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("client heartbeat 를 협상한 세션은 broker 가 닫으므로 ping 을 보내거나 닫지 않는다")
+    @Test
+    void leaveHeartbeatSessionsToBroker() throws Exception {
+        // given
+        when(simpUserRegistry.getUsers()).thenReturn(Set.of());
+        WebSocketSession heartbeating = session("heartbeating");
+        handler.afterConnectionEstablished(heartbeating);
+        connect("heartbeating", 100);
+
+        // when
+        Thread.sleep(1200);
+        int reaped = reaper.sweep();
+
+        // then
+        assertThat(reaped).isZero();
+        verify(heartbeating, never()).sendMessage(any(PingMessage.class));
+        verify(heartbeating, never()).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @DisplayName("구독 metrics 의 destination 태그에서 원격 코드와 세션 suffix 를 제외한다")
+    @Test
+    void normalizeDestination() {
+        assertThat(WebSocketSessionReaper.normalizeDestination("/topic/remote/abc123")).isEqualTo("/topic/remote");
+        assertThat(WebSocketSessionReaper.normalizeDestination("/topic/remote-userabcdef")).isEqualTo("/topic/remote");
+        assertThat(WebSocketSessionReaper.normalizeDestination("/topic")).isEqualTo("/topic");
+    }
+
+    /**
+     * STOMP CONNECT 프레임을 client inbound 채널로 보낸 것처럼 인터셉터를 호출합니다.
+     */
+    private void connect(String sessionId, long clientHeartbeatMillis) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setHeartbeat(clientHeartbeatMillis, 0);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        reaper.inboundInterceptor().preSend(message, mock(MessageChannel.class));
+    }
+
+    private static WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        return session;
+    }
+}
@@ -0,0 +1,104 @@
+package com.footballay.core.websocket.user;
+
+import com.footballay.core.websocket.user.RemoteSessionRegistry.RemoteSession;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class RemoteSessionRegistryTest {
+
+    private final RemoteSessionRegistry registry = new RemoteSessionRegistry();
+
+    @DisplayName("같은 세션의 DISCONNECT 가 두 번 발생해도 한 번만 퇴장 처리한다")
+    @Test
+    void dedupeDisconnect() {
+        // given
+        registry.register("session-1", "user1", "aaaaaa");
+
+        // when
+        Optional<RemoteSession> first = registry.unregister("session-1");
+        Optional<RemoteSession> second = registry.unregister("session-1");
+
+        // then
+        assertThat(first).contains(new RemoteSession("session-1", "user1", "aaaaaa"));
+        assertThat(second).isEmpty();
+        assertThat(registry.size()).isZero();
+    }
+
+    @DisplayName("재연결한 세션이 먼저 등록되면 이전 세션의 DISCONNECT 는 퇴장으로 보지 않는다")
+    @Test
+    void ignoreStaleDisconnectAfterReconnect() {
+        // given
+        registry.register("old-session", "user1", "aaaaaa");
+        registry.register("new-session", "user1", "aaaaaa");
+
+        // when
+        Optional<RemoteSession> departed = registry.unregister("old-session");
+
+        // then
+        assertThat(departed).isEmpty();
+        assertThat(registry.unregister("new-session")).isPresent();
+    }
+
+    @DisplayName("같은 세션이 다른 원격 코드로 다시 등록되면 이전 코드에서 퇴장한 것으로 반환한다")
+    @Test
+    void departPreviousCodeOnReRegister() {
+        // given
+        registry.register("session-1", "user1", "aaaaaa");
+        registry.register("session-2", "user2", "aaaaaa");
+        registry.register("session-3", "user2", "aaaaaa");
+
+        // when
+        Optional<RemoteSession> movedAlone = registry.register("session-1", "user1", "bbbbbb");
+        Optional<RemoteSession> movedWithOtherSession = registry.register("session-2", "user2", "bbbbbb");
+        Optional<RemoteSession> sameCode = registry.register("session-1", "user1", "bbbbbb");
+
+        // then
+        assertThat(movedAlone).contains(new RemoteSession("session-1", "user1", "aaaaaa"));
+        assertThat(movedWithOtherSession).isEmpty();
+        assertThat(sameCode).isEmpty();
+        assertThat(registry.unregister("session-1")).contains(new RemoteSession("session-1", "user1", "bbbbbb"));
+        assertThat(registry.unregister("session-3")).contains(new RemoteSession("session-3", "user2", "aaaaaa"));
+    }
+
+    @DisplayName("수천 개의 세션이 동시에 재연결해도 퇴장 처리는 실제로 떠난 유저만큼만 발생한다")
+    @Test
+    void boundedDeparturesOnReconnectStorm() throws InterruptedException {
+        // given
+        final int users = 5000;
+        for (int i = 0; i < users; i++) {
+            registry.register("old-" + i, "user" + i, "code" + (i % 50));
+        }
+        AtomicInteger departures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        // 절반은 재연결 후 이전 세션이 두 번 끊기고, 나머지 절반은 재연결 없이 두 번 끊긴다
+        for (int i = 0; i < users; i++) {
+            final int user = i;
+            executor.execute(() -> {
+                if (user % 2 == 0) {
+                    registry.register("new-" + user, "user" + user, "code" + (user % 50));
+                }
+                registry.unregister("old-" + user).ifPresent(session -> departures.incrementAndGet());
+                registry.unregister("old-" + user).ifPresent(session -> departures.incrementAndGet());
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        log.info("departures : {} / sessions : {}", departures.get(), registry.size());
+        assertThat(departures.get()).isEqualTo(users / 2);
+        assertThat(registry.size()).isEqualTo(users / 2);
+    }
+}